@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口
+ * <p>
+ * 接受标准JMH命令行参数，并默认附加{@link GCProfiler}，同时报告吞吐量和分配速率
+ * （{@code gc.alloc.rate.norm}为每次操作分配的字节数）。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
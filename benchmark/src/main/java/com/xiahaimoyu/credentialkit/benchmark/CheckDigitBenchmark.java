@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 校验位计算基准
+ *
+ * @author Howard.Li
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckDigitBenchmark {
+
+    public String idCard = "330105197810270025";
+
+    public String unifiedSocialCreditCode = "91330106MA27Y4U47R";
+
+    public String organizationCode = "MA27Y4U47";
+
+    public String machineReadablePassport = "G48947646";
+
+    @Benchmark
+    public char idCard() {
+        return CheckDigitUtil.getIdCardCheckDigit(idCard);
+    }
+
+    @Benchmark
+    public char unifiedSocialCreditCode() {
+        return CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigit(unifiedSocialCreditCode);
+    }
+
+    @Benchmark
+    public char organizationCode() {
+        return CheckDigitUtil.getOrganizationCodeCheckDigit(organizationCode);
+    }
+
+    @Benchmark
+    public char machineReadablePassport() {
+        return CheckDigitUtil.getMachineReadablePassportCheckDigit(machineReadablePassport);
+    }
+}
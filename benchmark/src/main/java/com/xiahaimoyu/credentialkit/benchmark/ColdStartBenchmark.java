@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.CredentialRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 冷启动基准
+ * <p>
+ * 每次调用都在新的类加载器中加载本库，测量首次访问时的类加载、静态初始化和地区数据加载耗时。
+ * 单次计时模式，多个fork取统计，JIT对库代码基本未生效，与真实冷启动一致。
+ * </p>
+ * <p>
+ * {@link #createRegistryAndWarmUp()}测量启动阶段调用{@code warmUp()}的总代价；
+ * {@link #validateAfterWarmUp(WarmedRegistry)}在预热后的新类加载器中测量首次校验的延迟，
+ * 与{@link #createRegistryAndValidate()}对照即为预热节省的首次调用延迟。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(3)
+@State(Scope.Thread)
+public class ColdStartBenchmark {
+
+    private static final URL LIBRARY = CredentialRegistry.class.getProtectionDomain().getCodeSource().getLocation();
+
+    private URLClassLoader loader;
+
+    @Setup(Level.Invocation)
+    public void newLoader() {
+        // 父加载器为null（只委托给引导类加载器），保证本库的类在新加载器中重新加载
+        loader = new URLClassLoader(new URL[]{LIBRARY}, null);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeLoader() throws IOException {
+        loader.close();
+    }
+
+    private Object invoke(String className, String methodName, Class<?>[] parameterTypes, Object... args) throws Exception {
+        Method method = loader.loadClass(className).getMethod(methodName, parameterTypes);
+        return method.invoke(null, args);
+    }
+
+    @Benchmark
+    public Object domesticRegionData() throws Exception {
+        return invoke("com.xiahaimoyu.credentialkit.util.RegionUtil", "getDomesticRegionInfoByCode",
+                new Class<?>[]{String.class}, "110000");
+    }
+
+    @Benchmark
+    public Object internationalRegionData() throws Exception {
+        return invoke("com.xiahaimoyu.credentialkit.util.RegionUtil", "getInternationalRegionInfoByAlpha3",
+                new Class<?>[]{String.class}, "CHN");
+    }
+
+    @Benchmark
+    public Object createRegistryAndValidate() throws Exception {
+        Object registry = invoke("com.xiahaimoyu.credentialkit.CredentialRegistry", "create", new Class<?>[0]);
+        return validate(loader, registry, "330105197810270025");
+    }
+
+    @Benchmark
+    public Object createRegistryAndWarmUp() throws Exception {
+        return warmUp(loader, invoke("com.xiahaimoyu.credentialkit.CredentialRegistry", "create", new Class<?>[0]));
+    }
+
+    @Benchmark
+    public Object validateAfterWarmUp(WarmedRegistry warmed) throws Exception {
+        // 与预热样本不同的号码，测量的是预热后任意号码的首次校验
+        return validate(warmed.loader, warmed.registry, "110108199001011231");
+    }
+
+    private static Object validate(ClassLoader loader, Object registry, String credential) throws Exception {
+        Class<?> typeClass = loader.loadClass("com.xiahaimoyu.credentialkit.enums.CredentialType");
+        Class<?> defaultTypeClass = loader.loadClass("com.xiahaimoyu.credentialkit.enums.DefaultCredentialType");
+        Object mainland = defaultTypeClass.getField("MAINLAND_RESIDENT_ID").get(null);
+        return registry.getClass().getMethod("validate", typeClass, String.class)
+                .invoke(registry, mainland, credential);
+    }
+
+    private static Object warmUp(ClassLoader loader, Object registry) throws Exception {
+        Class<?> optionsClass = loader.loadClass("com.xiahaimoyu.credentialkit.WarmUpOptions");
+        Object options = optionsClass.getMethod("defaults").invoke(null);
+        return registry.getClass().getMethod("warmUp", optionsClass).invoke(registry, options);
+    }
+
+    /**
+     * 每次调用前在新的类加载器中创建注册中心并按默认选项预热
+     */
+    @State(Scope.Thread)
+    public static class WarmedRegistry {
+
+        private URLClassLoader loader;
+
+        private Object registry;
+
+        @Setup(Level.Invocation)
+        public void warmUp() throws Exception {
+            loader = new URLClassLoader(new URL[]{LIBRARY}, null);
+            registry = loader.loadClass("com.xiahaimoyu.credentialkit.CredentialRegistry").getMethod("create").invoke(null);
+            ColdStartBenchmark.warmUp(loader, registry);
+        }
+
+        @TearDown(Level.Invocation)
+        public void closeLoader() throws IOException {
+            loader.close();
+        }
+    }
+}
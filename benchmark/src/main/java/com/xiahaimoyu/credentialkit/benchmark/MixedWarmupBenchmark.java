@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.processor.CredentialParser;
+import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.CredentialRangeParser;
+import com.xiahaimoyu.credentialkit.processor.CredentialRangeValidator;
+import com.xiahaimoyu.credentialkit.processor.CredentialValidator;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全部内置处理器一起预热后的单类型校验/解析基准
+ * <p>
+ * {@link ProcessorBenchmark}每个分支只运行一种处理器，共享代码中的调用点只见过一种实现，JIT可以内联；
+ * 实际服务中智能识别会让所有处理器经过同一段代码，调用点变为多态。本基准在测量前先交替运行全部处理器的
+ * 校验和解析，使共享调用点的类型剖面与生产环境一致，再测量单一类型。
+ * {@code chain*}用合成的多元素链对比构造时编译的链与改造前遍历列表的方式。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MixedWarmupBenchmark {
+
+    /**
+     * 预热轮数（每轮依次校验、解析全部类型的有效和无效样本，足以触发C2编译）
+     */
+    private static final int WARM_UP_ROUNDS = 50_000;
+
+    /**
+     * 合成链的样本（每个位置由对应位置的校验器检查、解析器累加）
+     */
+    private static final String CHAIN_SAMPLE = "12345678";
+
+    /**
+     * 合成区间校验器（每个lambda是独立的类，检查对应位置是数字）
+     */
+    private static final CredentialRangeValidator[] CHAIN_VALIDATORS = {
+            (credential, offset, length) -> digitAt(credential, offset),
+            (credential, offset, length) -> digitAt(credential, offset + 1),
+            (credential, offset, length) -> digitAt(credential, offset + 2),
+            (credential, offset, length) -> digitAt(credential, offset + 3),
+            (credential, offset, length) -> digitAt(credential, offset + 4),
+            (credential, offset, length) -> digitAt(credential, offset + 5),
+            (credential, offset, length) -> digitAt(credential, offset + 6),
+            (credential, offset, length) -> digitAt(credential, offset + 7)
+    };
+
+    /**
+     * 合成区间解析器（每个lambda是独立的类，累加对应位置的数字）
+     */
+    @SuppressWarnings("unchecked")
+    private static final CredentialRangeParser<ChainInfo>[] CHAIN_PARSERS = new CredentialRangeParser[]{
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 1),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 2),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 3),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 4),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 5),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 6),
+            (CredentialRangeParser<ChainInfo>) (credential, offset, length, info) -> info.sum += credential.charAt(offset + 7)
+    };
+
+    /**
+     * 全部内置处理器交替预热后的单一类型
+     */
+    @State(Scope.Benchmark)
+    public static class BuiltIn {
+
+        @Param({
+                "MAINLAND_RESIDENT_ID",
+                "HK_MACAO_TRAVEL_PERMIT",
+                "UNIFIED_SOCIAL_CREDIT",
+                "MACHINE_READABLE_PASSPORT"
+        })
+        public DefaultCredentialType type;
+
+        private CredentialProcessor<? extends CredentialInfo> processor;
+
+        private String valid;
+
+        @Setup
+        public void setUp() {
+            Map<DefaultCredentialType, CredentialProcessor<? extends CredentialInfo>> processors =
+                    new EnumMap<>(DefaultCredentialType.class);
+            for (DefaultCredentialType each : Specimens.VALID.keySet()) {
+                processors.put(each, ProcessorBenchmark.create(each));
+            }
+            int sink = 0;
+            for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+                for (Map.Entry<DefaultCredentialType, CredentialProcessor<? extends CredentialInfo>> entry : processors.entrySet()) {
+                    CredentialProcessor<? extends CredentialInfo> each = entry.getValue();
+                    sink += each.validate(Specimens.VALID.get(entry.getKey())).isValid() ? 1 : 0;
+                    sink += each.validate(Specimens.INVALID.get(entry.getKey())).isValid() ? 1 : 0;
+                    sink += each.parse(Specimens.VALID.get(entry.getKey())).isPresent() ? 1 : 0;
+                }
+            }
+            if (sink != WARM_UP_ROUNDS * processors.size() * 2) {
+                throw new IllegalStateException("样本与处理器不符");
+            }
+            processor = processors.get(type);
+            valid = Specimens.VALID.get(type);
+        }
+    }
+
+    /**
+     * 合成链：同一组校验器、解析器分别按构造时编译的链（compiled）和改造前遍历不可变列表的方式（listLoop）执行
+     * <p>
+     * 每种长度构造4个处理器，元素按不同起点轮换，链上每个位置都见过4种实现，与内置处理器交替运行时的剖面相当。
+     * 预热全部处理器后测量长度为{@code arity}的第一个处理器。
+     * </p>
+     */
+    @State(Scope.Benchmark)
+    public static class Chains {
+
+        @Param({"compiled", "listLoop"})
+        public String chain;
+
+        @Param({"2", "3", "8"})
+        public int arity;
+
+        private ChainProcessor processor;
+
+        @Setup
+        public void setUp() {
+            boolean compiled = "compiled".equals(chain);
+            List<ChainProcessor> processors = new ArrayList<>();
+            for (int length : new int[]{2, 3, 8}) {
+                for (int rotation = 0; rotation < 4; rotation++) {
+                    List<CredentialRangeValidator> validators = new ArrayList<>();
+                    List<CredentialRangeParser<ChainInfo>> parsers = new ArrayList<>();
+                    for (int i = 0; i < length; i++) {
+                        validators.add(CHAIN_VALIDATORS[(rotation + i) % CHAIN_VALIDATORS.length]);
+                        parsers.add(CHAIN_PARSERS[(rotation + i) % CHAIN_PARSERS.length]);
+                    }
+                    ChainProcessor each = compiled
+                            ? new ChainProcessor(validators, parsers)
+                            : new ChainProcessor(Collections.singletonList(new ListLoopValidator(validators)),
+                            Collections.singletonList(new ListLoopParser(parsers)));
+                    if (length == arity && rotation == 0) {
+                        processor = each;
+                    }
+                    processors.add(each);
+                }
+            }
+            int sink = 0;
+            for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+                for (ChainProcessor each : processors) {
+                    sink += each.validate(CHAIN_SAMPLE).isValid() ? 1 : 0;
+                    sink += each.parse(CHAIN_SAMPLE).isPresent() ? 1 : 0;
+                }
+            }
+            if (sink != WARM_UP_ROUNDS * processors.size() * 2) {
+                throw new IllegalStateException("样本与合成链不符");
+            }
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validateValid(BuiltIn state) {
+        return state.processor.validate(state.valid);
+    }
+
+    @Benchmark
+    public Optional<? extends CredentialInfo> parseValid(BuiltIn state) {
+        return state.processor.parse(state.valid);
+    }
+
+    @Benchmark
+    public ValidationResult chainValidate(Chains state) {
+        return state.processor.validate(CHAIN_SAMPLE);
+    }
+
+    @Benchmark
+    public Optional<ChainInfo> chainParse(Chains state) {
+        return state.processor.parse(CHAIN_SAMPLE);
+    }
+
+    private static ValidationResult digitAt(CharSequence credential, int index) {
+        char c = credential.charAt(index);
+        return c >= '0' && c <= '9' ? ValidationResult.success() : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+    }
+
+    /**
+     * 合成链的证件信息
+     */
+    public static final class ChainInfo extends CredentialInfo {
+
+        private int sum;
+    }
+
+    /**
+     * 合成链的处理器
+     */
+    private static final class ChainProcessor extends CredentialProcessor<ChainInfo> {
+
+        ChainProcessor(List<? extends CredentialValidator> validators, List<? extends CredentialParser<ChainInfo>> parsers) {
+            super(validators, parsers);
+        }
+
+        @Override
+        protected ChainInfo createInfo() {
+            return new ChainInfo();
+        }
+    }
+
+    /**
+     * 改造前的校验方式：遍历不可变列表
+     */
+    private static final class ListLoopValidator implements CredentialRangeValidator {
+
+        private final List<CredentialRangeValidator> validators;
+
+        ListLoopValidator(List<CredentialRangeValidator> validators) {
+            this.validators = Collections.unmodifiableList(new ArrayList<>(validators));
+        }
+
+        @Override
+        public ValidationResult validate(CharSequence credential, int offset, int length) {
+            for (CredentialRangeValidator validator : validators) {
+                ValidationResult result = validator.validate(credential, offset, length);
+                if (!result.isValid()) {
+                    return result;
+                }
+            }
+            return ValidationResult.success();
+        }
+    }
+
+    /**
+     * 改造前的解析方式：遍历不可变列表
+     */
+    private static final class ListLoopParser implements CredentialRangeParser<ChainInfo> {
+
+        private final List<CredentialRangeParser<ChainInfo>> parsers;
+
+        ListLoopParser(List<CredentialRangeParser<ChainInfo>> parsers) {
+            this.parsers = Collections.unmodifiableList(new ArrayList<>(parsers));
+        }
+
+        @Override
+        public void parse(CharSequence credential, int offset, int length, ChainInfo info) {
+            for (CredentialRangeParser<ChainInfo> parser : parsers) {
+                parser.parse(credential, offset, length, info);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.ForeignerPermanentResidenceIdProcessor;
+import com.xiahaimoyu.credentialkit.processor.HkMacaoResidencePermitProcessor;
+import com.xiahaimoyu.credentialkit.processor.HkMacaoTravelPermitProcessor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadablePassportProcessor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadableTd1Processor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadableTd2Processor;
+import com.xiahaimoyu.credentialkit.processor.MainlandResidentIdProcessor;
+import com.xiahaimoyu.credentialkit.processor.TaiwanResidencePermitProcessor;
+import com.xiahaimoyu.credentialkit.processor.TaiwanTravelPermitProcessor;
+import com.xiahaimoyu.credentialkit.processor.UnifiedSocialCreditProcessor;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 内置处理器的校验/解析基准（有效样本和校验位错误样本）
+ * <p>
+ * {@code validateValidRange}在记录行的区间上校验同一有效样本，对比整串入口的分配量。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessorBenchmark {
+
+    @Param({
+            "MAINLAND_RESIDENT_ID",
+            "HK_MACAO_TRAVEL_PERMIT",
+            "TAIWAN_TRAVEL_PERMIT",
+            "HK_MACAO_RESIDENCE_PERMIT",
+            "TAIWAN_RESIDENCE_PERMIT",
+            "FOREIGNER_PERMANENT_RESIDENCE_ID",
+            "MACHINE_READABLE_PASSPORT",
+            "UNIFIED_SOCIAL_CREDIT",
+            "MACHINE_READABLE_TD1",
+            "MACHINE_READABLE_TD2"
+    })
+    public DefaultCredentialType type;
+
+    private CredentialProcessor<? extends CredentialInfo> processor;
+
+    private String valid;
+
+    private String invalid;
+
+    /**
+     * 内嵌有效样本的记录行（区间校验用）
+     */
+    private String record;
+
+    @Setup
+    public void setUp() {
+        processor = create(type);
+        valid = Specimens.VALID.get(type);
+        invalid = Specimens.INVALID.get(type);
+        record = "0001," + valid + ",END";
+        if (!processor.validate(valid).isValid() || processor.validate(invalid).isValid()) {
+            throw new IllegalStateException("样本与处理器不符: " + type);
+        }
+    }
+
+    static CredentialProcessor<? extends CredentialInfo> create(DefaultCredentialType type) {
+        switch (type) {
+            case MAINLAND_RESIDENT_ID:
+                return new MainlandResidentIdProcessor();
+            case HK_MACAO_TRAVEL_PERMIT:
+                return new HkMacaoTravelPermitProcessor();
+            case TAIWAN_TRAVEL_PERMIT:
+                return new TaiwanTravelPermitProcessor();
+            case HK_MACAO_RESIDENCE_PERMIT:
+                return new HkMacaoResidencePermitProcessor();
+            case TAIWAN_RESIDENCE_PERMIT:
+                return new TaiwanResidencePermitProcessor();
+            case FOREIGNER_PERMANENT_RESIDENCE_ID:
+                return new ForeignerPermanentResidenceIdProcessor();
+            case MACHINE_READABLE_PASSPORT:
+                return new MachineReadablePassportProcessor();
+            case UNIFIED_SOCIAL_CREDIT:
+                return new UnifiedSocialCreditProcessor();
+            case MACHINE_READABLE_TD1:
+                return new MachineReadableTd1Processor();
+            case MACHINE_READABLE_TD2:
+                return new MachineReadableTd2Processor();
+            default:
+                throw new IllegalArgumentException("未知证件类型: " + type);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult validateValid() {
+        return processor.validate(valid);
+    }
+
+    @Benchmark
+    public ValidationResult validateInvalid() {
+        return processor.validate(invalid);
+    }
+
+    @Benchmark
+    public boolean isValidValid() {
+        return processor.isValid(valid);
+    }
+
+    @Benchmark
+    public boolean isValidInvalid() {
+        return processor.isValid(invalid);
+    }
+
+    @Benchmark
+    public ValidationResult validateValidRange() {
+        return processor.validate(record, 5, valid.length());
+    }
+
+    @Benchmark
+    public Optional<? extends CredentialInfo> parseValid() {
+        return processor.parse(valid);
+    }
+
+    @Benchmark
+    public Optional<? extends CredentialInfo> parseInvalid() {
+        return processor.parse(invalid);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
+import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 地区数据查找基准（数据已加载，冷启动见{@link ColdStartBenchmark}）
+ *
+ * @author Howard.Li
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegionBenchmark {
+
+    public String domesticCode = "330105";
+
+    public String missingDomesticCode = "999999";
+
+    public int domesticCodeValue = 330105;
+
+    public String alpha2 = "CN";
+
+    public String alpha3 = "CHN";
+
+    public String numeric = "156";
+
+    public String mrzExtensionCode = "XXA";
+
+    @Setup
+    public void setUp() {
+        if (RegionUtil.getDomesticRegionInfoByCode(domesticCode) == null
+                || RegionUtil.getInternationalRegionInfoByAlpha3(alpha3) == null) {
+            throw new IllegalStateException("地区数据加载失败");
+        }
+    }
+
+    @Benchmark
+    public DomesticRegionInfo domesticHit() {
+        return RegionUtil.getDomesticRegionInfoByCode(domesticCode);
+    }
+
+    @Benchmark
+    public DomesticRegionInfo domesticIntHit() {
+        return RegionUtil.getDomesticRegionInfoByCode(domesticCodeValue);
+    }
+
+    @Benchmark
+    public DomesticRegionInfo domesticMiss() {
+        return RegionUtil.getDomesticRegionInfoByCode(missingDomesticCode);
+    }
+
+    @Benchmark
+    public InternationalRegionInfo byAlpha2() {
+        return RegionUtil.getInternationalRegionInfoByAlpha2(alpha2);
+    }
+
+    @Benchmark
+    public InternationalRegionInfo byAlpha3() {
+        return RegionUtil.getInternationalRegionInfoByAlpha3(alpha3);
+    }
+
+    @Benchmark
+    public InternationalRegionInfo byNumeric() {
+        return RegionUtil.getInternationalRegionInfoByNumeric(numeric);
+    }
+
+    @Benchmark
+    public InternationalRegionInfo byMrzExtensionCode() {
+        return RegionUtil.getInternationalRegionInfoByMrzCode(mrzExtensionCode, 0);
+    }
+}
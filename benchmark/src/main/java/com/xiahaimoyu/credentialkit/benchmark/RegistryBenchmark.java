@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.CredentialRegistry;
+import com.xiahaimoyu.credentialkit.DetectionResult;
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 注册中心基准：混合语料和18位身份号码语料上的智能识别、识别后解析，以及经注册中心分发的校验/解析
+ * <p>
+ * 每次调用取语料中的下一条（循环），避免分支预测器记住单一输入。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RegistryBenchmark {
+
+    /**
+     * 语料条数（2的幂，便于取模）
+     */
+    private static final int CORPUS_SIZE = 1 << 12;
+
+    private CredentialRegistry registry;
+
+    private String[] corpus;
+
+    private String[] residentIds;
+
+    private String mainlandId;
+
+    /**
+     * 语料的ASCII字节（模拟从网络缓冲区、定长文件读出的字段）
+     */
+    private byte[][] corpusBytes;
+
+    private byte[] mainlandIdBytes;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        registry = CredentialRegistry.create();
+        corpus = Specimens.mixedCorpus(CORPUS_SIZE);
+        residentIds = Specimens.residentIdCorpus(CORPUS_SIZE);
+        mainlandId = Specimens.VALID.get(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        corpusBytes = new byte[CORPUS_SIZE][];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            corpusBytes[i] = corpus[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        mainlandIdBytes = mainlandId.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private String next() {
+        return corpus[cursor++ & (CORPUS_SIZE - 1)];
+    }
+
+    @Benchmark
+    public List<CredentialType> detectMixed() {
+        return registry.detect(next());
+    }
+
+    @Benchmark
+    public List<CredentialType> detectResidentIds() {
+        return registry.detect(residentIds[cursor++ & (CORPUS_SIZE - 1)]);
+    }
+
+    @Benchmark
+    public ValidationResult validateMixed() {
+        return registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, next());
+    }
+
+    @Benchmark
+    public ValidationResult validateMainland() {
+        return registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, mainlandId);
+    }
+
+    @Benchmark
+    public Optional<? extends CredentialInfo> parseMainland() {
+        return registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, mainlandId);
+    }
+
+    @Benchmark
+    public Optional<? extends CredentialInfo> detectThenParseMixed() {
+        String credential = next();
+        List<CredentialType> types = registry.detect(credential);
+        return types.isEmpty() ? Optional.empty() : registry.parse(types.get(0), credential);
+    }
+
+    @Benchmark
+    public DetectionResult detectAndParseMixed() {
+        return registry.detectAndParse(next());
+    }
+
+    @Benchmark
+    public List<CredentialType> decodeThenDetectMixed() {
+        byte[] bytes = corpusBytes[cursor++ & (CORPUS_SIZE - 1)];
+        return registry.detect(new String(bytes, StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public List<CredentialType> detectMixedBytes() {
+        byte[] bytes = corpusBytes[cursor++ & (CORPUS_SIZE - 1)];
+        return registry.detect(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public ValidationResult decodeThenValidateMainland() {
+        return registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, new String(mainlandIdBytes, StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public ValidationResult validateMainlandBytes() {
+        return registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, mainlandIdBytes, 0, mainlandIdBytes.length);
+    }
+
+    @Benchmark
+    public Optional<? extends CredentialInfo> parseMainlandBytes() {
+        return registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, mainlandIdBytes, 0, mainlandIdBytes.length);
+    }
+}
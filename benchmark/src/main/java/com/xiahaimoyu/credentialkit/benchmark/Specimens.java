@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.benchmark;
+
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 基准测试样本
+ * <p>
+ * 每种内置证件各一个有效样本和一个"晚失败"的无效样本（格式正确、校验位错误，需走完全部校验步骤），
+ * 以及用于智能识别的混合语料。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+final class Specimens {
+
+    /**
+     * 有效样本
+     */
+    static final Map<DefaultCredentialType, String> VALID = new EnumMap<>(DefaultCredentialType.class);
+
+    /**
+     * 无效样本（校验位错误）
+     */
+    static final Map<DefaultCredentialType, String> INVALID = new EnumMap<>(DefaultCredentialType.class);
+
+    static {
+        add(DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270025", "330105197810270026");
+        add(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT, "M1234567801", "M12345678AB");
+        add(DefaultCredentialType.TAIWAN_TRAVEL_PERMIT, "1234567801", "123456780A");
+        add(DefaultCredentialType.HK_MACAO_RESIDENCE_PERMIT, "810000199408230021", "810000199408230022");
+        add(DefaultCredentialType.TAIWAN_RESIDENCE_PERMIT, "830000199201300022", "830000199201300023");
+        add(DefaultCredentialType.FOREIGNER_PERMANENT_RESIDENCE_ID, "911398199012310021", "911398199012310022");
+        add(DefaultCredentialType.MACHINE_READABLE_PASSPORT,
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16",
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<17");
+        add(DefaultCredentialType.UNIFIED_SOCIAL_CREDIT, "91330106MA27Y4U47R", "91330106MA27Y4U47S");
+        add(DefaultCredentialType.MACHINE_READABLE_TD1,
+                "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE",
+                "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<9VAN<DER<STEEN<<MARIANNE<LOUISE");
+        add(DefaultCredentialType.MACHINE_READABLE_TD2,
+                "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2",
+                "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<3");
+    }
+
+    private Specimens() {
+    }
+
+    private static void add(DefaultCredentialType type, String valid, String invalid) {
+        VALID.put(type, valid);
+        INVALID.put(type, invalid);
+    }
+
+    /**
+     * 生成智能识别的混合语料
+     * <p>
+     * 约一半为有效样本（含小写、首尾空白变体），其余为校验位错误样本和随机字符串，顺序打乱（固定种子，可复现）。
+     * </p>
+     *
+     * @param size 语料条数
+     * @return 混合语料
+     */
+    static String[] mixedCorpus(int size) {
+        Random random = new Random(20250101L);
+        List<String> valid = new ArrayList<>(VALID.values());
+        List<String> invalid = new ArrayList<>(INVALID.values());
+        List<String> corpus = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int kind = random.nextInt(8);
+            String credential;
+            if (kind < 3) {
+                credential = valid.get(random.nextInt(valid.size()));
+            } else if (kind == 3) {
+                credential = " " + valid.get(random.nextInt(valid.size())).toLowerCase(Locale.ROOT) + "\t";
+            } else if (kind < 6) {
+                credential = invalid.get(random.nextInt(invalid.size()));
+            } else {
+                credential = randomAlphanumeric(random, 6 + random.nextInt(14));
+            }
+            corpus.add(credential);
+        }
+        Collections.shuffle(corpus, random);
+        return corpus.toArray(new String[0]);
+    }
+
+    /**
+     * 生成18位身份号码语料
+     * <p>
+     * 居民身份证、港澳居民居住证、台湾居民居住证和18位外国人永久居留身份证的有效与校验位错误样本，
+     * 顺序打乱（固定种子，可复现）。
+     * </p>
+     *
+     * @param size 语料条数
+     * @return 18位身份号码语料
+     */
+    static String[] residentIdCorpus(int size) {
+        Random random = new Random(20250101L);
+        List<String> samples = new ArrayList<>();
+        for (DefaultCredentialType type : new DefaultCredentialType[]{
+                DefaultCredentialType.MAINLAND_RESIDENT_ID,
+                DefaultCredentialType.HK_MACAO_RESIDENCE_PERMIT,
+                DefaultCredentialType.TAIWAN_RESIDENCE_PERMIT,
+                DefaultCredentialType.FOREIGNER_PERMANENT_RESIDENCE_ID}) {
+            samples.add(VALID.get(type));
+            samples.add(INVALID.get(type));
+        }
+        String[] corpus = new String[size];
+        for (int i = 0; i < size; i++) {
+            corpus[i] = samples.get(random.nextInt(samples.size()));
+        }
+        return corpus;
+    }
+
+    private static String randomAlphanumeric(Random random, int length) {
+        final String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,566 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 带结果缓存的证件注册中心
+ * <p>
+ * 包装一个{@link CredentialRegistry}，按（操作、证件类型、规格化后的证件号码）缓存识别、校验、解析结果，
+ * 适用于同一证件反复出现的场景（登录、重复核验、重试）。
+ * </p>
+ * <ul>
+ *     <li>容量有界：按哈希分段，每段独立加锁并按LRU淘汰，总条目数不超过约{@code maximumSize}</li>
+ *     <li>请求合并：同一键的并发未命中只计算一次，其余线程等待并共享结果</li>
+ *     <li>自动失效：日期跨天、{@link DateUtil#setClock(java.time.Clock)}/{@link DateUtil#resetClock()}、
+ *     {@link RegionUtil}添加/移除地区数据、被包装注册中心注册/注销处理器时整体失效
+ *     （出生日期、有效期的校验结果依赖当前日期，地区校验和解析结果依赖地区数据）</li>
+ * </ul>
+ * <p>
+ * 识别、校验结果为不可变对象，在调用方之间共享；
+ * 解析结果缓存的是证件信息的副本，每次返回新的副本（{@link CredentialInfo#copy()}），调用方修改返回的实例不影响缓存。
+ * 覆写了{@code normalize}的处理器按原始输入作为键，保证自定义规格化语义不变。
+ * </p>
+ *
+ * @author Howard.Li
+ * @see CredentialRegistry
+ */
+public final class CachedCredentialRegistry {
+
+    /**
+     * 最大分段数
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * 操作类型：识别
+     */
+    private static final int DETECT = 0;
+
+    /**
+     * 操作类型：识别最可能的类型
+     */
+    private static final int DETECT_BEST = 1;
+
+    /**
+     * 操作类型：校验
+     */
+    private static final int VALIDATE = 2;
+
+    /**
+     * 操作类型：解析
+     */
+    private static final int PARSE = 3;
+
+    /**
+     * 被包装的注册中心
+     */
+    private final CredentialRegistry delegate;
+
+    /**
+     * 每段容量
+     */
+    private final int segmentCapacity;
+
+    /**
+     * 分段数（2的幂；按键哈希的高位选择分段，段内哈希表使用低位，互不干扰）
+     */
+    private final int segmentCount;
+
+    /**
+     * 当前缓存代（失效时整体替换）
+     */
+    private volatile Generation generation;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder coalescedCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LongAdder invalidationCount = new LongAdder();
+
+    private CachedCredentialRegistry(CredentialRegistry delegate, int maximumSize) {
+        this.delegate = delegate;
+        this.segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        this.segmentCapacity = (maximumSize + segmentCount - 1) / segmentCount;
+        this.generation = newGeneration();
+    }
+
+    /**
+     * 创建带结果缓存的注册中心
+     *
+     * @param delegate    被包装的注册中心
+     * @param maximumSize 最大缓存条目数
+     * @return 带结果缓存的注册中心
+     * @throws NullPointerException     如果注册中心是空
+     * @throws IllegalArgumentException 如果最大缓存条目数不是正数
+     */
+    public static CachedCredentialRegistry create(final CredentialRegistry delegate, final int maximumSize) {
+        Objects.requireNonNull(delegate, "证件注册中心是空");
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("最大缓存条目数必须是正数: " + maximumSize);
+        }
+        return new CachedCredentialRegistry(delegate, maximumSize);
+    }
+
+    /**
+     * 获取被包装的注册中心
+     *
+     * @return 被包装的注册中心
+     */
+    public CredentialRegistry getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * 智能识别证件类型（带缓存）
+     *
+     * @param credential 证件号码
+     * @return 推断的证件类型列表（不可变）
+     * @see CredentialRegistry#detect(String)
+     */
+    public List<CredentialType> detect(final String credential) {
+        if (credential == null) {
+            return Collections.emptyList();
+        }
+        final String key = delegate.detectUsesDefaultNormalization() ? CredentialProcessor.defaultNormalize(credential) : credential;
+        return get(DETECT, null, key, () -> Collections.unmodifiableList(delegate.detect(credential)));
+    }
+
+    /**
+     * 识别最可能的证件类型（带缓存）
+     *
+     * @param credential 证件号码
+     * @return 优先级最高的匹配类型，无匹配时返回Optional.empty()
+     * @see CredentialRegistry#detectBest(String)
+     */
+    public Optional<CredentialType> detectBest(final String credential) {
+        if (credential == null) {
+            return Optional.empty();
+        }
+        final String key = delegate.detectUsesDefaultNormalization() ? CredentialProcessor.defaultNormalize(credential) : credential;
+        return get(DETECT_BEST, null, key, () -> delegate.detectBest(credential));
+    }
+
+    /**
+     * 校验证件并返回详细结果（带缓存）
+     *
+     * @param type       证件类型
+     * @param credential 证件号码（允许为null，校验必然失败）
+     * @return 校验结果
+     * @throws NullPointerException          如果证件类型是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     * @see CredentialRegistry#validate(CredentialType, String)
+     */
+    public ValidationResult validate(final CredentialType type, final String credential) {
+        if (credential == null) {
+            return delegate.validate(type, null);
+        }
+        return get(VALIDATE, type, key(type, credential), () -> delegate.validate(type, credential));
+    }
+
+    /**
+     * 解析证件（带缓存）
+     * <p>
+     * 每次返回新的证件信息副本，调用方可以修改。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 证件号码（允许为null，解析必然失败）
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @throws NullPointerException          如果证件类型是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     * @see CredentialRegistry#parse(CredentialType, String)
+     */
+    public Optional<? extends CredentialInfo> parse(final CredentialType type, final String credential) {
+        if (credential == null) {
+            return delegate.parse(type, null);
+        }
+        Optional<? extends CredentialInfo> cached =
+                get(PARSE, type, key(type, credential), () -> delegate.parse(type, credential).map(CredentialInfo::copy));
+        return cached.map(CredentialInfo::copy);
+    }
+
+    /**
+     * 解析证件并返回指定类型（带缓存）
+     *
+     * @param type       证件类型
+     * @param credential 证件号码
+     * @param infoClass  证件信息类型
+     * @param <T>        证件信息类型
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @throws NullPointerException 如果infoClass是空
+     * @throws ClassCastException   如果解析结果的实际类型与infoClass不符
+     * @see CredentialRegistry#parse(CredentialType, String, Class)
+     */
+    public <T extends CredentialInfo> Optional<T> parse(final CredentialType type, final String credential, final Class<T> infoClass) {
+        Objects.requireNonNull(infoClass, "证件信息类型是空");
+        return parse(type, credential).map(infoClass::cast);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            generation = newGeneration();
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * 获取当前缓存条目数
+     *
+     * @return 缓存条目数
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : generation.segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 获取缓存统计
+     *
+     * @return 统计快照
+     */
+    public Stats stats() {
+        return new Stats(hitCount.sum(), missCount.sum(), coalescedCount.sum(),
+                evictionCount.sum(), invalidationCount.sum());
+    }
+
+    /**
+     * 计算校验/解析的缓存键
+     *
+     * @param type       证件类型
+     * @param credential 证件号码
+     * @return 缓存键使用的证件号码
+     */
+    private String key(final CredentialType type, final String credential) {
+        return delegate.usesDefaultNormalization(type) ? CredentialProcessor.defaultNormalize(credential) : credential;
+    }
+
+    /**
+     * 查询缓存，未命中时计算并写入（同一键的并发计算合并为一次）
+     *
+     * @param operation  操作类型
+     * @param type       证件类型（识别时为null）
+     * @param credential 缓存键使用的证件号码
+     * @param loader     计算函数
+     * @param <R>        结果类型
+     * @return 结果
+     */
+    @SuppressWarnings("unchecked")
+    private <R> R get(final int operation, final CredentialType type, final String credential, final Supplier<R> loader) {
+        final Generation current = currentGeneration();
+        final Key key = new Key(operation, type, credential);
+        final Segment segment = current.segments[(key.hash >>> 24) & (segmentCount - 1)];
+        Object value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value != null) {
+            hitCount.increment();
+            return (R) value;
+        }
+        missCount.increment();
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = current.inFlight.putIfAbsent(key, future);
+        if (inFlight != null) {
+            coalescedCount.increment();
+            try {
+                return (R) inFlight.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+        try {
+            synchronized (segment) {
+                value = segment.get(key);
+            }
+            if (value == null) {
+                value = loader.get();
+                synchronized (segment) {
+                    segment.put(key, value);
+                }
+            }
+            future.complete(value);
+            return (R) value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            current.inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 获取当前缓存代（时钟、日期、地区数据或注册表变化时换代）
+     *
+     * @return 当前缓存代
+     */
+    private Generation currentGeneration() {
+        Generation current = generation;
+        if (current.isCurrent(DateUtil.getClockVersion(), DateUtil.currentEpochDay(), RegionUtil.getDataVersion(),
+                delegate.getVersion())) {
+            return current;
+        }
+        synchronized (this) {
+            current = generation;
+            if (!current.isCurrent(DateUtil.getClockVersion(), DateUtil.currentEpochDay(), RegionUtil.getDataVersion(),
+                    delegate.getVersion())) {
+                current = newGeneration();
+                generation = current;
+                invalidationCount.increment();
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 创建新的缓存代
+     *
+     * @return 缓存代
+     */
+    private Generation newGeneration() {
+        Segment[] segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity, evictionCount);
+        }
+        return new Generation(DateUtil.getClockVersion(), DateUtil.currentEpochDay(), RegionUtil.getDataVersion(),
+                delegate.getVersion(), segments);
+    }
+
+    /**
+     * 解包合并请求中计算线程抛出的异常
+     *
+     * @param e 异常
+     * @return 原始运行时异常
+     */
+    private static RuntimeException unwrap(final CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+
+    /**
+     * 缓存统计（不可变快照）
+     */
+    public static final class Stats {
+
+        private final long hitCount;
+
+        private final long missCount;
+
+        private final long coalescedCount;
+
+        private final long evictionCount;
+
+        private final long invalidationCount;
+
+        Stats(long hitCount, long missCount, long coalescedCount, long evictionCount, long invalidationCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.coalescedCount = coalescedCount;
+            this.evictionCount = evictionCount;
+            this.invalidationCount = invalidationCount;
+        }
+
+        /**
+         * 命中次数
+         *
+         * @return 命中次数
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * 未命中次数（含等待其他线程计算的合并请求）
+         *
+         * @return 未命中次数
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * 合并请求次数（未命中但等待其他线程计算，未重复计算）
+         *
+         * @return 合并请求次数
+         */
+        public long getCoalescedCount() {
+            return coalescedCount;
+        }
+
+        /**
+         * 因容量淘汰的条目数
+         *
+         * @return 淘汰条目数
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * 整体失效次数（跨天、时钟变化、地区数据变化、注册表变化、手动清空）
+         *
+         * @return 整体失效次数
+         */
+        public long getInvalidationCount() {
+            return invalidationCount;
+        }
+
+        /**
+         * 命中率
+         *
+         * @return 命中率（无请求时为0）
+         */
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", coalescedCount=" + coalescedCount +
+                    ", evictionCount=" + evictionCount +
+                    ", invalidationCount=" + invalidationCount +
+                    '}';
+        }
+    }
+
+    /**
+     * 缓存代（绑定时钟版本、当前日期、地区数据版本和注册表版本）
+     */
+    private static final class Generation {
+
+        private final int clockVersion;
+
+        private final long epochDay;
+
+        private final int regionDataVersion;
+
+        private final long registryVersion;
+
+        private final Segment[] segments;
+
+        /**
+         * 计算中的请求
+         */
+        private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+        Generation(int clockVersion, long epochDay, int regionDataVersion, long registryVersion, Segment[] segments) {
+            this.clockVersion = clockVersion;
+            this.epochDay = epochDay;
+            this.regionDataVersion = regionDataVersion;
+            this.registryVersion = registryVersion;
+            this.segments = segments;
+        }
+
+        boolean isCurrent(int clockVersion, long epochDay, int regionDataVersion, long registryVersion) {
+            return this.clockVersion == clockVersion && this.epochDay == epochDay
+                    && this.regionDataVersion == regionDataVersion && this.registryVersion == registryVersion;
+        }
+    }
+
+    /**
+     * 缓存分段（访问顺序LRU，调用方持有分段锁）
+     */
+    private static final class Segment extends LinkedHashMap<Key, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        private final transient LongAdder evictionCount;
+
+        Segment(int capacity, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 缓存键
+     */
+    private static final class Key {
+
+        private final int operation;
+
+        private final CredentialType type;
+
+        private final String credential;
+
+        private final int hash;
+
+        Key(int operation, CredentialType type, String credential) {
+            this.operation = operation;
+            this.type = type;
+            this.credential = credential;
+            int h = credential.hashCode() * 31 + operation;
+            h = h * 31 + (type == null ? 0 : type.hashCode());
+            this.hash = h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return operation == that.operation
+                    && hash == that.hash
+                    && credential.equals(that.credential)
+                    && (type == that.type || (type != null && type.equals(that.type)));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
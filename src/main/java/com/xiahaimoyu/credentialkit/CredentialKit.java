@@ -6,8 +6,10 @@ package com.xiahaimoyu.credentialkit;
 import com.xiahaimoyu.credentialkit.enums.CredentialType;
 import com.xiahaimoyu.credentialkit.info.CredentialInfo;
 import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.ParseResult;
 import com.xiahaimoyu.credentialkit.processor.ValidationResult;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -92,6 +94,27 @@ public final class CredentialKit {
         return getDefault().getSupportedTypes();
     }
 
+    /**
+     * 预热默认注册中心（按默认选项）
+     *
+     * @return 预热报告
+     * @see CredentialRegistry#warmUp(WarmUpOptions)
+     */
+    public static WarmUpReport warmUp() {
+        return getDefault().warmUp();
+    }
+
+    /**
+     * 预热默认注册中心
+     *
+     * @param options 预热选项
+     * @return 预热报告
+     * @see CredentialRegistry#warmUp(WarmUpOptions)
+     */
+    public static WarmUpReport warmUp(final WarmUpOptions options) {
+        return getDefault().warmUp(options);
+    }
+
     /**
      * 智能识别证件类型（操作默认注册中心）
      * <p>
@@ -106,6 +129,78 @@ public final class CredentialKit {
         return getDefault().detect(credential);
     }
 
+    /**
+     * 智能识别字节数组区间内的ASCII证件号码（操作默认注册中心，不创建字符串）
+     *
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 推断的证件类型列表
+     * @see CredentialRegistry#detect(byte[], int, int)
+     */
+    public static List<CredentialType> detect(final byte[] credential, final int offset, final int length) {
+        return getDefault().detect(credential, offset, length);
+    }
+
+    /**
+     * 智能识别缓冲区区间内的ASCII证件号码（操作默认注册中心，不创建字符串）
+     *
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 推断的证件类型列表
+     * @see CredentialRegistry#detect(ByteBuffer, int, int)
+     */
+    public static List<CredentialType> detect(final ByteBuffer credential, final int index, final int length) {
+        return getDefault().detect(credential, index, length);
+    }
+
+    /**
+     * 智能识别证件类型并解析最可能的类型（操作默认注册中心，不重复校验）
+     *
+     * @param credential 证件号码
+     * @return 识别并解析的结果
+     * @see CredentialRegistry#detectAndParse(String)
+     */
+    public static DetectionResult detectAndParse(final String credential) {
+        return getDefault().detectAndParse(credential);
+    }
+
+    /**
+     * 智能识别证件类型并解析全部匹配的类型（操作默认注册中心，不重复校验）
+     *
+     * @param credential 证件号码
+     * @return 识别并解析的结果
+     * @see CredentialRegistry#detectAndParseAll(String)
+     */
+    public static DetectionResult detectAndParseAll(final String credential) {
+        return getDefault().detectAndParseAll(credential);
+    }
+
+    /**
+     * 识别最可能的证件类型（操作默认注册中心，找到第一个匹配即停止）
+     *
+     * @param credential 证件号码
+     * @return 优先级最高的匹配类型，无匹配时返回Optional.empty()
+     * @see CredentialRegistry#detectBest(String)
+     */
+    public static Optional<CredentialType> detectBest(final String credential) {
+        return getDefault().detectBest(credential);
+    }
+
+    /**
+     * 在候选类型范围内识别最可能的证件类型（操作默认注册中心，找到第一个匹配即停止）
+     *
+     * @param credential     证件号码
+     * @param candidateTypes 候选证件类型
+     * @return 候选范围内优先级最高的匹配类型，无匹配时返回Optional.empty()
+     * @throws NullPointerException 如果候选证件类型是空
+     * @see CredentialRegistry#detectBest(String, Set)
+     */
+    public static Optional<CredentialType> detectBest(final String credential, final Set<? extends CredentialType> candidateTypes) {
+        return getDefault().detectBest(credential, candidateTypes);
+    }
+
     /**
      * 校验证件并返回详细结果（操作默认注册中心）
      *
@@ -117,6 +212,74 @@ public final class CredentialKit {
         return getDefault().validate(type, credential);
     }
 
+    /**
+     * 校验字节数组区间内的ASCII证件号码（操作默认注册中心，不创建字符串）
+     *
+     * @param type       证件类型
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 校验结果
+     * @see CredentialRegistry#validate(CredentialType, byte[], int, int)
+     */
+    public static ValidationResult validate(final CredentialType type, final byte[] credential, final int offset, final int length) {
+        return getDefault().validate(type, credential, offset, length);
+    }
+
+    /**
+     * 校验缓冲区区间内的ASCII证件号码（操作默认注册中心，不创建字符串）
+     *
+     * @param type       证件类型
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 校验结果
+     * @see CredentialRegistry#validate(CredentialType, ByteBuffer, int, int)
+     */
+    public static ValidationResult validate(final CredentialType type, final ByteBuffer credential, final int index, final int length) {
+        return getDefault().validate(type, credential, index, length);
+    }
+
+    /**
+     * 判断证件是否通过校验（操作默认注册中心，不构建校验结果）
+     *
+     * @param type       证件类型
+     * @param credential 证件号码
+     * @return 是否通过
+     * @see CredentialRegistry#isValid(CredentialType, String)
+     */
+    public static boolean isValid(final CredentialType type, final String credential) {
+        return getDefault().isValid(type, credential);
+    }
+
+    /**
+     * 判断字节数组区间内的ASCII证件号码是否通过校验（操作默认注册中心，不创建字符串）
+     *
+     * @param type       证件类型
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否通过
+     * @see CredentialRegistry#isValid(CredentialType, byte[], int, int)
+     */
+    public static boolean isValid(final CredentialType type, final byte[] credential, final int offset, final int length) {
+        return getDefault().isValid(type, credential, offset, length);
+    }
+
+    /**
+     * 判断缓冲区区间内的ASCII证件号码是否通过校验（操作默认注册中心，不创建字符串）
+     *
+     * @param type       证件类型
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 是否通过
+     * @see CredentialRegistry#isValid(CredentialType, ByteBuffer, int, int)
+     */
+    public static boolean isValid(final CredentialType type, final ByteBuffer credential, final int index, final int length) {
+        return getDefault().isValid(type, credential, index, length);
+    }
+
     /**
      * 解析证件（操作默认注册中心）
      * <p>
@@ -131,6 +294,36 @@ public final class CredentialKit {
         return getDefault().parse(type, credential);
     }
 
+    /**
+     * 解析字节数组区间内的ASCII证件号码（操作默认注册中心，只为返回的字段创建字符串）
+     *
+     * @param type       证件类型
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @see CredentialRegistry#parse(CredentialType, byte[], int, int)
+     */
+    public static Optional<? extends CredentialInfo> parse(final CredentialType type, final byte[] credential,
+                                                           final int offset, final int length) {
+        return getDefault().parse(type, credential, offset, length);
+    }
+
+    /**
+     * 解析缓冲区区间内的ASCII证件号码（操作默认注册中心，只为返回的字段创建字符串）
+     *
+     * @param type       证件类型
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @see CredentialRegistry#parse(CredentialType, ByteBuffer, int, int)
+     */
+    public static Optional<? extends CredentialInfo> parse(final CredentialType type, final ByteBuffer credential,
+                                                           final int index, final int length) {
+        return getDefault().parse(type, credential, index, length);
+    }
+
     /**
      * 解析证件并返回指定类型（操作默认注册中心）
      * <p>
@@ -149,4 +342,33 @@ public final class CredentialKit {
     public static <T extends CredentialInfo> Optional<T> parse(final CredentialType type, final String credential, final Class<T> infoClass) {
         return getDefault().parse(type, credential, infoClass);
     }
+
+    /**
+     * 校验并解析证件（操作默认注册中心，校验链只执行一次）
+     *
+     * @param type       证件类型
+     * @param credential 证件号码
+     * @return 解析结果（失败时携带错误码，成功时携带证件信息）
+     * @see CredentialRegistry#validateAndParse(CredentialType, String)
+     */
+    public static ParseResult<? extends CredentialInfo> validateAndParse(final CredentialType type, final String credential) {
+        return getDefault().validateAndParse(type, credential);
+    }
+
+    /**
+     * 校验并解析证件，返回指定类型（操作默认注册中心）
+     *
+     * @param type       证件类型
+     * @param credential 证件号码
+     * @param infoClass  证件信息类型
+     * @param <T>        证件信息类型
+     * @return 解析结果（失败时携带错误码，成功时携带证件信息）
+     * @throws NullPointerException 如果infoClass是空
+     * @throws ClassCastException   如果解析结果的实际类型与infoClass不符
+     * @see CredentialRegistry#validateAndParse(CredentialType, String, Class)
+     */
+    public static <T extends CredentialInfo> ParseResult<T> validateAndParse(final CredentialType type, final String credential,
+                                                                             final Class<T> infoClass) {
+        return getDefault().validateAndParse(type, credential, infoClass);
+    }
 }
@@ -6,7 +6,9 @@ package com.xiahaimoyu.credentialkit;
 import com.xiahaimoyu.credentialkit.enums.CredentialType;
 import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
 import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.processor.AsciiCharSequence;
 import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.CredentialShape;
 import com.xiahaimoyu.credentialkit.processor.MainlandResidentIdProcessor;
 import com.xiahaimoyu.credentialkit.processor.HkMacaoTravelPermitProcessor;
 import com.xiahaimoyu.credentialkit.processor.TaiwanTravelPermitProcessor;
@@ -14,13 +16,23 @@ import com.xiahaimoyu.credentialkit.processor.HkMacaoResidencePermitProcessor;
 import com.xiahaimoyu.credentialkit.processor.TaiwanResidencePermitProcessor;
 import com.xiahaimoyu.credentialkit.processor.ForeignerPermanentResidenceIdProcessor;
 import com.xiahaimoyu.credentialkit.processor.MachineReadablePassportProcessor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadableTd1Processor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadableTd2Processor;
+import com.xiahaimoyu.credentialkit.processor.ParseResult;
 import com.xiahaimoyu.credentialkit.processor.UnifiedSocialCreditProcessor;
+import com.xiahaimoyu.credentialkit.processor.ResidentIdFamily;
 import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import com.xiahaimoyu.credentialkit.spi.CredentialMetricsListener;
 import com.xiahaimoyu.credentialkit.spi.CredentialProcessorProvider;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -28,10 +40,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
  * 证件注册中心
@@ -53,14 +70,34 @@ public final class CredentialRegistry {
     /**
      * 识别结果排序：优先级升序，优先级相同时按中文名排序（null排在最前，保证顺序确定）
      */
-    private static final Comparator<CredentialType> DETECT_ORDER = Comparator
-            .comparingInt(CredentialType::getDetectPriority)
-            .thenComparing(CredentialType::getChineseName, Comparator.nullsFirst(Comparator.naturalOrder()));
+    private static final Comparator<Registration> DETECT_ORDER = Comparator
+            .comparingInt((Registration registration) -> registration.priority)
+            .thenComparing(registration -> registration.chineseName, Comparator.nullsFirst(Comparator.naturalOrder()));
 
     /**
-     * 证件和处理器映射
+     * 批量操作并行执行的阈值（不超过该数量时在调用线程顺序执行）
      */
-    private final Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> processors = new ConcurrentHashMap<>();
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    /**
+     * 并行执行时每个分片的最小数量
+     */
+    private static final int MIN_CHUNK_SIZE = 256;
+
+    /**
+     * 注册表快照（不可变，注册/注销时整体替换）
+     */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 写锁（注册/注销串行化，读操作无锁）
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * 指标监听器（null表示未启用）
+     */
+    private volatile CredentialMetricsListener metricsListener;
 
     /**
      * 构造器
@@ -87,6 +124,8 @@ public final class CredentialRegistry {
         registry.register(DefaultCredentialType.FOREIGNER_PERMANENT_RESIDENCE_ID, new ForeignerPermanentResidenceIdProcessor());
         registry.register(DefaultCredentialType.MACHINE_READABLE_PASSPORT, new MachineReadablePassportProcessor());
         registry.register(DefaultCredentialType.UNIFIED_SOCIAL_CREDIT, new UnifiedSocialCreditProcessor());
+        registry.register(DefaultCredentialType.MACHINE_READABLE_TD1, new MachineReadableTd1Processor());
+        registry.register(DefaultCredentialType.MACHINE_READABLE_TD2, new MachineReadableTd2Processor());
         loadSpiProviders(registry);
         return registry;
     }
@@ -117,13 +156,7 @@ public final class CredentialRegistry {
      * @param registry 目标注册中心
      */
     private static void loadSpiProviders(CredentialRegistry registry) {
-        Map<String, CredentialProcessorProvider> providers = new LinkedHashMap<>();
-        collectProviders(ServiceLoader.load(CredentialProcessorProvider.class), providers);
-        ClassLoader libraryLoader = CredentialProcessorProvider.class.getClassLoader();
-        if (libraryLoader != null && libraryLoader != Thread.currentThread().getContextClassLoader()) {
-            collectProviders(ServiceLoader.load(CredentialProcessorProvider.class, libraryLoader), providers);
-        }
-        for (CredentialProcessorProvider provider : providers.values()) {
+        for (CredentialProcessorProvider provider : resolveSpiProviders().values()) {
             try {
                 Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> provided = provider.getProcessors();
                 for (Map.Entry<CredentialType, CredentialProcessor<? extends CredentialInfo>> entry : provided.entrySet()) {
@@ -135,6 +168,22 @@ public final class CredentialRegistry {
         }
     }
 
+    /**
+     * 扫描SPI提供者
+     *
+     * @return 提供者（key是提供者类名，按发现顺序排列）
+     * @throws IllegalStateException 如果加载提供者失败
+     */
+    private static Map<String, CredentialProcessorProvider> resolveSpiProviders() {
+        Map<String, CredentialProcessorProvider> providers = new LinkedHashMap<>();
+        collectProviders(ServiceLoader.load(CredentialProcessorProvider.class), providers);
+        ClassLoader libraryLoader = CredentialProcessorProvider.class.getClassLoader();
+        if (libraryLoader != null && libraryLoader != Thread.currentThread().getContextClassLoader()) {
+            collectProviders(ServiceLoader.load(CredentialProcessorProvider.class, libraryLoader), providers);
+        }
+        return providers;
+    }
+
     /**
      * 收集单个类加载器下的SPI提供者（按类名去重）
      *
@@ -160,15 +209,25 @@ public final class CredentialRegistry {
 
     /**
      * 注册处理器
+     * <p>
+     * 注册/注销采用写时复制：基于当前快照重建新的不可变快照后整体替换，
+     * 并发的校验、解析、识别读取替换前或替换后的完整快照，不会看到中间状态。
+     * 证件类型的识别优先级和中文名在注册时读取并固化到快照中。
+     * </p>
      *
      * @param type      证件类型
      * @param processor 证件处理器
-     * @throws NullPointerException 如果证件类型或证件处理器是空
+     * @throws NullPointerException 如果证件类型、证件处理器或其证件形状是空
      */
     public void register(final CredentialType type, final CredentialProcessor<? extends CredentialInfo> processor) {
         Objects.requireNonNull(type, "证件类型是空");
         Objects.requireNonNull(processor, "证件处理器是空");
-        processors.put(type, processor);
+        Objects.requireNonNull(processor.getShape(), "证件形状是空");
+        synchronized (writeLock) {
+            Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> processors = snapshot.processors();
+            processors.put(type, processor);
+            snapshot = Snapshot.build(processors, snapshot.version + 1);
+        }
     }
 
     /**
@@ -179,7 +238,35 @@ public final class CredentialRegistry {
      */
     public void unregister(final CredentialType type) {
         Objects.requireNonNull(type, "证件类型是空");
-        processors.remove(type);
+        synchronized (writeLock) {
+            Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> processors = snapshot.processors();
+            if (processors.remove(type) != null) {
+                snapshot = Snapshot.build(processors, snapshot.version + 1);
+            }
+        }
+    }
+
+    /**
+     * 设置指标监听器
+     * <p>
+     * 之后的校验、解析、识别（含批量操作中的每一条）完成后回调监听器；传入null关闭。
+     * 未设置时热路径上只多一次判空，不计时。
+     * </p>
+     *
+     * @param listener 指标监听器（允许为null）
+     * @see com.xiahaimoyu.credentialkit.metrics.CredentialMetrics
+     */
+    public void setMetricsListener(final CredentialMetricsListener listener) {
+        this.metricsListener = listener;
+    }
+
+    /**
+     * 获取指标监听器
+     *
+     * @return 指标监听器，未设置时返回null
+     */
+    public CredentialMetricsListener getMetricsListener() {
+        return metricsListener;
     }
 
     /**
@@ -188,37 +275,320 @@ public final class CredentialRegistry {
      * @return 已注册的证件类型集合（不可变）
      */
     public Set<CredentialType> getSupportedTypes() {
-        return Collections.unmodifiableSet(new HashSet<>(processors.keySet()));
+        return Collections.unmodifiableSet(new HashSet<>(snapshot.byType.keySet()));
     }
 
     /**
      * 智能识别证件类型
      * <p>
-     * 遍历所有已注册的处理器，通过校验逻辑识别证件类型。
+     * 先按处理器声明的{@link CredentialShape 证件形状}（长度、首字符类别、字符类别）预过滤，
+     * 再对可能匹配的处理器执行完整校验。
      * 校验通过的证件类型会被收集返回，按识别优先级升序排列（优先级相同时按中文名称排序，保证顺序确定）。
      * </p>
      * <p>
-     * 注意：证件号码的规格化（去除首尾空格、转大写）由各处理器自行完成，
-     * 本方法直接将原始输入交由处理器校验，以保证子类覆盖 {@code normalize} 时在此处同样生效。
+     * 输入只做一次默认规格化（去除首尾空格、转大写），结果共享给所有使用默认规格化的处理器；
+     * 覆写了{@code normalize}的处理器仍接收原始输入并自行规格化，保证覆写在此处同样生效。
      * </p>
      *
      * @param credential 证件号码
      * @return 推断的证件类型列表（空列表表示无匹配，单元素表示唯一类型，多元素表示多个候选）
      */
     public List<CredentialType> detect(final String credential) {
+        return detect(snapshot, credential);
+    }
+
+    /**
+     * 智能识别字节数组区间内的ASCII证件号码
+     * <p>
+     * 字节原地按字符读取（见{@link AsciiCharSequence}），结果与对解码后的字符串调用{@link #detect(String)}一致。
+     * 区间去除首尾空白后不含小写字母和非ASCII字节时不创建字符串：形状特征按8字节一组计算，
+     * 内置处理器直接在字节上校验；否则解码为字符串后按字符串识别。
+     * 覆写了规格化/校验入口的处理器仍接收解码后的字符串。
+     * </p>
+     *
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 推断的证件类型列表
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     */
+    public List<CredentialType> detect(final byte[] credential, final int offset, final int length) {
+        return detect(snapshot, AsciiCharSequence.wrap(credential, offset, length));
+    }
+
+    /**
+     * 智能识别缓冲区区间内的ASCII证件号码（按绝对下标读取，不修改缓冲区的position）
+     *
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 推断的证件类型列表
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出缓冲区的limit
+     * @see #detect(byte[], int, int)
+     */
+    public List<CredentialType> detect(final ByteBuffer credential, final int index, final int length) {
+        return detect(snapshot, AsciiCharSequence.wrap(credential, index, length));
+    }
+
+    /**
+     * 基于指定快照智能识别ASCII字节视图中的证件类型
+     *
+     * @param current    注册表快照
+     * @param credential 字节视图
+     * @return 推断的证件类型列表
+     */
+    private List<CredentialType> detect(final Snapshot current, final AsciiCharSequence credential) {
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return match(current, credential);
+        }
+        final long start = System.nanoTime();
+        final List<CredentialType> matchedTypes = match(current, credential);
+        listener.onDetect(matchedTypes, System.nanoTime() - start);
+        return matchedTypes;
+    }
+
+    /**
+     * 基于指定快照智能识别证件类型
+     *
+     * @param current    注册表快照
+     * @param credential 证件号码
+     * @return 推断的证件类型列表
+     */
+    private List<CredentialType> detect(final Snapshot current, final String credential) {
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return match(current, credential);
+        }
+        final long start = System.nanoTime();
+        final List<CredentialType> matchedTypes = match(current, credential);
+        listener.onDetect(matchedTypes, System.nanoTime() - start);
+        return matchedTypes;
+    }
+
+    /**
+     * 收集全部匹配的证件类型
+     *
+     * @param current    注册表快照
+     * @param credential 证件号码
+     * @return 按识别顺序排列的匹配类型
+     */
+    private static List<CredentialType> match(final Snapshot current, final String credential) {
         if (credential == null) {
             return Collections.emptyList();
         }
+        final String normalized = CredentialProcessor.defaultNormalize(credential);
+        final long features = Snapshot.features(normalized);
+        final int familyMembers = current.classifyFamily(normalized);
         List<CredentialType> matchedTypes = new ArrayList<>();
-        for (Map.Entry<CredentialType, CredentialProcessor<? extends CredentialInfo>> entry : processors.entrySet()) {
-            if (entry.getValue().validate(credential).isValid()) {
-                matchedTypes.add(entry.getKey());
+        // 桶内已按识别顺序排列，匹配结果无需再排序
+        for (Registration registration : current.bucket(features)) {
+            if (registration.accepts(features) && registration.matches(credential, normalized, familyMembers)) {
+                matchedTypes.add(registration.type);
             }
         }
-        matchedTypes.sort(DETECT_ORDER);
         return matchedTypes;
     }
 
+    /**
+     * 在ASCII字节视图上收集全部匹配的证件类型
+     *
+     * @param current    注册表快照
+     * @param credential 字节视图
+     * @return 按识别顺序排列的匹配类型
+     */
+    private static List<CredentialType> match(final Snapshot current, final AsciiCharSequence credential) {
+        int start = 0;
+        int end = credential.length();
+        while (start < end && credential.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && credential.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (!credential.isUpperAscii(start, end)) {
+            // 需要大写转换的输入与字符串识别走同一路径
+            return match(current, credential.toString());
+        }
+        final int length = end - start;
+        final long features = Snapshot.features(credential, start, length);
+        final int familyMembers = current.classifyFamily(credential, start, length);
+        List<CredentialType> matchedTypes = new ArrayList<>();
+        for (Registration registration : current.bucket(features)) {
+            if (registration.accepts(features) && registration.matches(credential, start, length, familyMembers)) {
+                matchedTypes.add(registration.type);
+            }
+        }
+        return matchedTypes;
+    }
+
+    /**
+     * 识别最可能的证件类型
+     * <p>
+     * 按识别优先级依次校验形状可能匹配的处理器，遇到第一个校验通过的类型即返回，
+     * 不再校验其余处理器。结果与{@code detect(credential)}的第一个元素一致。
+     * </p>
+     *
+     * @param credential 证件号码
+     * @return 优先级最高的匹配类型，无匹配时返回Optional.empty()
+     */
+    public Optional<CredentialType> detectBest(final String credential) {
+        return detectFirst(credential, null);
+    }
+
+    /**
+     * 在候选类型范围内识别最可能的证件类型
+     * <p>
+     * 只校验候选范围内的类型（内置类型建议使用{@link java.util.EnumSet}，判断是否在范围内为位运算），
+     * 按识别优先级遇到第一个校验通过的类型即返回。未注册的候选类型被忽略。
+     * </p>
+     *
+     * @param credential     证件号码
+     * @param candidateTypes 候选证件类型
+     * @return 候选范围内优先级最高的匹配类型，无匹配时返回Optional.empty()
+     * @throws NullPointerException 如果候选证件类型是空
+     */
+    public Optional<CredentialType> detectBest(final String credential, final Set<? extends CredentialType> candidateTypes) {
+        Objects.requireNonNull(candidateTypes, "候选证件类型是空");
+        return detectFirst(credential, candidateTypes);
+    }
+
+    /**
+     * 按识别顺序查找第一个匹配的类型
+     *
+     * @param credential     证件号码
+     * @param candidateTypes 候选证件类型（null表示不限）
+     * @return 第一个匹配的类型
+     */
+    private Optional<CredentialType> detectFirst(final String credential, final Set<? extends CredentialType> candidateTypes) {
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return matchFirst(snapshot, credential, candidateTypes);
+        }
+        final long start = System.nanoTime();
+        final Optional<CredentialType> best = matchFirst(snapshot, credential, candidateTypes);
+        listener.onDetect(best.isPresent() ? Collections.singletonList(best.get()) : Collections.emptyList(),
+                System.nanoTime() - start);
+        return best;
+    }
+
+    /**
+     * 查找第一个匹配的证件类型
+     *
+     * @param current        注册表快照
+     * @param credential     证件号码
+     * @param candidateTypes 候选证件类型（null表示不限）
+     * @return 第一个匹配的类型
+     */
+    private static Optional<CredentialType> matchFirst(final Snapshot current, final String credential,
+                                                       final Set<? extends CredentialType> candidateTypes) {
+        if (credential == null || (candidateTypes != null && candidateTypes.isEmpty())) {
+            return Optional.empty();
+        }
+        final String normalized = CredentialProcessor.defaultNormalize(credential);
+        final long features = Snapshot.features(normalized);
+        final int familyMembers = current.classifyFamily(normalized);
+        for (Registration registration : current.bucket(features)) {
+            if ((candidateTypes == null || candidateTypes.contains(registration.type))
+                    && registration.accepts(features)
+                    && registration.matches(credential, normalized, familyMembers)) {
+                return Optional.of(registration.type);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 智能识别证件类型并解析最可能的类型
+     * <p>
+     * 与先{@link #detect(String)}再{@code parse(detect(s).get(0), s)}结果一致，但只经过一次识别：
+     * 第一个匹配的处理器在校验通过后直接解析，不再重复校验；18位身份号码族成员直接取用族判定结果解析。
+     * 其余匹配类型只校验、不解析。挂载指标监听器时按识别上报。
+     * </p>
+     *
+     * @param credential 证件号码
+     * @return 识别并解析的结果（匹配类型与{@link #detect(String)}一致，至多含一个证件信息）
+     */
+    public DetectionResult detectAndParse(final String credential) {
+        return detectAndParse(credential, false);
+    }
+
+    /**
+     * 智能识别证件类型并解析全部匹配的类型
+     * <p>
+     * 同{@link #detectAndParse(String)}，但每个匹配的处理器都在校验通过后直接解析，
+     * 适合需要向用户展示多个候选类型解析结果的场景。
+     * </p>
+     *
+     * @param credential 证件号码
+     * @return 识别并解析的结果（每个匹配类型都有对应的证件信息）
+     */
+    public DetectionResult detectAndParseAll(final String credential) {
+        return detectAndParse(credential, true);
+    }
+
+    /**
+     * 识别并解析
+     *
+     * @param credential 证件号码
+     * @param parseAll   是否解析全部匹配类型
+     * @return 识别并解析的结果
+     */
+    private DetectionResult detectAndParse(final String credential, final boolean parseAll) {
+        final Snapshot current = snapshot;
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return matchAndParse(current, credential, parseAll);
+        }
+        final long start = System.nanoTime();
+        final DetectionResult result = matchAndParse(current, credential, parseAll);
+        listener.onDetect(result.getTypes(), System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 收集全部匹配的证件类型并解析
+     *
+     * @param current    注册表快照
+     * @param credential 证件号码
+     * @param parseAll   是否解析全部匹配类型（否则只解析第一个）
+     * @return 识别并解析的结果
+     */
+    private static DetectionResult matchAndParse(final Snapshot current, final String credential, final boolean parseAll) {
+        if (credential == null) {
+            return DetectionResult.EMPTY;
+        }
+        final String normalized = CredentialProcessor.defaultNormalize(credential);
+        final long features = Snapshot.features(normalized);
+        final int familyMembers = current.classifyFamily(normalized);
+        List<CredentialType> matchedTypes = null;
+        List<CredentialInfo> infos = null;
+        for (Registration registration : current.bucket(features)) {
+            if (!registration.accepts(features)) {
+                continue;
+            }
+            if (matchedTypes == null || parseAll) {
+                final CredentialInfo info = registration.parse(credential, normalized, familyMembers);
+                if (info == null) {
+                    continue;
+                }
+                if (matchedTypes == null) {
+                    matchedTypes = new ArrayList<>();
+                    infos = parseAll ? new ArrayList<>() : Collections.singletonList(info);
+                }
+                matchedTypes.add(registration.type);
+                if (parseAll) {
+                    infos.add(info);
+                }
+            } else if (registration.matches(credential, normalized, familyMembers)) {
+                matchedTypes.add(registration.type);
+            }
+        }
+        return matchedTypes == null ? DetectionResult.EMPTY : new DetectionResult(matchedTypes, infos);
+    }
+
     /**
      * 获取证件处理器
      *
@@ -229,11 +599,44 @@ public final class CredentialRegistry {
      */
     private CredentialProcessor<? extends CredentialInfo> getProcessor(final CredentialType type) {
         Objects.requireNonNull(type, "证件类型是空");
-        final CredentialProcessor<? extends CredentialInfo> processor = processors.get(type);
-        if (processor == null) {
+        final Registration registration = snapshot.find(type);
+        if (registration == null) {
             throw new UnsupportedOperationException("不支持校验" + type);
         }
-        return processor;
+        return registration.processor;
+    }
+
+    /**
+     * 获取注册表版本
+     * <p>
+     * 每次注册/注销递增，供缓存等包内组件判断注册表是否变化。
+     * </p>
+     *
+     * @return 注册表版本
+     */
+    long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * 智能识别是否只依赖默认规格化后的输入
+     *
+     * @return 如果全部已注册处理器都使用默认规格化则返回true
+     */
+    boolean detectUsesDefaultNormalization() {
+        return snapshot.allDefaultNormalization;
+    }
+
+    /**
+     * 指定类型的处理器是否使用默认规格化
+     *
+     * @param type 证件类型
+     * @return 是否使用默认规格化
+     * @throws NullPointerException          如果证件类型是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     */
+    boolean usesDefaultNormalization(final CredentialType type) {
+        return getProcessor(type).usesDefaultNormalization();
     }
 
     /**
@@ -244,8 +647,170 @@ public final class CredentialRegistry {
      * @return 校验结果
      */
     public ValidationResult validate(final CredentialType type, final String credential) {
+        return validate(type, getProcessor(type), credential);
+    }
+
+    /**
+     * 校验字符序列区间内的证件并返回详细结果
+     * <p>
+     * 适合从更大的输入（如整行记录、MRZ文本块）中直接校验某个字段，
+     * 内置处理器在区间内已规格化时不创建任何字符串，结果与{@link #validate(CredentialType, String)}一致。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 校验结果
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public ValidationResult validate(final CredentialType type, final CharSequence credential, final int offset, final int length) {
         final CredentialProcessor<? extends CredentialInfo> processor = getProcessor(type);
-        return processor.validate(credential);
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return processor.validate(credential, offset, length);
+        }
+        final long start = System.nanoTime();
+        final ValidationResult result = processor.validate(credential, offset, length);
+        listener.onValidate(type, result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 校验字节数组区间内的ASCII证件号码并返回详细结果
+     * <p>
+     * 字节原地按字符读取（见{@link AsciiCharSequence}），结果与对解码后的字符串调用{@link #validate(CredentialType, String)}一致；
+     * 内置处理器在区间已规格化时不创建任何字符串。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 校验结果
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     */
+    public ValidationResult validate(final CredentialType type, final byte[] credential, final int offset, final int length) {
+        return validate(type, AsciiCharSequence.wrap(credential, offset, length), 0, length);
+    }
+
+    /**
+     * 校验缓冲区区间内的ASCII证件号码并返回详细结果（按绝对下标读取，不修改缓冲区的position）
+     *
+     * @param type       证件类型
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 校验结果
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出缓冲区的limit
+     * @see #validate(CredentialType, byte[], int, int)
+     */
+    public ValidationResult validate(final CredentialType type, final ByteBuffer credential, final int index, final int length) {
+        return validate(type, AsciiCharSequence.wrap(credential, index, length), 0, length);
+    }
+
+    /**
+     * 使用指定处理器校验证件
+     *
+     * @param type       证件类型
+     * @param processor  证件处理器
+     * @param credential 证件号码
+     * @return 校验结果
+     */
+    private ValidationResult validate(final CredentialType type,
+                                      final CredentialProcessor<? extends CredentialInfo> processor,
+                                      final String credential) {
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return processor.validate(credential);
+        }
+        final long start = System.nanoTime();
+        final ValidationResult result = processor.validate(credential);
+        listener.onValidate(type, result, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 判断证件是否通过校验
+     * <p>
+     * 只需要是否通过、不读取错误码时使用的快速路径，结果与{@code validate(type, credential).isValid()}一致；
+     * 处理器按开销从低到高执行检查，见{@link CredentialProcessor#isValid(String)}。
+     * 挂载指标监听器时通过{@link CredentialMetricsListener#onIsValid(CredentialType, boolean, long)}上报。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 证件号码（允许为null，规格化后为空字符串，必然不通过）
+     * @return 是否通过
+     */
+    public boolean isValid(final CredentialType type, final String credential) {
+        final CredentialProcessor<? extends CredentialInfo> processor = getProcessor(type);
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return processor.isValid(credential);
+        }
+        final long start = System.nanoTime();
+        final boolean valid = processor.isValid(credential);
+        listener.onIsValid(type, valid, System.nanoTime() - start);
+        return valid;
+    }
+
+    /**
+     * 判断字符序列区间内的证件是否通过校验
+     *
+     * @param type       证件类型
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否通过
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     * @see #isValid(CredentialType, String)
+     */
+    public boolean isValid(final CredentialType type, final CharSequence credential, final int offset, final int length) {
+        final CredentialProcessor<? extends CredentialInfo> processor = getProcessor(type);
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return processor.isValid(credential, offset, length);
+        }
+        final long start = System.nanoTime();
+        final boolean valid = processor.isValid(credential, offset, length);
+        listener.onIsValid(type, valid, System.nanoTime() - start);
+        return valid;
+    }
+
+    /**
+     * 判断字节数组区间内的ASCII证件号码是否通过校验
+     *
+     * @param type       证件类型
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否通过
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     * @see #validate(CredentialType, byte[], int, int)
+     */
+    public boolean isValid(final CredentialType type, final byte[] credential, final int offset, final int length) {
+        return isValid(type, AsciiCharSequence.wrap(credential, offset, length), 0, length);
+    }
+
+    /**
+     * 判断缓冲区区间内的ASCII证件号码是否通过校验（按绝对下标读取，不修改缓冲区的position）
+     *
+     * @param type       证件类型
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 是否通过
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出缓冲区的limit
+     * @see #validate(CredentialType, byte[], int, int)
+     */
+    public boolean isValid(final CredentialType type, final ByteBuffer credential, final int index, final int length) {
+        return isValid(type, AsciiCharSequence.wrap(credential, index, length), 0, length);
     }
 
     /**
@@ -259,11 +824,85 @@ public final class CredentialRegistry {
      * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
      */
     public Optional<? extends CredentialInfo> parse(final CredentialType type, final String credential) {
+        return parse(type, getProcessor(type), credential);
+    }
+
+    /**
+     * 解析字符序列区间内的证件
+     * <p>
+     * 结果与{@link #parse(CredentialType, String)}一致；内置处理器在区间已规格化时
+     * 只为证件信息中返回的字段创建字符串。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public Optional<? extends CredentialInfo> parse(final CredentialType type, final CharSequence credential,
+                                                    final int offset, final int length) {
         final CredentialProcessor<? extends CredentialInfo> processor = getProcessor(type);
-        return processor.parse(credential).map(info -> {
-            info.setType(type);
-            return info;
-        });
+        final CredentialMetricsListener listener = metricsListener;
+        final long start = listener == null ? 0 : System.nanoTime();
+        final CredentialInfo info = setType(type, processor.validateAndParse(credential, offset, length)).getInfoOrNull();
+        if (listener != null) {
+            listener.onParse(type, info != null, System.nanoTime() - start);
+        }
+        return info == null ? Optional.empty() : Optional.of(info);
+    }
+
+    /**
+     * 解析字节数组区间内的ASCII证件号码
+     * <p>
+     * 字节原地按字符读取（见{@link AsciiCharSequence}），只为证件信息中返回的字段创建字符串。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 字节数组
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     */
+    public Optional<? extends CredentialInfo> parse(final CredentialType type, final byte[] credential,
+                                                    final int offset, final int length) {
+        return parse(type, AsciiCharSequence.wrap(credential, offset, length), 0, length);
+    }
+
+    /**
+     * 解析缓冲区区间内的ASCII证件号码（按绝对下标读取，不修改缓冲区的position）
+     *
+     * @param type       证件类型
+     * @param credential 缓冲区
+     * @param index      证件起始下标
+     * @param length     证件长度
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出缓冲区的limit
+     * @see #parse(CredentialType, byte[], int, int)
+     */
+    public Optional<? extends CredentialInfo> parse(final CredentialType type, final ByteBuffer credential,
+                                                    final int index, final int length) {
+        return parse(type, AsciiCharSequence.wrap(credential, index, length), 0, length);
+    }
+
+    /**
+     * 使用指定处理器解析证件并设置证件类型
+     *
+     * @param type       证件类型
+     * @param processor  证件处理器
+     * @param credential 证件号码
+     * @return 解析后的证件信息，如果解析失败则返回Optional.empty()
+     */
+    private Optional<? extends CredentialInfo> parse(final CredentialType type,
+                                                     final CredentialProcessor<? extends CredentialInfo> processor,
+                                                     final String credential) {
+        final CredentialInfo info = validateAndParse(type, processor, credential).getInfoOrNull();
+        return info == null ? Optional.empty() : Optional.of(info);
     }
 
     /**
@@ -285,4 +924,785 @@ public final class CredentialRegistry {
         Objects.requireNonNull(infoClass, "证件信息类型是空");
         return parse(type, credential).map(infoClass::cast);
     }
+
+    /**
+     * 校验并解析证件
+     * <p>
+     * 校验链只执行一次，同时得到错误码和证件信息：失败时返回按错误码缓存的结果（不分配对象），
+     * 成功时证件信息的{@link CredentialInfo#getType()}会被设置为实际注册的证件类型。
+     * 挂载指标监听器时按解析上报。
+     * </p>
+     *
+     * @param type       证件类型
+     * @param credential 证件号码（允许为null，规格化后为空字符串，校验必然失败）
+     * @return 解析结果
+     */
+    public ParseResult<? extends CredentialInfo> validateAndParse(final CredentialType type, final String credential) {
+        return validateAndParse(type, getProcessor(type), credential);
+    }
+
+    /**
+     * 校验并解析证件，返回指定类型
+     *
+     * @param type       证件类型
+     * @param credential 证件号码
+     * @param infoClass  证件信息类型
+     * @param <T>        证件信息类型
+     * @return 解析结果
+     * @throws NullPointerException 如果infoClass是空
+     * @throws ClassCastException   如果解析结果的实际类型与infoClass不符
+     * @see #validateAndParse(CredentialType, String)
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends CredentialInfo> ParseResult<T> validateAndParse(final CredentialType type, final String credential,
+                                                                      final Class<T> infoClass) {
+        Objects.requireNonNull(infoClass, "证件信息类型是空");
+        final ParseResult<? extends CredentialInfo> result = validateAndParse(type, credential);
+        infoClass.cast(result.getInfoOrNull());
+        return (ParseResult<T>) result;
+    }
+
+    /**
+     * 使用指定处理器校验并解析证件，设置证件类型
+     *
+     * @param type       证件类型
+     * @param processor  证件处理器
+     * @param credential 证件号码
+     * @return 解析结果
+     */
+    private ParseResult<? extends CredentialInfo> validateAndParse(final CredentialType type,
+                                                                   final CredentialProcessor<? extends CredentialInfo> processor,
+                                                                   final String credential) {
+        final CredentialMetricsListener listener = metricsListener;
+        if (listener == null) {
+            return setType(type, processor.validateAndParse(credential));
+        }
+        final long start = System.nanoTime();
+        final ParseResult<? extends CredentialInfo> result = setType(type, processor.validateAndParse(credential));
+        listener.onParse(type, result.isValid(), System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 为成功的解析结果设置证件类型
+     *
+     * @param type   证件类型
+     * @param result 解析结果
+     * @return 原解析结果
+     */
+    private static ParseResult<? extends CredentialInfo> setType(final CredentialType type,
+                                                                 final ParseResult<? extends CredentialInfo> result) {
+        final CredentialInfo info = result.getInfoOrNull();
+        if (info != null) {
+            info.setType(type);
+        }
+        return result;
+    }
+
+    /**
+     * 批量智能识别证件类型
+     *
+     * @param credentials 证件号码列表（元素允许为null）
+     * @return 与输入一一对应的识别结果（按输入顺序，固定大小）
+     * @throws NullPointerException 如果证件号码列表是空
+     * @see #detectAll(List, Executor)
+     */
+    public List<List<CredentialType>> detectAll(final List<String> credentials) {
+        return detectAll(credentials, null);
+    }
+
+    /**
+     * 批量智能识别证件类型
+     *
+     * @param credentials 证件号码数组（元素允许为null）
+     * @return 与输入一一对应的识别结果（按输入顺序，固定大小）
+     * @throws NullPointerException 如果证件号码数组是空
+     * @see #detectAll(List, Executor)
+     */
+    public List<List<CredentialType>> detectAll(final String[] credentials) {
+        return detectAll(Arrays.asList(Objects.requireNonNull(credentials, "证件号码列表是空")), null);
+    }
+
+    /**
+     * 批量智能识别证件类型
+     * <p>
+     * 整批共享同一个注册表快照，批量执行期间的注册/注销不影响本批结果。
+     * 不超过{@value #PARALLEL_THRESHOLD}条时在调用线程顺序执行；
+     * 超过时按分片提交到{@code executor}并行执行（为null时使用{@link ForkJoinPool#commonPool()}），
+     * 调用线程等待全部分片完成。
+     * </p>
+     *
+     * @param credentials 证件号码列表（元素允许为null）
+     * @param executor    并行执行器（允许为null）
+     * @return 与输入一一对应的识别结果（按输入顺序，固定大小）
+     * @throws NullPointerException 如果证件号码列表是空
+     */
+    public List<List<CredentialType>> detectAll(final List<String> credentials, final Executor executor) {
+        Objects.requireNonNull(credentials, "证件号码列表是空");
+        final Snapshot current = snapshot;
+        return runBatch(credentials, executor, credential -> detect(current, credential));
+    }
+
+    /**
+     * 批量校验证件
+     *
+     * @param type        证件类型
+     * @param credentials 证件号码列表（元素允许为null，校验必然失败）
+     * @return 与输入一一对应的校验结果（按输入顺序，固定大小）
+     * @throws NullPointerException          如果证件类型或证件号码列表是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     * @see #validateAll(CredentialType, List, Executor)
+     */
+    public List<ValidationResult> validateAll(final CredentialType type, final List<String> credentials) {
+        return validateAll(type, credentials, null);
+    }
+
+    /**
+     * 批量校验证件
+     *
+     * @param type        证件类型
+     * @param credentials 证件号码数组（元素允许为null，校验必然失败）
+     * @return 与输入一一对应的校验结果（按输入顺序，固定大小）
+     * @throws NullPointerException          如果证件类型或证件号码数组是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     * @see #validateAll(CredentialType, List, Executor)
+     */
+    public List<ValidationResult> validateAll(final CredentialType type, final String[] credentials) {
+        return validateAll(type, Arrays.asList(Objects.requireNonNull(credentials, "证件号码列表是空")), null);
+    }
+
+    /**
+     * 批量校验证件
+     * <p>
+     * 处理器在批量开始时查找一次，整批复用。执行方式同{@link #detectAll(List, Executor)}。
+     * </p>
+     *
+     * @param type        证件类型
+     * @param credentials 证件号码列表（元素允许为null，校验必然失败）
+     * @param executor    并行执行器（允许为null）
+     * @return 与输入一一对应的校验结果（按输入顺序，固定大小）
+     * @throws NullPointerException          如果证件类型或证件号码列表是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     */
+    public List<ValidationResult> validateAll(final CredentialType type, final List<String> credentials, final Executor executor) {
+        Objects.requireNonNull(credentials, "证件号码列表是空");
+        final CredentialProcessor<? extends CredentialInfo> processor = getProcessor(type);
+        return runBatch(credentials, executor, credential -> validate(type, processor, credential));
+    }
+
+    /**
+     * 批量解析证件
+     *
+     * @param type        证件类型
+     * @param credentials 证件号码列表（元素允许为null，解析必然失败）
+     * @return 与输入一一对应的解析结果（按输入顺序，固定大小）
+     * @throws NullPointerException          如果证件类型或证件号码列表是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     * @see #parseAll(CredentialType, List, Executor)
+     */
+    public List<Optional<? extends CredentialInfo>> parseAll(final CredentialType type, final List<String> credentials) {
+        return parseAll(type, credentials, null);
+    }
+
+    /**
+     * 批量解析证件
+     *
+     * @param type        证件类型
+     * @param credentials 证件号码数组（元素允许为null，解析必然失败）
+     * @return 与输入一一对应的解析结果（按输入顺序，固定大小）
+     * @throws NullPointerException          如果证件类型或证件号码数组是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     * @see #parseAll(CredentialType, List, Executor)
+     */
+    public List<Optional<? extends CredentialInfo>> parseAll(final CredentialType type, final String[] credentials) {
+        return parseAll(type, Arrays.asList(Objects.requireNonNull(credentials, "证件号码列表是空")), null);
+    }
+
+    /**
+     * 批量解析证件
+     * <p>
+     * 处理器在批量开始时查找一次，整批复用。执行方式同{@link #detectAll(List, Executor)}。
+     * </p>
+     *
+     * @param type        证件类型
+     * @param credentials 证件号码列表（元素允许为null，解析必然失败）
+     * @param executor    并行执行器（允许为null）
+     * @return 与输入一一对应的解析结果（按输入顺序，固定大小）
+     * @throws NullPointerException          如果证件类型或证件号码列表是空
+     * @throws UnsupportedOperationException 如果不支持该证件类型
+     */
+    public List<Optional<? extends CredentialInfo>> parseAll(final CredentialType type, final List<String> credentials,
+                                                            final Executor executor) {
+        Objects.requireNonNull(credentials, "证件号码列表是空");
+        final CredentialProcessor<? extends CredentialInfo> processor = getProcessor(type);
+        return runBatch(credentials, executor, credential -> parse(type, processor, credential));
+    }
+
+    /**
+     * 按默认选项预热
+     *
+     * @return 预热报告
+     * @see #warmUp(WarmUpOptions)
+     */
+    public WarmUpReport warmUp() {
+        return warmUp(WarmUpOptions.defaults());
+    }
+
+    /**
+     * 预热
+     * <p>
+     * 在服务启动阶段提前支付首次调用的开销，分三个阶段：
+     * 地区数据——在执行器上并行加载国内、国际地区数据（见{@link RegionUtil}）；
+     * SPI——与地区数据加载重叠，在调用线程扫描classpath上的SPI提供者（加载并实例化提供者类，不注册其处理器）；
+     * 处理器——地区数据加载完成后，按识别顺序轮流调用当前快照中的每个处理器：每轮对每个处理器各取一个
+     * 有效样本执行校验、区间快速校验、校验并解析、字符串和字节视图的智能识别，再取一个无效样本执行校验、
+     * 快速校验和智能识别，使共享入口在接近真实混合流量的类型分布下被JIT编译。
+     * </p>
+     * <p>
+     * 内置证件类型的样本自动生成，其他类型使用{@link WarmUpOptions.Builder#samples}补充的样本
+     * （未补充时只用按证件形状生成的无效样本）。
+     * 预热直接调用处理器，不经过{@link CredentialMetricsListener}，不计入指标；
+     * 预热开始后注册的处理器不参与本次预热。处理器或SPI提供者抛出的异常原样抛出。
+     * </p>
+     *
+     * @param options 预热选项
+     * @return 预热报告
+     * @throws NullPointerException  如果预热选项是空
+     * @throws IllegalStateException 如果加载SPI提供者失败
+     */
+    public WarmUpReport warmUp(final WarmUpOptions options) {
+        Objects.requireNonNull(options, "预热选项是空");
+        final long start = System.nanoTime();
+        CompletableFuture<long[]> domestic = null;
+        CompletableFuture<long[]> international = null;
+        if (options.isLoadRegionData()) {
+            final Executor executor = options.getExecutor() == null ? ForkJoinPool.commonPool() : options.getExecutor();
+            domestic = timeAsync(() -> RegionUtil.getDomesticRegionInfoByCode("110000"), executor);
+            international = timeAsync(() -> RegionUtil.getInternationalRegionInfoByAlpha3("CHN"), executor);
+        }
+        long spiNanos = 0;
+        int spiProviderCount = 0;
+        if (options.isResolveSpiProviders()) {
+            final long spiStart = System.nanoTime();
+            spiProviderCount = resolveSpiProviders().size();
+            spiNanos = System.nanoTime() - spiStart;
+        }
+        long domesticNanos = 0;
+        long internationalNanos = 0;
+        long regionDataNanos = 0;
+        if (domestic != null) {
+            final long[] domesticTiming = join(domestic);
+            final long[] internationalTiming = join(international);
+            domesticNanos = domesticTiming[0];
+            internationalNanos = internationalTiming[0];
+            regionDataNanos = Math.max(domesticTiming[1], internationalTiming[1]) - start;
+        }
+
+        final long processorStart = System.nanoTime();
+        final Snapshot current = snapshot;
+        final Registration[] registrations = current.ordered;
+        final String[][] valid = new String[registrations.length][];
+        final AsciiCharSequence[][] validViews = new AsciiCharSequence[registrations.length][];
+        final String[][] invalid = new String[registrations.length][];
+        for (int r = 0; r < registrations.length; r++) {
+            final Registration registration = registrations[r];
+            final List<String> samples = WarmUpSamples.valid(registration.type);
+            final List<String> extra = options.getSamples().get(registration.type);
+            if (extra != null) {
+                samples.addAll(extra);
+            }
+            valid[r] = samples.toArray(new String[0]);
+            validViews[r] = new AsciiCharSequence[valid[r].length];
+            for (int i = 0; i < valid[r].length; i++) {
+                final byte[] bytes = valid[r][i].getBytes(StandardCharsets.ISO_8859_1);
+                validViews[r][i] = AsciiCharSequence.wrap(bytes, 0, bytes.length);
+            }
+            invalid[r] = WarmUpSamples.invalid(registration.type, samples, registration.shape).toArray(new String[0]);
+        }
+        final long[] typeNanos = new long[registrations.length];
+        long invocationCount = 0;
+        for (int i = 0; i < options.getIterations(); i++) {
+            for (int r = 0; r < registrations.length; r++) {
+                final long typeStart = System.nanoTime();
+                final Registration registration = registrations[r];
+                final CredentialProcessor<? extends CredentialInfo> processor = registration.processor;
+                if (valid[r].length != 0) {
+                    final String credential = valid[r][i % valid[r].length];
+                    final AsciiCharSequence view = validViews[r][i % validViews[r].length];
+                    processor.validate(credential);
+                    processor.isValid(view, 0, view.length());
+                    setType(registration.type, processor.validateAndParse(credential));
+                    match(current, credential);
+                    match(current, view);
+                    invocationCount += 5;
+                }
+                final String credential = invalid[r][i % invalid[r].length];
+                processor.validate(credential);
+                processor.isValid(credential);
+                match(current, credential);
+                invocationCount += 3;
+                typeNanos[r] += System.nanoTime() - typeStart;
+            }
+        }
+        final Map<CredentialType, Long> processorNanosByType = new LinkedHashMap<>();
+        for (int r = 0; r < registrations.length; r++) {
+            processorNanosByType.put(registrations[r].type, typeNanos[r]);
+        }
+        final long end = System.nanoTime();
+        return new WarmUpReport(domesticNanos, internationalNanos, regionDataNanos, spiNanos, spiProviderCount,
+                end - processorStart, processorNanosByType, invocationCount, end - start);
+    }
+
+    /**
+     * 在执行器上异步执行任务并计时
+     *
+     * @param task     任务
+     * @param executor 执行器
+     * @return 异步结果：任务耗时和完成时刻（{@link System#nanoTime()}）
+     */
+    private static CompletableFuture<long[]> timeAsync(final Runnable task, final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            final long taskStart = System.nanoTime();
+            task.run();
+            final long taskEnd = System.nanoTime();
+            return new long[]{taskEnd - taskStart, taskEnd};
+        }, executor);
+    }
+
+    /**
+     * 执行批量操作
+     * <p>
+     * 结果写入按输入下标预分配的数组，各分片写入互不重叠的区间，无需同步；
+     * 等待全部分片完成后再返回，保证结果对调用线程可见。
+     * 分片抛出的异常解包后原样抛出。
+     * </p>
+     *
+     * @param credentials 证件号码列表
+     * @param executor    并行执行器（允许为null）
+     * @param operation   单条操作
+     * @param <R>         结果类型
+     * @return 按输入顺序排列的结果
+     */
+    private static <R> List<R> runBatch(final List<String> credentials, final Executor executor,
+                                        final Function<String, R> operation) {
+        final int size = credentials.size();
+        final Object[] results = new Object[size];
+        if (size <= PARALLEL_THRESHOLD) {
+            int index = 0;
+            for (String credential : credentials) {
+                results[index++] = operation.apply(credential);
+            }
+        } else {
+            final List<String> source = credentials instanceof RandomAccess ? credentials : new ArrayList<>(credentials);
+            final Executor target = executor == null ? ForkJoinPool.commonPool() : executor;
+            final int parallelism = executor == null
+                    ? ForkJoinPool.getCommonPoolParallelism()
+                    : Runtime.getRuntime().availableProcessors();
+            final int maxChunks = Math.min((size + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE, Math.max(1, parallelism) * 4);
+            final int chunkSize = (size + maxChunks - 1) / maxChunks;
+            final CompletableFuture<?>[] futures = new CompletableFuture<?>[(size + chunkSize - 1) / chunkSize];
+            for (int chunk = 0; chunk < futures.length; chunk++) {
+                final int from = chunk * chunkSize;
+                final int to = Math.min(size, from + chunkSize);
+                futures[chunk] = CompletableFuture.runAsync(() -> {
+                    for (int i = from; i < to; i++) {
+                        results[i] = operation.apply(source.get(i));
+                    }
+                }, target);
+            }
+            join(CompletableFuture.allOf(futures));
+        }
+        @SuppressWarnings("unchecked")
+        List<R> list = (List<R>) Arrays.asList(results);
+        return list;
+    }
+
+    /**
+     * 等待异步任务完成
+     * <p>
+     * 任务抛出的异常解包后原样抛出。
+     * </p>
+     *
+     * @param future 异步任务
+     * @param <R>    结果类型
+     * @return 任务结果
+     */
+    private static <R> R join(final CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 注册项（注册时固化的处理器及其识别属性）
+     */
+    private static final class Registration {
+
+        private final CredentialType type;
+
+        private final CredentialProcessor<? extends CredentialInfo> processor;
+
+        private final CredentialShape shape;
+
+        /**
+         * 是否使用默认规格化（注册时确定）
+         */
+        private final boolean defaultNormalization;
+
+        /**
+         * 识别优先级（注册时读取）
+         */
+        private final int priority;
+
+        /**
+         * 中文名（注册时读取）
+         */
+        private final String chineseName;
+
+        /**
+         * 18位身份号码族成员（注册时确定，0表示不属于）
+         */
+        private final int familyMember;
+
+        Registration(CredentialType type, CredentialProcessor<? extends CredentialInfo> processor) {
+            this.type = type;
+            this.processor = processor;
+            this.shape = Objects.requireNonNull(processor.getShape(), "证件形状是空");
+            this.defaultNormalization = processor.usesDefaultNormalization();
+            this.priority = type.getDetectPriority();
+            this.chineseName = type.getChineseName();
+            this.familyMember = ResidentIdFamily.memberOf(processor);
+        }
+
+        /**
+         * 智能识别时判断是否匹配（族成员在族判定结果可用时直接取用，不再校验）
+         *
+         * @param credential    原始证件号码
+         * @param normalized    默认规格化后的证件号码
+         * @param familyMembers 18位身份号码族判定结果，未判定时为-1
+         * @return 是否匹配
+         */
+        boolean matches(String credential, String normalized, int familyMembers) {
+            if (familyMember != 0 && familyMembers >= 0) {
+                return (familyMembers & familyMember) != 0;
+            }
+            // 识别只关心是否匹配，走不构建校验结果、先做廉价检查的快速路径
+            return defaultNormalization ? processor.isValidNormalized(normalized) : processor.isValid(credential);
+        }
+
+        /**
+         * 在ASCII字节视图上判断是否匹配（区间已去除首尾空白且无需大写转换）
+         *
+         * @param credential    字节视图
+         * @param offset        规格化后的证件起始位置
+         * @param length        规格化后的证件长度
+         * @param familyMembers 18位身份号码族判定结果，未判定时为-1
+         * @return 是否匹配
+         */
+        boolean matches(AsciiCharSequence credential, int offset, int length, int familyMembers) {
+            if (familyMember != 0 && familyMembers >= 0) {
+                return (familyMembers & familyMember) != 0;
+            }
+            return defaultNormalization
+                    ? processor.isValid(credential, offset, length) : processor.isValid(credential.toString());
+        }
+
+        /**
+         * 智能识别时校验并解析（族成员在族判定结果可用时直接取用，只解析不校验）
+         *
+         * @param credential    原始证件号码
+         * @param normalized    默认规格化后的证件号码
+         * @param familyMembers 18位身份号码族判定结果，未判定时为-1
+         * @return 已设置证件类型的证件信息，不匹配时返回null
+         */
+        CredentialInfo parse(String credential, String normalized, int familyMembers) {
+            final CredentialInfo info;
+            if (familyMember != 0 && familyMembers >= 0) {
+                info = (familyMembers & familyMember) != 0
+                        ? ResidentIdFamily.parse(processor, normalized, familyMembers) : null;
+            } else if (defaultNormalization) {
+                info = processor.validateAndParseNormalized(normalized).getInfoOrNull();
+            } else if (processor.validate(credential).isValid()) {
+                // 覆写了规格化/校验入口的处理器按其自身入口判定，与detect一致
+                info = processor.parse(credential).orElse(null);
+            } else {
+                info = null;
+            }
+            if (info != null) {
+                info.setType(type);
+            }
+            return info;
+        }
+
+        /**
+         * 形状特征是否可能匹配（长度已由分桶保证）
+         * <p>
+         * 形状特征按默认规格化计算，自行规格化的处理器不做形状过滤。
+         * </p>
+         *
+         * @param features 形状特征
+         * @return 是否可能匹配
+         */
+        boolean accepts(long features) {
+            return !defaultNormalization || shape.allowsClasses((int) (features >>> 8) & 0xFF, (int) features & 0xFF);
+        }
+
+        /**
+         * 是否按长度分桶（声明了长度且使用默认规格化）
+         *
+         * @return 是否按长度分桶
+         */
+        boolean bucketedByLength() {
+            return defaultNormalization && shape.hasLengthConstraint();
+        }
+    }
+
+    /**
+     * 注册表快照（不可变）
+     * <p>
+     * 注册项按识别顺序预先排序，每个注册项在排序后的数组中的下标即其槽位。
+     * 按类型分发时先在以{@link System#identityHashCode(Object)}寻址的槽位表中按引用查找，
+     * 内置枚举类型及复用同一实例的自定义类型不会调用其{@code hashCode}/{@code equals}；
+     * 引用未命中时再按{@code equals}回退查找，兼容相等但非同一实例的自定义类型。
+     * </p>
+     * <p>
+     * 智能识别按规格化后的长度分桶：桶内是声明了该长度的处理器以及不限长度的处理器，
+     * 桶内保持识别顺序，再按首字符类别和字符类别过滤。形状特征针对默认规格化后的输入计算，
+     * 不使用默认规格化的处理器（其输入长度和字符在自行规格化后才确定）放入每个桶且不做形状过滤。
+     * 18位输入由{@link ResidentIdFamily}扫描一次，内置居民身份证、港澳/台湾居民居住证、外国人永久居留身份证
+     * 直接取用判定结果。
+     * </p>
+     */
+    private static final class Snapshot {
+
+        private static final Registration[] NO_REGISTRATIONS = new Registration[0];
+
+        static final Snapshot EMPTY = build(Collections.emptyMap(), 0);
+
+        /**
+         * 快照版本（每次注册/注销递增）
+         */
+        private final long version;
+
+        /**
+         * 是否全部处理器都使用默认规格化
+         */
+        private final boolean allDefaultNormalization;
+
+        /**
+         * 是否含18位身份号码族成员
+         */
+        private final boolean hasFamilyMembers;
+
+        /**
+         * 按识别顺序排列的注册项（下标即槽位）
+         */
+        private final Registration[] ordered;
+
+        /**
+         * 按类型查找的注册项（equals回退）
+         */
+        private final Map<CredentialType, Registration> byType;
+
+        /**
+         * 按引用寻址的槽位表（开放寻址，容量为2的幂）
+         */
+        private final CredentialType[] slotTypes;
+
+        /**
+         * 槽位表对应的槽位（即{@link #ordered}的下标）
+         */
+        private final int[] slots;
+
+        /**
+         * 按长度分桶的注册项（下标为长度）
+         */
+        private final Registration[][] byLength;
+
+        /**
+         * 超出分桶范围的长度对应的注册项（不限长度或不使用默认规格化的处理器）
+         */
+        private final Registration[] unbounded;
+
+        private Snapshot(long version, Registration[] ordered, Map<CredentialType, Registration> byType,
+                         CredentialType[] slotTypes, int[] slots,
+                         Registration[][] byLength, Registration[] unbounded) {
+            this.version = version;
+            boolean allDefault = true;
+            boolean family = false;
+            for (Registration registration : ordered) {
+                allDefault &= registration.defaultNormalization;
+                family |= registration.familyMember != 0;
+            }
+            this.allDefaultNormalization = allDefault;
+            this.hasFamilyMembers = family;
+            this.ordered = ordered;
+            this.byType = byType;
+            this.slotTypes = slotTypes;
+            this.slots = slots;
+            this.byLength = byLength;
+            this.unbounded = unbounded;
+        }
+
+        /**
+         * 根据注册表构建快照
+         *
+         * @param processors 注册表
+         * @param version    快照版本
+         * @return 快照
+         */
+        static Snapshot build(Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> processors, long version) {
+            List<Registration> all = new ArrayList<>(processors.size());
+            for (Map.Entry<CredentialType, CredentialProcessor<? extends CredentialInfo>> entry : processors.entrySet()) {
+                all.add(new Registration(entry.getKey(), entry.getValue()));
+            }
+            all.sort(DETECT_ORDER);
+            Registration[] ordered = all.toArray(NO_REGISTRATIONS);
+
+            Map<CredentialType, Registration> byType = new HashMap<>();
+            int capacity = Integer.highestOneBit(Math.max(1, ordered.length) * 2 - 1) << 1;
+            CredentialType[] slotTypes = new CredentialType[capacity];
+            int[] slots = new int[capacity];
+            List<Registration> unbounded = new ArrayList<>();
+            int maxLength = -1;
+            for (int slot = 0; slot < ordered.length; slot++) {
+                Registration registration = ordered[slot];
+                byType.put(registration.type, registration);
+                int index = System.identityHashCode(registration.type) & (capacity - 1);
+                while (slotTypes[index] != null) {
+                    index = (index + 1) & (capacity - 1);
+                }
+                slotTypes[index] = registration.type;
+                slots[index] = slot;
+                if (registration.bucketedByLength()) {
+                    maxLength = Math.max(maxLength, registration.shape.getMaxLength());
+                } else {
+                    unbounded.add(registration);
+                }
+            }
+
+            Registration[][] byLength = new Registration[maxLength + 1][];
+            for (int length = 0; length <= maxLength; length++) {
+                List<Registration> bucket = new ArrayList<>();
+                for (Registration registration : ordered) {
+                    if (!registration.bucketedByLength() || registration.shape.allowsLength(length)) {
+                        bucket.add(registration);
+                    }
+                }
+                byLength[length] = bucket.toArray(NO_REGISTRATIONS);
+            }
+            return new Snapshot(version, ordered, byType, slotTypes, slots, byLength, unbounded.toArray(NO_REGISTRATIONS));
+        }
+
+        /**
+         * 复制注册表（供写时复制使用）
+         *
+         * @return 可修改的注册表副本
+         */
+        Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> processors() {
+            Map<CredentialType, CredentialProcessor<? extends CredentialInfo>> processors = new HashMap<>();
+            for (Registration registration : ordered) {
+                processors.put(registration.type, registration.processor);
+            }
+            return processors;
+        }
+
+        /**
+         * 按类型查找注册项
+         *
+         * @param type 证件类型
+         * @return 注册项，未注册时返回null
+         */
+        Registration find(CredentialType type) {
+            final CredentialType[] table = slotTypes;
+            final int mask = table.length - 1;
+            int index = System.identityHashCode(type) & mask;
+            CredentialType candidate;
+            while ((candidate = table[index]) != null) {
+                if (candidate == type) {
+                    return ordered[slots[index]];
+                }
+                index = (index + 1) & mask;
+            }
+            return byType.get(type);
+        }
+
+        /**
+         * 计算输入的形状特征
+         * <p>
+         * 计算长度、首字符类别和字符类别并集，打包为long：
+         * 长度占高32位，首字符类别占8~15位，字符类别并集占0~7位。
+         * </p>
+         *
+         * @param normalized 默认规格化后的证件号码
+         * @return 形状特征
+         */
+        static long features(String normalized) {
+            return features(normalized, 0, normalized.length());
+        }
+
+        /**
+         * 计算字符序列区间的形状特征
+         *
+         * @param normalized 已规格化的字符序列
+         * @param offset     起始位置
+         * @param length     长度
+         * @return 形状特征
+         * @see #features(String)
+         */
+        static long features(CharSequence normalized, int offset, int length) {
+            int classMask = CredentialShape.classesOf(normalized, offset, length);
+            int firstCharClass = length == 0 ? 0 : CredentialShape.classOf(normalized.charAt(offset));
+            return (long) length << 32 | firstCharClass << 8 | classMask;
+        }
+
+        /**
+         * 18位身份号码族判定
+         * <p>
+         * 快照含族成员且输入为18位时扫描一次，族内各处理器共用结果；否则不扫描。
+         * </p>
+         *
+         * @param normalized 默认规格化后的证件号码
+         * @return 有效的族成员位掩码，未判定时返回-1
+         */
+        int classifyFamily(String normalized) {
+            return classifyFamily(normalized, 0, normalized.length());
+        }
+
+        /**
+         * 18位身份号码族判定（字符序列区间）
+         *
+         * @param normalized 已规格化的字符序列
+         * @param offset     起始位置
+         * @param length     长度
+         * @return 有效的族成员位掩码，未判定时返回-1
+         * @see #classifyFamily(String)
+         */
+        int classifyFamily(CharSequence normalized, int offset, int length) {
+            if (!hasFamilyMembers || length != ResidentIdFamily.LENGTH) {
+                return -1;
+            }
+            return ResidentIdFamily.classify(normalized, offset, ResidentIdFamily.LENGTH);
+        }
+
+        /**
+         * 获取形状特征对应的长度桶
+         *
+         * @param features 形状特征
+         * @return 候选注册项（按识别顺序排列）
+         */
+        Registration[] bucket(long features) {
+            long length = features >>> 32;
+            return length < byLength.length ? byLength[(int) length] : unbounded;
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 识别并解析的结果
+ * <p>
+ * 包含按识别优先级排列的全部匹配类型，以及最可能类型（第一个匹配类型）的证件信息；
+ * 通过{@link CredentialRegistry#detectAndParseAll(String)}获得的结果还包含每个匹配类型的证件信息。
+ * 证件信息在识别时直接由校验通过的处理器解析，{@link CredentialInfo#getType()}为对应的注册类型。
+ * </p>
+ *
+ * @author Howard.Li
+ * @see CredentialRegistry#detectAndParse(String)
+ */
+public final class DetectionResult {
+
+    /**
+     * 无匹配结果（全局单例）
+     */
+    static final DetectionResult EMPTY = new DetectionResult(Collections.emptyList(), Collections.emptyList());
+
+    /**
+     * 匹配的证件类型（按识别优先级排列，构造后不再修改）
+     */
+    private final List<CredentialType> types;
+
+    /**
+     * 已解析的证件信息（与{@link #types}的前若干个元素一一对应，构造后不再修改）
+     */
+    private final List<CredentialInfo> infos;
+
+    DetectionResult(List<CredentialType> types, List<CredentialInfo> infos) {
+        this.types = types;
+        this.infos = infos;
+    }
+
+    /**
+     * 是否有匹配的证件类型
+     *
+     * @return 如果至少匹配一种类型则返回true
+     */
+    public boolean isDetected() {
+        return !types.isEmpty();
+    }
+
+    /**
+     * 获取匹配的证件类型
+     *
+     * @return 按识别优先级排列的匹配类型（不可变，与{@link CredentialRegistry#detect(String)}一致）
+     */
+    public List<CredentialType> getTypes() {
+        return Collections.unmodifiableList(types);
+    }
+
+    /**
+     * 获取最可能的证件类型
+     *
+     * @return 优先级最高的匹配类型，无匹配时返回Optional.empty()
+     */
+    public Optional<CredentialType> getBestType() {
+        return types.isEmpty() ? Optional.empty() : Optional.of(types.get(0));
+    }
+
+    /**
+     * 获取最可能类型的证件信息
+     *
+     * @return 优先级最高的匹配类型的证件信息，无匹配时返回Optional.empty()
+     */
+    public Optional<CredentialInfo> getBestInfo() {
+        return infos.isEmpty() ? Optional.empty() : Optional.of(infos.get(0));
+    }
+
+    /**
+     * 获取已解析的证件信息
+     *
+     * @return 与{@link #getTypes()}的前若干个元素一一对应的证件信息（不可变）；
+     * 只解析最可能类型时至多一个元素，解析全部时与匹配类型数量相同
+     */
+    public List<CredentialInfo> getInfos() {
+        return Collections.unmodifiableList(infos);
+    }
+
+    /**
+     * 获取指定类型的证件信息
+     *
+     * @param type 证件类型
+     * @return 该类型的证件信息，未匹配或未解析时返回Optional.empty()
+     */
+    public Optional<CredentialInfo> getInfo(CredentialType type) {
+        for (int i = 0; i < infos.size(); i++) {
+            if (types.get(i).equals(type)) {
+                return Optional.of(infos.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "DetectionResult{types=" + types + ", infos=" + infos + "}";
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 预热选项（不可变）
+ * <p>
+ * 配置{@link CredentialRegistry#warmUp(WarmUpOptions)}的各个阶段：是否加载地区数据、是否扫描SPI提供者、
+ * 处理器的调用轮数，以及补充的有效样本（内置证件类型由预热自动生成样本，SPI处理器没有可生成的有效样本，
+ * 未补充时只用无效样本预热）。
+ * </p>
+ *
+ * @author Howard.Li
+ * @see CredentialRegistry#warmUp(WarmUpOptions)
+ */
+public final class WarmUpOptions {
+
+    /**
+     * 默认调用轮数
+     */
+    public static final int DEFAULT_ITERATIONS = 1000;
+
+    private static final WarmUpOptions DEFAULTS = builder().build();
+
+    private final int iterations;
+
+    private final boolean loadRegionData;
+
+    private final boolean resolveSpiProviders;
+
+    private final Executor executor;
+
+    private final Map<CredentialType, List<String>> samples;
+
+    private WarmUpOptions(Builder builder) {
+        this.iterations = builder.iterations;
+        this.loadRegionData = builder.loadRegionData;
+        this.resolveSpiProviders = builder.resolveSpiProviders;
+        this.executor = builder.executor;
+        Map<CredentialType, List<String>> copy = new LinkedHashMap<>();
+        for (Map.Entry<CredentialType, List<String>> entry : builder.samples.entrySet()) {
+            copy.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+        this.samples = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * 默认选项：加载地区数据、扫描SPI提供者、每个处理器调用{@value #DEFAULT_ITERATIONS}轮
+     *
+     * @return 默认选项
+     */
+    public static WarmUpOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 获取每个处理器的调用轮数
+     *
+     * @return 调用轮数
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * 是否加载地区数据
+     *
+     * @return 是否加载
+     */
+    public boolean isLoadRegionData() {
+        return loadRegionData;
+    }
+
+    /**
+     * 是否扫描SPI提供者
+     *
+     * @return 是否扫描
+     */
+    public boolean isResolveSpiProviders() {
+        return resolveSpiProviders;
+    }
+
+    /**
+     * 获取并行加载地区数据的执行器
+     *
+     * @return 执行器，未设置时返回null（使用{@link ForkJoinPool#commonPool()}）
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 获取补充的有效样本
+     *
+     * @return 证件类型到有效样本的映射（不可修改）
+     */
+    public Map<CredentialType, List<String>> getSamples() {
+        return samples;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpOptions{" +
+                "iterations=" + iterations +
+                ", loadRegionData=" + loadRegionData +
+                ", resolveSpiProviders=" + resolveSpiProviders +
+                ", executor=" + executor +
+                ", samples=" + samples.keySet() +
+                '}';
+    }
+
+    /**
+     * 预热选项构建器
+     */
+    public static final class Builder {
+
+        private int iterations = DEFAULT_ITERATIONS;
+
+        private boolean loadRegionData = true;
+
+        private boolean resolveSpiProviders = true;
+
+        private Executor executor;
+
+        private final Map<CredentialType, List<String>> samples = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 每个处理器的调用轮数
+         * <p>
+         * 每轮对每个处理器各取一个有效样本和一个无效样本，执行校验、快速校验、解析和智能识别。
+         * 默认轮数下首次调用不再有解释执行和类加载的毫秒级延迟，共享入口已被编译；
+         * 调到数千轮可使各处理器的热点路径也进入最高层编译，代价是预热耗时大致按轮数线性增加。
+         * 为0时只生成样本、不调用处理器。
+         * </p>
+         *
+         * @param iterations 调用轮数
+         * @return 构建器
+         * @throws IllegalArgumentException 如果轮数为负数
+         */
+        public Builder iterations(int iterations) {
+            if (iterations < 0) {
+                throw new IllegalArgumentException("调用轮数不能为负数: " + iterations);
+            }
+            this.iterations = iterations;
+            return this;
+        }
+
+        /**
+         * 是否加载国内、国际地区数据（默认加载）
+         *
+         * @param loadRegionData 是否加载
+         * @return 构建器
+         */
+        public Builder loadRegionData(boolean loadRegionData) {
+            this.loadRegionData = loadRegionData;
+            return this;
+        }
+
+        /**
+         * 是否扫描classpath上的SPI提供者（默认扫描）
+         *
+         * @param resolveSpiProviders 是否扫描
+         * @return 构建器
+         */
+        public Builder resolveSpiProviders(boolean resolveSpiProviders) {
+            this.resolveSpiProviders = resolveSpiProviders;
+            return this;
+        }
+
+        /**
+         * 并行加载地区数据的执行器
+         *
+         * @param executor 执行器（允许为null，使用{@link ForkJoinPool#commonPool()}）
+         * @return 构建器
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 补充指定证件类型的有效样本（可多次调用累加）
+         * <p>
+         * 用于SPI处理器等无法自动生成样本的类型；内置类型补充的样本与生成的样本一起使用。
+         * 无效样本由有效样本变换得到。
+         * </p>
+         *
+         * @param type        证件类型
+         * @param credentials 有效样本
+         * @return 构建器
+         * @throws NullPointerException 如果证件类型、样本数组或其中的样本是空
+         */
+        public Builder samples(CredentialType type, String... credentials) {
+            Objects.requireNonNull(type, "证件类型是空");
+            Objects.requireNonNull(credentials, "样本是空");
+            List<String> list = samples.computeIfAbsent(type, key -> new ArrayList<>());
+            for (String credential : credentials) {
+                list.add(Objects.requireNonNull(credential, "样本是空"));
+            }
+            return this;
+        }
+
+        /**
+         * 构建预热选项
+         *
+         * @return 预热选项
+         */
+        public WarmUpOptions build() {
+            return new WarmUpOptions(this);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 预热报告（不可变）
+ * <p>
+ * 记录{@link CredentialRegistry#warmUp(WarmUpOptions)}各阶段的耗时（纳秒）。
+ * 地区数据在后台并行加载，与SPI扫描重叠执行，因此各阶段耗时之和可能大于总耗时。
+ * 未执行的阶段耗时为0。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class WarmUpReport {
+
+    private final long domesticRegionNanos;
+
+    private final long internationalRegionNanos;
+
+    private final long regionDataNanos;
+
+    private final long spiNanos;
+
+    private final int spiProviderCount;
+
+    private final long processorNanos;
+
+    private final Map<CredentialType, Long> processorNanosByType;
+
+    private final long invocationCount;
+
+    private final long totalNanos;
+
+    WarmUpReport(long domesticRegionNanos, long internationalRegionNanos, long regionDataNanos,
+                 long spiNanos, int spiProviderCount, long processorNanos,
+                 Map<CredentialType, Long> processorNanosByType, long invocationCount, long totalNanos) {
+        this.domesticRegionNanos = domesticRegionNanos;
+        this.internationalRegionNanos = internationalRegionNanos;
+        this.regionDataNanos = regionDataNanos;
+        this.spiNanos = spiNanos;
+        this.spiProviderCount = spiProviderCount;
+        this.processorNanos = processorNanos;
+        this.processorNanosByType = Collections.unmodifiableMap(processorNanosByType);
+        this.invocationCount = invocationCount;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * 国内地区数据的加载耗时
+     *
+     * @return 耗时（纳秒）
+     */
+    public long getDomesticRegionNanos() {
+        return domesticRegionNanos;
+    }
+
+    /**
+     * 国际地区数据的加载耗时
+     *
+     * @return 耗时（纳秒）
+     */
+    public long getInternationalRegionNanos() {
+        return internationalRegionNanos;
+    }
+
+    /**
+     * 地区数据阶段的耗时（从开始并行加载到两份数据都加载完成）
+     *
+     * @return 耗时（纳秒）
+     */
+    public long getRegionDataNanos() {
+        return regionDataNanos;
+    }
+
+    /**
+     * SPI提供者扫描的耗时
+     *
+     * @return 耗时（纳秒）
+     */
+    public long getSpiNanos() {
+        return spiNanos;
+    }
+
+    /**
+     * 扫描到的SPI提供者数量（按类名去重）
+     *
+     * @return 提供者数量
+     */
+    public int getSpiProviderCount() {
+        return spiProviderCount;
+    }
+
+    /**
+     * 处理器阶段的耗时（生成样本并调用全部处理器）
+     *
+     * @return 耗时（纳秒）
+     */
+    public long getProcessorNanos() {
+        return processorNanos;
+    }
+
+    /**
+     * 各证件类型的处理器调用耗时
+     *
+     * @return 证件类型到耗时（纳秒）的映射，按识别顺序排列（不可修改）
+     */
+    public Map<CredentialType, Long> getProcessorNanosByType() {
+        return processorNanosByType;
+    }
+
+    /**
+     * 处理器阶段的调用次数（校验、快速校验、解析、智能识别各计一次）
+     *
+     * @return 调用次数
+     */
+    public long getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * 预热总耗时
+     *
+     * @return 耗时（纳秒）
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpReport{" +
+                "domesticRegionNanos=" + domesticRegionNanos +
+                ", internationalRegionNanos=" + internationalRegionNanos +
+                ", regionDataNanos=" + regionDataNanos +
+                ", spiNanos=" + spiNanos +
+                ", spiProviderCount=" + spiProviderCount +
+                ", processorNanos=" + processorNanos +
+                ", invocationCount=" + invocationCount +
+                ", totalNanos=" + totalNanos +
+                '}';
+    }
+}
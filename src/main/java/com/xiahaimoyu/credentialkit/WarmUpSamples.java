@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.processor.CredentialShape;
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 预热样本生成
+ * <p>
+ * 内置证件类型按各自的编码规则生成有效样本（地区、生日、顺序码随机，校验位按规则计算；
+ * 机读区只替换不参与校验位计算的姓名），并混入小写和首尾空白的变体以覆盖规格化路径。
+ * 无效样本由有效样本变换得到（改写末位或中间一位、截短一位、同长度随机字符），
+ * 大多数在校验位或日期等靠后的步骤失败；没有有效样本的类型按证件形状的长度生成随机字符串。
+ * 使用固定种子，结果可复现。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+final class WarmUpSamples {
+
+    /**
+     * 每个内置证件类型生成的有效样本数
+     */
+    static final int VALID_COUNT = 16;
+
+    /**
+     * 随机种子
+     */
+    private static final long SEED = 20250101L;
+
+    private static final String ALPHANUMERIC = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    /**
+     * 统一社会信用代码字符集（不含I、O、S、V、Z）
+     */
+    private static final String USCI_CHARS = "0123456789ABCDEFGHJKLMNPQRTUWXY";
+
+    private static final String[] MAINLAND_REGIONS = {"110108", "310104", "320102", "330105", "420106", "440305", "510107", "610113"};
+
+    private static final String[] HK_MACAO_REGIONS = {"810000", "820000"};
+
+    private static final String[] TAIWAN_REGIONS = {"830000"};
+
+    /**
+     * 外国人永久居留身份证（18位）前6位：类型码9 + 2位省级地区码 + 3位国籍数字码
+     */
+    private static final String[] FOREIGNER_PREFIXES = {"911398", "931840", "944826"};
+
+    private static final String[] USCI_PREFIXES = {"91330106", "91110108", "91440300", "12310104"};
+
+    private static final String PASSPORT_SPECIMEN =
+            "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16";
+
+    private static final String TD1_SPECIMEN =
+            "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE";
+
+    private static final String TD2_SPECIMEN =
+            "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2";
+
+    private WarmUpSamples() {
+    }
+
+    /**
+     * 生成有效样本
+     *
+     * @param type 证件类型
+     * @return 有效样本；不是内置证件类型时返回空列表
+     */
+    static List<String> valid(CredentialType type) {
+        List<String> samples = new ArrayList<>(VALID_COUNT);
+        if (!(type instanceof DefaultCredentialType)) {
+            return samples;
+        }
+        Random random = new Random(SEED + ((DefaultCredentialType) type).ordinal());
+        for (int i = 0; i < VALID_COUNT; i++) {
+            String sample = generate((DefaultCredentialType) type, random);
+            // 每4个样本中有1个是小写并带首尾空白的变体
+            samples.add((i & 3) == 3 ? " " + sample.toLowerCase(Locale.ROOT) + "\t" : sample);
+        }
+        return samples;
+    }
+
+    /**
+     * 由有效样本生成无效样本
+     *
+     * @param type  证件类型
+     * @param valid 有效样本
+     * @param shape 证件形状
+     * @return 无效样本（至少一个）
+     */
+    static List<String> invalid(CredentialType type, List<String> valid, CredentialShape shape) {
+        Random random = new Random(SEED ^ String.valueOf(type.getEnglishName()).hashCode());
+        List<String> samples = new ArrayList<>();
+        for (String sample : valid) {
+            String trimmed = sample.trim().toUpperCase(Locale.ROOT);
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int last = trimmed.length() - 1;
+            samples.add(replace(trimmed, last));
+            samples.add(replace(trimmed, last / 2));
+            samples.add(trimmed.substring(0, last));
+            samples.add(randomString(random, ALPHANUMERIC, trimmed.length()));
+        }
+        if (samples.isEmpty()) {
+            int maxLength = shape.getMaxLength() < 0 ? 18 : shape.getMaxLength();
+            for (int length = maxLength; length > 0 && samples.size() < 8; length--) {
+                if (shape.allowsLength(length)) {
+                    samples.add(randomString(random, ALPHANUMERIC, length));
+                    samples.add(randomString(random, "0123456789", length));
+                }
+            }
+        }
+        if (samples.isEmpty()) {
+            samples.add("");
+        }
+        return samples;
+    }
+
+    private static String generate(DefaultCredentialType type, Random random) {
+        switch (type) {
+            case MAINLAND_RESIDENT_ID:
+                return residentId(pick(random, MAINLAND_REGIONS), random);
+            case HK_MACAO_RESIDENCE_PERMIT:
+                return residentId(pick(random, HK_MACAO_REGIONS), random);
+            case TAIWAN_RESIDENCE_PERMIT:
+                return residentId(pick(random, TAIWAN_REGIONS), random);
+            case FOREIGNER_PERMANENT_RESIDENCE_ID:
+                return residentId(pick(random, FOREIGNER_PREFIXES), random);
+            case HK_MACAO_TRAVEL_PERMIT:
+                return (random.nextBoolean() ? "H" : "M") + randomString(random, "0123456789", random.nextBoolean() ? 8 : 10);
+            case TAIWAN_TRAVEL_PERMIT:
+                return randomString(random, "0123456789", random.nextBoolean() ? 8 : 10);
+            case UNIFIED_SOCIAL_CREDIT:
+                return unifiedSocialCredit(random);
+            case MACHINE_READABLE_PASSPORT:
+                return withName(PASSPORT_SPECIMEN, 5, 44, random);
+            case MACHINE_READABLE_TD1:
+                return withName(TD1_SPECIMEN, 60, 90, random);
+            case MACHINE_READABLE_TD2:
+                return withName(TD2_SPECIMEN, 5, 36, random);
+            default:
+                throw new IllegalArgumentException("不支持的证件类型: " + type);
+        }
+    }
+
+    /**
+     * 生成18位身份号码：前6位 + 生日（1950~2004年，日不超过28） + 3位顺序码 + 校验位
+     */
+    private static String residentId(String prefix, Random random) {
+        StringBuilder builder = new StringBuilder(18).append(prefix);
+        builder.append(1950 + random.nextInt(55));
+        appendTwoDigits(builder, 1 + random.nextInt(12));
+        appendTwoDigits(builder, 1 + random.nextInt(28));
+        builder.append(randomString(random, "0123456789", 3));
+        return builder.append(CheckDigitUtil.getIdCardCheckDigit(builder.toString())).toString();
+    }
+
+    /**
+     * 生成统一社会信用代码：前8位 + 随机组织机构代码本体及其校验位 + 校验位
+     */
+    private static String unifiedSocialCredit(Random random) {
+        String organization = randomString(random, USCI_CHARS, 8);
+        StringBuilder builder = new StringBuilder(18).append(pick(random, USCI_PREFIXES)).append(organization)
+                .append(CheckDigitUtil.getOrganizationCodeCheckDigit(organization));
+        return builder.append(CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigit(builder.toString())).toString();
+    }
+
+    /**
+     * 替换机读区的姓名（姓名不参与校验位计算）
+     */
+    private static String withName(String specimen, int from, int to, Random random) {
+        StringBuilder name = new StringBuilder(to - from)
+                .append(randomString(random, "ABCDEFGHIJKLMNOPQRSTUVWXYZ", 2 + random.nextInt(8)))
+                .append("<<")
+                .append(randomString(random, "ABCDEFGHIJKLMNOPQRSTUVWXYZ", 2 + random.nextInt(8)));
+        while (name.length() < to - from) {
+            name.append('<');
+        }
+        return specimen.substring(0, from) + name + specimen.substring(to);
+    }
+
+    /**
+     * 把指定位置的字符换成同类别的另一个字符（数字加1，字母后移一位，填充符换成0）
+     */
+    private static String replace(String credential, int index) {
+        char c = credential.charAt(index);
+        char replacement;
+        if (c >= '0' && c <= '9') {
+            replacement = c == '9' ? '0' : (char) (c + 1);
+        } else if (c >= 'A' && c <= 'Z') {
+            replacement = c == 'Z' ? 'A' : (char) (c + 1);
+        } else {
+            replacement = '0';
+        }
+        char[] chars = credential.toCharArray();
+        chars[index] = replacement;
+        return new String(chars);
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+}
@@ -26,6 +26,10 @@ public enum DefaultCredentialType implements CredentialType {
 
     UNIFIED_SOCIAL_CREDIT("统一社会信用代码", "Unified Social Credit Identifier", 170),
 
+    MACHINE_READABLE_TD1("可机读旅行证件（TD1）", "Machine Readable Travel Document (TD1)", 180),
+
+    MACHINE_READABLE_TD2("可机读旅行证件（TD2）", "Machine Readable Travel Document (TD2)", 190),
+
     ;
 
     /**
@@ -80,12 +80,20 @@ public enum OrgCategory {
      */
     private static final Map<String, OrgCategory> CODE_MAP;
 
+    /**
+     * 编码索引（两位编码均为数字或大写字母，下标为两位的36进制值）
+     */
+    private static final OrgCategory[] INDEX = new OrgCategory[36 * 36];
+
     static {
         Map<String, OrgCategory> map = new HashMap<>();
         for (OrgCategory category : values()) {
             map.put(category.getCode(), category);
         }
         CODE_MAP = Collections.unmodifiableMap(map);
+        for (OrgCategory category : values()) {
+            INDEX[indexOf(category.getCode(), 0)] = category;
+        }
     }
 
     /**
@@ -126,6 +134,44 @@ public enum OrgCategory {
         return CODE_MAP.get(code);
     }
 
+    /**
+     * 通过字符序列区间内的编码获取机构类别（不创建字符串）
+     *
+     * @param code   字符序列
+     * @param offset 编码起始位置，从此处读取2位
+     * @return 机构类别，如果不存在或区间越界则返回null
+     */
+    public static OrgCategory getByCode(CharSequence code, int offset) {
+        if (code == null || offset < 0 || offset > code.length() - 2) {
+            return null;
+        }
+        int index = indexOf(code, offset);
+        return index < 0 ? null : INDEX[index];
+    }
+
+    /**
+     * 计算两位编码的索引
+     *
+     * @param code   字符序列
+     * @param offset 起始位置
+     * @return 索引，包含数字和大写字母以外的字符时返回-1
+     */
+    private static int indexOf(CharSequence code, int offset) {
+        int high = digitOf(code.charAt(offset));
+        int low = digitOf(code.charAt(offset + 1));
+        return high < 0 || low < 0 ? -1 : high * 36 + low;
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
     /**
      * 获取登记管理部门
      *
@@ -18,7 +18,7 @@ import java.util.Objects;
  *
  * @author Howard.Li
  */
-public abstract class CredentialInfo {
+public abstract class CredentialInfo implements Cloneable {
 
     /**
      * 证件类型（由解析流程设置）
@@ -48,6 +48,23 @@ public abstract class CredentialInfo {
         this.type = Objects.requireNonNull(type, "证件类型是空");
     }
 
+    /**
+     * 复制证件信息
+     * <p>
+     * 默认为浅复制：内置证件信息的字段都是不可变对象（字符串、枚举、地区信息），浅复制即与原实例互不影响。
+     * 含可变字段的子类应覆写本方法并复制这些字段。
+     * </p>
+     *
+     * @return 与本实例内容相同的新实例
+     */
+    public CredentialInfo copy() {
+        try {
+            return (CredentialInfo) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
     /**
      * 获取字符串表示
      *
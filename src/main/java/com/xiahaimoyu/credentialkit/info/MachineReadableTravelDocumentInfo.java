@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+
+package com.xiahaimoyu.credentialkit.info;
+
+import com.xiahaimoyu.credentialkit.enums.Gender;
+
+import java.util.Objects;
+
+/**
+ * 可机读旅行证件信息（TD1、TD2版式）
+ *
+ * @author Howard.Li
+ */
+public final class MachineReadableTravelDocumentInfo extends CredentialInfo {
+
+    /**
+     * 证件类型（如I、ID、AC，已去掉结尾的&lt;）
+     */
+    private String documentCode;
+
+    /**
+     * 签发地区
+     */
+    private InternationalRegionInfo issuingRegion;
+
+    /**
+     * 姓（名字的主要部分）
+     */
+    private String surname;
+
+    /**
+     * 名（名字的次要部分）
+     */
+    private String givenName;
+
+    /**
+     * 证件号码（已去掉结尾的&lt;）
+     */
+    private String documentNumber;
+
+    /**
+     * 国籍
+     */
+    private InternationalRegionInfo region;
+
+    /**
+     * 生日（YYYYMMDD格式）
+     */
+    private String birthDate;
+
+    /**
+     * 性别
+     */
+    private Gender gender;
+
+    /**
+     * 过期时间（YYYYMMDD格式）
+     */
+    private String expirationDate;
+
+    /**
+     * 可选数据（TD1第1行、TD2第2行，&lt;替换为空格）
+     */
+    private String optionalData;
+
+    /**
+     * 第二段可选数据（仅TD1第2行，TD2为null）
+     */
+    private String secondOptionalData;
+
+    /**
+     * 获取证件类型（如I、ID、AC，已去掉结尾的&lt;）
+     *
+     * @return 证件类型（如I、ID、AC，已去掉结尾的&lt;）
+     */
+    public String getDocumentCode() {
+        return documentCode;
+    }
+
+    /**
+     * 设置证件类型（如I、ID、AC，已去掉结尾的&lt;）
+     *
+     * @param documentCode 证件类型（如I、ID、AC，已去掉结尾的&lt;）
+     */
+    public void setDocumentCode(String documentCode) {
+        this.documentCode = documentCode;
+    }
+
+    /**
+     * 获取签发地区
+     *
+     * @return 签发地区
+     */
+    public InternationalRegionInfo getIssuingRegion() {
+        return issuingRegion;
+    }
+
+    /**
+     * 设置签发地区
+     *
+     * @param issuingRegion 签发地区
+     */
+    public void setIssuingRegion(InternationalRegionInfo issuingRegion) {
+        this.issuingRegion = issuingRegion;
+    }
+
+    /**
+     * 获取姓（名字的主要部分）
+     *
+     * @return 姓（名字的主要部分）
+     */
+    public String getSurname() {
+        return surname;
+    }
+
+    /**
+     * 设置姓（名字的主要部分）
+     *
+     * @param surname 姓（名字的主要部分）
+     */
+    public void setSurname(String surname) {
+        this.surname = surname;
+    }
+
+    /**
+     * 获取名（名字的次要部分）
+     *
+     * @return 名（名字的次要部分）
+     */
+    public String getGivenName() {
+        return givenName;
+    }
+
+    /**
+     * 设置名（名字的次要部分）
+     *
+     * @param givenName 名（名字的次要部分）
+     */
+    public void setGivenName(String givenName) {
+        this.givenName = givenName;
+    }
+
+    /**
+     * 获取证件号码（已去掉结尾的&lt;）
+     *
+     * @return 证件号码（已去掉结尾的&lt;）
+     */
+    public String getDocumentNumber() {
+        return documentNumber;
+    }
+
+    /**
+     * 设置证件号码（已去掉结尾的&lt;）
+     *
+     * @param documentNumber 证件号码（已去掉结尾的&lt;）
+     */
+    public void setDocumentNumber(String documentNumber) {
+        this.documentNumber = documentNumber;
+    }
+
+    /**
+     * 获取国籍
+     *
+     * @return 国籍
+     */
+    public InternationalRegionInfo getRegion() {
+        return region;
+    }
+
+    /**
+     * 设置国籍
+     *
+     * @param region 国籍
+     */
+    public void setRegion(InternationalRegionInfo region) {
+        this.region = region;
+    }
+
+    /**
+     * 获取生日（YYYYMMDD格式）
+     *
+     * @return 生日（YYYYMMDD格式）
+     */
+    public String getBirthDate() {
+        return birthDate;
+    }
+
+    /**
+     * 设置生日（YYYYMMDD格式）
+     *
+     * @param birthDate 生日（YYYYMMDD格式）
+     */
+    public void setBirthDate(String birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    /**
+     * 获取性别
+     *
+     * @return 性别
+     */
+    public Gender getGender() {
+        return gender;
+    }
+
+    /**
+     * 设置性别
+     *
+     * @param gender 性别
+     */
+    public void setGender(Gender gender) {
+        this.gender = gender;
+    }
+
+    /**
+     * 获取过期时间（YYYYMMDD格式）
+     *
+     * @return 过期时间（YYYYMMDD格式）
+     */
+    public String getExpirationDate() {
+        return expirationDate;
+    }
+
+    /**
+     * 设置过期时间（YYYYMMDD格式）
+     *
+     * @param expirationDate 过期时间（YYYYMMDD格式）
+     */
+    public void setExpirationDate(String expirationDate) {
+        this.expirationDate = expirationDate;
+    }
+
+    /**
+     * 获取可选数据（TD1第1行、TD2第2行，&lt;替换为空格）
+     *
+     * @return 可选数据（TD1第1行、TD2第2行，&lt;替换为空格）
+     */
+    public String getOptionalData() {
+        return optionalData;
+    }
+
+    /**
+     * 设置可选数据（TD1第1行、TD2第2行，&lt;替换为空格）
+     *
+     * @param optionalData 可选数据（TD1第1行、TD2第2行，&lt;替换为空格）
+     */
+    public void setOptionalData(String optionalData) {
+        this.optionalData = optionalData;
+    }
+
+    /**
+     * 获取第二段可选数据（仅TD1第2行，TD2为null）
+     *
+     * @return 第二段可选数据（仅TD1第2行，TD2为null）
+     */
+    public String getSecondOptionalData() {
+        return secondOptionalData;
+    }
+
+    /**
+     * 设置第二段可选数据（仅TD1第2行，TD2为null）
+     *
+     * @param secondOptionalData 第二段可选数据（仅TD1第2行，TD2为null）
+     */
+    public void setSecondOptionalData(String secondOptionalData) {
+        this.secondOptionalData = secondOptionalData;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MachineReadableTravelDocumentInfo that = (MachineReadableTravelDocumentInfo) o;
+        return Objects.equals(documentCode, that.documentCode)
+                && Objects.equals(issuingRegion, that.issuingRegion)
+                && Objects.equals(surname, that.surname)
+                && Objects.equals(givenName, that.givenName)
+                && Objects.equals(documentNumber, that.documentNumber)
+                && Objects.equals(region, that.region)
+                && Objects.equals(birthDate, that.birthDate)
+                && gender == that.gender
+                && Objects.equals(expirationDate, that.expirationDate)
+                && Objects.equals(optionalData, that.optionalData)
+                && Objects.equals(secondOptionalData, that.secondOptionalData);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(documentCode, issuingRegion, surname, givenName, documentNumber,
+                region, birthDate, gender, expirationDate, optionalData, secondOptionalData);
+    }
+
+    @Override
+    public String toString() {
+        return "MachineReadableTravelDocumentInfo{" +
+                "documentCode='" + documentCode + '\'' +
+                ", issuingRegion=" + issuingRegion +
+                ", surname='" + surname + '\'' +
+                ", givenName='" + givenName + '\'' +
+                ", documentNumber='" + documentNumber + '\'' +
+                ", region=" + region +
+                ", birthDate='" + birthDate + '\'' +
+                ", gender=" + gender +
+                ", expirationDate='" + expirationDate + '\'' +
+                ", optionalData='" + optionalData + '\'' +
+                ", secondOptionalData='" + secondOptionalData + '\'' +
+                '}';
+    }
+}
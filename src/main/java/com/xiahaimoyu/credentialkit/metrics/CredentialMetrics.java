@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.metrics;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import com.xiahaimoyu.credentialkit.spi.CredentialMetricsListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 内置指标实现（零依赖）
+ * <p>
+ * 按证件类型统计校验/解析次数和失败次数、被识别命中次数，按错误码统计校验失败次数，
+ * 并分别记录校验、解析、识别的耗时直方图。计数器均为{@link LongAdder}（分段无锁），
+ * 适合高并发下频繁写、偶尔读的场景。
+ * </p>
+ * <pre>{@code
+ * CredentialMetrics metrics = CredentialMetrics.create();
+ * registry.setMetricsListener(metrics);
+ * CredentialMetrics.Snapshot snapshot = metrics.snapshot();
+ * }</pre>
+ *
+ * @author Howard.Li
+ */
+public final class CredentialMetrics implements CredentialMetricsListener {
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    /**
+     * 按证件类型的计数器
+     */
+    private final ConcurrentHashMap<CredentialType, TypeCounters> typeCounters = new ConcurrentHashMap<>();
+
+    /**
+     * 按错误码（下标为ordinal）的校验失败计数器
+     */
+    private final LongAdder[] errorCounters = new LongAdder[ERROR_CODES.length];
+
+    private final LongAdder detectNoMatchCount = new LongAdder();
+
+    private final LatencyHistogram validateLatency = new LatencyHistogram();
+
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+
+    private final LatencyHistogram detectLatency = new LatencyHistogram();
+
+    private CredentialMetrics() {
+        for (int i = 0; i < errorCounters.length; i++) {
+            errorCounters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 创建指标实例
+     *
+     * @return 指标实例
+     */
+    public static CredentialMetrics create() {
+        return new CredentialMetrics();
+    }
+
+    @Override
+    public void onValidate(CredentialType type, ValidationResult result, long elapsedNanos) {
+        TypeCounters counters = countersOf(type);
+        counters.validateCount.increment();
+        if (!result.isValid()) {
+            counters.validateFailureCount.increment();
+            ErrorCode errorCode = result.getErrorCodeOrNull();
+            if (errorCode != null) {
+                errorCounters[errorCode.ordinal()].increment();
+            }
+        }
+        validateLatency.record(elapsedNanos);
+    }
+
+    /**
+     * 快速校验计入校验次数、失败次数和校验耗时，没有错误码，不计入按错误码的统计
+     */
+    @Override
+    public void onIsValid(CredentialType type, boolean valid, long elapsedNanos) {
+        TypeCounters counters = countersOf(type);
+        counters.validateCount.increment();
+        if (!valid) {
+            counters.validateFailureCount.increment();
+        }
+        validateLatency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onParse(CredentialType type, boolean parsed, long elapsedNanos) {
+        TypeCounters counters = countersOf(type);
+        counters.parseCount.increment();
+        if (!parsed) {
+            counters.parseFailureCount.increment();
+        }
+        parseLatency.record(elapsedNanos);
+    }
+
+    @Override
+    public void onDetect(List<CredentialType> matchedTypes, long elapsedNanos) {
+        if (matchedTypes.isEmpty()) {
+            detectNoMatchCount.increment();
+        }
+        for (CredentialType type : matchedTypes) {
+            countersOf(type).detectMatchCount.increment();
+        }
+        detectLatency.record(elapsedNanos);
+    }
+
+    /**
+     * 获取证件类型的计数器（首次出现时创建）
+     *
+     * @param type 证件类型
+     * @return 计数器
+     */
+    private TypeCounters countersOf(CredentialType type) {
+        TypeCounters counters = typeCounters.get(type);
+        return counters != null ? counters : typeCounters.computeIfAbsent(type, key -> new TypeCounters());
+    }
+
+    /**
+     * 获取指标快照
+     * <p>
+     * 各计数器分别读取，与并发写入之间不保证原子性。
+     * </p>
+     *
+     * @return 指标快照
+     */
+    public Snapshot snapshot() {
+        Map<CredentialType, TypeStats> types = new HashMap<>();
+        typeCounters.forEach((type, counters) -> types.put(type, counters.snapshot()));
+        Map<ErrorCode, Long> errors = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ERROR_CODES) {
+            long count = errorCounters[errorCode.ordinal()].sum();
+            if (count != 0) {
+                errors.put(errorCode, count);
+            }
+        }
+        return new Snapshot(types, errors, detectNoMatchCount.sum(),
+                validateLatency.snapshot(), parseLatency.snapshot(), detectLatency.snapshot());
+    }
+
+    /**
+     * 清零全部指标
+     * <p>
+     * 与并发写入之间不保证原子性，清零期间的写入可能部分保留。
+     * </p>
+     */
+    public void reset() {
+        typeCounters.values().forEach(TypeCounters::reset);
+        for (LongAdder counter : errorCounters) {
+            counter.reset();
+        }
+        detectNoMatchCount.reset();
+        validateLatency.reset();
+        parseLatency.reset();
+        detectLatency.reset();
+    }
+
+    /**
+     * 单个证件类型的计数器
+     */
+    private static final class TypeCounters {
+
+        private final LongAdder validateCount = new LongAdder();
+
+        private final LongAdder validateFailureCount = new LongAdder();
+
+        private final LongAdder parseCount = new LongAdder();
+
+        private final LongAdder parseFailureCount = new LongAdder();
+
+        private final LongAdder detectMatchCount = new LongAdder();
+
+        TypeStats snapshot() {
+            return new TypeStats(validateCount.sum(), validateFailureCount.sum(),
+                    parseCount.sum(), parseFailureCount.sum(), detectMatchCount.sum());
+        }
+
+        void reset() {
+            validateCount.reset();
+            validateFailureCount.reset();
+            parseCount.reset();
+            parseFailureCount.reset();
+            detectMatchCount.reset();
+        }
+    }
+
+    /**
+     * 单个证件类型的统计（不可变）
+     */
+    public static final class TypeStats {
+
+        private final long validateCount;
+
+        private final long validateFailureCount;
+
+        private final long parseCount;
+
+        private final long parseFailureCount;
+
+        private final long detectMatchCount;
+
+        TypeStats(long validateCount, long validateFailureCount, long parseCount, long parseFailureCount, long detectMatchCount) {
+            this.validateCount = validateCount;
+            this.validateFailureCount = validateFailureCount;
+            this.parseCount = parseCount;
+            this.parseFailureCount = parseFailureCount;
+            this.detectMatchCount = detectMatchCount;
+        }
+
+        /**
+         * 校验次数
+         *
+         * @return 校验次数
+         */
+        public long getValidateCount() {
+            return validateCount;
+        }
+
+        /**
+         * 校验失败次数
+         *
+         * @return 校验失败次数
+         */
+        public long getValidateFailureCount() {
+            return validateFailureCount;
+        }
+
+        /**
+         * 解析次数
+         *
+         * @return 解析次数
+         */
+        public long getParseCount() {
+            return parseCount;
+        }
+
+        /**
+         * 解析失败次数
+         *
+         * @return 解析失败次数
+         */
+        public long getParseFailureCount() {
+            return parseFailureCount;
+        }
+
+        /**
+         * 被智能识别命中的次数
+         *
+         * @return 命中次数
+         */
+        public long getDetectMatchCount() {
+            return detectMatchCount;
+        }
+
+        @Override
+        public String toString() {
+            return "TypeStats{" +
+                    "validateCount=" + validateCount +
+                    ", validateFailureCount=" + validateFailureCount +
+                    ", parseCount=" + parseCount +
+                    ", parseFailureCount=" + parseFailureCount +
+                    ", detectMatchCount=" + detectMatchCount +
+                    '}';
+        }
+    }
+
+    /**
+     * 指标快照（不可变）
+     */
+    public static final class Snapshot {
+
+        private final Map<CredentialType, TypeStats> types;
+
+        private final Map<ErrorCode, Long> errorCodes;
+
+        private final long detectNoMatchCount;
+
+        private final LatencyHistogram.Snapshot validateLatency;
+
+        private final LatencyHistogram.Snapshot parseLatency;
+
+        private final LatencyHistogram.Snapshot detectLatency;
+
+        Snapshot(Map<CredentialType, TypeStats> types, Map<ErrorCode, Long> errorCodes, long detectNoMatchCount,
+                 LatencyHistogram.Snapshot validateLatency, LatencyHistogram.Snapshot parseLatency,
+                 LatencyHistogram.Snapshot detectLatency) {
+            this.types = Collections.unmodifiableMap(types);
+            this.errorCodes = Collections.unmodifiableMap(errorCodes);
+            this.detectNoMatchCount = detectNoMatchCount;
+            this.validateLatency = validateLatency;
+            this.parseLatency = parseLatency;
+            this.detectLatency = detectLatency;
+        }
+
+        /**
+         * 按证件类型的统计
+         *
+         * @return 证件类型到统计的映射（不可变，只含出现过的类型）
+         */
+        public Map<CredentialType, TypeStats> getTypes() {
+            return types;
+        }
+
+        /**
+         * 按错误码的校验失败次数
+         *
+         * @return 错误码到失败次数的映射（不可变，只含出现过的错误码）
+         */
+        public Map<ErrorCode, Long> getErrorCodes() {
+            return errorCodes;
+        }
+
+        /**
+         * 智能识别无匹配的次数
+         *
+         * @return 无匹配次数
+         */
+        public long getDetectNoMatchCount() {
+            return detectNoMatchCount;
+        }
+
+        /**
+         * 校验耗时
+         *
+         * @return 校验耗时直方图
+         */
+        public LatencyHistogram.Snapshot getValidateLatency() {
+            return validateLatency;
+        }
+
+        /**
+         * 解析耗时
+         *
+         * @return 解析耗时直方图
+         */
+        public LatencyHistogram.Snapshot getParseLatency() {
+            return parseLatency;
+        }
+
+        /**
+         * 智能识别耗时
+         *
+         * @return 智能识别耗时直方图
+         */
+        public LatencyHistogram.Snapshot getDetectLatency() {
+            return detectLatency;
+        }
+
+        @Override
+        public String toString() {
+            return "CredentialMetrics.Snapshot{" +
+                    "types=" + types +
+                    ", errorCodes=" + errorCodes +
+                    ", detectNoMatchCount=" + detectNoMatchCount +
+                    ", validateLatency=" + validateLatency +
+                    ", parseLatency=" + parseLatency +
+                    ", detectLatency=" + detectLatency +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 耗时直方图（按2的幂分桶）
+ * <p>
+ * 第{@code i}个桶（i≥1）记录耗时落在[2<sup>i-1</sup>, 2<sup>i</sup>)纳秒的次数，第0个桶记录耗时为0的次数。
+ * 每个桶是一个{@link LongAdder}，记录时无锁、无分配；分位数按桶上界估算，误差不超过2倍。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class LatencyHistogram {
+
+    /**
+     * 桶数（覆盖全部非负long）
+     */
+    static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 构造器
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 获取耗时对应的桶下标
+     *
+     * @param nanos 耗时（纳秒，负数按0计）
+     * @return 桶下标
+     */
+    static int bucketOf(long nanos) {
+        return nanos <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒，负数按0计）
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets[bucketOf(value)].increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * 获取快照
+     * <p>
+     * 与并发记录之间不保证原子性，各桶计数之和可能与并发写入存在微小偏差。
+     * </p>
+     *
+     * @return 快照
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(counts, totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * 清零
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * 直方图快照（不可变）
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+
+        private final long count;
+
+        private final long totalNanos;
+
+        private final long maxNanos;
+
+        Snapshot(long[] counts, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.count = sum;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * 记录次数
+         *
+         * @return 记录次数
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 平均耗时
+         *
+         * @return 平均耗时（纳秒，无记录时为0）
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * 最大耗时
+         *
+         * @return 最大耗时（纳秒）
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * 估算分位数（取所在桶的上界，且不超过最大耗时）
+         *
+         * @param quantile 分位（0~1，如0.99）
+         * @return 分位耗时上界（纳秒，无记录时为0）
+         * @throws IllegalArgumentException 如果分位不在[0, 1]
+         */
+        public long getPercentileNanos(double quantile) {
+            if (!(quantile >= 0 && quantile <= 1)) {
+                throw new IllegalArgumentException("分位必须在[0, 1]之间: " + quantile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i == 0 ? 0 : Math.min(maxNanos, i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * 各桶计数（第i个桶上界为2<sup>i</sup>-1纳秒）
+         *
+         * @return 各桶计数的副本
+         */
+        public long[] getBucketCounts() {
+            return counts.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "LatencyHistogram.Snapshot{" +
+                    "count=" + count +
+                    ", meanNanos=" + getMeanNanos() +
+                    ", p50Nanos=" + getPercentileNanos(0.5) +
+                    ", p99Nanos=" + getPercentileNanos(0.99) +
+                    ", maxNanos=" + maxNanos +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.util.AsciiUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * ASCII字节视图
+ * <p>
+ * 把字节数组或{@link ByteBuffer}中的一段ASCII字节（如网络缓冲区、定长文件中的证件字段）
+ * 原地视为字符序列，每个字节按ISO-8859-1对应一个字符，交给处理器的区间校验/解析直接使用，不创建字符串。
+ * 非ASCII字节对应0x80~0xFF的字符，不会通过任何内置校验。
+ * </p>
+ * <p>
+ * 区间是否已规格化、字符类别并集按8字节一组判断（见{@link AsciiUtil}）；
+ * {@link #subSequence(int, int)}直接返回字符串，解析器只为返回的字段创建字符串。
+ * 视图不复制数据，使用期间调用方不得修改对应的字节。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class AsciiCharSequence implements CharSequence {
+
+    /**
+     * 字节数组（直接缓冲区、只读缓冲区时为null）
+     */
+    private final byte[] array;
+
+    /**
+     * 不暴露底层数组的缓冲区（字节数组可用时为null）
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * 视图起始位置在数组或缓冲区中的下标
+     */
+    private final int base;
+
+    private final int length;
+
+    private AsciiCharSequence(byte[] array, ByteBuffer buffer, int base, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.base = base;
+        this.length = length;
+    }
+
+    /**
+     * 包装字节数组区间
+     *
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 视图
+     * @throws NullPointerException      如果bytes为null
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     */
+    public static AsciiCharSequence wrap(byte[] bytes, int offset, int length) {
+        Objects.requireNonNull(bytes, "证件号码是空");
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("区间越界，offset=" + offset + "，length=" + length + "，数组长度=" + bytes.length);
+        }
+        return new AsciiCharSequence(bytes, null, offset, length);
+    }
+
+    /**
+     * 包装缓冲区中按绝对下标指定的区间
+     * <p>
+     * 不读取也不修改缓冲区的position、limit和字节序，区间须在limit以内。可访问底层数组的缓冲区直接读取数组，
+     * 直接缓冲区和只读缓冲区按绝对下标读取。
+     * </p>
+     *
+     * @param buffer 缓冲区
+     * @param index  起始下标
+     * @param length 长度
+     * @return 视图
+     * @throws NullPointerException      如果buffer为null
+     * @throws IndexOutOfBoundsException 如果区间超出缓冲区的limit
+     */
+    public static AsciiCharSequence wrap(ByteBuffer buffer, int index, int length) {
+        Objects.requireNonNull(buffer, "证件号码是空");
+        if (index < 0 || length < 0 || index > buffer.limit() - length) {
+            throw new IndexOutOfBoundsException("区间越界，index=" + index + "，length=" + length + "，limit=" + buffer.limit());
+        }
+        if (buffer.hasArray()) {
+            return new AsciiCharSequence(buffer.array(), null, buffer.arrayOffset() + index, length);
+        }
+        return new AsciiCharSequence(null, buffer, index, length);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("下标越界，index=" + index + "，长度=" + length);
+        }
+        return (char) (byteAt(index) & 0xFF);
+    }
+
+    /**
+     * 返回区间对应的字符串（只在解析器取用字段时创建）
+     *
+     * @param start 起始位置（含）
+     * @param end   结束位置（不含）
+     * @return 字符串
+     */
+    @Override
+    public String subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("区间越界，start=" + start + "，end=" + end + "，长度=" + length);
+        }
+        if (array != null) {
+            return new String(array, base + start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[end - start];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) (buffer.get(base + start + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length);
+    }
+
+    /**
+     * 判断区间是否无需再做大写转换（不含小写字母和非ASCII字节），每次判断8个字节
+     *
+     * @param start 起始位置（含）
+     * @param end   结束位置（不含）
+     * @return 是否无需转换
+     */
+    public boolean isUpperAscii(int start, int end) {
+        int i = start;
+        for (; i <= end - AsciiUtil.WORD_BYTES; i += AsciiUtil.WORD_BYTES) {
+            long word = wordAt(i);
+            if (!AsciiUtil.isAscii(word) || AsciiUtil.hasLowerCase(word)) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            int b = byteAt(i);
+            if (b < 0 || (b >= 'a' && b <= 'z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 计算区间内字符类别的并集（{@link CredentialShape}的类别位），每次判断8个字节
+     *
+     * @param start 起始位置（含）
+     * @param end   结束位置（不含）
+     * @return 字符类别并集
+     */
+    int charClasses(int start, int end) {
+        int classes = 0;
+        int i = start;
+        for (; i <= end - AsciiUtil.WORD_BYTES; i += AsciiUtil.WORD_BYTES) {
+            long word = wordAt(i);
+            long digits = AsciiUtil.inRange(word, '0', '9');
+            if (AsciiUtil.hasUnmarked(digits)) {
+                long letters = AsciiUtil.inRange(word, 'A', 'Z') | AsciiUtil.inRange(word, 'a', 'z');
+                long fillers = AsciiUtil.inRange(word, '<', '<');
+                classes |= (letters != 0 ? CredentialShape.LETTER : 0)
+                        | (fillers != 0 ? CredentialShape.FILLER : 0)
+                        | (AsciiUtil.hasUnmarked(digits | letters | fillers) ? CredentialShape.OTHER : 0);
+            }
+            classes |= digits != 0 ? CredentialShape.DIGIT : 0;
+        }
+        for (; i < end; i++) {
+            classes |= CredentialShape.classOf((char) (byteAt(i) & 0xFF));
+        }
+        return classes;
+    }
+
+    private byte byteAt(int index) {
+        return array != null ? array[base + index] : buffer.get(base + index);
+    }
+
+    /**
+     * 读取从指定位置开始的8个字节（字节序不影响按通道的判断）
+     *
+     * @param index 起始位置
+     * @return 字
+     */
+    private long wordAt(int index) {
+        return array != null ? AsciiUtil.getLong(array, base + index) : buffer.getLong(base + index);
+    }
+}
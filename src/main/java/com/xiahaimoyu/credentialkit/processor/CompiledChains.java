@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+
+/**
+ * 校验链、解析链的按长度特化实现
+ * <p>
+ * 2个、3个元素的链各有独立的实现类，元素保存在final字段中逐个调用，每个位置是一个独立的调用点：
+ * 某个调用点只会见到同长度链中同一位置的元素，而不是所有处理器的全部元素。
+ * 4个及以上元素的链按数组循环调用，循环内的调用点由同类链共用。
+ * 只有一个元素时由{@link CredentialProcessor}直接持有该元素，不经过本类。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+final class CompiledChains {
+
+    /**
+     * 空解析链
+     */
+    @SuppressWarnings("rawtypes")
+    private static final CredentialRangeParser EMPTY_PARSER = (credential, offset, length, info) -> {
+    };
+
+    private CompiledChains() {
+    }
+
+    /**
+     * 编译整串校验链
+     *
+     * @param chain 校验器（至少两个）
+     * @return 校验链
+     */
+    static CredentialValidator validator(CredentialValidator[] chain) {
+        switch (chain.length) {
+            case 2:
+                return new Validator2(chain[0], chain[1]);
+            case 3:
+                return new Validator3(chain[0], chain[1], chain[2]);
+            default:
+                return new ValidatorN(chain);
+        }
+    }
+
+    /**
+     * 编译区间校验链
+     *
+     * @param chain 区间校验器（至少两个）
+     * @return 区间校验链
+     */
+    static CredentialRangeValidator rangeValidator(CredentialRangeValidator[] chain) {
+        switch (chain.length) {
+            case 2:
+                return new RangeValidator2(chain[0], chain[1]);
+            case 3:
+                return new RangeValidator3(chain[0], chain[1], chain[2]);
+            default:
+                return new RangeValidatorN(chain);
+        }
+    }
+
+    /**
+     * 编译整串解析链
+     *
+     * @param chain 解析器（至少两个）
+     * @param <T>   证件信息类型
+     * @return 解析链
+     */
+    static <T extends CredentialInfo> CredentialParser<T> parser(CredentialParser<T>[] chain) {
+        switch (chain.length) {
+            case 2:
+                return new Parser2<>(chain[0], chain[1]);
+            case 3:
+                return new Parser3<>(chain[0], chain[1], chain[2]);
+            default:
+                return new ParserN<>(chain);
+        }
+    }
+
+    /**
+     * 编译区间解析链
+     *
+     * @param chain 区间解析器（允许为空，不能只有一个）
+     * @param <T>   证件信息类型
+     * @return 区间解析链
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends CredentialInfo> CredentialRangeParser<T> rangeParser(CredentialRangeParser<T>[] chain) {
+        switch (chain.length) {
+            case 0:
+                return (CredentialRangeParser<T>) EMPTY_PARSER;
+            case 2:
+                return new RangeParser2<>(chain[0], chain[1]);
+            case 3:
+                return new RangeParser3<>(chain[0], chain[1], chain[2]);
+            default:
+                return new RangeParserN<>(chain);
+        }
+    }
+
+    private static final class Validator2 implements CredentialValidator {
+
+        private final CredentialValidator first;
+
+        private final CredentialValidator second;
+
+        Validator2(CredentialValidator first, CredentialValidator second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public ValidationResult validate(String credential) {
+            ValidationResult result = first.validate(credential);
+            return result.isValid() ? second.validate(credential) : result;
+        }
+
+        @Override
+        public boolean isValid(String credential) {
+            return first.isValid(credential) && second.isValid(credential);
+        }
+    }
+
+    private static final class Validator3 implements CredentialValidator {
+
+        private final CredentialValidator first;
+
+        private final CredentialValidator second;
+
+        private final CredentialValidator third;
+
+        Validator3(CredentialValidator first, CredentialValidator second, CredentialValidator third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public ValidationResult validate(String credential) {
+            ValidationResult result = first.validate(credential);
+            if (!result.isValid()) {
+                return result;
+            }
+            result = second.validate(credential);
+            return result.isValid() ? third.validate(credential) : result;
+        }
+
+        @Override
+        public boolean isValid(String credential) {
+            return first.isValid(credential) && second.isValid(credential) && third.isValid(credential);
+        }
+    }
+
+    private static final class ValidatorN implements CredentialValidator {
+
+        private final CredentialValidator[] chain;
+
+        ValidatorN(CredentialValidator[] chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public ValidationResult validate(String credential) {
+            for (CredentialValidator validator : chain) {
+                ValidationResult result = validator.validate(credential);
+                if (!result.isValid()) {
+                    return result;
+                }
+            }
+            return ValidationResult.success();
+        }
+
+        @Override
+        public boolean isValid(String credential) {
+            for (CredentialValidator validator : chain) {
+                if (!validator.isValid(credential)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class RangeValidator2 implements CredentialRangeValidator {
+
+        private final CredentialRangeValidator first;
+
+        private final CredentialRangeValidator second;
+
+        RangeValidator2(CredentialRangeValidator first, CredentialRangeValidator second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public ValidationResult validate(CharSequence credential, int offset, int length) {
+            ValidationResult result = first.validate(credential, offset, length);
+            return result.isValid() ? second.validate(credential, offset, length) : result;
+        }
+
+        @Override
+        public boolean isValid(CharSequence credential, int offset, int length) {
+            return first.isValid(credential, offset, length) && second.isValid(credential, offset, length);
+        }
+    }
+
+    private static final class RangeValidator3 implements CredentialRangeValidator {
+
+        private final CredentialRangeValidator first;
+
+        private final CredentialRangeValidator second;
+
+        private final CredentialRangeValidator third;
+
+        RangeValidator3(CredentialRangeValidator first, CredentialRangeValidator second, CredentialRangeValidator third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public ValidationResult validate(CharSequence credential, int offset, int length) {
+            ValidationResult result = first.validate(credential, offset, length);
+            if (!result.isValid()) {
+                return result;
+            }
+            result = second.validate(credential, offset, length);
+            return result.isValid() ? third.validate(credential, offset, length) : result;
+        }
+
+        @Override
+        public boolean isValid(CharSequence credential, int offset, int length) {
+            return first.isValid(credential, offset, length)
+                    && second.isValid(credential, offset, length)
+                    && third.isValid(credential, offset, length);
+        }
+    }
+
+    private static final class RangeValidatorN implements CredentialRangeValidator {
+
+        private final CredentialRangeValidator[] chain;
+
+        RangeValidatorN(CredentialRangeValidator[] chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public ValidationResult validate(CharSequence credential, int offset, int length) {
+            for (CredentialRangeValidator validator : chain) {
+                ValidationResult result = validator.validate(credential, offset, length);
+                if (!result.isValid()) {
+                    return result;
+                }
+            }
+            return ValidationResult.success();
+        }
+
+        @Override
+        public boolean isValid(CharSequence credential, int offset, int length) {
+            for (CredentialRangeValidator validator : chain) {
+                if (!validator.isValid(credential, offset, length)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Parser2<T extends CredentialInfo> implements CredentialParser<T> {
+
+        private final CredentialParser<T> first;
+
+        private final CredentialParser<T> second;
+
+        Parser2(CredentialParser<T> first, CredentialParser<T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void parse(String credential, T info) {
+            first.parse(credential, info);
+            second.parse(credential, info);
+        }
+    }
+
+    private static final class Parser3<T extends CredentialInfo> implements CredentialParser<T> {
+
+        private final CredentialParser<T> first;
+
+        private final CredentialParser<T> second;
+
+        private final CredentialParser<T> third;
+
+        Parser3(CredentialParser<T> first, CredentialParser<T> second, CredentialParser<T> third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public void parse(String credential, T info) {
+            first.parse(credential, info);
+            second.parse(credential, info);
+            third.parse(credential, info);
+        }
+    }
+
+    private static final class ParserN<T extends CredentialInfo> implements CredentialParser<T> {
+
+        private final CredentialParser<T>[] chain;
+
+        ParserN(CredentialParser<T>[] chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public void parse(String credential, T info) {
+            for (CredentialParser<T> parser : chain) {
+                parser.parse(credential, info);
+            }
+        }
+    }
+
+    private static final class RangeParser2<T extends CredentialInfo> implements CredentialRangeParser<T> {
+
+        private final CredentialRangeParser<T> first;
+
+        private final CredentialRangeParser<T> second;
+
+        RangeParser2(CredentialRangeParser<T> first, CredentialRangeParser<T> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void parse(CharSequence credential, int offset, int length, T info) {
+            first.parse(credential, offset, length, info);
+            second.parse(credential, offset, length, info);
+        }
+    }
+
+    private static final class RangeParser3<T extends CredentialInfo> implements CredentialRangeParser<T> {
+
+        private final CredentialRangeParser<T> first;
+
+        private final CredentialRangeParser<T> second;
+
+        private final CredentialRangeParser<T> third;
+
+        RangeParser3(CredentialRangeParser<T> first, CredentialRangeParser<T> second, CredentialRangeParser<T> third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        @Override
+        public void parse(CharSequence credential, int offset, int length, T info) {
+            first.parse(credential, offset, length, info);
+            second.parse(credential, offset, length, info);
+            third.parse(credential, offset, length, info);
+        }
+    }
+
+    private static final class RangeParserN<T extends CredentialInfo> implements CredentialRangeParser<T> {
+
+        private final CredentialRangeParser<T>[] chain;
+
+        RangeParserN(CredentialRangeParser<T>[] chain) {
+            this.chain = chain;
+        }
+
+        @Override
+        public void parse(CharSequence credential, int offset, int length, T info) {
+            for (CredentialRangeParser<T> parser : chain) {
+                parser.parse(credential, offset, length, info);
+            }
+        }
+    }
+}
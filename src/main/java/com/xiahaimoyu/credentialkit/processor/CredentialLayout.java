@@ -0,0 +1,831 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
+import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 定长证件版式
+ * <p>
+ * 以声明的方式描述定长证件：每个位置允许的字符集、校验位（算法、覆盖区间、校验位位置）、出生日期、地区编码
+ * 以及自定义字段规则，构建后即为单遍校验器（{@link CredentialRangeValidator}）。
+ * 构建时把字符集、各校验位的字符值和权重以及国内地区编码的十进制权重展开为按位置和字符查找的增量表，
+ * 各项按所需位宽打包在一个long中，校验时逐字符扫描一次，每个字符查一次表即完成字符集检查、全部校验位加权和
+ * 以及地区编码数值的累加；扫描结束后按声明顺序依次检查各项规则，
+ * 返回第一个错误。字符集不符为{@link ErrorCode#BASIC_FORMAT_ERROR}，校验位不符为{@link ErrorCode#CHECK_DIGIT_ERROR}，
+ * 出生日期、地区和自定义规则使用各自声明的错误码。校验过程不使用正则、不创建对象。
+ * 声明的出生日期、国内地区和国际地区在检查通过后写入{@link ValidationContext#current()}，供解析器直接取用。
+ * {@link #isValid(CharSequence, int, int)}不关心错误码，先检查全部校验位（查表），再按声明顺序执行其余规则。
+ * </p>
+ * <pre>{@code
+ * CredentialLayout layout = CredentialLayout.builder(18)
+ *         .chars(0, 17, CredentialLayout.DIGITS)
+ *         .chars(17, 1, CredentialLayout.DIGITS + "X")
+ *         .domesticRegion(0, 6)
+ *         .birthDate(6)
+ *         .checkDigit(CredentialLayout.Checksum.ISO_7064_MOD_11_2, 17, 0, 17)
+ *         .build();
+ * }</pre>
+ * <p>
+ * 长度不同的多个版本使用{@link #oneOf(CredentialLayout...)}组合。版式不可变，可在多个处理器和线程间共享。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class CredentialLayout implements CredentialRangeValidator {
+
+    /**
+     * 字符集：数字
+     */
+    public static final String DIGITS = "0123456789";
+
+    /**
+     * 字符集：大写字母
+     */
+    public static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    /**
+     * 打包加权和可用的位数（保留符号位，-1表示字符不允许）
+     */
+    private static final int PACKED_BITS = Long.SIZE - 1;
+
+    /**
+     * 单个校验位加权和的上限（校验位按加权和查表）
+     */
+    private static final int MAX_SUM = (1 << 16) - 1;
+
+    /**
+     * 校验位算法
+     */
+    public enum Checksum {
+
+        /**
+         * ISO 7064 MOD 11-2（GB 11643居民身份证，17位数字，校验位为数字或X）
+         */
+        ISO_7064_MOD_11_2(17) {
+            @Override
+            int value(char c) {
+                return c >= '0' && c <= '9' ? c - '0' : -1;
+            }
+
+            @Override
+            int weight(int index) {
+                return CheckDigitUtil.getIdCardWeight(index);
+            }
+
+            @Override
+            char checkDigit(int weightedSum) {
+                return CheckDigitUtil.getIdCardCheckDigitBySum(weightedSum);
+            }
+        },
+
+        /**
+         * ICAO 9303机读码（权重7、3、1循环，字母A为10，填充符&lt;为0，校验位为数字）
+         */
+        MRZ_7_3_1(Integer.MAX_VALUE) {
+            @Override
+            int value(char c) {
+                if (c == '<') {
+                    return 0;
+                }
+                return alphanumericValue(c);
+            }
+
+            @Override
+            int weight(int index) {
+                return index % 3 == 0 ? 7 : index % 3 == 1 ? 3 : 1;
+            }
+
+            @Override
+            char checkDigit(int weightedSum) {
+                return (char) ('0' + weightedSum % 10);
+            }
+        },
+
+        /**
+         * GB 11714组织机构代码（8位数字或字母，字母A为10，校验位为数字或X）
+         */
+        GB_11714(8) {
+            @Override
+            int value(char c) {
+                return alphanumericValue(c);
+            }
+
+            @Override
+            int weight(int index) {
+                return CheckDigitUtil.getOrganizationCodeWeight(index);
+            }
+
+            @Override
+            char checkDigit(int weightedSum) {
+                return CheckDigitUtil.getOrganizationCodeCheckDigitBySum(weightedSum);
+            }
+        },
+
+        /**
+         * GB 32100统一社会信用代码（17位，字符集不含I、O、S、V、Z）
+         */
+        GB_32100(17) {
+            @Override
+            int value(char c) {
+                return CheckDigitUtil.getUnifiedSocialCreditCharValue(c);
+            }
+
+            @Override
+            int weight(int index) {
+                return CheckDigitUtil.getUnifiedSocialCreditCodeWeight(index);
+            }
+
+            @Override
+            char checkDigit(int weightedSum) {
+                return CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigitBySum(weightedSum);
+            }
+        };
+
+        /**
+         * 参与计算的最大字符数
+         */
+        private final int maxLength;
+
+        Checksum(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * 获取字符值
+         *
+         * @param c 字符
+         * @return 字符值，不属于该算法字符集时返回-1
+         */
+        abstract int value(char c);
+
+        /**
+         * 获取参与计算的第index个字符的权重
+         *
+         * @param index 字符在参与计算部分中的序号（从0开始）
+         * @return 权重
+         */
+        abstract int weight(int index);
+
+        /**
+         * 由加权和获取校验位
+         *
+         * @param weightedSum 加权和（非负）
+         * @return 校验位
+         */
+        abstract char checkDigit(int weightedSum);
+
+        private static int alphanumericValue(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            if (c >= 'A' && c <= 'Z') {
+                return c - 'A' + 10;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * 字段规则
+     */
+    @FunctionalInterface
+    public interface FieldRule {
+
+        /**
+         * 检查字段
+         *
+         * @param credential 字符序列（字符集已检查通过）
+         * @param offset     字段在字符序列中的起始位置
+         * @return 是否通过
+         */
+        boolean test(CharSequence credential, int offset);
+    }
+
+    /**
+     * 扫描后依次执行的检查
+     */
+    @FunctionalInterface
+    private interface Check {
+
+        /**
+         * 执行检查
+         *
+         * @param credential 字符序列
+         * @param offset     证件号码起始位置
+         * @param sums       打包的加权和
+         * @param context    写入解码字段的校验上下文，版式不含需要记录的字段时为null
+         * @return 错误码，通过时返回null
+         */
+        ErrorCode check(CharSequence credential, int offset, long sums, ValidationContext context);
+    }
+
+    /**
+     * 版式长度
+     */
+    private final int length;
+
+    /**
+     * 各位置字符集并集中每个ASCII字符所在的列（-1表示任何位置都不允许）
+     */
+    private final byte[] columns;
+
+    /**
+     * 列数（字符集并集的大小）
+     */
+    private final int columnCount;
+
+    /**
+     * 按位置和列展开的增量：全部校验位、地区编码的字符值与权重之积按槽位打包，
+     * 字符不属于槽位字符集（如校验算法字符集、地区编码的数字）时改为累加该槽位的无效字符计数，-1表示该位置不允许该字符
+     */
+    private final long[] contributions;
+
+    /**
+     * 扫描后依次执行的检查
+     */
+    private final Check[] checks;
+
+    /**
+     * 按开销排列的检查（校验位在前，其余按声明顺序），供只判断是否通过时使用
+     */
+    private final Check[] costOrderedChecks;
+
+    /**
+     * 是否声明了需要写入校验上下文的字段（出生日期、地区）
+     */
+    private final boolean recording;
+
+    private CredentialLayout(Builder builder) {
+        this.length = builder.length;
+        this.checks = builder.checks.toArray(new Check[0]);
+        List<Check> costOrdered = new ArrayList<>(builder.checkDigitChecks);
+        for (Check check : checks) {
+            if (!builder.checkDigitChecks.contains(check)) {
+                costOrdered.add(check);
+            }
+        }
+        this.costOrderedChecks = costOrdered.toArray(new Check[0]);
+        this.recording = builder.recording;
+        // 把字符集和各校验位的字符值、权重预先展开为一张表，扫描时每个字符只查一次表
+        this.columns = new byte[128];
+        Arrays.fill(columns, (byte) -1);
+        int count = 0;
+        for (char c = 0; c < 128; c++) {
+            for (int position = 0; position < length; position++) {
+                if (builder.allows(position, c)) {
+                    columns[c] = (byte) count++;
+                    break;
+                }
+            }
+        }
+        this.columnCount = count;
+        this.contributions = new long[length * count];
+        for (char c = 0; c < 128; c++) {
+            if (columns[c] < 0) {
+                continue;
+            }
+            for (int position = 0; position < length; position++) {
+                int index = position * count + columns[c];
+                if (!builder.allows(position, c)) {
+                    contributions[index] = -1L;
+                    continue;
+                }
+                for (int slot = 0; slot < builder.weights.size(); slot++) {
+                    int weight = builder.weights.get(slot)[position];
+                    if (weight == 0) {
+                        continue;
+                    }
+                    int value = builder.values.get(slot)[c];
+                    int shift = builder.shifts.get(slot);
+                    if (value < 0) {
+                        contributions[index] += 1L << (shift + builder.sumBits.get(slot));
+                    } else {
+                        contributions[index] += (long) value * weight << shift;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 创建版式构建器
+     *
+     * @param length 证件号码长度
+     * @return 构建器
+     * @throws IllegalArgumentException 如果长度不是正数
+     */
+    public static Builder builder(int length) {
+        return new Builder(length);
+    }
+
+    /**
+     * 组合长度不同的多个版式
+     * <p>
+     * 按输入长度选择版式校验，没有对应长度的版式时返回{@link ErrorCode#BASIC_FORMAT_ERROR}。
+     * </p>
+     *
+     * @param layouts 版式（长度互不相同）
+     * @return 校验器
+     * @throws IllegalArgumentException 如果未提供版式或存在长度相同的版式
+     */
+    public static CredentialRangeValidator oneOf(CredentialLayout... layouts) {
+        if (layouts == null || layouts.length == 0) {
+            throw new IllegalArgumentException("版式不能为空");
+        }
+        int maxLength = 0;
+        for (CredentialLayout layout : layouts) {
+            maxLength = Math.max(maxLength, Objects.requireNonNull(layout, "版式是空").length);
+        }
+        final CredentialLayout[] byLength = new CredentialLayout[maxLength + 1];
+        for (CredentialLayout layout : layouts) {
+            if (byLength[layout.length] != null) {
+                throw new IllegalArgumentException("版式长度重复: " + layout.length);
+            }
+            byLength[layout.length] = layout;
+        }
+        return new CredentialRangeValidator() {
+            @Override
+            public ValidationResult validate(CharSequence credential, int offset, int length) {
+                if (length < 0 || length >= byLength.length || byLength[length] == null) {
+                    return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+                }
+                return byLength[length].validate(credential, offset, length);
+            }
+
+            @Override
+            public boolean isValid(CharSequence credential, int offset, int length) {
+                return length >= 0 && length < byLength.length && byLength[length] != null
+                        && byLength[length].isValid(credential, offset, length);
+            }
+        };
+    }
+
+    /**
+     * 获取版式长度
+     *
+     * @return 证件号码长度
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * 单遍校验
+     *
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @param length     证件号码长度
+     * @return 校验结果
+     */
+    @Override
+    public ValidationResult validate(CharSequence credential, int offset, int length) {
+        if (length != this.length) {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        final long sums = scan(credential, offset);
+        if (sums < 0) {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        final ValidationContext context = recording ? ValidationContext.current() : null;
+        for (Check check : checks) {
+            ErrorCode errorCode = check.check(credential, offset, sums, context);
+            if (errorCode != null) {
+                return ValidationResult.failure(errorCode);
+            }
+        }
+        return ValidationResult.success();
+    }
+
+    /**
+     * 判断是否通过校验（先检查校验位，不写入校验上下文）
+     *
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @param length     证件号码长度
+     * @return 是否通过
+     */
+    @Override
+    public boolean isValid(CharSequence credential, int offset, int length) {
+        if (length != this.length) {
+            return false;
+        }
+        final long sums = scan(credential, offset);
+        if (sums < 0) {
+            return false;
+        }
+        for (Check check : costOrderedChecks) {
+            if (check.check(credential, offset, sums, null) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 逐字符扫描，检查字符集并累加全部校验位的加权和
+     *
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @return 打包的加权和，存在不允许的字符时返回-1
+     */
+    private long scan(CharSequence credential, int offset) {
+        final byte[] columns = this.columns;
+        final long[] contributions = this.contributions;
+        long sums = 0;
+        for (int i = 0, row = 0; i < length; i++, row += columnCount) {
+            char c = credential.charAt(offset + i);
+            int column = c < 128 ? columns[c] : -1;
+            long contribution = column < 0 ? -1L : contributions[row + column];
+            if (contribution < 0) {
+                return -1L;
+            }
+            sums += contribution;
+        }
+        return sums;
+    }
+
+    /**
+     * 读取数字字段的数值（字段已通过日期校验，均为数字）
+     *
+     * @param credential 字符序列
+     * @param offset     字段起始位置
+     * @param count      位数
+     * @return 数值
+     */
+    private static int digits(CharSequence credential, int offset, int count) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            value = value * 10 + credential.charAt(offset + i) - '0';
+        }
+        return value;
+    }
+
+    /**
+     * 版式构建器
+     * <p>
+     * 规则按声明顺序检查；未声明字符集的位置不允许任何字符，构建时报错。
+     * </p>
+     */
+    public static final class Builder {
+
+        private final int length;
+
+        private final long[] lowChars;
+
+        private final long[] highChars;
+
+        private final List<int[]> weights = new ArrayList<>();
+
+        private final List<byte[]> values = new ArrayList<>();
+
+        private final List<Integer> shifts = new ArrayList<>();
+
+        private final List<Integer> sumBits = new ArrayList<>();
+
+        private int packedBits;
+
+        private final List<Check> checks = new ArrayList<>();
+
+        private final List<Check> checkDigitChecks = new ArrayList<>();
+
+        private boolean recording;
+
+        private Builder(int length) {
+            if (length <= 0) {
+                throw new IllegalArgumentException("版式长度必须为正数: " + length);
+            }
+            this.length = length;
+            this.lowChars = new long[length];
+            this.highChars = new long[length];
+        }
+
+        /**
+         * 声明区间内每个位置允许的字符（可多次调用累加）
+         *
+         * @param offset  起始位置
+         * @param length  长度
+         * @param allowed 允许的字符（ASCII）
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间超出版式或包含非ASCII字符
+         */
+        public Builder chars(int offset, int length, String allowed) {
+            checkRange(offset, length);
+            for (int i = 0; i < allowed.length(); i++) {
+                char c = allowed.charAt(i);
+                if (c >= 128) {
+                    throw new IllegalArgumentException("版式只支持ASCII字符: " + c);
+                }
+                for (int position = offset; position < offset + length; position++) {
+                    if (c < 64) {
+                        lowChars[position] |= 1L << c;
+                    } else {
+                        highChars[position] |= 1L << (c - 64);
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * 声明校验位
+         * <p>
+         * 覆盖区间按顺序依次拼接参与计算（不实际拼接），如可机读护照的复合校验位。
+         * </p>
+         *
+         * @param checksum         校验位算法
+         * @param checkDigitOffset 校验位位置
+         * @param ranges           覆盖区间，依次为每个区间的起始位置和长度
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间不合法、超出算法支持的长度或全部加权和超出可打包的位宽
+         */
+        public Builder checkDigit(Checksum checksum, int checkDigitOffset, int... ranges) {
+            Objects.requireNonNull(checksum, "校验位算法是空");
+            checkRange(checkDigitOffset, 1);
+            if (ranges.length == 0 || (ranges.length & 1) != 0) {
+                throw new IllegalArgumentException("覆盖区间不能为空且长度必须为偶数");
+            }
+            byte[] table = new byte[128];
+            int maxValue = 0;
+            for (char c = 0; c < 128; c++) {
+                int value = checksum.value(c);
+                table[c] = (byte) value;
+                maxValue = Math.max(maxValue, value);
+            }
+            int[] slotWeights = new int[length];
+            int index = 0;
+            long maxSum = 0;
+            for (int r = 0; r < ranges.length; r += 2) {
+                checkRange(ranges[r], ranges[r + 1]);
+                for (int position = ranges[r]; position < ranges[r] + ranges[r + 1]; position++) {
+                    if (index >= checksum.maxLength) {
+                        throw new IllegalArgumentException(checksum + "最多覆盖" + checksum.maxLength + "位");
+                    }
+                    if (slotWeights[position] != 0) {
+                        throw new IllegalArgumentException("覆盖区间重复: " + position);
+                    }
+                    slotWeights[position] = checksum.weight(index++);
+                    maxSum += (long) maxValue * slotWeights[position];
+                }
+            }
+            if (maxSum > MAX_SUM) {
+                throw new IllegalArgumentException("覆盖区间过长，加权和可能溢出");
+            }
+            // 预先算出每个加权和对应的校验位，校验时查表即可
+            final char[] checkDigits = new char[(int) maxSum + 1];
+            for (int sum = 0; sum <= maxSum; sum++) {
+                checkDigits[sum] = checksum.checkDigit(sum);
+            }
+            final int shift = addSlot(slotWeights, table, maxSum, index);
+            final long mask = (1L << (packedBits - shift)) - 1;
+            Check check = (credential, offset, sums, context) -> {
+                // 槽位值超出表长说明含有校验算法字符集以外的字符
+                long slot = sums >>> shift & mask;
+                if (slot >= checkDigits.length || checkDigits[(int) slot] != credential.charAt(offset + checkDigitOffset)) {
+                    return ErrorCode.CHECK_DIGIT_ERROR;
+                }
+                return null;
+            };
+            checks.add(check);
+            checkDigitChecks.add(check);
+            return this;
+        }
+
+        /**
+         * 声明出生日期（YYYYMMDD，不晚于今天）
+         *
+         * @param offset 出生日期起始位置
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间超出版式
+         */
+        public Builder birthDate(int offset) {
+            checkRange(offset, 8);
+            recording = true;
+            checks.add((credential, start, sums, context) -> {
+                if (!DateUtil.validDateBeforeNow(credential, start + offset)) {
+                    return ErrorCode.BIRTH_DATE_ERROR;
+                }
+                if (context != null) {
+                    context.setBirthDate(digits(credential, start + offset, 8));
+                }
+                return null;
+            });
+            return this;
+        }
+
+        /**
+         * 声明两位年份的出生日期（YYMMDD，按任一世纪补全后不晚于今天即通过）
+         * <p>
+         * 写入校验上下文的是补全后通过的最晚日期，与{@link DateUtil#toFullYearDate(String)}优先取20xx一致。
+         * </p>
+         *
+         * @param offset    出生日期起始位置
+         * @param centuries 候选世纪，如19表示19xx年
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间超出版式或未提供世纪
+         */
+        public Builder shortBirthDate(int offset, int... centuries) {
+            checkRange(offset, 6);
+            if (centuries.length == 0) {
+                throw new IllegalArgumentException("世纪不能为空");
+            }
+            final int[] candidates = centuries.clone();
+            recording = true;
+            checks.add((credential, start, sums, context) -> {
+                int latest = -1;
+                for (int century : candidates) {
+                    if (century > latest && DateUtil.validDateBeforeNow(century, credential, start + offset)) {
+                        latest = century;
+                        if (context == null) {
+                            break;
+                        }
+                    }
+                }
+                if (latest < 0) {
+                    return ErrorCode.BIRTH_DATE_ERROR;
+                }
+                if (context != null) {
+                    context.setBirthDate(latest * 1000000 + digits(credential, start + offset, 6));
+                }
+                return null;
+            });
+            return this;
+        }
+
+        /**
+         * 声明国内地区编码（GB/T 2260）
+         *
+         * @param offset 编码起始位置
+         * @param length 编码长度（2、4或6，2、4位按省级、地级前缀补0）
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间超出版式或长度不合法
+         */
+        public Builder domesticRegion(int offset, int length) {
+            checkRange(offset, length);
+            if (length != 2 && length != 4 && length != 6) {
+                throw new IllegalArgumentException("国内地区编码长度必须为2、4或6: " + length);
+            }
+            // 编码按十进制权重与校验位一起在扫描中累加为整数，非数字计入无效字符计数
+            byte[] table = new byte[128];
+            Arrays.fill(table, (byte) -1);
+            for (char c = '0'; c <= '9'; c++) {
+                table[c] = (byte) (c - '0');
+            }
+            int[] slotWeights = new int[this.length];
+            int weight = 1;
+            for (int position = offset + length - 1; position >= offset; position--) {
+                slotWeights[position] = weight;
+                weight *= 10;
+            }
+            final int limit = weight;
+            final int scale = length == 2 ? 10000 : length == 4 ? 100 : 1;
+            final int shift = addSlot(slotWeights, table, limit - 1, length);
+            final long mask = (1L << (packedBits - shift)) - 1;
+            recording = true;
+            checks.add((credential, start, sums, context) -> {
+                long code = sums >>> shift & mask;
+                DomesticRegionInfo region = code < limit ? RegionUtil.getDomesticRegionInfoByCode((int) code * scale) : null;
+                if (region == null) {
+                    return ErrorCode.REGION_ERROR;
+                }
+                if (context != null) {
+                    context.setDomesticRegion(region);
+                }
+                return null;
+            });
+            return this;
+        }
+
+        /**
+         * 声明国际地区3位字母编码（ISO 3166-1 alpha-3）
+         *
+         * @param offset 编码起始位置
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间超出版式
+         */
+        public Builder internationalRegionByAlpha3(int offset) {
+            checkRange(offset, 3);
+            return internationalRegion(offset, false);
+        }
+
+        /**
+         * 声明国际地区3位数字编码（ISO 3166-1 numeric）
+         *
+         * @param offset 编码起始位置
+         * @return 构建器
+         * @throws IllegalArgumentException 如果区间超出版式
+         */
+        public Builder internationalRegionByNumeric(int offset) {
+            checkRange(offset, 3);
+            return internationalRegion(offset, true);
+        }
+
+        /**
+         * 添加国际地区检查
+         *
+         * @param offset  编码起始位置
+         * @param numeric 是否为数字编码（否则为3位字母编码）
+         * @return 构建器
+         */
+        private Builder internationalRegion(int offset, boolean numeric) {
+            recording = true;
+            checks.add((credential, start, sums, context) -> {
+                InternationalRegionInfo region = numeric
+                        ? RegionUtil.getInternationalRegionInfoByNumeric(credential, start + offset)
+                        : RegionUtil.getInternationalRegionInfoByAlpha3(credential, start + offset);
+                if (region == null) {
+                    return ErrorCode.REGION_ERROR;
+                }
+                if (context != null) {
+                    context.setInternationalRegion(region);
+                }
+                return null;
+            });
+            return this;
+        }
+
+        /**
+         * 声明自定义字段规则
+         *
+         * @param offset    字段起始位置
+         * @param errorCode 不通过时的错误码
+         * @param rule      字段规则
+         * @return 构建器
+         * @throws IllegalArgumentException 如果位置超出版式
+         */
+        public Builder rule(int offset, ErrorCode errorCode, FieldRule rule) {
+            checkRange(offset, 1);
+            Objects.requireNonNull(errorCode, "错误码是空");
+            Objects.requireNonNull(rule, "字段规则是空");
+            checks.add((credential, start, sums, context) -> rule.test(credential, start + offset) ? null : errorCode);
+            return this;
+        }
+
+        /**
+         * 构建版式
+         *
+         * @return 版式
+         * @throws IllegalStateException 如果存在未声明字符集的位置
+         */
+        public CredentialLayout build() {
+            for (int position = 0; position < length; position++) {
+                if (lowChars[position] == 0 && highChars[position] == 0) {
+                    throw new IllegalStateException("位置" + position + "未声明字符集");
+                }
+            }
+            return new CredentialLayout(this);
+        }
+
+        private boolean allows(int position, char c) {
+            if (c < 64) {
+                return (lowChars[position] & 1L << c) != 0;
+            }
+            return (highChars[position] & 1L << (c - 64)) != 0;
+        }
+
+        /**
+         * 分配打包槽位
+         * <p>
+         * 槽位依次为加权和与无效字符计数，位宽按最大值计算，保证累加时不会进位到相邻槽位。
+         * </p>
+         *
+         * @param slotWeights 各位置的权重（0表示不参与）
+         * @param table       字符值表（-1表示计入无效字符计数）
+         * @param maxSum      加权和的最大值
+         * @param count       参与的位置数
+         * @return 槽位起始位
+         * @throws IllegalArgumentException 如果全部槽位超出可打包的位宽
+         */
+        private int addSlot(int[] slotWeights, byte[] table, long maxSum, int count) {
+            final int bits = Long.SIZE - Long.numberOfLeadingZeros(maxSum);
+            final int countBits = Integer.SIZE - Integer.numberOfLeadingZeros(count);
+            if (packedBits + bits + countBits > PACKED_BITS) {
+                throw new IllegalArgumentException("覆盖区间过长，加权和可能溢出");
+            }
+            final int shift = packedBits;
+            weights.add(slotWeights);
+            values.add(table);
+            shifts.add(shift);
+            sumBits.add(bits);
+            packedBits += bits + countBits;
+            return shift;
+        }
+
+        private void checkRange(int offset, int length) {
+            if (offset < 0 || length <= 0 || offset > this.length - length) {
+                throw new IllegalArgumentException("区间超出版式: " + offset + "+" + length + " > " + this.length);
+            }
+        }
+    }
+}
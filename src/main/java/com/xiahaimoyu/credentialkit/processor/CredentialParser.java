@@ -7,6 +7,9 @@ import com.xiahaimoyu.credentialkit.info.CredentialInfo;
 
 /**
  * 证件解析器
+ * <p>
+ * 面向整串的解析契约，需要在字符序列区间上原地解析时实现{@link CredentialRangeParser}。
+ * </p>
  *
  * @author Howard.Li
  */
@@ -6,7 +6,6 @@ package com.xiahaimoyu.credentialkit.processor;
 import com.xiahaimoyu.credentialkit.info.CredentialInfo;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -24,31 +23,98 @@ import java.util.Optional;
 public abstract class CredentialProcessor<T extends CredentialInfo> {
 
     /**
-     * 校验器列表
+     * 编译后的校验链
      */
-    private final List<CredentialValidator> validators;
+    private final CredentialValidator validator;
 
     /**
-     * 解析器列表
+     * 编译后的解析链
      */
-    private final List<CredentialParser<T>> parsers;
+    private final CredentialParser<T> parser;
+
+    /**
+     * 编译后的区间校验链（全部校验器都实现{@link CredentialRangeValidator}时非null，与{@link #validator}为同一对象）
+     */
+    private final CredentialRangeValidator rangeValidator;
+
+    /**
+     * 编译后的区间解析链（全部解析器都实现{@link CredentialRangeParser}时非null，与{@link #parser}为同一对象）
+     */
+    private final CredentialRangeParser<T> rangeParser;
 
     /**
      * 构造器
      *
+     * <p>
+     * 校验器和解析器全部是区间实现（{@link CredentialRangeValidator}/{@link CredentialRangeParser}）时，
+     * {@link #validate(CharSequence, int, int)}和{@link #parse(CharSequence, int, int)}直接在输入窗口上执行。
+     * </p>
+     * <p>
+     * 构造时把列表编译为链：只有一个校验器（解析器）时直接持有它，2个、3个时使用按长度特化的实现类
+     * （元素存于final字段、逐个调用，每个位置是独立的调用点），更多时按数组依次调用；
+     * 整串入口对区间实现直接调用区间方法。校验和解析不再经过迭代器和逐元素的适配，
+     * 但链本身不是按实例生成的类：同长度的链共用实现类，入口处调用链的调用点仍由所有处理器共用。
+     * </p>
+     *
      * @param validators 校验器列表（按顺序执行，遇到第一个失败即短路），至少包含一个校验器
      * @param parsers    解析器列表（按顺序执行），允许为空
-     * @throws NullPointerException     如果任一列表为空
+     * @throws NullPointerException     如果任一列表或列表中的元素为空
      * @throws IllegalArgumentException 如果校验器列表为空列表（无校验器的处理器会接受任意输入）
      */
-    protected CredentialProcessor(List<CredentialValidator> validators, List<CredentialParser<T>> parsers) {
+    protected CredentialProcessor(List<? extends CredentialValidator> validators, List<? extends CredentialParser<T>> parsers) {
         Objects.requireNonNull(validators, "校验器列表是空");
         Objects.requireNonNull(parsers, "解析器列表是空");
         if (validators.isEmpty()) {
             throw new IllegalArgumentException("校验器列表不能为空列表");
         }
-        this.validators = Collections.unmodifiableList(new ArrayList<>(validators));
-        this.parsers = Collections.unmodifiableList(new ArrayList<>(parsers));
+        for (CredentialValidator each : validators) {
+            Objects.requireNonNull(each, "校验器是空");
+        }
+        for (CredentialParser<T> each : parsers) {
+            Objects.requireNonNull(each, "解析器是空");
+        }
+        this.validator = compileValidators(new ArrayList<CredentialValidator>(validators));
+        this.parser = compileParsers(new ArrayList<CredentialParser<T>>(parsers));
+        this.rangeValidator = validator instanceof CredentialRangeValidator ? (CredentialRangeValidator) validator : null;
+        this.rangeParser = parser instanceof CredentialRangeParser ? (CredentialRangeParser<T>) parser : null;
+    }
+
+    /**
+     * 编译校验链
+     *
+     * @param validators 校验器列表（非空）
+     * @return 只有一个校验器时返回它本身；全部为区间实现时返回区间校验链，否则返回整串校验链
+     */
+    private static CredentialValidator compileValidators(List<CredentialValidator> validators) {
+        if (validators.size() == 1) {
+            return validators.get(0);
+        }
+        for (CredentialValidator each : validators) {
+            if (!(each instanceof CredentialRangeValidator)) {
+                return CompiledChains.validator(validators.toArray(new CredentialValidator[0]));
+            }
+        }
+        return CompiledChains.rangeValidator(validators.toArray(new CredentialRangeValidator[0]));
+    }
+
+    /**
+     * 编译解析链
+     *
+     * @param parsers 解析器列表（允许为空）
+     * @param <T>     证件信息类型
+     * @return 只有一个解析器时返回它本身；全部为区间实现时返回区间解析链，否则返回整串解析链
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T extends CredentialInfo> CredentialParser<T> compileParsers(List<CredentialParser<T>> parsers) {
+        if (parsers.size() == 1) {
+            return parsers.get(0);
+        }
+        for (CredentialParser<T> each : parsers) {
+            if (!(each instanceof CredentialRangeParser)) {
+                return CompiledChains.parser(parsers.toArray(new CredentialParser[0]));
+            }
+        }
+        return CompiledChains.rangeParser(parsers.toArray(new CredentialRangeParser[0]));
     }
 
     /**
@@ -61,13 +127,111 @@ public abstract class CredentialProcessor<T extends CredentialInfo> {
      * @return 校验结果
      */
     private ValidationResult internalValidate(String normalizedCredential) {
-        for (CredentialValidator validator : validators) {
-            ValidationResult result = validator.validate(normalizedCredential);
-            if (!result.isValid()) {
-                return result;
+        ValidationContext context = ValidationContext.current();
+        try {
+            return validateInContext(context, normalizedCredential, 0, normalizedCredential.length());
+        } finally {
+            context.end();
+        }
+    }
+
+    /**
+     * 内部校验并解析方法
+     *
+     * @param normalizedCredential 规格化后的证件
+     * @return 解析结果
+     */
+    private ParseResult<T> internalValidateAndParse(String normalizedCredential) {
+        ValidationContext context = ValidationContext.current();
+        try {
+            ValidationResult validationResult = validateInContext(context, normalizedCredential, 0, normalizedCredential.length());
+            if (!validationResult.isValid()) {
+                return ParseResult.failure(validationResult);
             }
+            return ParseResult.success(parseInContext(context, normalizedCredential, 0, normalizedCredential.length()));
+        } finally {
+            context.end();
+        }
+    }
+
+    /**
+     * 打开校验上下文并执行校验链
+     * <p>
+     * 上下文保持打开，由调用方在解析后或直接在finally中{@link ValidationContext#end()}关闭。
+     * </p>
+     *
+     * @param context    当前线程的校验上下文
+     * @param credential 字符序列（校验链不是区间实现时为整串规格化后的证件）
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 校验结果
+     */
+    private ValidationResult validateInContext(ValidationContext context, CharSequence credential, int offset, int length) {
+        context.begin(this, credential, offset, length);
+        if (rangeValidator != null) {
+            return rangeValidator.validate(credential, offset, length);
         }
-        return ValidationResult.success();
+        return validator.validate(credential.toString());
+    }
+
+    /**
+     * 只判断是否通过校验（快速路径，不关心错误码）
+     *
+     * @param normalizedCredential 规格化后的证件
+     * @return 是否通过
+     */
+    private boolean internalIsValid(String normalizedCredential) {
+        return isValidInContext(normalizedCredential, 0, normalizedCredential.length());
+    }
+
+    /**
+     * 在校验上下文中只判断是否通过校验
+     * <p>
+     * 快速路径不写入上下文，但未覆写快速路径的校验器会回退到完整校验，仍需占用上下文，
+     * 以免写入嵌套调用的外层处理器的字段。
+     * </p>
+     *
+     * @param credential 字符序列（校验链不是区间实现时为整串规格化后的证件）
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否通过
+     */
+    private boolean isValidInContext(CharSequence credential, int offset, int length) {
+        ValidationContext context = ValidationContext.current();
+        context.begin(this, credential, offset, length);
+        try {
+            return rangeValidator != null
+                    ? rangeValidator.isValid(credential, offset, length)
+                    : validator.isValid(credential.toString());
+        } finally {
+            context.end();
+        }
+    }
+
+    /**
+     * 在校验上下文中执行解析链
+     * <p>
+     * 上下文已不属于本处理器对本区间的校验（中间嵌套调用过其他处理器，或未经校验直接解析）时先清空，
+     * 解析器回退到自行解码。上下文由调用方在finally中关闭。
+     * </p>
+     *
+     * @param context    当前线程的校验上下文
+     * @param credential 字符序列（解析链不是区间实现时为整串规格化后的证件）
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 证件信息
+     */
+    private T parseInContext(ValidationContext context, CharSequence credential, int offset, int length) {
+        if (!context.isOpenFor(this, credential, offset, length)) {
+            context.clear();
+        }
+        T info = createInfo();
+        if (rangeParser != null) {
+            rangeParser.parse(credential, offset, length, info);
+        } else {
+            parser.parse(credential.toString(), info);
+        }
+        return info;
     }
 
     /**
@@ -80,6 +244,100 @@ public abstract class CredentialProcessor<T extends CredentialInfo> {
         return internalValidate(normalize(credential));
     }
 
+    /**
+     * 校验已规格化的证件并返回详细结果
+     * <p>
+     * 两阶段校验的第二阶段：调用方已按本处理器的规格化规则处理过输入
+     * （{@link #usesDefaultNormalization()}为true时即{@link #defaultNormalize(String)}的结果），
+     * 本方法不再重复规格化。注册中心智能识别时对同一输入只规格化一次，再分发给各处理器。
+     * </p>
+     *
+     * @param normalizedCredential 规格化后的证件号码
+     * @return 校验结果
+     * @throws NullPointerException 如果normalizedCredential为null
+     */
+    public ValidationResult validateNormalized(String normalizedCredential) {
+        return internalValidate(Objects.requireNonNull(normalizedCredential, "规格化后的证件号码是空"));
+    }
+
+    /**
+     * 判断证件是否通过校验
+     * <p>
+     * 只需要是否通过、不读取错误码的调用方使用的快速路径，结果与{@code validate(credential).isValid()}一致。
+     * 不构建校验结果，内置处理器按开销从低到高执行检查（先格式和校验位，后日期和地区查找），
+     * 大量输入不合法时（如风控预过滤）比{@link #validate(String)}更早拒绝。
+     * {@link #usesDefaultNormalization()}返回false的子类按其自身的{@link #validate(String)}判定。
+     * </p>
+     *
+     * @param credential 证件号码（允许为null，规格化后为空字符串，必然不通过）
+     * @return 是否通过
+     */
+    public boolean isValid(String credential) {
+        if (!usesDefaultNormalization()) {
+            return validate(credential).isValid();
+        }
+        return isValidNormalized(normalize(credential));
+    }
+
+    /**
+     * 判断已规格化的证件是否通过校验
+     * <p>
+     * 同{@link #isValid(String)}，调用方已按本处理器的规格化规则处理过输入，本方法不再重复规格化。
+     * 直接执行校验链，不经过{@link #validateNormalized(String)}：覆写了{@code validateNormalized}的子类须同时覆写本方法，
+     * 保证两者结论一致。
+     * </p>
+     *
+     * @param normalizedCredential 规格化后的证件号码
+     * @return 是否通过
+     * @throws NullPointerException 如果normalizedCredential为null
+     */
+    public boolean isValidNormalized(String normalizedCredential) {
+        return internalIsValid(Objects.requireNonNull(normalizedCredential, "规格化后的证件号码是空"));
+    }
+
+    /**
+     * 判断字符序列区间内的证件是否通过校验
+     * <p>
+     * 与{@link #isValid(String)}结果一致，窗口原地处理的条件同{@link #validate(CharSequence, int, int)}。
+     * 不经过{@link #validate(CharSequence, int, int)}：覆写了区间校验入口的子类须同时覆写本方法。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否通过
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public boolean isValid(CharSequence credential, int offset, int length) {
+        checkRange(credential, offset, length);
+        if (rangeValidator != null && usesDefaultNormalization()) {
+            int start = trimStart(credential, offset, offset + length);
+            int end = trimEnd(credential, start, offset + length);
+            if (isUpperAscii(credential, start, end)) {
+                return isValidInContext(credential, start, end - start);
+            }
+        }
+        return isValid(credential.subSequence(offset, offset + length).toString());
+    }
+
+    /**
+     * 是否使用默认规格化
+     * <p>
+     * 返回true表示{@link #normalize(String)}与{@link #defaultNormalize(String)}等价，
+     * 注册中心可以共享一次规格化的结果并调用{@link #validateNormalized(String)}，
+     * 处理器自身的快速路径（{@link #isValid(String)}、区间入口）也直接在默认规格化的结果上校验；
+     * 返回false的处理器一律走{@link #validate(String)}自行规格化。
+     * 默认返回true。覆写了{@code normalize}或{@code validate(String)}的子类须覆写本方法返回false；
+     * 返回值须为常量，注册中心在注册时读取一次。
+     * </p>
+     *
+     * @return 是否使用默认规格化
+     */
+    public boolean usesDefaultNormalization() {
+        return true;
+    }
+
     /**
      * 解析证件
      *
@@ -88,15 +346,218 @@ public abstract class CredentialProcessor<T extends CredentialInfo> {
      */
     public Optional<T> parse(String credential) {
         String normalizedCredential = normalize(credential);
-        ValidationResult validationResult = internalValidate(normalizedCredential);
-        if (!validationResult.isValid()) {
-            return Optional.empty();
+        ValidationContext context = ValidationContext.current();
+        try {
+            if (!validateInContext(context, normalizedCredential, 0, normalizedCredential.length()).isValid()) {
+                return Optional.empty();
+            }
+            return Optional.of(parseInContext(context, normalizedCredential, 0, normalizedCredential.length()));
+        } finally {
+            context.end();
         }
-        T info = createInfo();
-        for (CredentialParser<T> parser : parsers) {
-            parser.parse(normalizedCredential, info);
+    }
+
+    /**
+     * 校验并解析证件
+     * <p>
+     * 校验链只执行一次：失败时返回携带错误码的缓存结果（与{@link #validate(String)}的错误码一致，不分配对象），
+     * 成功时返回携带证件信息的结果（与{@link #parse(String)}的信息一致）。
+     * </p>
+     *
+     * @param credential 证件号码（允许为null，规格化后为空字符串，校验必然失败）
+     * @return 解析结果
+     */
+    public ParseResult<T> validateAndParse(String credential) {
+        return internalValidateAndParse(normalize(credential));
+    }
+
+    /**
+     * 校验并解析已规格化的证件
+     * <p>
+     * 与{@link #validateNormalized(String)}相同，调用方已按本处理器的规格化规则处理过输入，本方法不再重复规格化。
+     * </p>
+     *
+     * @param normalizedCredential 规格化后的证件号码
+     * @return 解析结果
+     * @throws NullPointerException 如果normalizedCredential为null
+     */
+    public ParseResult<T> validateAndParseNormalized(String normalizedCredential) {
+        return internalValidateAndParse(Objects.requireNonNull(normalizedCredential, "规格化后的证件号码是空"));
+    }
+
+    /**
+     * 解析已规格化且已校验通过的证件
+     * <p>
+     * 不执行校验链，供已经得到校验结论的包内调用方复用该结论（注册中心经
+     * {@link ResidentIdFamily#parse(CredentialProcessor, String, int)}复用18位身份号码族的一次性判定）。
+     * 调用方须保证输入已按本处理器的规格化规则处理，且{@link #validateNormalized(String)}对其校验通过，
+     * 否则解析结果未定义，因此不对外公开。
+     * </p>
+     *
+     * @param normalizedCredential 规格化并校验通过的证件号码
+     * @return 证件信息
+     * @throws NullPointerException 如果normalizedCredential为null
+     */
+    T parseValidated(String normalizedCredential) {
+        Objects.requireNonNull(normalizedCredential, "规格化后的证件号码是空");
+        ValidationContext context = ValidationContext.current();
+        try {
+            return parseInContext(context, normalizedCredential, 0, normalizedCredential.length());
+        } finally {
+            context.end();
+        }
+    }
+
+    /**
+     * 校验字符序列区间内的证件并返回详细结果
+     * <p>
+     * 与{@link #validate(String)}结果一致。使用默认规格化且全部校验器为区间实现时，
+     * 去除首尾空白后不含小写字母和非ASCII字符的窗口直接原地校验，不创建字符串；
+     * 其余情况截取窗口后走{@link #validate(String)}。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 校验结果
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public ValidationResult validate(CharSequence credential, int offset, int length) {
+        checkRange(credential, offset, length);
+        if (rangeValidator != null && usesDefaultNormalization()) {
+            int start = trimStart(credential, offset, offset + length);
+            int end = trimEnd(credential, start, offset + length);
+            if (isUpperAscii(credential, start, end)) {
+                ValidationContext context = ValidationContext.current();
+                try {
+                    return validateInContext(context, credential, start, end - start);
+                } finally {
+                    context.end();
+                }
+            }
+        }
+        return validate(credential.subSequence(offset, offset + length).toString());
+    }
+
+    /**
+     * 解析字符序列区间内的证件
+     * <p>
+     * 与{@link #parse(String)}结果一致，窗口原地处理的条件同{@link #validate(CharSequence, int, int)}，
+     * 且要求全部解析器为区间实现。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 解析后的证件信息，如果校验失败则返回Optional.empty()
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public Optional<T> parse(CharSequence credential, int offset, int length) {
+        return validateAndParse(credential, offset, length).getInfo();
+    }
+
+    /**
+     * 校验并解析字符序列区间内的证件
+     * <p>
+     * 与{@link #validateAndParse(String)}结果一致，窗口原地处理的条件同{@link #parse(CharSequence, int, int)}。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 解析结果
+     * @throws NullPointerException      如果credential为null
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public ParseResult<T> validateAndParse(CharSequence credential, int offset, int length) {
+        checkRange(credential, offset, length);
+        if (rangeValidator != null && rangeParser != null && usesDefaultNormalization()) {
+            int start = trimStart(credential, offset, offset + length);
+            int end = trimEnd(credential, start, offset + length);
+            if (isUpperAscii(credential, start, end)) {
+                ValidationContext context = ValidationContext.current();
+                try {
+                    ValidationResult validationResult = validateInContext(context, credential, start, end - start);
+                    if (!validationResult.isValid()) {
+                        return ParseResult.failure(validationResult);
+                    }
+                    return ParseResult.success(parseInContext(context, credential, start, end - start));
+                } finally {
+                    context.end();
+                }
+            }
+        }
+        return validateAndParse(credential.subSequence(offset, offset + length).toString());
+    }
+
+    /**
+     * 检查区间参数
+     *
+     * @param credential 字符序列
+     * @param offset     起始位置
+     * @param length     长度
+     */
+    private static void checkRange(CharSequence credential, int offset, int length) {
+        Objects.requireNonNull(credential, "证件号码是空");
+        if (offset < 0 || length < 0 || offset > credential.length() - length) {
+            throw new IndexOutOfBoundsException("区间越界，offset=" + offset + "，length=" + length + "，字符序列长度=" + credential.length());
+        }
+    }
+
+    /**
+     * 跳过区间开头的空白（与{@link String#trim()}相同，码点不大于空格的字符视为空白）
+     *
+     * @param credential 字符序列
+     * @param start      起始位置（含）
+     * @param end        结束位置（不含）
+     * @return 第一个非空白字符的位置，全为空白时返回end
+     */
+    private static int trimStart(CharSequence credential, int start, int end) {
+        while (start < end && credential.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * 跳过区间末尾的空白（与{@link String#trim()}相同，码点不大于空格的字符视为空白）
+     *
+     * @param credential 字符序列
+     * @param start      起始位置（含）
+     * @param end        结束位置（不含）
+     * @return 最后一个非空白字符之后的位置，全为空白时返回start
+     */
+    private static int trimEnd(CharSequence credential, int start, int end) {
+        while (end > start && credential.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 判断区间是否无需再做大写转换（不含小写字母和非ASCII字符）
+     * <p>
+     * {@link AsciiCharSequence}每次判断8个字节。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param start      起始位置（含）
+     * @param end        结束位置（不含）
+     * @return 是否无需转换
+     */
+    private static boolean isUpperAscii(CharSequence credential, int start, int end) {
+        if (credential instanceof AsciiCharSequence) {
+            return ((AsciiCharSequence) credential).isUpperAscii(start, end);
+        }
+        for (int i = start; i < end; i++) {
+            char c = credential.charAt(i);
+            if (c >= 0x80 || (c >= 'a' && c <= 'z')) {
+                return false;
+            }
         }
-        return Optional.of(info);
+        return true;
     }
 
     /**
@@ -104,16 +565,73 @@ public abstract class CredentialProcessor<T extends CredentialInfo> {
      * <p>
      * 使用{@link Locale#ROOT}做大写转换，避免默认区域（如土耳其语locale下i会转为İ）
      * 导致规格化结果与预期不符。
+     * 子类覆写本方法时须同时覆写{@link #usesDefaultNormalization()}返回false。
      * </p>
      *
      * @param credential 证件号码
      * @return 规格化后的证件号码（去除首尾空格、转大写），如果输入为null则返回空字符串
      */
     protected String normalize(String credential) {
+        return defaultNormalize(credential);
+    }
+
+    /**
+     * 默认规格化（去除首尾空格、转大写）
+     * <p>
+     * ASCII快速路径：输入已去除首尾空格且不含小写字母时直接返回原实例；
+     * 需要处理时一次性生成结果，不产生中间字符串。
+     * 含非ASCII字符时使用{@link String#trim()}和{@link Locale#ROOT}大写转换。
+     * </p>
+     *
+     * @param credential 证件号码
+     * @return 规格化后的证件号码，如果输入为null则返回空字符串
+     */
+    public static String defaultNormalize(String credential) {
         if (credential == null) {
             return "";
         }
-        return credential.trim().toUpperCase(Locale.ROOT);
+        int start = 0;
+        int end = credential.length();
+        while (start < end && credential.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && credential.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        boolean hasLowerCase = false;
+        for (int i = start; i < end; i++) {
+            char c = credential.charAt(i);
+            if (c >= 0x80) {
+                return credential.trim().toUpperCase(Locale.ROOT);
+            }
+            if (c >= 'a' && c <= 'z') {
+                hasLowerCase = true;
+            }
+        }
+        if (!hasLowerCase) {
+            return start == 0 && end == credential.length() ? credential : credential.substring(start, end);
+        }
+        char[] chars = new char[end - start];
+        for (int i = start; i < end; i++) {
+            char c = credential.charAt(i);
+            chars[i - start] = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 获取证件形状
+     * <p>
+     * 注册中心智能识别时按形状预过滤处理器，形状不匹配的输入不会进入完整校验。
+     * 子类（含SPI处理器）可覆写以声明形状，形状必须是校验通过的必要条件；
+     * 默认返回{@link CredentialShape#ANY}，即不参与预过滤。
+     * 形状针对默认规格化后的输入，{@link #usesDefaultNormalization()}返回false时注册中心不使用形状。
+     * </p>
+     *
+     * @return 证件形状
+     */
+    public CredentialShape getShape() {
+        return CredentialShape.ANY;
     }
 
     /**
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+
+/**
+ * 区间证件解析器
+ * <p>
+ * 在{@link CharSequence}的[offset, offset + length)窗口上解析，字段位置相对于offset计算。
+ * {@link #parse(String, CredentialInfo)}是面向整串的适配，实现者只需实现区间方法。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+@FunctionalInterface
+public interface CredentialRangeParser<T extends CredentialInfo> extends CredentialParser<T> {
+
+    /**
+     * 解析区间内的证件
+     *
+     * @param credential 字符序列（区间内已规格化并校验通过）
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @param info       信息
+     */
+    void parse(CharSequence credential, int offset, int length, T info);
+
+    /**
+     * 解析整串证件
+     *
+     * @param credential 证件
+     * @param info       信息
+     */
+    @Override
+    default void parse(String credential, T info) {
+        parse(credential, 0, credential.length(), info);
+    }
+}
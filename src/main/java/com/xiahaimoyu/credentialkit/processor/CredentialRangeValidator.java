@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+/**
+ * 区间证件校验器
+ * <p>
+ * 在{@link CharSequence}的[offset, offset + length)窗口上校验，字段位置相对于offset计算，
+ * 配合{@code CheckDigitUtil}、{@code DateUtil}、{@code RegionUtil}的区间重载可以不创建任何中间字符串。
+ * {@link #validate(String)}和{@link #isValid(String)}是面向整串的适配，实现者只需实现区间方法。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+@FunctionalInterface
+public interface CredentialRangeValidator extends CredentialValidator {
+
+    /**
+     * 校验区间内的证件
+     *
+     * @param credential 字符序列（区间内已规格化）
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 校验结果
+     */
+    ValidationResult validate(CharSequence credential, int offset, int length);
+
+    /**
+     * 校验整串证件
+     *
+     * @param credential 证件
+     * @return 校验结果
+     */
+    @Override
+    default ValidationResult validate(String credential) {
+        return validate(credential, 0, credential.length());
+    }
+
+    /**
+     * 判断区间内的证件是否通过校验
+     * <p>
+     * 结果必须与{@code validate(credential, offset, length).isValid()}一致，实现可以按开销调整检查顺序，
+     * 见{@link CredentialValidator#isValid(String)}。
+     * </p>
+     *
+     * @param credential 字符序列（区间内已规格化）
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否通过
+     */
+    default boolean isValid(CharSequence credential, int offset, int length) {
+        return validate(credential, offset, length).isValid();
+    }
+
+    /**
+     * 判断整串证件是否通过校验
+     *
+     * @param credential 证件
+     * @return 是否通过
+     */
+    @Override
+    default boolean isValid(String credential) {
+        return isValid(credential, 0, credential.length());
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 证件形状
+ * <p>
+ * 描述处理器可能接受的规格化输入的廉价特征：长度、首字符类别、全部字符的类别集合。
+ * 注册中心在智能识别时先按形状过滤，只对可能匹配的处理器执行完整校验。
+ * </p>
+ * <p>
+ * 形状必须是处理器校验通过的<b>必要条件</b>：任何能通过校验的输入都必须满足形状，
+ * 否则该输入在智能识别中会被漏判。无法确定时使用{@link #ANY}（不过滤）。
+ * 形状针对默认规格化（去除首尾空格、转大写）后的输入计算，只对
+ * {@link CredentialProcessor#usesDefaultNormalization()}为true的处理器生效；
+ * 自行规格化的处理器（包括继承了内置处理器形状的子类）不参与形状过滤，每次识别都执行完整校验。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class CredentialShape {
+
+    /**
+     * 字符类别：数字（0-9）
+     */
+    public static final int DIGIT = 1;
+
+    /**
+     * 字符类别：大写字母（A-Z）
+     */
+    public static final int LETTER = 1 << 1;
+
+    /**
+     * 字符类别：机读码填充符（&lt;）
+     */
+    public static final int FILLER = 1 << 2;
+
+    /**
+     * 字符类别：其他字符（含非ASCII字符）
+     */
+    public static final int OTHER = 1 << 3;
+
+    /**
+     * 全部字符类别
+     */
+    private static final int ALL_CLASSES = DIGIT | LETTER | FILLER | OTHER;
+
+    /**
+     * 任意形状（不过滤）
+     */
+    public static final CredentialShape ANY = new CredentialShape(null, ALL_CLASSES, ALL_CLASSES);
+
+    /**
+     * 允许的长度位图（null表示任意长度）
+     */
+    private final long[] lengthBits;
+
+    /**
+     * 允许的首字符类别
+     */
+    private final int firstCharClasses;
+
+    /**
+     * 允许的字符类别
+     */
+    private final int charClasses;
+
+    private CredentialShape(long[] lengthBits, int firstCharClasses, int charClasses) {
+        this.lengthBits = lengthBits;
+        this.firstCharClasses = firstCharClasses;
+        this.charClasses = charClasses;
+    }
+
+    /**
+     * 创建形状构建器
+     *
+     * @return 形状构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 获取字符的类别
+     * <p>
+     * 小写ASCII字母按大写字母计（规格化会转大写）。
+     * </p>
+     *
+     * @param c 字符
+     * @return 字符类别
+     */
+    public static int classOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return DIGIT;
+        }
+        if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+            return LETTER;
+        }
+        if (c == '<') {
+            return FILLER;
+        }
+        return OTHER;
+    }
+
+    /**
+     * 计算区间内字符类别的并集
+     * <p>
+     * {@link AsciiCharSequence}每次判断8个字节，其他字符序列逐字符调用{@link #classOf(char)}。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     起始位置
+     * @param length     长度
+     * @return 字符类别并集
+     */
+    public static int classesOf(CharSequence credential, int offset, int length) {
+        if (credential instanceof AsciiCharSequence) {
+            return ((AsciiCharSequence) credential).charClasses(offset, offset + length);
+        }
+        int classes = 0;
+        for (int i = offset; i < offset + length; i++) {
+            classes |= classOf(credential.charAt(i));
+        }
+        return classes;
+    }
+
+    /**
+     * 是否限制长度
+     *
+     * @return 如果只允许特定长度则返回true
+     */
+    public boolean hasLengthConstraint() {
+        return lengthBits != null;
+    }
+
+    /**
+     * 获取允许的最大长度
+     *
+     * @return 允许的最大长度；不限制长度时返回-1
+     */
+    public int getMaxLength() {
+        if (lengthBits == null) {
+            return -1;
+        }
+        for (int word = lengthBits.length - 1; word >= 0; word--) {
+            if (lengthBits[word] != 0) {
+                return (word << 6) + 63 - Long.numberOfLeadingZeros(lengthBits[word]);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 是否允许该长度
+     *
+     * @param length 规格化后的长度
+     * @return 是否允许
+     */
+    public boolean allowsLength(int length) {
+        if (lengthBits == null) {
+            return true;
+        }
+        int word = length >>> 6;
+        return word < lengthBits.length && (lengthBits[word] & (1L << length)) != 0;
+    }
+
+    /**
+     * 是否允许该字符特征
+     *
+     * @param firstCharClass 首字符类别（空输入为0）
+     * @param charClassMask  全部字符类别的并集
+     * @return 是否允许
+     */
+    public boolean allowsClasses(int firstCharClass, int charClassMask) {
+        return (firstCharClass == 0 || (firstCharClasses & firstCharClass) != 0)
+                && (charClassMask & ~charClasses) == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CredentialShape that = (CredentialShape) o;
+        return firstCharClasses == that.firstCharClasses
+                && charClasses == that.charClasses
+                && Arrays.equals(lengthBits, that.lengthBits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(lengthBits), firstCharClasses, charClasses);
+    }
+
+    @Override
+    public String toString() {
+        return "CredentialShape{" +
+                "maxLength=" + getMaxLength() +
+                ", firstCharClasses=" + firstCharClasses +
+                ", charClasses=" + charClasses +
+                '}';
+    }
+
+    /**
+     * 形状构建器
+     */
+    public static final class Builder {
+
+        private long[] lengthBits;
+
+        private int firstCharClasses = ALL_CLASSES;
+
+        private int charClasses = ALL_CLASSES;
+
+        private Builder() {
+        }
+
+        /**
+         * 允许的长度（可多次调用累加）
+         *
+         * @param lengths 长度
+         * @return 构建器
+         * @throws IllegalArgumentException 如果长度为负数
+         */
+        public Builder lengths(int... lengths) {
+            for (int length : lengths) {
+                if (length < 0) {
+                    throw new IllegalArgumentException("长度不能为负数: " + length);
+                }
+                int word = length >>> 6;
+                if (lengthBits == null) {
+                    lengthBits = new long[word + 1];
+                } else if (word >= lengthBits.length) {
+                    lengthBits = Arrays.copyOf(lengthBits, word + 1);
+                }
+                lengthBits[word] |= 1L << length;
+            }
+            return this;
+        }
+
+        /**
+         * 允许的首字符类别
+         *
+         * @param classes 字符类别（{@link #DIGIT}、{@link #LETTER}等按位或）
+         * @return 构建器
+         */
+        public Builder firstChar(int classes) {
+            this.firstCharClasses = classes & ALL_CLASSES;
+            return this;
+        }
+
+        /**
+         * 允许的字符类别（全部字符）
+         *
+         * @param classes 字符类别（{@link #DIGIT}、{@link #LETTER}等按位或）
+         * @return 构建器
+         */
+        public Builder chars(int classes) {
+            this.charClasses = classes & ALL_CLASSES;
+            return this;
+        }
+
+        /**
+         * 构建形状
+         *
+         * @return 形状
+         */
+        public CredentialShape build() {
+            return new CredentialShape(lengthBits == null ? null : lengthBits.clone(), firstCharClasses, charClasses);
+        }
+    }
+}
@@ -5,6 +5,10 @@ package com.xiahaimoyu.credentialkit.processor;
 
 /**
  * 证件校验器
+ * <p>
+ * 面向整串的校验契约，适合SPI处理器直接以lambda实现；
+ * 需要在字符序列区间上原地校验时实现{@link CredentialRangeValidator}。
+ * </p>
  *
  * @author Howard.Li
  */
@@ -18,4 +22,19 @@ public interface CredentialValidator {
      * @return 校验结果
      */
     ValidationResult validate(String credential);
+
+    /**
+     * 判断是否通过校验
+     * <p>
+     * 只关心是否通过、不关心错误码的快速路径，结果必须与{@code validate(credential).isValid()}一致。
+     * 错误码优先级在此不再重要，实现可以先执行开销最低、最容易拒绝的检查（如长度、校验位），
+     * 再执行日期、地区查找等开销较高的检查。
+     * </p>
+     *
+     * @param credential 证件
+     * @return 是否通过
+     */
+    default boolean isValid(String credential) {
+        return validate(credential).isValid();
+    }
 }
@@ -3,24 +3,22 @@
  */
 package com.xiahaimoyu.credentialkit.processor;
 
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.Gender;
+import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.ForeignerPermanentResidenceIdInfo;
-import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
 import com.xiahaimoyu.credentialkit.util.DateUtil;
 import com.xiahaimoyu.credentialkit.util.RegionUtil;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 外国人永久居留身份证处理器
  * <p>
  * 支持两种版本：
  * - 15位版本：3位国籍码 + 4位地区码 + 6位生日 + 1位性别 + 1位校验位
- * - 18位版本：1位类型码(9) + 2位地区码 + 3位国籍数字码 + 8位生日 + 3位顺序码 + 1位校验位
+ * - 18位版本：1位类型码(9) + 2位地区码 + 3位国籍数字码 + 8位生日 + 3位顺序码 + 1位校验位，由{@link ResidentIdFamily}校验
  * </p>
  *
  * @author Howard.Li
@@ -28,48 +26,41 @@ import java.util.regex.Pattern;
 public class ForeignerPermanentResidenceIdProcessor extends CredentialProcessor<ForeignerPermanentResidenceIdInfo> {
 
     /**
-     * 15位格式正则：3位字母 + 12位数字
+     * 15位版式：3位国籍码 + 4位地区码 + 6位生日（19xx或20xx年） + 1位性别 + 1位机读码校验位
      */
-    private static final Pattern PATTERN_15 = Pattern.compile("^[A-Z]{3}\\d{12}$");
+    private static final CredentialLayout LAYOUT_15 = CredentialLayout.builder(15)
+            .chars(0, 3, CredentialLayout.LETTERS)
+            .chars(3, 12, CredentialLayout.DIGITS)
+            .internationalRegionByAlpha3(0)
+            .domesticRegion(3, 4)
+            .shortBirthDate(7, 19, 20)
+            .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 14, 0, 14)
+            .build();
 
     /**
-     * 18位格式正则：9开头 + 16位数字/字母 + 校验位
+     * 证件形状（15位字母开头或18位数字开头）
      */
-    private static final Pattern PATTERN_18 = Pattern.compile("^9\\d{16}[0-9X]$");
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(15, 18)
+            .firstChar(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .build();
 
     /**
      * 构造器
      */
     public ForeignerPermanentResidenceIdProcessor() {
         super(
-                Arrays.asList(
-                        // 基本格式校验（null规格化后为空字符串，两个格式必然都不匹配）
-                        credential -> {
-                            if (credential.length() == 15 && PATTERN_15.matcher(credential).matches()) {
-                                return ValidationResult.success();
-                            }
-                            if (credential.length() == 18 && PATTERN_18.matcher(credential).matches()) {
-                                return ValidationResult.success();
-                            }
-                            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                        },
-                        // 版本特定校验
-                        credential -> {
-                            if (credential.length() == 15) {
-                                return validate15Bit(credential);
-                            }
-                            if (credential.length() == 18) {
-                                return validate18Bit(credential);
-                            }
-                            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                        }
-                ),
+                // 15位由版式校验：格式、国籍、地区、生日、校验位；18位由18位身份号码族引擎单遍校验
+                // （null规格化后为空字符串，两个版本必然都不匹配）
                 Collections.singletonList(
-                        (credential, info) -> {
-                            if (credential.length() == 15) {
-                                parse15Bit(credential, info);
+                        ResidentIdFamily.validator(ResidentIdFamily.FOREIGNER_PERMANENT_RESIDENCE_ID, LAYOUT_15)),
+                Collections.<CredentialRangeParser<ForeignerPermanentResidenceIdInfo>>singletonList(
+                        (credential, offset, length, info) -> {
+                            if (length == 15) {
+                                parse15Bit(credential, offset, info);
                             } else {
-                                parse18Bit(credential, info);
+                                parse18Bit(credential, offset, info);
                             }
                         }
                 )
@@ -86,206 +77,57 @@ public class ForeignerPermanentResidenceIdProcessor extends CredentialProcessor<
         return new ForeignerPermanentResidenceIdInfo();
     }
 
-    // ==================== 15位版本校验与解析 ====================
-
-    /**
-     * 校验15位版本
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate15Bit(String credential) {
-        // 校验国籍
-        ValidationResult result = validate15BitNationality(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        // 校验地区
-        result = validate15BitRegion(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        // 校验生日
-        result = validate15BitBirthDate(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        // 校验校验位
-        result = validate15BitCheckDigit(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        return ValidationResult.success();
-    }
-
-    /**
-     * 校验15位版本的国籍码
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate15BitNationality(String credential) {
-        String nationalityCode = credential.substring(0, 3);
-        if (RegionUtil.getInternationalRegionInfoByAlpha3(nationalityCode) == null) {
-            return ValidationResult.failure(ErrorCode.REGION_ERROR);
-        }
-        return ValidationResult.success();
-    }
-
     /**
-     * 校验15位版本的地区码
+     * 获取证件形状
      *
-     * @param credential 证件号码
-     * @return 校验结果
+     * @return 证件形状
      */
-    private static ValidationResult validate15BitRegion(String credential) {
-        String regionCode = credential.substring(3, 7) + "00";
-        if (RegionUtil.getDomesticRegionInfoByCode(regionCode) == null) {
-            return ValidationResult.failure(ErrorCode.REGION_ERROR);
-        }
-        return ValidationResult.success();
-    }
-
-    /**
-     * 校验15位版本的生日
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate15BitBirthDate(String credential) {
-        String birthDate = credential.substring(7, 13);
-        if (!DateUtil.validDateBeforeNow("19" + birthDate) && !DateUtil.validDateBeforeNow("20" + birthDate)) {
-            return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
-        }
-        return ValidationResult.success();
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
     }
 
-    /**
-     * 校验15位版本的校验位
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate15BitCheckDigit(String credential) {
-        char expectedDigit = CheckDigitUtil.getMachineReadablePassportCheckDigit(credential.substring(0, 14));
-        if (expectedDigit != credential.charAt(14)) {
-            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-        }
-        return ValidationResult.success();
-    }
+    // ==================== 15位版本解析 ====================
 
     /**
-     * 解析15位版本
+     * 解析15位版本（校验时已查到的国籍、地区和补全世纪的生日直接取用）
      *
-     * @param credential 证件号码
+     * @param credential 字符序列
+     * @param offset     证件起始位置
      * @param info       信息对象
      */
-    private static void parse15Bit(String credential, ForeignerPermanentResidenceIdInfo info) {
-        info.setInternationalRegionInfo(RegionUtil.getInternationalRegionInfoByAlpha3(credential.substring(0, 3)));
-        info.setDomesticRegionInfo(RegionUtil.getDomesticRegionInfoByCode(credential.substring(3, 7) + "00"));
-        String yyBirthDate = credential.substring(7, 13);
-        info.setBirthDate(DateUtil.toFullYearDate(yyBirthDate));
-        info.setGender(Gender.fromDigit(credential.charAt(13) - '0'));
+    private static void parse15Bit(CharSequence credential, int offset, ForeignerPermanentResidenceIdInfo info) {
+        ValidationContext context = ValidationContext.current();
+        InternationalRegionInfo nationality = context.getInternationalRegion();
+        DomesticRegionInfo region = context.getDomesticRegion();
+        int birthDate = context.getBirthDate();
+        info.setInternationalRegionInfo(nationality != null
+                ? nationality : RegionUtil.getInternationalRegionInfoByAlpha3(credential, offset));
+        info.setDomesticRegionInfo(region != null ? region : RegionUtil.getDomesticRegionInfoByCode(credential, offset + 3, 4));
+        info.setBirthDate(birthDate != ValidationContext.NO_DATE
+                ? DateUtil.formatDate(birthDate) : DateUtil.toFullYearDate(credential.subSequence(offset + 7, offset + 13).toString()));
+        info.setGender(Gender.fromDigit(credential.charAt(offset + 13) - '0'));
     }
 
-    // ==================== 18位版本校验与解析 ====================
-
-    /**
-     * 校验18位版本
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate18Bit(String credential) {
-        // 校验地区
-        ValidationResult result = validate18BitRegion(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        // 校验国籍
-        result = validate18BitNationality(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        // 校验生日
-        result = validate18BitBirthDate(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        // 校验校验位
-        result = validate18BitCheckDigit(credential);
-        if (!result.isValid()) {
-            return result;
-        }
-        return ValidationResult.success();
-    }
-
-    /**
-     * 校验18位版本的地区码
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate18BitRegion(String credential) {
-        String regionCode = credential.substring(1, 3) + "0000";
-        if (RegionUtil.getDomesticRegionInfoByCode(regionCode) == null) {
-            return ValidationResult.failure(ErrorCode.REGION_ERROR);
-        }
-        return ValidationResult.success();
-    }
-
-    /**
-     * 校验18位版本的国籍数字码
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate18BitNationality(String credential) {
-        String nationalityCode = credential.substring(3, 6);
-        if (RegionUtil.getInternationalRegionInfoByNumeric(nationalityCode) == null) {
-            return ValidationResult.failure(ErrorCode.REGION_ERROR);
-        }
-        return ValidationResult.success();
-    }
-
-    /**
-     * 校验18位版本的生日
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate18BitBirthDate(String credential) {
-        String birthDate = credential.substring(6, 14);
-        if (!DateUtil.validDateBeforeNow(birthDate)) {
-            return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
-        }
-        return ValidationResult.success();
-    }
-
-    /**
-     * 校验18位版本的校验位
-     *
-     * @param credential 证件号码
-     * @return 校验结果
-     */
-    private static ValidationResult validate18BitCheckDigit(String credential) {
-        char expectedDigit = CheckDigitUtil.getIdCardCheckDigit(credential.substring(0, 17));
-        if (expectedDigit != credential.charAt(17)) {
-            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-        }
-        return ValidationResult.success();
-    }
+    // ==================== 18位版本解析 ====================
 
     /**
-     * 解析18位版本
+     * 解析18位版本（校验时已查到的地区、国籍和生日直接取用）
      *
-     * @param credential 证件号码
+     * @param credential 字符序列
+     * @param offset     证件起始位置
      * @param info       信息对象
      */
-    private static void parse18Bit(String credential, ForeignerPermanentResidenceIdInfo info) {
-        info.setDomesticRegionInfo(RegionUtil.getDomesticRegionInfoByCode(credential.substring(1, 3) + "0000"));
-        info.setInternationalRegionInfo(RegionUtil.getInternationalRegionInfoByNumeric(credential.substring(3, 6)));
-        info.setBirthDate(credential.substring(6, 14));
-        info.setGender(Gender.fromDigit(credential.charAt(16) - '0'));
+    private static void parse18Bit(CharSequence credential, int offset, ForeignerPermanentResidenceIdInfo info) {
+        ValidationContext context = ValidationContext.current();
+        DomesticRegionInfo region = context.getDomesticRegion();
+        InternationalRegionInfo nationality = context.getInternationalRegion();
+        int birthDate = context.getBirthDate();
+        info.setDomesticRegionInfo(region != null ? region : RegionUtil.getDomesticRegionInfoByCode(credential, offset + 1, 2));
+        info.setInternationalRegionInfo(nationality != null
+                ? nationality : RegionUtil.getInternationalRegionInfoByNumeric(credential, offset + 3));
+        info.setBirthDate(birthDate != ValidationContext.NO_DATE
+                ? DateUtil.formatDate(birthDate) : credential.subSequence(offset + 6, offset + 14).toString());
+        info.setGender(Gender.fromDigit(credential.charAt(offset + 16) - '0'));
     }
 }
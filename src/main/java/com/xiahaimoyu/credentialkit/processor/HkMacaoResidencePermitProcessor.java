@@ -4,16 +4,13 @@
 package com.xiahaimoyu.credentialkit.processor;
 
 import com.xiahaimoyu.credentialkit.constant.RegionConstant;
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.Gender;
 import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.HkMacaoResidencePermitInfo;
-import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
-import com.xiahaimoyu.credentialkit.util.DateUtil;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 港澳居民居住证处理器
@@ -35,58 +32,40 @@ public class HkMacaoResidencePermitProcessor extends CredentialProcessor<HkMacao
         new DomesticRegionInfo("820000", RegionConstant.MACAO, null, null);
 
     /**
-     * 基础校验正则
+     * 证件形状（18位，数字开头，末位可为X）
      */
-    private static final Pattern PATTERN = Pattern.compile("^8[12]0000\\d{11}[0-9X]$");
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(18)
+            .firstChar(CredentialShape.DIGIT)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .build();
 
     /**
      * 构造器
      */
     public HkMacaoResidencePermitProcessor() {
         super(
-                Arrays.asList(
-                        // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
-                        credential -> {
-                            if (credential.length() != 18 || !PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验生日
-                        credential -> {
-                            String birthDate = credential.substring(6, 14);
-                            if (!DateUtil.validDateBeforeNow(birthDate)) {
-                                return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getIdCardCheckDigit(credential.substring(0, 17));
-                            if (checkDigit != credential.charAt(17)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Arrays.asList(
+                // 由18位身份号码族引擎单遍校验：格式（含前缀）、生日、校验位
+                Collections.singletonList(ResidentIdFamily.validator(ResidentIdFamily.HK_MACAO_RESIDENCE_PERMIT, null)),
+                Arrays.<CredentialRangeParser<HkMacaoResidencePermitInfo>>asList(
                         // 解析地区
-                        (credential, info) -> {
-                            String regionCode = credential.substring(0, 6);
-                            if (regionCode.equals("810000")) {
+                        (credential, offset, length, info) -> {
+                            // 格式校验已约束前6位为810000或820000
+                            char regionCode = credential.charAt(offset + 1);
+                            if (regionCode == '1') {
                                 info.setRegion(HONG_KONG_REGION);
-                            } else if (regionCode.equals("820000")) {
+                            } else if (regionCode == '2') {
                                 info.setRegion(MACAO_REGION);
                             }
                         },
                         // 解析生日
-                        (credential, info) -> {
-                            String birthDate = credential.substring(6, 14);
+                        (credential, offset, length, info) -> {
+                            String birthDate = credential.subSequence(offset + 6, offset + 14).toString();
                             info.setBirthDate(birthDate);
                         },
                         // 解析性别
-                        (credential, info) -> {
-                            int genderDigit = credential.charAt(16) - '0';
+                        (credential, offset, length, info) -> {
+                            int genderDigit = credential.charAt(offset + 16) - '0';
                             info.setGender(Gender.fromDigit(genderDigit));
                         }
                 )
@@ -102,4 +81,14 @@ public class HkMacaoResidencePermitProcessor extends CredentialProcessor<HkMacao
     protected HkMacaoResidencePermitInfo createInfo() {
         return new HkMacaoResidencePermitInfo();
     }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
 }
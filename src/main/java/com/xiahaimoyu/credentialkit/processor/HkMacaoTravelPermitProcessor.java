@@ -4,14 +4,12 @@
 package com.xiahaimoyu.credentialkit.processor;
 
 import com.xiahaimoyu.credentialkit.constant.RegionConstant;
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.HkMacaoTravelPermitInfo;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 港澳居民来往内地通行证处理器
@@ -33,38 +31,42 @@ public class HkMacaoTravelPermitProcessor extends CredentialProcessor<HkMacaoTra
         new DomesticRegionInfo("M", RegionConstant.MACAO, null, null);
 
     /**
-     * 基础校验正则
+     * 版式（H/M开头，其后8位或10位数字）
      */
-    private static final Pattern PATTERN = Pattern.compile("^[HM](\\d{8}|\\d{10})$");
+    private static final CredentialRangeValidator LAYOUT = CredentialLayout.oneOf(
+            CredentialLayout.builder(9).chars(0, 1, "HM").chars(1, 8, CredentialLayout.DIGITS).build(),
+            CredentialLayout.builder(11).chars(0, 1, "HM").chars(1, 10, CredentialLayout.DIGITS).build());
+
+    /**
+     * 证件形状（9或11位，H/M开头）
+     */
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(9, 11)
+            .firstChar(CredentialShape.LETTER)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .build();
 
     /**
      * 构造器
      */
     public HkMacaoTravelPermitProcessor() {
         super(
-                Collections.singletonList(
-                        // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
-                        credential -> {
-                            if ((credential.length() != 9 && credential.length() != 11) || !PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Arrays.asList(
+                // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
+                Collections.singletonList(LAYOUT),
+                Arrays.<CredentialRangeParser<HkMacaoTravelPermitInfo>>asList(
                         // 解析地区
-                        (credential, info) -> {
-                            String regionCode = credential.substring(0, 1);
-                            if (regionCode.equals("H")) {
+                        (credential, offset, length, info) -> {
+                            char regionCode = credential.charAt(offset);
+                            if (regionCode == 'H') {
                                 info.setRegion(HONG_KONG_REGION);
-                            } else if (regionCode.equals("M")) {
+                            } else if (regionCode == 'M') {
                                 info.setRegion(MACAO_REGION);
                             }
                         },
                         // 解析换证次数
-                        (credential, info) -> {
-                            if (credential.length() == 11) {
-                                info.setReplacementTime(Integer.parseInt(credential.substring(9, 11)));
+                        (credential, offset, length, info) -> {
+                            if (length == 11) {
+                                info.setReplacementTime((credential.charAt(offset + 9) - '0') * 10 + credential.charAt(offset + 10) - '0');
                             }
                         }
                 )
@@ -80,4 +82,14 @@ public class HkMacaoTravelPermitProcessor extends CredentialProcessor<HkMacaoTra
     protected HkMacaoTravelPermitInfo createInfo() {
         return new HkMacaoTravelPermitInfo();
     }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
 }
@@ -3,207 +3,86 @@
  */
 package com.xiahaimoyu.credentialkit.processor;
 
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
-import com.xiahaimoyu.credentialkit.enums.Gender;
-import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
 import com.xiahaimoyu.credentialkit.info.MachineReadablePassportInfo;
-import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
 import com.xiahaimoyu.credentialkit.util.DateUtil;
-import com.xiahaimoyu.credentialkit.util.RegionUtil;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.regex.Pattern;
 
 /**
- * 可机读护照处理器
+ * 可机读护照处理器（TD3，2行×44位）
+ * <p>
+ * 校验由{@link MachineReadableZone}单遍完成。
+ * </p>
  *
  * @author Howard.Li
  */
 public class MachineReadablePassportProcessor extends CredentialProcessor<MachineReadablePassportInfo> {
 
     /**
-     * 基础校验正则
+     * 机读区版式：第1行为证件类型、签发地区、姓名；第2行为护照号码、国籍、生日、性别、有效期、个人号码及复合校验位
      */
-    private static final Pattern PATTERN = Pattern.compile("^P[A-Z<][A-Z<]{3}[A-Z<]{39}[A-Z0-9<]{9}[0-9][A-Z<]{3}[0-9]{6}[0-9][MF<][0-9]{6}[0-9][A-Z0-9<]{14}[0-9<][0-9]$");
+    private static final MachineReadableZone ZONE = MachineReadableZone.builder(88, "P")
+            .name(5, 39)
+            .documentNumber(44)
+            .nationality(54)
+            .dates(57)
+            .optionalData(72, 14, true)
+            // 护照号码及其校验位、生日及其校验位、有效期至个人号码校验位
+            .composite(87, 44, 10, 57, 7, 65, 22)
+            .build();
 
     /**
-     * 姓名正则
+     * 证件形状（88位，P开头，由字母、数字和填充符组成）
      */
-    private static final Pattern NAME_PATTERN = Pattern.compile("^([A-Z]+<)*[A-Z]+(<<([A-Z]+<)*[A-Z]+)?$");
-
-    /**
-     * 护照中和ISO标准不一致的地区和组织（MRZ扩展）
-     */
-    private static final Map<String, InternationalRegionInfo> MRZ_EXTENSION_REGION_MAP;
-
-    static {
-        Map<String, InternationalRegionInfo> map = new HashMap<>();
-        addMRZExtension(map, "英国海外领土公民", null, "英国海外领土公民", "British Overseas Territories Citizen", "GBD", null, null);
-        addMRZExtension(map, null, null, "英国国民（海外）", "British National(Overseas)", "GBN", null, null);
-        addMRZExtension(map, null, null, "英国海外公民", "British Overseas Citizen", "GBO", null, null);
-        addMRZExtension(map, null, null, "英籍人士", "British Subject", "GBS", null, null);
-        addMRZExtension(map, null, null, "受英国保护人士", "British Protected Person", "GBP", null, null);
-        addMRZExtension(map, "德国", "GERMANY", "德意志联邦共和国", "the Federal Republic of Germany", "D<<", "DE", "276");
-        addMRZExtension(map, "科索沃", "KOSOVO", "科索沃共和国", "the Republic of Kosovo", "RKS", "KS", null);
-        addMRZExtension(map, null, null, "欧盟", "European Union(EU)", "EUE", "EU", null);
-        addMRZExtension(map, null, null, "联合国组织或者该组织的一名官员", "United Nations Organization or one of its officials", "UNO", "UN", null);
-        addMRZExtension(map, null, null, "联合国专门机构或者该机构的一名官员", "United Nations specialized agency or one of its officials", "UNA", "UN", null);
-        addMRZExtension(map, null, null, "持有联合国驻科索沃临时管理特派团（UNMIK）签发的旅行证件的科索沃居民", "Resident of Kosovo to whom a travel document has been issued by the United Nations Interim Administration Mission in Kosovo(UNMIK)", "UNK", null, null);
-        addMRZExtension(map, null, null, "非洲开发银行（ADB）", "African Development Bank (ADB)", "XBA", null, null);
-        addMRZExtension(map, null, null, "非洲进出口银行（AFREXIM）", "African Export-Import Bank (AFREXIM bank)", "XIM", null, null);
-        addMRZExtension(map, null, null, "加勒比共同体或其一名使者（CARICOM）", "Caribbean Community or one of its emissaries (CARICOM)", "XCC", null, null);
-        addMRZExtension(map, null, null, "欧洲理事会", "Council of Europe", "XCE", null, null);
-        addMRZExtension(map, null, null, "东部和南部非洲共同市场（COMESA）", "Common Market for Eastern and Southern Africa (COMESA)", "XCO", null, null);
-        addMRZExtension(map, null, null, "西非国家经济共同体（ECOWAS）", "Economic Community of West African States (ECOWAS)", "XEC", null, null);
-        addMRZExtension(map, null, null, "国际刑事警察组织（INTERPOL）", "International Criminal Police Organization (INTERPOL)", "XPO", null, null);
-        addMRZExtension(map, null, null, "东加勒比国家组织（OECS）", "Organization of Eastern Caribbean States (OECS)", "XES", null, null);
-        addMRZExtension(map, null, null, "地中海议会大会（PAM）", "Parliamentary Assembly of the Mediterranean (PAM)", "XMP", null, null);
-        addMRZExtension(map, null, null, "马耳他最高军教团或其一名使者", "Sovereign Military Order of Malta or one of its emissaries", "XOM", null, null);
-        addMRZExtension(map, null, null, "南部非洲发展共同体", "Southern African Development Community", "XDC", null, null);
-        addMRZExtension(map, null, null, "1954年《无国籍人地位公约》第1条定义的无国籍人", "Stateless person, as defined in Article 1 of the 1954 Convention Relating to the Status of Stateless Persons", "XXA", null, null);
-        addMRZExtension(map, null, null, "经1967年议定书修订的1951年《难民地位公约》第1条定义的难民", "Refugee, as defined in Article 1 of the 1951 Convention Relating to the Status of Refugees as amended by the 1967 Protocol", "XXB", null, null);
-        addMRZExtension(map, null, null, "不在上述XXB代码定义之内的难民", "Refugee, other than as defined under the code XXB above", "XXC", null, null);
-        addMRZExtension(map, null, null, "未确定国籍的人，签发国认为不管该人的地位是什么，没有必要为其确定上述任何XXA、XXB或XXC代码。该类可以包括既不是无国籍人，也不是难民，而是在签发国合法居住的不明国籍的人", "Person of unspecified nationality, for whom issuing State does not consider it necessary to specify any of the codes XXA, XXB or XXC above, whatever that person’s status may be. This category may include a person who is neither stateless nor a refugee but who is of unknown nationality and legally residing in the State of issue", "XXX", null, null);
-        MRZ_EXTENSION_REGION_MAP = Collections.unmodifiableMap(map);
-    }
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(88)
+            .firstChar(CredentialShape.LETTER)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER | CredentialShape.FILLER)
+            .build();
 
     /**
      * 构造器
      */
     public MachineReadablePassportProcessor() {
         super(
-                Arrays.asList(
-                        // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
-                        credential -> {
-                            if (credential.length() != 88 || !PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验签发地区
-                        credential -> {
-                            String regionCode = credential.substring(2, 5);
-                            if (getRegionInfo(regionCode) == null) {
-                                return ValidationResult.failure(ErrorCode.REGION_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验名字
-                        credential -> {
-                            String name = rightTrim(credential.substring(5, 44));
-                            if (!NAME_PATTERN.matcher(name).matches()) {
-                                return ValidationResult.failure(ErrorCode.NAME_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验护照号码校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getMachineReadablePassportCheckDigit(credential.substring(44, 53));
-                            if (checkDigit != credential.charAt(53)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验归属地
-                        credential -> {
-                            String regionCode = credential.substring(54, 57);
-                            if (getRegionInfo(regionCode) == null) {
-                                return ValidationResult.failure(ErrorCode.REGION_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验生日
-                        credential -> {
-                            String birthDate = credential.substring(57, 63);
-                            if (!DateUtil.validDateBeforeNow("19" + birthDate) && !DateUtil.validDateBeforeNow("20" + birthDate)) {
-                                return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
-                            }
-                            char checkDigit = CheckDigitUtil.getMachineReadablePassportCheckDigit(birthDate);
-                            if (checkDigit != credential.charAt(63)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验有效期
-                        credential -> {
-                            String expirationDate = credential.substring(65, 71);
-                            if (!DateUtil.validDate("19" + expirationDate) && !DateUtil.validDate("20" + expirationDate)) {
-                                return ValidationResult.failure(ErrorCode.EXPIRATION_DATE_ERROR);
-                            }
-                            char checkDigit = CheckDigitUtil.getMachineReadablePassportCheckDigit(expirationDate);
-                            if (checkDigit != credential.charAt(71)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验个人号码校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getMachineReadablePassportCheckDigit(credential.substring(72, 86));
-                            if (checkDigit != credential.charAt(86)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验护照校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getMachineReadablePassportCheckDigit(credential.substring(44, 54) + credential.substring(57, 64) + credential.substring(65, 87));
-                            if (checkDigit != credential.charAt(87)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Arrays.asList(
+                Collections.<CredentialRangeValidator>singletonList(ZONE),
+                Arrays.<CredentialRangeParser<MachineReadablePassportInfo>>asList(
                         // 解析签发地区
-                        (credential, info) -> {
-                            String regionCode = credential.substring(2, 5);
-                            info.setIssuingRegion(getRegionInfo(regionCode));
+                        (credential, offset, length, info) -> {
+                            info.setIssuingRegion(MachineReadableZone.parseIssuingRegion(credential, offset));
                         },
                         // 解析名字
-                        (credential, info) -> {
-                            String name = rightTrim(credential.substring(5, 44));
-                            String[] names = name.split("<<");
-                            info.setSurname(names[0].replace("<", " "));
+                        (credential, offset, length, info) -> {
+                            String[] names = MachineReadableZone.splitName(credential, offset + 5, offset + 44);
+                            info.setSurname(names[0]);
                             if (names.length > 1) {
-                                info.setGivenName(names[1].replace("<", " "));
+                                info.setGivenName(names[1]);
                             }
                         },
                         // 解析护照号
-                        (credential, info) -> {
-                            info.setPassportNumber(credential.substring(44, 53));
+                        (credential, offset, length, info) -> {
+                            info.setPassportNumber(credential.subSequence(offset + 44, offset + 53).toString());
                         },
                         // 解析归属地
-                        (credential, info) -> {
-                            String regionCode = credential.substring(54, 57);
-                            info.setRegion(getRegionInfo(regionCode));
+                        (credential, offset, length, info) -> {
+                            info.setRegion(MachineReadableZone.parseNationality(credential, offset + 54));
                         },
                         // 解析生日
-                        (credential, info) -> {
-                            info.setBirthDate(DateUtil.toFullYearDate(credential.substring(57, 63)));
+                        (credential, offset, length, info) -> {
+                            info.setBirthDate(MachineReadableZone.parseBirthDate(credential, offset + 57));
                         },
                         // 解析性别
-                        (credential, info) -> {
-                            char gender = credential.charAt(64);
-                            if (gender == 'M') {
-                                info.setGender(Gender.MALE);
-                            } else if (gender == 'F') {
-                                info.setGender(Gender.FEMALE);
-                            } else if (gender == '<') {
-                                info.setGender(Gender.UNKNOWN);
-                            }
+                        (credential, offset, length, info) -> {
+                            info.setGender(MachineReadableZone.genderOf(credential.charAt(offset + 64)));
                         },
                         // 解析有效期
-                        (credential, info) -> {
-                            info.setExpirationDate(DateUtil.toFullYearExpirationDate(credential.substring(65, 71)));
+                        (credential, offset, length, info) -> {
+                            info.setExpirationDate(DateUtil.toFullYearExpirationDate(credential.subSequence(offset + 65, offset + 71).toString()));
                         },
                         // 解析个人号码
-                        (credential, info) -> {
-                            String personalNumber = rightTrim(credential.substring(72, 86)).replace("<", " ");
-                            info.setPersonalNumber(personalNumber);
+                        (credential, offset, length, info) -> {
+                            info.setPersonalNumber(MachineReadableZone.textField(credential, offset + 72, offset + 86));
                         }
                 )
         );
@@ -220,50 +99,12 @@ public class MachineReadablePassportProcessor extends CredentialProcessor<Machin
     }
 
     /**
-     * 去掉结尾的<
-     *
-     * @param str 字符串
-     * @return 去掉结尾的<后的字符串
-     */
-    private static String rightTrim(String str) {
-        int end = str.length();
-        while (end > 0 && str.charAt(end - 1) == '<') {
-            end--;
-        }
-        return end == str.length() ? str : str.substring(0, end);
-    }
-
-    /**
-     * 添加MRZ扩展地区到Map中
+     * 获取证件形状
      *
-     * @param map               目标Map
-     * @param chineseShortName  中文简称
-     * @param englishShortName  英文简称
-     * @param chineseFullName   中文全称
-     * @param englishFullName   英文全称
-     * @param alpha3            三位字母编码
-     * @param alpha2            两位字母编码
-     * @param numeric           数字编码
+     * @return 证件形状
      */
-    private static void addMRZExtension(Map<String, InternationalRegionInfo> map,
-                                        String chineseShortName, String englishShortName,
-                                        String chineseFullName, String englishFullName,
-                                        String alpha3, String alpha2, String numeric) {
-        map.put(alpha3, new InternationalRegionInfo(chineseShortName, englishShortName,
-                chineseFullName, englishFullName, alpha3, alpha2, numeric));
-    }
-
-    /**
-     * 获取地区
-     *
-     * @param regionCode 地区3位字母码
-     * @return 地区信息
-     */
-    private static InternationalRegionInfo getRegionInfo(String regionCode) {
-        InternationalRegionInfo regionInfo = RegionUtil.getInternationalRegionInfoByAlpha3(regionCode);
-        if (regionInfo == null) {
-            regionInfo = MRZ_EXTENSION_REGION_MAP.get(regionCode);
-        }
-        return regionInfo;
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.info.MachineReadableTravelDocumentInfo;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * 可机读旅行证件处理器（TD1，3行×30位）
+ * <p>
+ * 多用于身份证、居留证件等卡片式证件。校验由{@link MachineReadableZone}单遍完成。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public class MachineReadableTd1Processor extends CredentialProcessor<MachineReadableTravelDocumentInfo> {
+
+    /**
+     * 机读区版式：第1行为证件类型、签发地区、证件号码、可选数据；第2行为生日、性别、有效期、国籍、可选数据及复合校验位；第3行为姓名
+     */
+    private static final MachineReadableZone ZONE = MachineReadableZone.builder(90, "IAC")
+            .documentNumber(5)
+            .optionalData(15, 15, false)
+            .dates(30)
+            .nationality(45)
+            .optionalData(48, 11, false)
+            // 第1行证件号码至可选数据、生日及其校验位、有效期及其校验位、第2行可选数据
+            .composite(59, 5, 25, 30, 7, 38, 7, 48, 11)
+            .name(60, 30)
+            .build();
+
+    /**
+     * 证件形状（90位，字母开头，由字母、数字和填充符组成）
+     */
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(90)
+            .firstChar(CredentialShape.LETTER)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER | CredentialShape.FILLER)
+            .build();
+
+    /**
+     * 构造器
+     */
+    public MachineReadableTd1Processor() {
+        super(
+                Collections.<CredentialRangeValidator>singletonList(ZONE),
+                Arrays.<CredentialRangeParser<MachineReadableTravelDocumentInfo>>asList(
+                        // 解析证件类型
+                        (credential, offset, length, info) -> {
+                            info.setDocumentCode(MachineReadableZone.textField(credential, offset, offset + 2));
+                        },
+                        // 解析签发地区
+                        (credential, offset, length, info) -> {
+                            info.setIssuingRegion(MachineReadableZone.parseIssuingRegion(credential, offset));
+                        },
+                        // 解析名字
+                        (credential, offset, length, info) -> {
+                            String[] names = MachineReadableZone.splitName(credential, offset + 60, offset + 90);
+                            info.setSurname(names[0]);
+                            if (names.length > 1) {
+                                info.setGivenName(names[1]);
+                            }
+                        },
+                        // 解析证件号码
+                        (credential, offset, length, info) -> {
+                            info.setDocumentNumber(MachineReadableZone.textField(credential, offset + 5, offset + 14));
+                        },
+                        // 解析国籍
+                        (credential, offset, length, info) -> {
+                            info.setRegion(MachineReadableZone.parseNationality(credential, offset + 45));
+                        },
+                        // 解析生日
+                        (credential, offset, length, info) -> {
+                            info.setBirthDate(MachineReadableZone.parseBirthDate(credential, offset + 30));
+                        },
+                        // 解析性别
+                        (credential, offset, length, info) -> {
+                            info.setGender(MachineReadableZone.genderOf(credential.charAt(offset + 37)));
+                        },
+                        // 解析有效期
+                        (credential, offset, length, info) -> {
+                            info.setExpirationDate(DateUtil.toFullYearExpirationDate(credential.subSequence(offset + 38, offset + 44).toString()));
+                        },
+                        // 解析可选数据
+                        (credential, offset, length, info) -> {
+                            info.setOptionalData(MachineReadableZone.textField(credential, offset + 15, offset + 30));
+                            info.setSecondOptionalData(MachineReadableZone.textField(credential, offset + 48, offset + 59));
+                        }
+                )
+        );
+    }
+
+    /**
+     * 获取可机读旅行证件信息
+     *
+     * @return 可机读旅行证件信息
+     */
+    @Override
+    protected MachineReadableTravelDocumentInfo createInfo() {
+        return new MachineReadableTravelDocumentInfo();
+    }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
+}
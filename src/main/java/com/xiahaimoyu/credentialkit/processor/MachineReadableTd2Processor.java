@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.info.MachineReadableTravelDocumentInfo;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * 可机读旅行证件处理器（TD2，2行×36位）
+ * <p>
+ * 多用于官方旅行证件等。校验由{@link MachineReadableZone}单遍完成。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public class MachineReadableTd2Processor extends CredentialProcessor<MachineReadableTravelDocumentInfo> {
+
+    /**
+     * 机读区版式：第1行为证件类型、签发地区、姓名；第2行为证件号码、国籍、生日、性别、有效期、可选数据及复合校验位
+     */
+    private static final MachineReadableZone ZONE = MachineReadableZone.builder(72, "IAC")
+            .name(5, 31)
+            .documentNumber(36)
+            .nationality(46)
+            .dates(49)
+            .optionalData(64, 7, false)
+            // 证件号码及其校验位、生日及其校验位、有效期至可选数据
+            .composite(71, 36, 10, 49, 7, 57, 14)
+            .build();
+
+    /**
+     * 证件形状（72位，字母开头，由字母、数字和填充符组成）
+     */
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(72)
+            .firstChar(CredentialShape.LETTER)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER | CredentialShape.FILLER)
+            .build();
+
+    /**
+     * 构造器
+     */
+    public MachineReadableTd2Processor() {
+        super(
+                Collections.<CredentialRangeValidator>singletonList(ZONE),
+                Arrays.<CredentialRangeParser<MachineReadableTravelDocumentInfo>>asList(
+                        // 解析证件类型
+                        (credential, offset, length, info) -> {
+                            info.setDocumentCode(MachineReadableZone.textField(credential, offset, offset + 2));
+                        },
+                        // 解析签发地区
+                        (credential, offset, length, info) -> {
+                            info.setIssuingRegion(MachineReadableZone.parseIssuingRegion(credential, offset));
+                        },
+                        // 解析名字
+                        (credential, offset, length, info) -> {
+                            String[] names = MachineReadableZone.splitName(credential, offset + 5, offset + 36);
+                            info.setSurname(names[0]);
+                            if (names.length > 1) {
+                                info.setGivenName(names[1]);
+                            }
+                        },
+                        // 解析证件号码
+                        (credential, offset, length, info) -> {
+                            info.setDocumentNumber(MachineReadableZone.textField(credential, offset + 36, offset + 45));
+                        },
+                        // 解析国籍
+                        (credential, offset, length, info) -> {
+                            info.setRegion(MachineReadableZone.parseNationality(credential, offset + 46));
+                        },
+                        // 解析生日
+                        (credential, offset, length, info) -> {
+                            info.setBirthDate(MachineReadableZone.parseBirthDate(credential, offset + 49));
+                        },
+                        // 解析性别
+                        (credential, offset, length, info) -> {
+                            info.setGender(MachineReadableZone.genderOf(credential.charAt(offset + 56)));
+                        },
+                        // 解析有效期
+                        (credential, offset, length, info) -> {
+                            info.setExpirationDate(DateUtil.toFullYearExpirationDate(credential.subSequence(offset + 57, offset + 63).toString()));
+                        },
+                        // 解析可选数据
+                        (credential, offset, length, info) -> {
+                            info.setOptionalData(MachineReadableZone.textField(credential, offset + 64, offset + 71));
+                        }
+                )
+        );
+    }
+
+    /**
+     * 获取可机读旅行证件信息
+     *
+     * @return 可机读旅行证件信息
+     */
+    @Override
+    protected MachineReadableTravelDocumentInfo createInfo() {
+        return new MachineReadableTravelDocumentInfo();
+    }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
+}
@@ -0,0 +1,602 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.enums.Gender;
+import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+
+/**
+ * 机读区（MRZ，ICAO 9303）单遍校验引擎
+ * <p>
+ * 按版式预先计算每个位置允许的字符类别、所属字段及其校验权重、复合校验位权重。校验时逐字符扫描一次：
+ * 检查字符类别，累加各字段校验位和复合校验位的加权和，解码出生日期和有效期，检查姓名结构，
+ * 不使用正则、不创建对象。扫描结束后依次检查签发地区、姓名、证件号码校验位、国籍、出生日期及其校验位、
+ * 有效期及其校验位、可选数据校验位、复合校验位，返回第一个错误。
+ * 校验通过时把签发地区、国籍和补全世纪后的出生日期写入{@link ValidationContext#current()}。
+ * {@link #isValid(CharSequence, int, int)}不关心错误码，扫描后先比较各校验位，再查地区和日期，不写入上下文。
+ * </p>
+ * <p>
+ * 多行机读区按行顺序直接拼接（不含换行）。超过9位的证件号码（校验位位置为&lt;、余下部分写入可选数据）暂不支持。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+final class MachineReadableZone implements CredentialRangeValidator {
+
+    /**
+     * 位置角色：无（证件类型、地区、性别、校验位等）
+     */
+    private static final byte ROLE_NONE = 0;
+
+    /**
+     * 位置角色：姓名
+     */
+    private static final byte ROLE_NAME = 1;
+
+    /**
+     * 位置角色：证件号码
+     */
+    private static final byte ROLE_DOCUMENT_NUMBER = 2;
+
+    /**
+     * 位置角色：出生日期
+     */
+    private static final byte ROLE_BIRTH_DATE = 3;
+
+    /**
+     * 位置角色：有效期
+     */
+    private static final byte ROLE_EXPIRATION_DATE = 4;
+
+    /**
+     * 位置角色：带校验位的可选数据
+     */
+    private static final byte ROLE_OPTIONAL_DATA = 5;
+
+    /**
+     * 校验权重
+     */
+    private static final int[] WEIGHTS = {7, 3, 1};
+
+    /**
+     * 签发地区位置（各版式相同）
+     */
+    private static final int ISSUING_REGION_OFFSET = 2;
+
+    /**
+     * 机读区总长度
+     */
+    private final int length;
+
+    /**
+     * 允许的证件类型首字符
+     */
+    private final String documentCodes;
+
+    private final int documentNumberOffset;
+
+    private final int nationalityOffset;
+
+    private final int birthDateOffset;
+
+    /**
+     * 带校验位的可选数据的校验位位置（-1表示没有）
+     */
+    private final int optionalDataCheckDigitOffset;
+
+    private final int compositeCheckDigitOffset;
+
+    /**
+     * 每个位置允许的字符类别（{@link CredentialShape}的字符类别位）
+     */
+    private final byte[] classes;
+
+    /**
+     * 每个位置的角色
+     */
+    private final byte[] roles;
+
+    /**
+     * 每个位置在所属字段校验位中的权重（不属于任何字段时为0）
+     */
+    private final byte[] weights;
+
+    /**
+     * 每个位置在复合校验位中的权重（不参与时为0）
+     */
+    private final byte[] compositeWeights;
+
+    private MachineReadableZone(Builder builder) {
+        this.length = builder.length;
+        this.documentCodes = builder.documentCodes;
+        this.documentNumberOffset = builder.documentNumberOffset;
+        this.nationalityOffset = builder.nationalityOffset;
+        this.birthDateOffset = builder.birthDateOffset;
+        this.optionalDataCheckDigitOffset = builder.optionalDataCheckDigitOffset;
+        this.compositeCheckDigitOffset = builder.compositeCheckDigitOffset;
+        this.classes = builder.classes.clone();
+        this.roles = builder.roles.clone();
+        this.weights = builder.weights.clone();
+        this.compositeWeights = builder.compositeWeights.clone();
+    }
+
+    /**
+     * 创建版式构建器
+     *
+     * @param length        机读区总长度
+     * @param documentCodes 允许的证件类型首字符（如护照为{@code "P"}）
+     * @return 版式构建器
+     */
+    static Builder builder(int length, String documentCodes) {
+        return new Builder(length, documentCodes);
+    }
+
+    /**
+     * 单遍校验
+     *
+     * @param credential 字符序列
+     * @param offset     机读区起始位置
+     * @param length     机读区长度
+     * @return 校验结果
+     */
+    @Override
+    public ValidationResult validate(CharSequence credential, int offset, int length) {
+        return validate(credential, offset, length, false);
+    }
+
+    /**
+     * 判断是否通过校验（先比较校验位，不写入校验上下文）
+     *
+     * @param credential 字符序列
+     * @param offset     机读区起始位置
+     * @param length     机读区长度
+     * @return 是否通过
+     */
+    @Override
+    public boolean isValid(CharSequence credential, int offset, int length) {
+        return validate(credential, offset, length, true).isValid();
+    }
+
+    /**
+     * 单遍校验
+     *
+     * @param credential  字符序列
+     * @param offset      机读区起始位置
+     * @param length      机读区长度
+     * @param costOrdered 是否只判断是否通过（先比较校验位，不写入校验上下文）
+     * @return 校验结果，costOrdered为true时错误码不保证优先级
+     */
+    private ValidationResult validate(CharSequence credential, int offset, int length, boolean costOrdered) {
+        if (length != this.length || documentCodes.indexOf(credential.charAt(offset)) < 0) {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        int documentNumberSum = 0;
+        int birthDateSum = 0;
+        int expirationDateSum = 0;
+        int optionalDataSum = 0;
+        int compositeSum = 0;
+        int birthDate = 0;
+        int expirationDate = 0;
+        boolean optionalDataEmpty = true;
+        // 姓名结构：字母段之间只能用单个<分隔，姓和名之间最多一处<<，结尾的<不计
+        boolean nameStarted = false;
+        boolean nameSeparated = false;
+        boolean nameValid = true;
+        int fillerRun = 0;
+        for (int i = 0; i < length; i++) {
+            char c = credential.charAt(offset + i);
+            int value;
+            int charClass;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+                charClass = CredentialShape.DIGIT;
+            } else if (c >= 'A' && c <= 'Z') {
+                value = c - 'A' + 10;
+                charClass = CredentialShape.LETTER;
+            } else if (c == '<') {
+                value = 0;
+                charClass = CredentialShape.FILLER;
+            } else {
+                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+            }
+            if ((classes[i] & charClass) == 0) {
+                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+            }
+            switch (roles[i]) {
+                case ROLE_NAME:
+                    if (c == '<') {
+                        fillerRun++;
+                    } else {
+                        if (fillerRun > 0) {
+                            if (!nameStarted || fillerRun > 2 || (fillerRun == 2 && nameSeparated)) {
+                                nameValid = false;
+                            }
+                            nameSeparated |= fillerRun == 2;
+                            fillerRun = 0;
+                        }
+                        nameStarted = true;
+                    }
+                    break;
+                case ROLE_DOCUMENT_NUMBER:
+                    documentNumberSum += value * weights[i];
+                    break;
+                case ROLE_BIRTH_DATE:
+                    birthDateSum += value * weights[i];
+                    birthDate = birthDate * 10 + value;
+                    break;
+                case ROLE_EXPIRATION_DATE:
+                    expirationDateSum += value * weights[i];
+                    expirationDate = expirationDate * 10 + value;
+                    break;
+                case ROLE_OPTIONAL_DATA:
+                    optionalDataSum += value * weights[i];
+                    optionalDataEmpty &= c == '<';
+                    break;
+                default:
+                    break;
+            }
+            compositeSum += value * compositeWeights[i];
+        }
+        char sex = credential.charAt(offset + birthDateOffset + 7);
+        if (sex != 'M' && sex != 'F' && sex != '<') {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        // 只判断是否通过时先比较校验位（可选数据校验位有例外，留在后面），不合法的输入多数在此被拒绝
+        if (costOrdered && (!matchesCheckDigit(credential, offset + documentNumberOffset + 9, documentNumberSum)
+                || !matchesCheckDigit(credential, offset + birthDateOffset + 6, birthDateSum)
+                || !matchesCheckDigit(credential, offset + birthDateOffset + 14, expirationDateSum)
+                || !matchesCheckDigit(credential, offset + compositeCheckDigitOffset, compositeSum))) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        // 校验签发地区
+        InternationalRegionInfo issuingRegion = getRegionInfo(credential, offset + ISSUING_REGION_OFFSET);
+        if (issuingRegion == null) {
+            return ValidationResult.failure(ErrorCode.REGION_ERROR);
+        }
+        // 校验姓名
+        if (!nameStarted || !nameValid) {
+            return ValidationResult.failure(ErrorCode.NAME_ERROR);
+        }
+        // 校验证件号码校验位
+        if (!matchesCheckDigit(credential, offset + documentNumberOffset + 9, documentNumberSum)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        // 校验国籍
+        InternationalRegionInfo nationality = getRegionInfo(credential, offset + nationalityOffset);
+        if (nationality == null) {
+            return ValidationResult.failure(ErrorCode.REGION_ERROR);
+        }
+        // 校验生日（19xx或20xx任一为过去的日期即可，与DateUtil.toFullYearDate一致优先取20xx）
+        int yy = birthDate / 10000;
+        int month = birthDate / 100 % 100;
+        int day = birthDate % 100;
+        if (DateUtil.validDateBeforeNow(2000 + yy, month, day)) {
+            birthDate += 20000000;
+        } else if (DateUtil.validDateBeforeNow(1900 + yy, month, day)) {
+            birthDate += 19000000;
+        } else {
+            return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
+        }
+        if (!matchesCheckDigit(credential, offset + birthDateOffset + 6, birthDateSum)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        // 校验有效期
+        yy = expirationDate / 10000;
+        month = expirationDate / 100 % 100;
+        day = expirationDate % 100;
+        if (!DateUtil.validDate(1900 + yy, month, day) && !DateUtil.validDate(2000 + yy, month, day)) {
+            return ValidationResult.failure(ErrorCode.EXPIRATION_DATE_ERROR);
+        }
+        if (!matchesCheckDigit(credential, offset + birthDateOffset + 14, expirationDateSum)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        // 校验可选数据校验位（可选数据全为<时校验位也可以是<）
+        if (optionalDataCheckDigitOffset >= 0
+                && !matchesCheckDigit(credential, offset + optionalDataCheckDigitOffset, optionalDataSum)
+                && !(optionalDataEmpty && credential.charAt(offset + optionalDataCheckDigitOffset) == '<')) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        // 校验复合校验位
+        if (!matchesCheckDigit(credential, offset + compositeCheckDigitOffset, compositeSum)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        if (!costOrdered) {
+            ValidationContext context = ValidationContext.current();
+            context.setIssuingRegion(issuingRegion);
+            context.setInternationalRegion(nationality);
+            context.setBirthDate(birthDate);
+        }
+        return ValidationResult.success();
+    }
+
+    /**
+     * 判断校验位是否与加权和一致
+     *
+     * @param credential  字符序列
+     * @param index       校验位位置
+     * @param weightedSum 加权和
+     * @return 是否一致
+     */
+    private static boolean matchesCheckDigit(CharSequence credential, int index, int weightedSum) {
+        return credential.charAt(index) == '0' + weightedSum % 10;
+    }
+
+    /**
+     * 获取地区（ISO 3166与MRZ扩展代码在同一张表中，一次查找）
+     *
+     * @param credential 字符序列
+     * @param offset     地区3位字母码的起始位置
+     * @return 地区信息，如果不存在则返回null
+     */
+    static InternationalRegionInfo getRegionInfo(CharSequence credential, int offset) {
+        return RegionUtil.getInternationalRegionInfoByMrzCode(credential, offset);
+    }
+
+    /**
+     * 解析签发地区（优先取用校验上下文）
+     *
+     * @param credential 字符序列
+     * @param offset     机读区起始位置
+     * @return 地区信息
+     */
+    static InternationalRegionInfo parseIssuingRegion(CharSequence credential, int offset) {
+        InternationalRegionInfo regionInfo = ValidationContext.current().getIssuingRegion();
+        return regionInfo != null ? regionInfo : getRegionInfo(credential, offset + ISSUING_REGION_OFFSET);
+    }
+
+    /**
+     * 解析国籍（优先取用校验上下文）
+     *
+     * @param credential 字符序列
+     * @param offset     国籍3位字母码的起始位置
+     * @return 地区信息
+     */
+    static InternationalRegionInfo parseNationality(CharSequence credential, int offset) {
+        InternationalRegionInfo regionInfo = ValidationContext.current().getInternationalRegion();
+        return regionInfo != null ? regionInfo : getRegionInfo(credential, offset);
+    }
+
+    /**
+     * 解析出生日期（优先取用校验上下文）
+     *
+     * @param credential 字符序列
+     * @param offset     出生日期YYMMDD的起始位置
+     * @return YYYYMMDD格式的出生日期
+     */
+    static String parseBirthDate(CharSequence credential, int offset) {
+        int birthDate = ValidationContext.current().getBirthDate();
+        if (birthDate != ValidationContext.NO_DATE) {
+            return DateUtil.formatDate(birthDate);
+        }
+        return DateUtil.toFullYearDate(credential.subSequence(offset, offset + 6).toString());
+    }
+
+    /**
+     * 计算去掉结尾的&lt;后的结束位置
+     *
+     * @param credential 字符序列
+     * @param start      起始位置（含）
+     * @param end        结束位置（不含）
+     * @return 去掉结尾的&lt;后的结束位置
+     */
+    static int rightTrimEnd(CharSequence credential, int start, int end) {
+        while (end > start && credential.charAt(end - 1) == '<') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 读取文本字段（去掉结尾的&lt;，其余&lt;替换为空格）
+     *
+     * @param credential 字符序列
+     * @param start      起始位置（含）
+     * @param end        结束位置（不含）
+     * @return 字段文本，全部为&lt;时返回空字符串
+     */
+    static String textField(CharSequence credential, int start, int end) {
+        return credential.subSequence(start, rightTrimEnd(credential, start, end)).toString().replace('<', ' ');
+    }
+
+    /**
+     * 拆分姓名字段
+     *
+     * @param credential 字符序列
+     * @param start      姓名字段起始位置（含）
+     * @param end        姓名字段结束位置（不含）
+     * @return 姓和名（没有名时只有一个元素），&lt;已替换为空格
+     */
+    static String[] splitName(CharSequence credential, int start, int end) {
+        String[] names = credential.subSequence(start, rightTrimEnd(credential, start, end)).toString().split("<<");
+        for (int i = 0; i < names.length; i++) {
+            names[i] = names[i].replace('<', ' ');
+        }
+        return names;
+    }
+
+    /**
+     * 解析性别位
+     *
+     * @param sex 性别位字符
+     * @return 性别，无法识别时返回null
+     */
+    static Gender genderOf(char sex) {
+        switch (sex) {
+            case 'M':
+                return Gender.MALE;
+            case 'F':
+                return Gender.FEMALE;
+            case '<':
+                return Gender.UNKNOWN;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 版式构建器
+     * <p>
+     * 证件类型（2位）和签发地区（3位）固定在开头；出生日期之后依次为其校验位、性别、有效期及其校验位。
+     * 构建时要求每个位置都已声明。
+     * </p>
+     */
+    static final class Builder {
+
+        private final int length;
+
+        private final String documentCodes;
+
+        private final byte[] classes;
+
+        private final byte[] roles;
+
+        private final byte[] weights;
+
+        private final byte[] compositeWeights;
+
+        private int documentNumberOffset = -1;
+
+        private int nationalityOffset = -1;
+
+        private int birthDateOffset = -1;
+
+        private int optionalDataCheckDigitOffset = -1;
+
+        private int compositeCheckDigitOffset = -1;
+
+        private Builder(int length, String documentCodes) {
+            this.length = length;
+            this.documentCodes = documentCodes;
+            this.classes = new byte[length];
+            this.roles = new byte[length];
+            this.weights = new byte[length];
+            this.compositeWeights = new byte[length];
+            // 证件类型：首字符由documentCodes约束，第2位为字母或填充符
+            declare(0, 1, CredentialShape.LETTER, ROLE_NONE);
+            declare(1, 1, CredentialShape.LETTER | CredentialShape.FILLER, ROLE_NONE);
+            declare(ISSUING_REGION_OFFSET, 3, CredentialShape.LETTER | CredentialShape.FILLER, ROLE_NONE);
+        }
+
+        /**
+         * 姓名字段
+         *
+         * @param offset 起始位置
+         * @param length 长度
+         * @return 构建器
+         */
+        Builder name(int offset, int length) {
+            return declare(offset, length, CredentialShape.LETTER | CredentialShape.FILLER, ROLE_NAME);
+        }
+
+        /**
+         * 证件号码（9位）及其校验位
+         *
+         * @param offset 起始位置
+         * @return 构建器
+         */
+        Builder documentNumber(int offset) {
+            documentNumberOffset = offset;
+            declare(offset, 9, CredentialShape.DIGIT | CredentialShape.LETTER | CredentialShape.FILLER, ROLE_DOCUMENT_NUMBER);
+            return declare(offset + 9, 1, CredentialShape.DIGIT, ROLE_NONE);
+        }
+
+        /**
+         * 国籍（3位字母码）
+         *
+         * @param offset 起始位置
+         * @return 构建器
+         */
+        Builder nationality(int offset) {
+            nationalityOffset = offset;
+            return declare(offset, 3, CredentialShape.LETTER | CredentialShape.FILLER, ROLE_NONE);
+        }
+
+        /**
+         * 出生日期（YYMMDD）、校验位、性别、有效期（YYMMDD）、校验位，共15位
+         *
+         * @param offset 出生日期起始位置
+         * @return 构建器
+         */
+        Builder dates(int offset) {
+            birthDateOffset = offset;
+            declare(offset, 6, CredentialShape.DIGIT, ROLE_BIRTH_DATE);
+            declare(offset + 6, 1, CredentialShape.DIGIT, ROLE_NONE);
+            declare(offset + 7, 1, CredentialShape.LETTER | CredentialShape.FILLER, ROLE_NONE);
+            declare(offset + 8, 6, CredentialShape.DIGIT, ROLE_EXPIRATION_DATE);
+            return declare(offset + 14, 1, CredentialShape.DIGIT, ROLE_NONE);
+        }
+
+        /**
+         * 可选数据
+         *
+         * @param offset         起始位置
+         * @param length         长度
+         * @param withCheckDigit 是否紧跟校验位（如TD3的个人号码）
+         * @return 构建器
+         */
+        Builder optionalData(int offset, int length, boolean withCheckDigit) {
+            int charClasses = CredentialShape.DIGIT | CredentialShape.LETTER | CredentialShape.FILLER;
+            if (!withCheckDigit) {
+                return declare(offset, length, charClasses, ROLE_NONE);
+            }
+            optionalDataCheckDigitOffset = offset + length;
+            declare(offset, length, charClasses, ROLE_OPTIONAL_DATA);
+            return declare(offset + length, 1, CredentialShape.DIGIT | CredentialShape.FILLER, ROLE_NONE);
+        }
+
+        /**
+         * 复合校验位
+         *
+         * @param checkDigitOffset 复合校验位位置
+         * @param ranges           参与计算的区间，依次为每个区间的起始位置和长度
+         * @return 构建器
+         */
+        Builder composite(int checkDigitOffset, int... ranges) {
+            compositeCheckDigitOffset = checkDigitOffset;
+            int position = 0;
+            for (int i = 0; i < ranges.length; i += 2) {
+                for (int j = ranges[i]; j < ranges[i] + ranges[i + 1]; j++) {
+                    compositeWeights[j] = (byte) WEIGHTS[position++ % 3];
+                }
+            }
+            return declare(checkDigitOffset, 1, CredentialShape.DIGIT, ROLE_NONE);
+        }
+
+        /**
+         * 声明区间内位置的字符类别和角色（带字段校验的角色按字段内位置计算权重）
+         */
+        private Builder declare(int offset, int length, int charClasses, byte role) {
+            for (int i = 0; i < length; i++) {
+                if (classes[offset + i] != 0) {
+                    throw new IllegalStateException("机读区位置重复声明：" + (offset + i));
+                }
+                classes[offset + i] = (byte) charClasses;
+                roles[offset + i] = role;
+                weights[offset + i] = (byte) WEIGHTS[i % 3];
+            }
+            return this;
+        }
+
+        /**
+         * 构建版式
+         *
+         * @return 机读区版式
+         * @throws IllegalStateException 如果有位置未声明或缺少必需字段
+         */
+        MachineReadableZone build() {
+            for (int i = 0; i < length; i++) {
+                if (classes[i] == 0) {
+                    throw new IllegalStateException("机读区位置未声明：" + i);
+                }
+            }
+            if (documentNumberOffset < 0 || nationalityOffset < 0 || birthDateOffset < 0 || compositeCheckDigitOffset < 0) {
+                throw new IllegalStateException("机读区缺少证件号码、国籍、日期或复合校验位");
+            }
+            return new MachineReadableZone(this);
+        }
+    }
+}
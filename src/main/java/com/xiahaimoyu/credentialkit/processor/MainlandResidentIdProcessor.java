@@ -3,96 +3,77 @@
  */
 package com.xiahaimoyu.credentialkit.processor;
 
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.Gender;
 import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.MainlandResidentIdInfo;
-import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
 import com.xiahaimoyu.credentialkit.util.DateUtil;
 import com.xiahaimoyu.credentialkit.util.RegionUtil;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Collections;
 
 /**
  * 中华人民共和国居民身份证处理器
+ * <p>
+ * 校验为单遍扫描：逐字符检查格式的同时累加校验位加权和，并把地区编码和出生日期解码为整数，
+ * 不使用正则、不创建对象。错误码优先级依次为格式、地区、生日、校验位。
+ * 18位证件（前17位数字，末位数字或X）与港澳、台湾居民居住证及18位外国人永久居留身份证共用{@link ResidentIdFamily}，
+ * 其余长度由15位版式校验。
+ * </p>
  *
  * @author Howard.Li
  */
 public class MainlandResidentIdProcessor extends CredentialProcessor<MainlandResidentIdInfo> {
 
     /**
-     * 基础校验正则
+     * 证件形状（15或18位，数字开头，末位可为X）
      */
-    private static final Pattern PATTERN = Pattern.compile("^(\\d{17}[0-9X]|\\d{15})$");
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(15, 18)
+            .firstChar(CredentialShape.DIGIT)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .build();
+
+    /**
+     * 15位版式（全部为数字，出生日期为YYMMDD，按19xx年计算，没有校验位）
+     */
+    private static final CredentialLayout LAYOUT_15 = CredentialLayout.builder(15)
+            .chars(0, 15, CredentialLayout.DIGITS)
+            .domesticRegion(0, 6)
+            .shortBirthDate(6, 19)
+            .build();
 
     /**
      * 构造器
      */
     public MainlandResidentIdProcessor() {
         super(
-                Arrays.asList(
-                        // 基本格式校验（正则已约束长度为18或15位，null规格化后为空字符串必然不匹配）
-                        credential -> {
-                            if (!PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验首次签发地区
-                        credential -> {
-                            String regionCode = credential.substring(0, 6);
-                            if (RegionUtil.getDomesticRegionInfoByCode(regionCode) == null) {
-                                return ValidationResult.failure(ErrorCode.REGION_ERROR);
+                // 单遍扫描：格式、地区、生日、校验位一次读完，错误码优先级同上
+                Collections.singletonList(ResidentIdFamily.validator(ResidentIdFamily.MAINLAND_RESIDENT_ID, LAYOUT_15)),
+                // 地区、生日、性别：校验时已解码的字段直接取用，未经校验时自行解码
+                Collections.<CredentialRangeParser<MainlandResidentIdInfo>>singletonList(
+                        (credential, offset, length, info) -> {
+                            ValidationContext context = ValidationContext.current();
+                            // 解析首次签发地区
+                            DomesticRegionInfo region = context.getDomesticRegion();
+                            if (region == null) {
+                                region = RegionUtil.getDomesticRegionInfoByCode(credential, offset, 6);
                             }
-                            return ValidationResult.success();
-                        },
-                        // 校验生日
-                        credential -> {
-                            String birthDate = is18DigitCredential(credential)
-                                    ? credential.substring(6, 14)
-                                    : "19" + credential.substring(6, 12);
-                            if (!DateUtil.validDateBeforeNow(birthDate)) {
-                                return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验校验位
-                        credential -> {
-                            if (!is18DigitCredential(credential)) {
-                                return ValidationResult.success();
-                            }
-                            char checkDigit = CheckDigitUtil.getIdCardCheckDigit(credential.substring(0, 17));
-                            if (checkDigit != credential.charAt(17)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Arrays.asList(
-                        // 解析首次签发地区
-                        (credential, info) -> {
-                            DomesticRegionInfo region = RegionUtil.getDomesticRegionInfoByCode(credential.substring(0, 6));
                             info.setRegion(region);
-                        },
-                        // 解析生日
-                        (credential, info) -> {
+                            // 解析生日
+                            int date = context.getBirthDate();
                             String birthDate;
-                            if (is18DigitCredential(credential)) {
-                                birthDate = credential.substring(6, 14);
+                            if (date != ValidationContext.NO_DATE) {
+                                birthDate = DateUtil.formatDate(date);
+                            } else if (is18DigitCredential(length)) {
+                                birthDate = credential.subSequence(offset + 6, offset + 14).toString();
                             } else {
-                                birthDate = "19" + credential.substring(6, 12);
+                                birthDate = "19" + credential.subSequence(offset + 6, offset + 12);
                             }
                             info.setBirthDate(birthDate);
-                        },
-                        // 解析性别
-                        (credential, info) -> {
-                            int genderDigit;
-                            if (is18DigitCredential(credential)) {
-                                genderDigit = credential.charAt(16) - '0';
-                            } else {
-                                genderDigit = credential.charAt(14) - '0';
+                            // 解析性别
+                            int genderDigit = context.getGenderDigit();
+                            if (genderDigit == ValidationContext.NO_DIGIT) {
+                                genderDigit = credential.charAt(offset + (is18DigitCredential(length) ? 16 : 14)) - '0';
                             }
                             info.setGender(Gender.fromDigit(genderDigit));
                         }
@@ -110,16 +91,26 @@ public class MainlandResidentIdProcessor extends CredentialProcessor<MainlandRes
         return new MainlandResidentIdInfo();
     }
 
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
+
     /**
      * 判断证件是否为18位格式
      * <p>
      * 用于区分15位和18位两种格式的证件。
      * </p>
      *
-     * @param credential 证件号码（已规格化，非空）
+     * @param length 证件号码长度
      * @return 是否为18位格式
      */
-    private static boolean is18DigitCredential(String credential) {
-        return credential.length() == 18;
+    private static boolean is18DigitCredential(int length) {
+        return length == 18;
     }
 }
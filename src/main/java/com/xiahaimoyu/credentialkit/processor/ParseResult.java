@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 解析结果
+ * <p>
+ * 一次校验和解析的合并结果：校验通过时持有解析出的证件信息，失败时持有校验失败的错误码，
+ * 调用方无需先{@code validate}取错误码再{@code parse}取信息，校验链只执行一次。
+ * 失败结果按错误码预缓存，失败路径零分配。
+ * </p>
+ *
+ * @param <T> 证件信息类型
+ * @author Howard.Li
+ */
+public final class ParseResult<T extends CredentialInfo> {
+
+    /**
+     * 失败结果缓存（按错误码）
+     */
+    private static final Map<ErrorCode, ParseResult<?>> FAILURE_CACHE;
+
+    static {
+        Map<ErrorCode, ParseResult<?>> cache = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            cache.put(errorCode, new ParseResult<>(ValidationResult.failure(errorCode), null));
+        }
+        FAILURE_CACHE = Collections.unmodifiableMap(cache);
+    }
+
+    private final ValidationResult validationResult;
+
+    private final T info;
+
+    private ParseResult(ValidationResult validationResult, T info) {
+        this.validationResult = validationResult;
+        this.info = info;
+    }
+
+    /**
+     * 获取成功结果
+     *
+     * @param info 证件信息
+     * @param <T>  证件信息类型
+     * @return 成功结果
+     * @throws NullPointerException 如果info为null
+     */
+    public static <T extends CredentialInfo> ParseResult<T> success(T info) {
+        return new ParseResult<>(ValidationResult.success(), Objects.requireNonNull(info, "证件信息是空"));
+    }
+
+    /**
+     * 获取失败结果
+     * <p>
+     * 相同错误码返回同一实例。
+     * </p>
+     *
+     * @param errorCode 错误码
+     * @param <T>       证件信息类型
+     * @return 失败结果
+     * @throws NullPointerException 如果errorCode为null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends CredentialInfo> ParseResult<T> failure(ErrorCode errorCode) {
+        return (ParseResult<T>) FAILURE_CACHE.get(Objects.requireNonNull(errorCode, "errorCode不能为空"));
+    }
+
+    /**
+     * 由失败的校验结果获取失败结果
+     *
+     * @param validationResult 失败的校验结果
+     * @param <T>              证件信息类型
+     * @return 失败结果
+     */
+    static <T extends CredentialInfo> ParseResult<T> failure(ValidationResult validationResult) {
+        return failure(validationResult.getErrorCodeOrNull());
+    }
+
+    /**
+     * 是否校验通过并解析成功
+     *
+     * @return 如果成功则返回true，否则返回false
+     */
+    public boolean isValid() {
+        return info != null;
+    }
+
+    /**
+     * 获取校验结果
+     * <p>
+     * 与单独调用{@code validate}得到的结果为同一缓存实例。
+     * </p>
+     *
+     * @return 校验结果
+     */
+    public ValidationResult getValidationResult() {
+        return validationResult;
+    }
+
+    /**
+     * 获取错误码
+     *
+     * @return 错误码，如果成功则返回Optional.empty()
+     */
+    public Optional<ErrorCode> getErrorCode() {
+        return validationResult.getErrorCode();
+    }
+
+    /**
+     * 获取错误描述
+     *
+     * @return 错误描述，如果成功则返回空字符串
+     */
+    public String getErrorDescription() {
+        return validationResult.getErrorDescription();
+    }
+
+    /**
+     * 获取证件信息
+     *
+     * @return 证件信息，如果校验失败则返回Optional.empty()
+     */
+    public Optional<T> getInfo() {
+        return Optional.ofNullable(info);
+    }
+
+    /**
+     * 获取证件信息，失败时返回null
+     * <p>
+     * 供热路径上不希望创建{@link Optional}的调用方使用。
+     * </p>
+     *
+     * @return 证件信息，如果校验失败则返回null
+     */
+    public T getInfoOrNull() {
+        return info;
+    }
+
+    @Override
+    public String toString() {
+        if (info != null) {
+            return "ParseResult{valid=true, info=" + info + "}";
+        }
+        return "ParseResult{valid=false, errorCode=" + validationResult.getErrorCodeOrNull() + "}";
+    }
+}
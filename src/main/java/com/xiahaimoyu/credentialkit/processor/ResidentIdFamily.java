@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
+import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+
+/**
+ * 18位身份号码族单遍校验引擎
+ * <p>
+ * 居民身份证（18位）、港澳居民居住证、台湾居民居住证和外国人永久居留身份证（18位）编码结构相同：
+ * 前17位数字（前6位为地址码或类型前缀，第7~14位为出生日期YYYYMMDD），第18位为ISO 7064 MOD 11-2校验位（数字或X）。
+ * 引擎逐字符扫描一次，同时检查格式、累加校验位加权和、把前6位和出生日期解码为整数，
+ * 再按前6位区分族内证件：810000/820000为港澳居民居住证，830000为台湾居民居住证，
+ * 9开头为外国人永久居留身份证，GB2260地址码为居民身份证。
+ * </p>
+ * <p>
+ * 族内处理器的18位校验都经由本引擎，错误码优先级与各自原有实现一致；
+ * 注册中心智能识别时对同一输入只调用一次{@link #classify(CharSequence, int, int)}，
+ * 族内各处理器直接取用判定结果，不再各自重复扫描；判定有效的处理器经{@link #parse(CredentialProcessor, String, int)}直接解析。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class ResidentIdFamily {
+
+    /**
+     * 族内证件号码长度
+     */
+    public static final int LENGTH = 18;
+
+    /**
+     * 族成员：居民身份证（18位）
+     */
+    public static final int MAINLAND_RESIDENT_ID = 1;
+
+    /**
+     * 族成员：港澳居民居住证
+     */
+    public static final int HK_MACAO_RESIDENCE_PERMIT = 1 << 1;
+
+    /**
+     * 族成员：台湾居民居住证
+     */
+    public static final int TAIWAN_RESIDENCE_PERMIT = 1 << 2;
+
+    /**
+     * 族成员：外国人永久居留身份证（18位）
+     */
+    public static final int FOREIGNER_PERMANENT_RESIDENCE_ID = 1 << 3;
+
+    /**
+     * 扫描结果：格式错误（非18位，或前17位不全为数字，或末位不是数字或X）
+     */
+    static final long FORMAT_ERROR = -1L;
+
+    /**
+     * 扫描结果中校验位匹配的标志位
+     */
+    private static final long CHECK_DIGIT_MATCHED = 1L << 31;
+
+    /**
+     * 香港居民居住证前缀
+     */
+    private static final int HONG_KONG_PREFIX = 810000;
+
+    /**
+     * 澳门居民居住证前缀
+     */
+    private static final int MACAO_PREFIX = 820000;
+
+    /**
+     * 台湾居民居住证前缀
+     */
+    private static final int TAIWAN_PREFIX = 830000;
+
+    /**
+     * 外国人永久居留身份证前缀的最小值（类型码9）
+     */
+    private static final int FOREIGNER_PREFIX_MIN = 900000;
+
+    private ResidentIdFamily() {
+    }
+
+    /**
+     * 单遍扫描18位身份号码
+     * <p>
+     * 结果打包为非负long：前6位数值占32~51位，校验位是否匹配占第31位，出生日期YYYYMMDD数值占0~26位；
+     * 格式错误时返回{@link #FORMAT_ERROR}。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @param length     证件号码长度
+     * @return 扫描结果
+     */
+    static long scan(CharSequence credential, int offset, int length) {
+        if (length != LENGTH) {
+            return FORMAT_ERROR;
+        }
+        int prefix = 0;
+        int date = 0;
+        int weightedSum = 0;
+        for (int i = 0; i < LENGTH - 1; i++) {
+            int digit = credential.charAt(offset + i) - '0';
+            if (digit < 0 || digit > 9) {
+                return FORMAT_ERROR;
+            }
+            if (i < 6) {
+                prefix = prefix * 10 + digit;
+            } else if (i < 14) {
+                date = date * 10 + digit;
+            }
+            weightedSum += digit * CheckDigitUtil.getIdCardWeight(i);
+        }
+        char last = credential.charAt(offset + LENGTH - 1);
+        if ((last < '0' || last > '9') && last != 'X') {
+            return FORMAT_ERROR;
+        }
+        long result = (long) prefix << 32 | date;
+        if (CheckDigitUtil.getIdCardCheckDigitBySum(weightedSum) == last) {
+            result |= CHECK_DIGIT_MATCHED;
+        }
+        return result;
+    }
+
+    /**
+     * 按族成员的错误码优先级校验
+     * <p>
+     * 居民身份证依次为格式、地区、生日、校验位；港澳、台湾居民居住证的前缀属于格式，依次为格式、生日、校验位；
+     * 外国人永久居留身份证依次为格式（9开头）、地区（第2~3位省级编码）、国籍（第4~6位数字码）、生日、校验位。
+     * 校验过程中查到的地区、国籍和解码的出生日期、性别位写入{@link ValidationContext#current()}。
+     * </p>
+     *
+     * @param member     族成员
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @param length     证件号码长度
+     * @return 校验结果
+     */
+    static ValidationResult validate(int member, CharSequence credential, int offset, int length) {
+        return check(member, scan(credential, offset, length), credential, offset, ValidationContext.current());
+    }
+
+    /**
+     * 判断族成员是否通过校验
+     * <p>
+     * 不关心错误码：扫描后先看校验位，再检查前缀、地区和出生日期，不写入校验上下文。
+     * </p>
+     *
+     * @param member     族成员
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @param length     证件号码长度
+     * @return 是否通过
+     */
+    static boolean isValid(int member, CharSequence credential, int offset, int length) {
+        final long scan = scan(credential, offset, length);
+        return scan != FORMAT_ERROR && (scan & CHECK_DIGIT_MATCHED) != 0
+                && check(member, scan, credential, offset, null).isValid();
+    }
+
+    /**
+     * 创建族成员的校验器
+     * <p>
+     * 18位输入由本引擎校验，其余长度交给另一版本的校验器（没有其他版本时为格式错误）。
+     * </p>
+     *
+     * @param member       族成员
+     * @param otherLengths 其他长度的校验器，允许为null
+     * @return 校验器
+     */
+    static CredentialRangeValidator validator(int member, CredentialRangeValidator otherLengths) {
+        return new CredentialRangeValidator() {
+            @Override
+            public ValidationResult validate(CharSequence credential, int offset, int length) {
+                if (length != LENGTH && otherLengths != null) {
+                    return otherLengths.validate(credential, offset, length);
+                }
+                return ResidentIdFamily.validate(member, credential, offset, length);
+            }
+
+            @Override
+            public boolean isValid(CharSequence credential, int offset, int length) {
+                if (length != LENGTH && otherLengths != null) {
+                    return otherLengths.isValid(credential, offset, length);
+                }
+                return ResidentIdFamily.isValid(member, credential, offset, length);
+            }
+        };
+    }
+
+    /**
+     * 按扫描结果校验族成员
+     *
+     * @param member     族成员
+     * @param scan       扫描结果
+     * @param credential 字符序列
+     * @param offset     证件号码起始位置
+     * @param context    写入解码字段的校验上下文，为null时不写入
+     * @return 校验结果
+     */
+    private static ValidationResult check(int member, long scan, CharSequence credential, int offset,
+                                          ValidationContext context) {
+        if (scan == FORMAT_ERROR) {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        int prefix = (int) (scan >>> 32);
+        switch (member) {
+            case MAINLAND_RESIDENT_ID:
+                DomesticRegionInfo region = RegionUtil.getDomesticRegionInfoByCode(prefix);
+                if (region == null) {
+                    return ValidationResult.failure(ErrorCode.REGION_ERROR);
+                }
+                if (context != null) {
+                    context.setDomesticRegion(region);
+                }
+                break;
+            case HK_MACAO_RESIDENCE_PERMIT:
+                if (prefix != HONG_KONG_PREFIX && prefix != MACAO_PREFIX) {
+                    return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+                }
+                break;
+            case TAIWAN_RESIDENCE_PERMIT:
+                if (prefix != TAIWAN_PREFIX) {
+                    return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+                }
+                break;
+            case FOREIGNER_PERMANENT_RESIDENCE_ID:
+                if (prefix < FOREIGNER_PREFIX_MIN) {
+                    return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+                }
+                DomesticRegionInfo province = RegionUtil.getDomesticRegionInfoByCode(credential, offset + 1, 2);
+                InternationalRegionInfo nationality = province == null
+                        ? null : RegionUtil.getInternationalRegionInfoByNumeric(credential, offset + 3);
+                if (nationality == null) {
+                    return ValidationResult.failure(ErrorCode.REGION_ERROR);
+                }
+                if (context != null) {
+                    context.setDomesticRegion(province);
+                    context.setInternationalRegion(nationality);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("未知的族成员：" + member);
+        }
+        int date = (int) scan & 0x7FFFFFF;
+        if (!DateUtil.validDateBeforeNow(date / 10000, date / 100 % 100, date % 100)) {
+            return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
+        }
+        if ((scan & CHECK_DIGIT_MATCHED) == 0) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        if (context != null) {
+            context.setBirthDate(date);
+            context.setGenderDigit(credential.charAt(offset + 16) - '0');
+        }
+        return ValidationResult.success();
+    }
+
+    /**
+     * 判定输入对族内哪些证件有效
+     * <p>
+     * 只扫描一次；结果的每一位与对应族成员处理器的{@code validate(credential, offset, length).isValid()}一致
+     * （输入已按默认规则规格化）。长度不是18时返回0。
+     * </p>
+     *
+     * @param credential 字符序列（已规格化）
+     * @param offset     证件号码起始位置
+     * @param length     证件号码长度
+     * @return 有效的族成员位掩码
+     * @throws IndexOutOfBoundsException 如果区间超出字符序列范围
+     */
+    public static int classify(CharSequence credential, int offset, int length) {
+        final long scan = scan(credential, offset, length);
+        if (scan == FORMAT_ERROR || (scan & CHECK_DIGIT_MATCHED) == 0) {
+            return 0;
+        }
+        int members = 0;
+        for (int member = MAINLAND_RESIDENT_ID; member <= FOREIGNER_PERMANENT_RESIDENCE_ID; member <<= 1) {
+            if (check(member, scan, credential, offset, null).isValid()) {
+                members |= member;
+            }
+        }
+        return members;
+    }
+
+    /**
+     * 获取处理器对应的族成员
+     * <p>
+     * 只有内置族处理器本身（不含子类，子类可能改变校验规则）且使用默认规格化时才视为族成员。
+     * </p>
+     *
+     * @param processor 证件处理器
+     * @return 族成员，不属于本族时返回0
+     */
+    public static int memberOf(CredentialProcessor<?> processor) {
+        if (processor == null || !processor.usesDefaultNormalization()) {
+            return 0;
+        }
+        Class<?> processorClass = processor.getClass();
+        if (processorClass == MainlandResidentIdProcessor.class) {
+            return MAINLAND_RESIDENT_ID;
+        }
+        if (processorClass == HkMacaoResidencePermitProcessor.class) {
+            return HK_MACAO_RESIDENCE_PERMIT;
+        }
+        if (processorClass == TaiwanResidencePermitProcessor.class) {
+            return TAIWAN_RESIDENCE_PERMIT;
+        }
+        if (processorClass == ForeignerPermanentResidenceIdProcessor.class) {
+            return FOREIGNER_PERMANENT_RESIDENCE_ID;
+        }
+        return 0;
+    }
+
+    /**
+     * 解析族判定为有效的18位身份号码
+     * <p>
+     * 供注册中心复用{@link #classify(CharSequence, int, int)}的结论，不再执行处理器的校验链。
+     * members须为对同一输入调用classify的结果；本方法只做廉价检查：处理器须为本族成员且包含在members中，
+     * 输入须为18位、格式和校验位正确，否则抛出异常，解析器不会见到格式错误的输入。
+     * </p>
+     *
+     * @param processor  族处理器（{@link #memberOf(CredentialProcessor)}不为0）
+     * @param normalized 已按默认规则规格化的证件号码
+     * @param members    对normalized调用classify的结果
+     * @param <T>        证件信息类型
+     * @return 证件信息
+     * @throws NullPointerException     如果normalized为null
+     * @throws IllegalArgumentException 如果处理器不属于本族、members不含该处理器，或输入格式、校验位错误
+     */
+    public static <T extends CredentialInfo> T parse(CredentialProcessor<T> processor, String normalized, int members) {
+        int member = memberOf(processor);
+        if (member == 0 || (members & member) == 0) {
+            throw new IllegalArgumentException("族判定结果不含该处理器");
+        }
+        final long scan = scan(normalized, 0, normalized.length());
+        if (scan == FORMAT_ERROR || (scan & CHECK_DIGIT_MATCHED) == 0) {
+            throw new IllegalArgumentException("证件号码格式或校验位错误");
+        }
+        return processor.parseValidated(normalized);
+    }
+}
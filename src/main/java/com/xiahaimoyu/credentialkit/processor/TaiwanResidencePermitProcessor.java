@@ -4,16 +4,13 @@
 package com.xiahaimoyu.credentialkit.processor;
 
 import com.xiahaimoyu.credentialkit.constant.RegionConstant;
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.Gender;
 import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.TaiwanResidencePermitInfo;
-import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
-import com.xiahaimoyu.credentialkit.util.DateUtil;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 台湾居民居住证处理器
@@ -29,53 +26,34 @@ public class TaiwanResidencePermitProcessor extends CredentialProcessor<TaiwanRe
         new DomesticRegionInfo("830000", RegionConstant.TAIWAN, null, null);
 
     /**
-     * 基础校验正则
+     * 证件形状（18位，数字开头，末位可为X）
      */
-    private static final Pattern PATTERN = Pattern.compile("^830000\\d{11}[0-9X]$");
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(18)
+            .firstChar(CredentialShape.DIGIT)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .build();
 
     /**
      * 构造器
      */
     public TaiwanResidencePermitProcessor() {
         super(
-                Arrays.asList(
-                        // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
-                        credential -> {
-                            if (credential.length() != 18 || !PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验生日
-                        credential -> {
-                            String birthDate = credential.substring(6, 14);
-                            if (!DateUtil.validDateBeforeNow(birthDate)) {
-                                return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getIdCardCheckDigit(credential.substring(0, 17));
-                            if (checkDigit != credential.charAt(17)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Arrays.asList(
+                // 由18位身份号码族引擎单遍校验：格式（含前缀）、生日、校验位
+                Collections.singletonList(ResidentIdFamily.validator(ResidentIdFamily.TAIWAN_RESIDENCE_PERMIT, null)),
+                Arrays.<CredentialRangeParser<TaiwanResidencePermitInfo>>asList(
                         // 解析地区（台湾居民居住证固定以830000开头）
-                        (credential, info) -> {
+                        (credential, offset, length, info) -> {
                             info.setRegion(TAIWAN_REGION);
                         },
                         // 解析生日
-                        (credential, info) -> {
-                            String birthDate = credential.substring(6, 14);
+                        (credential, offset, length, info) -> {
+                            String birthDate = credential.subSequence(offset + 6, offset + 14).toString();
                             info.setBirthDate(birthDate);
                         },
                         // 解析性别
-                        (credential, info) -> {
-                            int genderDigit = credential.charAt(16) - '0';
+                        (credential, offset, length, info) -> {
+                            int genderDigit = credential.charAt(offset + 16) - '0';
                             info.setGender(Gender.fromDigit(genderDigit));
                         }
                 )
@@ -91,4 +69,14 @@ public class TaiwanResidencePermitProcessor extends CredentialProcessor<TaiwanRe
     protected TaiwanResidencePermitInfo createInfo() {
         return new TaiwanResidencePermitInfo();
     }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
 }
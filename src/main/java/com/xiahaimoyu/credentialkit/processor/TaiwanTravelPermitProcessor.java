@@ -3,12 +3,10 @@
  */
 package com.xiahaimoyu.credentialkit.processor;
 
-import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.info.TaiwanTravelPermitInfo;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 台湾居民来往大陆通行证处理器
@@ -18,29 +16,33 @@ import java.util.regex.Pattern;
 public class TaiwanTravelPermitProcessor extends CredentialProcessor<TaiwanTravelPermitInfo> {
 
     /**
-     * 基础校验正则
+     * 版式（8位或10位数字）
      */
-    private static final Pattern PATTERN = Pattern.compile("^(\\d{8}|\\d{10})$");
+    private static final CredentialRangeValidator LAYOUT = CredentialLayout.oneOf(
+            CredentialLayout.builder(8).chars(0, 8, CredentialLayout.DIGITS).build(),
+            CredentialLayout.builder(10).chars(0, 10, CredentialLayout.DIGITS).build());
+
+    /**
+     * 证件形状（8或10位纯数字）
+     */
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(8, 10)
+            .firstChar(CredentialShape.DIGIT)
+            .chars(CredentialShape.DIGIT)
+            .build();
 
     /**
      * 构造器
      */
     public TaiwanTravelPermitProcessor() {
         super(
-                Collections.singletonList(
-                        // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
-                        credential -> {
-                            if ((credential.length() != 8 && credential.length() != 10) || !PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Collections.singletonList(
+                // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
+                Collections.singletonList(LAYOUT),
+                Collections.<CredentialRangeParser<TaiwanTravelPermitInfo>>singletonList(
                         // 解析换证次数
-                        (credential, info) -> {
-                            if (credential.length() == 10) {
-                                info.setReplacementTime(Integer.parseInt(credential.substring(8, 10)));
+                        (credential, offset, length, info) -> {
+                            if (length == 10) {
+                                info.setReplacementTime((credential.charAt(offset + 8) - '0') * 10 + credential.charAt(offset + 9) - '0');
                             }
                         }
                 )
@@ -56,4 +58,14 @@ public class TaiwanTravelPermitProcessor extends CredentialProcessor<TaiwanTrave
     protected TaiwanTravelPermitInfo createInfo() {
         return new TaiwanTravelPermitInfo();
     }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
 }
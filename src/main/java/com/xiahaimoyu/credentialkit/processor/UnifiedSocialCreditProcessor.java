@@ -7,85 +7,77 @@ import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.OrgCategory;
 import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.UnifiedSocialCreditInfo;
-import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
 import com.xiahaimoyu.credentialkit.util.RegionUtil;
 
 import java.util.Arrays;
-import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Collections;
 
 /**
  * 统一社会信用代码处理器
+ * <p>
+ * 校验由{@link CredentialLayout}版式单遍扫描：逐字符查表检查格式，同时累加统一社会信用代码和组织机构代码
+ * 两个校验位的加权和，不使用正则、不创建对象。错误码优先级依次为格式、机构类别、地区、
+ * 组织机构代码校验位、统一社会信用代码校验位。
+ * </p>
  *
  * @author Howard.Li
  */
 public class UnifiedSocialCreditProcessor extends CredentialProcessor<UnifiedSocialCreditInfo> {
 
     /**
-     * 基础校验正则
-     * 前2位为登记管理部门代码（可为字母或数字），第3-8位为地区代码（必须为数字）
+     * 证件形状（18位数字和字母）
      */
-    private static final Pattern PATTERN = Pattern.compile("^[0-9A-Z]{2}\\d{6}[0-9A-Z]{8}[0-9X][0-9A-Z]$");
+    private static final CredentialShape SHAPE = CredentialShape.builder()
+            .lengths(18)
+            .firstChar(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+            .build();
+
+    /**
+     * 版式
+     * <p>
+     * 前2位为登记管理部门和机构类别代码（数字或大写字母，字符集之外的字母留给机构类别校验），
+     * 第3~8位为地区代码（数字），第9~16位为组织机构代码本体（数字或大写字母），
+     * 第17位为组织机构代码校验位（数字或X），第18位为统一社会信用代码校验位。
+     * GB 32100字符集以外的字母（I、O、S、V、Z）不在格式检查中拒绝，而是在统一社会信用代码校验位一步报校验位错误，
+     * 使机构类别、地区和组织机构代码校验位的错误仍按原有顺序报告。
+     * </p>
+     */
+    private static final CredentialLayout LAYOUT = CredentialLayout.builder(18)
+            .chars(0, 2, CredentialLayout.DIGITS + CredentialLayout.LETTERS)
+            .chars(2, 6, CredentialLayout.DIGITS)
+            .chars(8, 8, CredentialLayout.DIGITS + CredentialLayout.LETTERS)
+            .chars(16, 1, CredentialLayout.DIGITS + "X")
+            .chars(17, 1, CredentialLayout.DIGITS + CredentialLayout.LETTERS)
+            .rule(0, ErrorCode.ORG_CATEGORY_ERROR, (credential, offset) -> OrgCategory.getByCode(credential, offset) != null)
+            .domesticRegion(2, 6)
+            .checkDigit(CredentialLayout.Checksum.GB_11714, 16, 8, 8)
+            .checkDigit(CredentialLayout.Checksum.GB_32100, 17, 0, 17)
+            .build();
 
     /**
      * 构造器
      */
     public UnifiedSocialCreditProcessor() {
         super(
-                Arrays.asList(
-                        // 基本格式校验（null规格化后为空字符串，长度校验必然失败）
-                        credential -> {
-                            if (credential.length() != 18 || !PATTERN.matcher(credential).matches()) {
-                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验机构类型
-                        credential -> {
-                            String orgCategoryCode = credential.substring(0, 2);
-                            if (OrgCategory.getByCode(orgCategoryCode) == null) {
-                                return ValidationResult.failure(ErrorCode.ORG_CATEGORY_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验首次签发地区
-                        credential -> {
-                            String regionCode = credential.substring(2, 8);
-                            if (RegionUtil.getDomesticRegionInfoByCode(regionCode) == null) {
-                                return ValidationResult.failure(ErrorCode.REGION_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验组织机构代码校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getOrganizationCodeCheckDigit(credential.substring(8, 16));
-                            if (checkDigit != credential.charAt(16)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        },
-                        // 校验统一社会信用代码校验位
-                        credential -> {
-                            char checkDigit = CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigit(credential.substring(0, 17));
-                            if (checkDigit != credential.charAt(17)) {
-                                return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
-                            }
-                            return ValidationResult.success();
-                        }
-                ),
-                Arrays.asList(
+                // 单遍扫描：格式、机构类别、地区、两个校验位一次读完，错误码优先级同上
+                Collections.singletonList(LAYOUT),
+                Arrays.<CredentialRangeParser<UnifiedSocialCreditInfo>>asList(
                         // 解析机构类型
-                        (credential, info) -> {
-                            info.setOrgCategory(OrgCategory.getByCode(credential.substring(0, 2)));
+                        (credential, offset, length, info) -> {
+                            info.setOrgCategory(OrgCategory.getByCode(credential, offset));
                         },
-                        // 解析首次签发地区
-                        (credential, info) -> {
-                            DomesticRegionInfo region = RegionUtil.getDomesticRegionInfoByCode(credential.substring(2, 8));
+                        // 解析首次签发地区（校验时已查到的地区直接取用）
+                        (credential, offset, length, info) -> {
+                            DomesticRegionInfo region = ValidationContext.current().getDomesticRegion();
+                            if (region == null) {
+                                region = RegionUtil.getDomesticRegionInfoByCode(credential, offset + 2, 6);
+                            }
                             info.setRegion(region);
                         },
                         // 解析组织机构代码
-                        (credential, info) -> {
-                            info.setOrganizationCode(credential.substring(8, 17));
+                        (credential, offset, length, info) -> {
+                            info.setOrganizationCode(credential.subSequence(offset + 8, offset + 17).toString());
                         }
                 )
         );
@@ -100,4 +92,14 @@ public class UnifiedSocialCreditProcessor extends CredentialProcessor<UnifiedSoc
     protected UnifiedSocialCreditInfo createInfo() {
         return new UnifiedSocialCreditInfo();
     }
+
+    /**
+     * 获取证件形状
+     *
+     * @return 证件形状
+     */
+    @Override
+    public CredentialShape getShape() {
+        return SHAPE;
+    }
 }
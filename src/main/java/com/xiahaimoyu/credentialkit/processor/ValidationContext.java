@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
+import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
+
+/**
+ * 校验上下文
+ * <p>
+ * 校验器把校验过程中已经解码的字段（地区、出生日期、性别位等）写入上下文，
+ * 同一次调用中随后执行的解析器直接读取，不再重复查找地区或解码日期。
+ * 每个线程复用同一个实例，不分配对象；校验器和解析器（含SPI处理器）通过{@link #current()}获取。
+ * </p>
+ * <p>
+ * 上下文的生命周期由{@link CredentialProcessor}管理：每次校验前清空并记录所属处理器和输入区间，
+ * 解析后清空。解析前如果上下文已不属于本次调用（如校验器或解析器中嵌套调用了其他处理器，
+ * 或经{@link ResidentIdFamily#parse(CredentialProcessor, String, int)}复用族判定结果、未经校验链直接解析），字段会先被清空，
+ * 因此解析器读到未设置的字段时必须回退到自行解码。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class ValidationContext {
+
+    /**
+     * 出生日期未设置
+     */
+    public static final int NO_DATE = 0;
+
+    /**
+     * 性别位未设置
+     */
+    public static final int NO_DIGIT = -1;
+
+    /**
+     * 每个线程的上下文
+     */
+    private static final ThreadLocal<ValidationContext> CURRENT = ThreadLocal.withInitial(ValidationContext::new);
+
+    /**
+     * 当前所属的处理器，未打开时为null
+     */
+    private Object owner;
+
+    /**
+     * 当前校验的字符序列，未打开时为null
+     */
+    private CharSequence credential;
+
+    private int offset;
+
+    private int length;
+
+    private DomesticRegionInfo domesticRegion;
+
+    private InternationalRegionInfo internationalRegion;
+
+    private InternationalRegionInfo issuingRegion;
+
+    private int birthDate = NO_DATE;
+
+    private int genderDigit = NO_DIGIT;
+
+    private Object attachment;
+
+    private ValidationContext() {
+    }
+
+    /**
+     * 获取当前线程的校验上下文
+     *
+     * @return 校验上下文
+     */
+    public static ValidationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 开始一次校验：清空字段并记录所属处理器和输入区间
+     *
+     * @param owner      处理器
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     */
+    void begin(Object owner, CharSequence credential, int offset, int length) {
+        clear();
+        this.owner = owner;
+        this.credential = credential;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * 判断上下文是否仍属于指定处理器对指定区间的校验
+     *
+     * @param owner      处理器
+     * @param credential 字符序列
+     * @param offset     证件起始位置
+     * @param length     证件长度
+     * @return 是否属于
+     */
+    boolean isOpenFor(Object owner, CharSequence credential, int offset, int length) {
+        return this.owner == owner && this.credential == credential && this.offset == offset && this.length == length;
+    }
+
+    /**
+     * 结束本次调用：清空字段并释放对处理器和输入的引用
+     */
+    void end() {
+        clear();
+        this.owner = null;
+        this.credential = null;
+    }
+
+    /**
+     * 清空已写入的字段
+     */
+    void clear() {
+        domesticRegion = null;
+        internationalRegion = null;
+        issuingRegion = null;
+        birthDate = NO_DATE;
+        genderDigit = NO_DIGIT;
+        attachment = null;
+    }
+
+    /**
+     * 获取国内地区
+     *
+     * @return 校验时解码的国内地区，未设置时返回null
+     */
+    public DomesticRegionInfo getDomesticRegion() {
+        return domesticRegion;
+    }
+
+    /**
+     * 设置国内地区
+     *
+     * @param domesticRegion 国内地区
+     */
+    public void setDomesticRegion(DomesticRegionInfo domesticRegion) {
+        this.domesticRegion = domesticRegion;
+    }
+
+    /**
+     * 获取国际地区（国籍或归属地）
+     *
+     * @return 校验时解码的国际地区，未设置时返回null
+     */
+    public InternationalRegionInfo getInternationalRegion() {
+        return internationalRegion;
+    }
+
+    /**
+     * 设置国际地区（国籍或归属地）
+     *
+     * @param internationalRegion 国际地区
+     */
+    public void setInternationalRegion(InternationalRegionInfo internationalRegion) {
+        this.internationalRegion = internationalRegion;
+    }
+
+    /**
+     * 获取签发地区
+     *
+     * @return 校验时解码的签发地区，未设置时返回null
+     */
+    public InternationalRegionInfo getIssuingRegion() {
+        return issuingRegion;
+    }
+
+    /**
+     * 设置签发地区
+     *
+     * @param issuingRegion 签发地区
+     */
+    public void setIssuingRegion(InternationalRegionInfo issuingRegion) {
+        this.issuingRegion = issuingRegion;
+    }
+
+    /**
+     * 获取出生日期
+     *
+     * @return 四位年份的出生日期（YYYYMMDD整数），未设置时返回{@link #NO_DATE}
+     */
+    public int getBirthDate() {
+        return birthDate;
+    }
+
+    /**
+     * 设置出生日期
+     *
+     * @param birthDate 四位年份的出生日期（YYYYMMDD整数）
+     */
+    public void setBirthDate(int birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    /**
+     * 获取性别位
+     *
+     * @return 性别位数字（奇数为男，偶数为女），未设置时返回{@link #NO_DIGIT}
+     */
+    public int getGenderDigit() {
+        return genderDigit;
+    }
+
+    /**
+     * 设置性别位
+     *
+     * @param genderDigit 性别位数字
+     */
+    public void setGenderDigit(int genderDigit) {
+        this.genderDigit = genderDigit;
+    }
+
+    /**
+     * 获取自定义附加数据
+     *
+     * @return 附加数据，未设置时返回null
+     */
+    public Object getAttachment() {
+        return attachment;
+    }
+
+    /**
+     * 设置自定义附加数据
+     * <p>
+     * 供SPI处理器在校验器和解析器之间传递内置字段以外的解码结果，调用结束后即被清空。
+     * </p>
+     *
+     * @param attachment 附加数据
+     */
+    public void setAttachment(Object attachment) {
+        this.attachment = attachment;
+    }
+}
@@ -89,6 +89,18 @@ public final class ValidationResult {
         return Optional.ofNullable(errorCode);
     }
 
+    /**
+     * 获取错误码，成功时返回null
+     * <p>
+     * 供热路径上不希望创建{@link Optional}的调用方使用。
+     * </p>
+     *
+     * @return 错误码，如果校验成功则返回null
+     */
+    public ErrorCode getErrorCodeOrNull() {
+        return errorCode;
+    }
+
     /**
      * 获取错误描述
      *
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.spi;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+
+import java.util.List;
+
+/**
+ * 指标监听器（SPI）
+ * <p>
+ * 通过{@link com.xiahaimoyu.credentialkit.CredentialRegistry#setMetricsListener(CredentialMetricsListener)}
+ * 挂载到注册中心，每次校验、解析、识别完成后在调用线程上回调，耗时为纳秒。
+ * 内置零依赖实现见{@link com.xiahaimoyu.credentialkit.metrics.CredentialMetrics}。
+ * </p>
+ * <p>
+ * 回调位于热路径上，实现必须线程安全、不阻塞、不抛出异常（异常会传播给调用方）。
+ * 未挂载监听器时注册中心只多一次判空，不计时。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public interface CredentialMetricsListener {
+
+    /**
+     * 校验完成
+     *
+     * @param type         证件类型
+     * @param result       校验结果
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    default void onValidate(CredentialType type, ValidationResult result, long elapsedNanos) {
+    }
+
+    /**
+     * 快速校验完成（{@code isValid}，没有错误码）
+     *
+     * @param type         证件类型
+     * @param valid        是否通过
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    default void onIsValid(CredentialType type, boolean valid, long elapsedNanos) {
+    }
+
+    /**
+     * 解析完成
+     *
+     * @param type         证件类型
+     * @param parsed       是否解析成功
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    default void onParse(CredentialType type, boolean parsed, long elapsedNanos) {
+    }
+
+    /**
+     * 智能识别完成（含{@code detectBest}，其匹配结果至多一个元素）
+     * <p>
+     * matchedTypes就是随后返回给识别调用方的列表，未做只读包装：监听器只能读取，
+     * 不得修改，也不应在回调结束后持有（需要时自行复制）。
+     * </p>
+     *
+     * @param matchedTypes 匹配的证件类型（按识别优先级排列，只读）
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    default void onDetect(List<CredentialType> matchedTypes, long elapsedNanos) {
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.util;
+
+/**
+ * ASCII字节工具
+ * <p>
+ * 以long为单位一次判断8个字节（SWAR：寄存器内的单指令多数据），不依赖向量指令，兼容Java 8。
+ * 字（word）中每个字节是一个通道，各通道的运算互不进位、借位，结果以每个通道的最高位（0x80）标记。
+ * 标记与字节在字中的顺序无关，因此读取时的字节序不影响判断结果。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class AsciiUtil {
+
+    /**
+     * 每个通道为0x01
+     */
+    private static final long ONES = 0x0101010101010101L;
+
+    /**
+     * 每个通道的最高位
+     */
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /**
+     * 每个通道的低7位
+     */
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    /**
+     * 一个字包含的字节数
+     */
+    public static final int WORD_BYTES = Long.BYTES;
+
+    private AsciiUtil() {
+    }
+
+    /**
+     * 从字节数组读取8个字节（小端序）
+     *
+     * @param bytes 字节数组
+     * @param index 起始下标
+     * @return 8个字节组成的字
+     * @throws IndexOutOfBoundsException 如果剩余字节不足8个
+     */
+    public static long getLong(byte[] bytes, int index) {
+        return (bytes[index] & 0xFFL)
+                | (bytes[index + 1] & 0xFFL) << 8
+                | (bytes[index + 2] & 0xFFL) << 16
+                | (bytes[index + 3] & 0xFFL) << 24
+                | (bytes[index + 4] & 0xFFL) << 32
+                | (bytes[index + 5] & 0xFFL) << 40
+                | (bytes[index + 6] & 0xFFL) << 48
+                | (bytes[index + 7] & 0xFFL) << 56;
+    }
+
+    /**
+     * 判断字中的8个字节是否全部为ASCII
+     *
+     * @param word 字
+     * @return 是否全部小于0x80
+     */
+    public static boolean isAscii(long word) {
+        return (word & HIGH_BITS) == 0;
+    }
+
+    /**
+     * 标记字中取值在[low, high]之间的字节
+     * <p>
+     * 对每个通道同时计算{@code 128 + high - b}（b不大于high时最高位为1）和{@code b + 128 - low}
+     * （b不小于low时最高位为1），与上原字节最高位为0的条件（非ASCII字节不标记）。
+     * 各通道只使用低7位参与运算，结果不会跨通道进位或借位，每个通道的标记都是精确的。
+     * </p>
+     *
+     * @param word 字
+     * @param low  下界（含），1~127
+     * @param high 上界（含），low~127
+     * @return 命中的通道最高位为1、其余位为0的字
+     */
+    public static long inRange(long word, int low, int high) {
+        long low7 = word & LOW_BITS;
+        return (ONES * (128 + high) - low7) & ~word & (low7 + ONES * (128 - low)) & HIGH_BITS;
+    }
+
+    /**
+     * 判断字中的8个字节是否全部为数字字符
+     *
+     * @param word 字
+     * @return 是否全部为'0'~'9'
+     */
+    public static boolean isDigits(long word) {
+        return inRange(word, '0', '9') == HIGH_BITS;
+    }
+
+    /**
+     * 判断字中是否有小写ASCII字母
+     *
+     * @param word 字
+     * @return 是否含'a'~'z'
+     */
+    public static boolean hasLowerCase(long word) {
+        return inRange(word, 'a', 'z') != 0;
+    }
+
+    /**
+     * 判断字中是否有字节不在已标记的通道中
+     *
+     * @param marks {@link #inRange(long, int, int)}等方法得到的标记（可按位或合并）
+     * @return 是否有未标记的通道
+     */
+    public static boolean hasUnmarked(long marks) {
+        return (marks & HIGH_BITS) != HIGH_BITS;
+    }
+
+    /**
+     * 判断字节数组区间是否全部为数字字符
+     *
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 是否全部为'0'~'9'（空区间返回true）
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     */
+    public static boolean isDigits(byte[] bytes, int offset, int length) {
+        checkRange(bytes, offset, length);
+        int i = offset;
+        int end = offset + length;
+        for (; i <= end - WORD_BYTES; i += WORD_BYTES) {
+            if (!isDigits(getLong(bytes, i))) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 判断字节数组区间是否全部为ASCII
+     *
+     * @param bytes  字节数组
+     * @param offset 起始位置
+     * @param length 长度
+     * @return 是否全部小于0x80（空区间返回true）
+     * @throws IndexOutOfBoundsException 如果区间超出数组范围
+     */
+    public static boolean isAscii(byte[] bytes, int offset, int length) {
+        checkRange(bytes, offset, length);
+        int i = offset;
+        int end = offset + length;
+        long any = 0;
+        for (; i <= end - WORD_BYTES; i += WORD_BYTES) {
+            any |= getLong(bytes, i);
+        }
+        for (; i < end; i++) {
+            any |= bytes[i] & 0xFF;
+        }
+        return isAscii(any);
+    }
+
+    private static void checkRange(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("区间越界，offset=" + offset + "，length=" + length + "，数组长度=" + bytes.length);
+        }
+    }
+}
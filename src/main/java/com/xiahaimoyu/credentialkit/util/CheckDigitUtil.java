@@ -3,9 +3,7 @@
  */
 package com.xiahaimoyu.credentialkit.util;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * 校验位工具
@@ -35,16 +33,15 @@ public final class CheckDigitUtil {
     private static final char[] USCI_CHECK_CODE_MAP = "0123456789ABCDEFGHJKLMNPQRTUWXY".toCharArray();
 
     /**
-     * 统一社会信用代码校验字符
+     * 统一社会信用代码字符值（下标为ASCII字符，-1表示无效字符）
      */
-    private static final Map<Character, Integer> USCI_CHAR_VALUE_MAP;
+    private static final int[] USCI_CHAR_VALUES = new int[128];
 
     static {
-        Map<Character, Integer> map = new HashMap<>();
+        Arrays.fill(USCI_CHAR_VALUES, -1);
         for (int i = 0; i < USCI_CHECK_CODE_MAP.length; i++) {
-            map.put(USCI_CHECK_CODE_MAP[i], i);
+            USCI_CHAR_VALUES[USCI_CHECK_CODE_MAP[i]] = i;
         }
-        USCI_CHAR_VALUE_MAP = Collections.unmodifiableMap(map);
     }
 
     /**
@@ -68,15 +65,52 @@ public final class CheckDigitUtil {
         if (credential == null || credential.length() < 17) {
             throw new IllegalArgumentException("身份证号码前17位不能为空且长度必须至少17位");
         }
+        return getIdCardCheckDigit(credential, 0);
+    }
+
+    /**
+     * 获取中华人民共和国居民身份证号码校验位（区间）
+     *
+     * @param credential 字符序列
+     * @param offset     身份证号码起始位置，从此处读取17位
+     * @return 身份证号码校验位
+     * @throws IllegalArgumentException 如果从offset起不足17位或包含非数字字符
+     */
+    public static char getIdCardCheckDigit(CharSequence credential, int offset) {
+        checkRange(credential, offset, 17, "身份证号码前17位");
         int sum = 0;
         for (int i = 0; i < 17; i++) {
-            char c = credential.charAt(i);
+            char c = credential.charAt(offset + i);
             if (c < '0' || c > '9') {
                 throw new IllegalArgumentException("身份证号码前17位必须为数字，位置" + i + "发现非法字符: " + c);
             }
             sum += (c - '0') * ID_CARD_WEIGHTS[i];
         }
-        return ID_CARD_CHECKSUM_CHARS[sum % 11];
+        return getIdCardCheckDigitBySum(sum);
+    }
+
+    /**
+     * 获取中华人民共和国居民身份证号码前17位中指定位置的权重
+     * <p>
+     * 供单遍扫描的校验器边读取边累加加权和，再通过{@link #getIdCardCheckDigitBySum(int)}得到校验位。
+     * </p>
+     *
+     * @param position 位置（0~16）
+     * @return 权重
+     * @throws ArrayIndexOutOfBoundsException 如果position不在0~16之间
+     */
+    public static int getIdCardWeight(int position) {
+        return ID_CARD_WEIGHTS[position];
+    }
+
+    /**
+     * 由加权和获取中华人民共和国居民身份证号码校验位
+     *
+     * @param weightedSum 前17位数字与{@link #getIdCardWeight(int)}的加权和（非负）
+     * @return 身份证号码校验位
+     */
+    public static char getIdCardCheckDigitBySum(int weightedSum) {
+        return ID_CARD_CHECKSUM_CHARS[weightedSum % 11];
     }
 
     /**
@@ -90,19 +124,60 @@ public final class CheckDigitUtil {
         if (credential == null || credential.length() < 17) {
             throw new IllegalArgumentException("统一社会信用代码前17位不能为空且长度必须至少17位");
         }
+        return getUnifiedSocialCreditCodeCheckDigit(credential, 0);
+    }
+
+    /**
+     * 获取统一社会信用代码校验位（区间）
+     *
+     * @param credential 字符序列
+     * @param offset     统一社会信用代码起始位置，从此处读取17位
+     * @return 统一社会信用代码校验位
+     * @throws IllegalArgumentException 如果从offset起不足17位或包含无效字符
+     */
+    public static char getUnifiedSocialCreditCodeCheckDigit(CharSequence credential, int offset) {
+        checkRange(credential, offset, 17, "统一社会信用代码前17位");
         int sum = 0;
         for (int i = 0; i < 17; i++) {
-            char c = credential.charAt(i);
-            Integer charValue = USCI_CHAR_VALUE_MAP.get(c);
-            if (charValue == null) {
+            char c = credential.charAt(offset + i);
+            int charValue = c < USCI_CHAR_VALUES.length ? USCI_CHAR_VALUES[c] : -1;
+            if (charValue < 0) {
                 throw new IllegalArgumentException("统一社会信用代码包含无效字符: " + c);
             }
             sum += charValue * USCI_WEIGHT_FACTORS[i];
         }
-        int mod = sum % 31;
-        int checkValue = 31 - mod;
-        checkValue = checkValue % 31;
-        return USCI_CHECK_CODE_MAP[checkValue];
+        return getUnifiedSocialCreditCodeCheckDigitBySum(sum);
+    }
+
+    /**
+     * 获取统一社会信用代码字符的代码值（GB 32100，不含I、O、S、V、Z）
+     *
+     * @param c 字符
+     * @return 代码值（0~30），不是有效字符时返回-1
+     */
+    public static int getUnifiedSocialCreditCharValue(char c) {
+        return c < USCI_CHAR_VALUES.length ? USCI_CHAR_VALUES[c] : -1;
+    }
+
+    /**
+     * 获取统一社会信用代码前17位中指定位置的权重
+     *
+     * @param position 位置（0~16）
+     * @return 权重
+     * @throws ArrayIndexOutOfBoundsException 如果position不在0~16之间
+     */
+    public static int getUnifiedSocialCreditCodeWeight(int position) {
+        return USCI_WEIGHT_FACTORS[position];
+    }
+
+    /**
+     * 由加权和获取统一社会信用代码校验位
+     *
+     * @param weightedSum 前17位代码值与{@link #getUnifiedSocialCreditCodeWeight(int)}的加权和（非负）
+     * @return 统一社会信用代码校验位
+     */
+    public static char getUnifiedSocialCreditCodeCheckDigitBySum(int weightedSum) {
+        return USCI_CHECK_CODE_MAP[(31 - weightedSum % 31) % 31];
     }
 
     /**
@@ -116,9 +191,22 @@ public final class CheckDigitUtil {
         if (credential == null || credential.length() < 8) {
             throw new IllegalArgumentException("组织机构代码前8位不能为空且长度必须至少8位");
         }
+        return getOrganizationCodeCheckDigit(credential, 0);
+    }
+
+    /**
+     * 获取组织机构代码校验位（区间）
+     *
+     * @param credential 字符序列
+     * @param offset     组织机构代码起始位置，从此处读取8位
+     * @return 组织机构代码校验位
+     * @throws IllegalArgumentException 如果从offset起不足8位或包含无效字符
+     */
+    public static char getOrganizationCodeCheckDigit(CharSequence credential, int offset) {
+        checkRange(credential, offset, 8, "组织机构代码前8位");
         int sum = 0;
         for (int i = 0; i < 8; i++) {
-            char c = credential.charAt(i);
+            char c = credential.charAt(offset + i);
             int num;
             if (c >= '0' && c <= '9') {
                 num = c - '0';
@@ -129,8 +217,31 @@ public final class CheckDigitUtil {
             }
             sum += num * ORGANIZATION_CODE_WEIGHTS[i];
         }
-        int remainder = sum % 11;
-        int checkValue = 11 - remainder;
+        return getOrganizationCodeCheckDigitBySum(sum);
+    }
+
+    /**
+     * 获取组织机构代码前8位中指定位置的权重
+     * <p>
+     * 字符值为数字本身或字母序号加10（A为10）。
+     * </p>
+     *
+     * @param position 位置（0~7）
+     * @return 权重
+     * @throws ArrayIndexOutOfBoundsException 如果position不在0~7之间
+     */
+    public static int getOrganizationCodeWeight(int position) {
+        return ORGANIZATION_CODE_WEIGHTS[position];
+    }
+
+    /**
+     * 由加权和获取组织机构代码校验位
+     *
+     * @param weightedSum 前8位字符值与{@link #getOrganizationCodeWeight(int)}的加权和（非负）
+     * @return 组织机构代码校验位
+     */
+    public static char getOrganizationCodeCheckDigitBySum(int weightedSum) {
+        int checkValue = 11 - weightedSum % 11;
         char expectedChecksum;
         if (checkValue == 10) {
             expectedChecksum = 'X';
@@ -153,9 +264,63 @@ public final class CheckDigitUtil {
         if (credential == null) {
             throw new IllegalArgumentException("可机读护照不能为空");
         }
+        return getMachineReadablePassportCheckDigit(credential, 0, credential.length());
+    }
+
+    /**
+     * 获取可机读护照校验位（区间）
+     *
+     * @param credential 字符序列
+     * @param offset     参与计算部分的起始位置
+     * @param length     参与计算部分的长度
+     * @return 可机读护照校验位
+     * @throws IllegalArgumentException 如果区间超出字符序列范围或包含无效字符
+     */
+    public static char getMachineReadablePassportCheckDigit(CharSequence credential, int offset, int length) {
+        checkRange(credential, offset, length, "可机读护照");
+        return (char) ('0' + machineReadableWeightedSum(credential, offset, length, 0) % 10);
+    }
+
+    /**
+     * 获取可机读护照的复合校验位（多个区间依次拼接后计算，不实际拼接）
+     * <p>
+     * 如TD3护照的复合校验位覆盖护照号码、出生日期、有效期和个人号码四段，
+     * 可传入{@code {44, 10, 57, 7, 65, 22}}。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     区间的基准位置（各区间起始位置相对于此位置）
+     * @param ranges     区间数组，依次为每个区间的相对起始位置和长度
+     * @return 可机读护照校验位
+     * @throws IllegalArgumentException 如果区间数组长度不是偶数、区间超出字符序列范围或包含无效字符
+     */
+    public static char getMachineReadablePassportCheckDigit(CharSequence credential, int offset, int[] ranges) {
+        if (ranges == null || (ranges.length & 1) != 0) {
+            throw new IllegalArgumentException("区间数组不能为空且长度必须为偶数");
+        }
         int sum = 0;
-        for (int i = 0; i < credential.length(); i++) {
-            char c = credential.charAt(i);
+        int position = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            checkRange(credential, offset + ranges[i], ranges[i + 1], "可机读护照");
+            sum += machineReadableWeightedSum(credential, offset + ranges[i], ranges[i + 1], position);
+            position += ranges[i + 1];
+        }
+        return (char) ('0' + sum % 10);
+    }
+
+    /**
+     * 计算可机读护照区间的加权和
+     *
+     * @param credential 字符序列
+     * @param offset     起始位置
+     * @param length     长度
+     * @param position   区间首字符在整段校验数据中的位置（决定权重相位）
+     * @return 加权和
+     */
+    private static int machineReadableWeightedSum(CharSequence credential, int offset, int length, int position) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            char c = credential.charAt(offset + i);
             int num;
             if (c >= '0' && c <= '9') {
                 num = c - '0';
@@ -166,8 +331,23 @@ public final class CheckDigitUtil {
             } else {
                 throw new IllegalArgumentException("可机读护照包含无效字符: " + c);
             }
-            sum += num * MACHINE_READABLE_PASSPORT_WEIGHTS[i % 3];
+            sum += num * MACHINE_READABLE_PASSPORT_WEIGHTS[(position + i) % 3];
+        }
+        return sum;
+    }
+
+    /**
+     * 检查区间参数
+     *
+     * @param credential 字符序列
+     * @param offset     起始位置
+     * @param length     长度
+     * @param name       数据名称（用于异常信息）
+     * @throws IllegalArgumentException 如果字符序列为null或区间超出范围
+     */
+    private static void checkRange(CharSequence credential, int offset, int length, String name) {
+        if (credential == null || offset < 0 || length < 0 || offset > credential.length() - length) {
+            throw new IllegalArgumentException(name + "不能为空且区间必须在字符序列范围内");
         }
-        return (char) ('0' + sum % 10);
     }
 }
@@ -4,10 +4,11 @@
 package com.xiahaimoyu.credentialkit.util;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.time.ZoneId;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 日期工具
@@ -15,18 +16,35 @@ import java.util.Objects;
  * 涉及"当前日期"的判断使用可替换的{@link Clock}，默认为系统时钟。
  * 测试时可通过{@link #setClock(Clock)}固定时间，验证跨临界日期的行为。
  * </p>
+ * <p>
+ * 日期直接从数字字符按算术校验（闰年按公历规则计算），不创建日期对象、不抛出异常。
+ * 日期以YYYYMMDD整数表示，整数大小顺序即日期先后；"今天"按同样方式缓存，只在时钟跨过零点时重新计算。
+ * </p>
  *
  * @author Howard.Li
  */
 public final class DateUtil {
 
-    private static final DateTimeFormatter BASIC_ISO_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    /**
+     * 无效日期标记
+     */
+    private static final int INVALID_DATE = -1;
 
     /**
      * 时钟（volatile保证多线程可见）
      */
     private static volatile Clock clock = Clock.systemDefaultZone();
 
+    /**
+     * 时钟版本（每次设置或恢复时钟时递增）
+     */
+    private static final AtomicInteger CLOCK_VERSION = new AtomicInteger();
+
+    /**
+     * 最近一次计算的当天时间窗口
+     */
+    private static volatile DayWindow dayWindow;
+
     /**
      * 私有构造函数，防止实例化
      */
@@ -44,6 +62,7 @@ public final class DateUtil {
      */
     public static void setClock(Clock clock) {
         DateUtil.clock = Objects.requireNonNull(clock, "时钟是空");
+        CLOCK_VERSION.incrementAndGet();
     }
 
     /**
@@ -51,29 +70,48 @@ public final class DateUtil {
      */
     public static void resetClock() {
         clock = Clock.systemDefaultZone();
+        CLOCK_VERSION.incrementAndGet();
     }
 
     /**
-     * 获取当前日期
+     * 获取时钟版本
+     * <p>
+     * 每次调用{@link #setClock(Clock)}或{@link #resetClock()}后递增。
+     * 依赖"当前日期"的缓存可结合{@link #currentEpochDay()}判断是否需要失效。
+     * </p>
      *
-     * @return 当前日期
+     * @return 时钟版本
      */
-    private static LocalDate today() {
-        return LocalDate.now(clock);
+    public static int getClockVersion() {
+        return CLOCK_VERSION.get();
     }
 
     /**
-     * 尝试解析日期
+     * 获取当前日期对应的纪元日（1970-01-01为0）
+     * <p>
+     * 缓存当天在时钟时区下的起止时刻，同一天内只读取一次时钟毫秒数并比较，不创建日期对象。
+     * </p>
      *
-     * @param dateStr 日期字符串（YYYYMMDD格式）
-     * @return 解析结果，解析失败则返回null
+     * @return 当前纪元日
      */
-    private static LocalDate tryParse(String dateStr) {
-        try {
-            return LocalDate.parse(dateStr, BASIC_ISO_FORMAT);
-        } catch (DateTimeParseException e) {
-            return null;
+    public static long currentEpochDay() {
+        return currentWindow().epochDay;
+    }
+
+    /**
+     * 获取当天时间窗口（同一天内只读取一次时钟毫秒数并比较）
+     *
+     * @return 当天时间窗口
+     */
+    private static DayWindow currentWindow() {
+        final Clock current = clock;
+        final long millis = current.millis();
+        DayWindow window = dayWindow;
+        if (window == null || window.clock != current || millis < window.startMillis || millis >= window.endMillis) {
+            window = DayWindow.of(current, millis);
+            dayWindow = window;
         }
+        return window;
     }
 
     /**
@@ -83,8 +121,7 @@ public final class DateUtil {
      * @return 是否在今天之前
      */
     public static boolean validDateBeforeNow(String dateStr) {
-        LocalDate date = tryParse(dateStr);
-        return date != null && !date.isAfter(today());
+        return dateStr != null && dateStr.length() == 8 && validDateBeforeNow(dateStr, 0);
     }
 
     /**
@@ -94,7 +131,174 @@ public final class DateUtil {
      * @return 是否合法
      */
     public static boolean validDate(String dateStr) {
-        return tryParse(dateStr) != null;
+        return dateStr != null && dateStr.length() == 8 && validDate(dateStr, 0);
+    }
+
+    /**
+     * 校验区间内的日期是否在今天之前
+     * <p>
+     * 直接从数字字符计算，不创建字符串和日期对象。
+     * </p>
+     *
+     * @param credential 字符序列
+     * @param offset     日期起始位置，从此处读取8位（YYYYMMDD格式）
+     * @return 是否在今天之前，区间越界时返回false
+     */
+    public static boolean validDateBeforeNow(CharSequence credential, int offset) {
+        int date = dateOf(credential, offset, -1);
+        return date != INVALID_DATE && date <= currentWindow().date;
+    }
+
+    /**
+     * 校验区间内的日期是否合法
+     *
+     * @param credential 字符序列
+     * @param offset     日期起始位置，从此处读取8位（YYYYMMDD格式）
+     * @return 是否合法，区间越界时返回false
+     */
+    public static boolean validDate(CharSequence credential, int offset) {
+        return dateOf(credential, offset, -1) != INVALID_DATE;
+    }
+
+    /**
+     * 校验区间内的两位年份日期在指定世纪下是否在今天之前
+     *
+     * @param century    世纪（年份的前两位，如19、20）
+     * @param credential 字符序列
+     * @param offset     日期起始位置，从此处读取6位（YYMMDD格式）
+     * @return 是否在今天之前，区间越界时返回false
+     */
+    public static boolean validDateBeforeNow(int century, CharSequence credential, int offset) {
+        int date = dateOf(credential, offset, century);
+        return date != INVALID_DATE && date <= currentWindow().date;
+    }
+
+    /**
+     * 校验区间内的两位年份日期在指定世纪下是否合法
+     *
+     * @param century    世纪（年份的前两位，如19、20）
+     * @param credential 字符序列
+     * @param offset     日期起始位置，从此处读取6位（YYMMDD格式）
+     * @return 是否合法，区间越界时返回false
+     */
+    public static boolean validDate(int century, CharSequence credential, int offset) {
+        return dateOf(credential, offset, century) != INVALID_DATE;
+    }
+
+    /**
+     * 校验年、月、日组成的日期是否在今天之前
+     * <p>
+     * 供已自行解码日期字段的调用方使用（如单遍扫描的校验器）。
+     * </p>
+     *
+     * @param year  年份
+     * @param month 月份（1~12）
+     * @param day   日（1~31）
+     * @return 是否在今天之前
+     */
+    public static boolean validDateBeforeNow(int year, int month, int day) {
+        int date = pack(year, month, day);
+        return date != INVALID_DATE && date <= currentWindow().date;
+    }
+
+    /**
+     * 校验年、月、日组成的日期是否合法
+     *
+     * @param year  年份
+     * @param month 月份（1~12）
+     * @param day   日（1~31）
+     * @return 是否合法
+     */
+    public static boolean validDate(int year, int month, int day) {
+        return pack(year, month, day) != INVALID_DATE;
+    }
+
+    /**
+     * 读取区间内的日期
+     *
+     * @param credential 字符序列
+     * @param offset     日期起始位置
+     * @param century    世纪，小于0时按YYYYMMDD读取8位，否则按YYMMDD读取6位
+     * @return YYYYMMDD整数，日期不合法时返回{@link #INVALID_DATE}
+     */
+    private static int dateOf(CharSequence credential, int offset, int century) {
+        int length = century < 0 ? 8 : 6;
+        if (credential == null || offset < 0 || offset > credential.length() - length) {
+            return INVALID_DATE;
+        }
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = credential.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID_DATE;
+            }
+            value = value * 10 + (c - '0');
+        }
+        int year = century < 0 ? value / 10000 : century * 100 + value / 10000;
+        return pack(year, value / 100 % 100, value % 100);
+    }
+
+    /**
+     * 将年、月、日打包为YYYYMMDD整数
+     *
+     * @param year  年份（0~9999）
+     * @param month 月份
+     * @param day   日
+     * @return YYYYMMDD整数，日期不合法时返回{@link #INVALID_DATE}
+     */
+    private static int pack(int year, int month, int day) {
+        if (year < 0 || year > 9999 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID_DATE;
+        }
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * 判断是否闰年
+     *
+     * @param year 年份
+     * @return 是否闰年
+     */
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 获取月份天数
+     *
+     * @param year  年份
+     * @param month 月份（1~12）
+     * @return 天数
+     */
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * 将YYYYMMDD整数格式化为8位字符串
+     * <p>
+     * 年份不足4位时补0，如{@code 8001231}格式化为{@code "08001231"}，与直接截取证件号码中的日期一致。
+     * </p>
+     *
+     * @param date YYYYMMDD整数（非负）
+     * @return YYYYMMDD格式的日期（8位）
+     */
+    public static String formatDate(int date) {
+        char[] digits = new char[8];
+        for (int i = 7, rest = date; i >= 0; i--, rest /= 10) {
+            digits[i] = (char) ('0' + rest % 10);
+        }
+        return new String(digits);
     }
 
     /**
@@ -107,7 +311,7 @@ public final class DateUtil {
      * @return YYYYMMDD格式的日期（8位）
      */
     public static String toFullYearDate(String yyBirthDate) {
-        if (validDateBeforeNow("20" + yyBirthDate)) {
+        if (yyBirthDate != null && yyBirthDate.length() == 6 && validDateBeforeNow(20, yyBirthDate, 0)) {
             return "20" + yyBirthDate;
         }
         return "19" + yyBirthDate;
@@ -124,10 +328,64 @@ public final class DateUtil {
      * @return YYYYMMDD格式的有效期（8位）
      */
     public static String toFullYearExpirationDate(String yyExpirationDate) {
-        LocalDate date = tryParse("20" + yyExpirationDate);
-        if (date != null && !date.isAfter(today().plusYears(20))) {
+        int date = yyExpirationDate != null && yyExpirationDate.length() == 6
+                ? dateOf(yyExpirationDate, 0, 20)
+                : INVALID_DATE;
+        if (date != INVALID_DATE && date <= currentWindow().twentyYearsLater) {
             return "20" + yyExpirationDate;
         }
         return "19" + yyExpirationDate;
     }
+
+    /**
+     * 当天时间窗口（不可变）
+     */
+    private static final class DayWindow {
+
+        private final Clock clock;
+
+        /**
+         * 当天起始时刻（含）
+         */
+        private final long startMillis;
+
+        /**
+         * 次日起始时刻（不含）
+         */
+        private final long endMillis;
+
+        private final long epochDay;
+
+        /**
+         * 当天（YYYYMMDD整数）
+         */
+        private final int date;
+
+        /**
+         * 20年后的同一天（YYYYMMDD整数，2月29日在非闰年取2月28日）
+         */
+        private final int twentyYearsLater;
+
+        private DayWindow(Clock clock, long startMillis, long endMillis, LocalDate today) {
+            this.clock = clock;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+            this.epochDay = today.toEpochDay();
+            this.date = pack(today);
+            this.twentyYearsLater = pack(today.plusYears(20));
+        }
+
+        static DayWindow of(Clock clock, long millis) {
+            ZoneId zone = clock.getZone();
+            LocalDate today = Instant.ofEpochMilli(millis).atZone(zone).toLocalDate();
+            return new DayWindow(clock,
+                    today.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli(),
+                    today);
+        }
+
+        private static int pack(LocalDate date) {
+            return date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth();
+        }
+    }
 }
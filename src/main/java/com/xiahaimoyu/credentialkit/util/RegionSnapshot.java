@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 地区数据二进制快照
+ * <p>
+ * CSV（{@code /region/gb2260.csv}、{@code /region/iso3166.csv}、{@code /region/icao9303.csv}）是唯一的数据源，
+ * 构建时（{@code process-classes}阶段）由{@link RegionSnapshotCompiler}预编译为两个二进制资源：
+ * {@code /region/gb2260.bin}存放排序后的编码数组、名称位置数组和去重后的名称池，
+ * {@code /region/iso3166.bin}存放每行7个字段在字符串池中的序号、字符串偏移数组和字符串池。
+ * 数组按大端序连续存放，加载时整块读入（或内存映射）后批量复制到基本类型数组，不逐行解析、不创建中间对象。
+ * 名称多为汉字，字符串池按UTF-16存放（每字2字节，比UTF-8少三分之一），复制即可使用，不需要解码。
+ * </p>
+ * <p>
+ * 加载顺序：系统属性{@value #SNAPSHOT_DIR_PROPERTY}指定的目录中的快照文件（内存映射，适合多个进程共享同一份文件），
+ * 其次为类路径中的快照资源（一次读入），都不存在时（如未经Maven构建直接在IDE中运行）回退到解析CSV。
+ * 快照格式错误时抛出异常，不静默回退。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+final class RegionSnapshot {
+
+    /**
+     * 外部快照目录的系统属性名
+     */
+    static final String SNAPSHOT_DIR_PROPERTY = "credentialkit.region.snapshot.dir";
+
+    static final String DOMESTIC_FILE = "gb2260.bin";
+
+    static final String INTERNATIONAL_FILE = "iso3166.bin";
+
+    /**
+     * 文件头魔数（"CKRS"）
+     */
+    private static final int MAGIC = 0x434B5253;
+
+    private static final int VERSION = 1;
+
+    private static final int KIND_DOMESTIC = 1;
+
+    private static final int KIND_INTERNATIONAL = 2;
+
+    /**
+     * 国际地区每行的字段数（中文简称、英文简称、中文全称、英文全称、alpha3、alpha2、数字编码）
+     */
+    static final int FIELDS = 7;
+
+    private RegionSnapshot() {
+    }
+
+    /**
+     * 国内地区表数据
+     */
+    static final class Domestic {
+
+        /**
+         * 6位编码的数值（升序，无重复）
+         */
+        final int[] codes;
+
+        /**
+         * 本级名称在名称池中的位置（高24位为起始位置，低8位为长度）
+         */
+        final int[] names;
+
+        /**
+         * 去重后的名称池
+         */
+        final char[] namePool;
+
+        Domestic(int[] codes, int[] names, char[] namePool) {
+            this.codes = codes;
+            this.names = names;
+            this.namePool = namePool;
+        }
+    }
+
+    /**
+     * 国际地区数据（每行{@value #FIELDS}个字段依次平铺，null表示没有该项）
+     */
+    static final class International {
+
+        /**
+         * ISO 3166地区
+         */
+        final String[] isoFields;
+
+        /**
+         * 机读区扩展代码（ICAO 9303）
+         */
+        final String[] extensionFields;
+
+        International(String[] isoFields, String[] extensionFields) {
+            this.isoFields = isoFields;
+            this.extensionFields = extensionFields;
+        }
+    }
+
+    /**
+     * 加载国内地区表数据（外部快照、类路径快照、CSV依次尝试）
+     *
+     * @return 国内地区表数据
+     */
+    static Domestic loadDomestic() {
+        ByteBuffer buffer = open(DOMESTIC_FILE);
+        if (buffer != null) {
+            return readDomestic(buffer);
+        }
+        try {
+            return parseDomestic(FileUtil.readCsvFromFile("/region/gb2260.csv"));
+        } catch (IOException e) {
+            throw new RuntimeException("加载GB/T 2260地区数据失败", e);
+        }
+    }
+
+    /**
+     * 加载国际地区数据（外部快照、类路径快照、CSV依次尝试）
+     *
+     * @return 国际地区数据
+     */
+    static International loadInternational() {
+        ByteBuffer buffer = open(INTERNATIONAL_FILE);
+        if (buffer != null) {
+            return readInternational(buffer);
+        }
+        List<List<String>> iso;
+        try {
+            iso = FileUtil.readCsvFromFile("/region/iso3166.csv");
+        } catch (IOException e) {
+            throw new RuntimeException("加载ISO 3166地区数据失败", e);
+        }
+        List<List<String>> extensions;
+        try {
+            extensions = FileUtil.readCsvFromFile("/region/icao9303.csv");
+        } catch (IOException e) {
+            throw new RuntimeException("加载ICAO 9303扩展代码数据失败", e);
+        }
+        return parseInternational(iso, extensions);
+    }
+
+    /**
+     * 打开快照文件
+     *
+     * @param fileName 文件名
+     * @return 快照内容，外部目录和类路径中都不存在时返回null
+     */
+    static ByteBuffer open(String fileName) {
+        String dir = System.getProperty(SNAPSHOT_DIR_PROPERTY);
+        try {
+            if (dir != null && !dir.isEmpty()) {
+                Path path = Paths.get(dir, fileName);
+                if (Files.isRegularFile(path)) {
+                    // 映射在通道关闭后仍然有效
+                    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    }
+                }
+            }
+            try (InputStream is = RegionSnapshot.class.getResourceAsStream("/region/" + fileName)) {
+                return is != null ? ByteBuffer.wrap(readFully(is)) : null;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("读取地区数据快照" + fileName + "失败", e);
+        }
+    }
+
+    private static byte[] readFully(InputStream is) throws IOException {
+        byte[] bytes = new byte[Math.max(is.available(), 8192)];
+        int length = 0;
+        int n;
+        while ((n = is.read(bytes, length, bytes.length - length)) >= 0) {
+            length += n;
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+        }
+        return length == bytes.length ? bytes : Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * 解析GB/T 2260 CSV（每行编码、名称两列）
+     * <p>
+     * 按编码排序，同一编码以最后一行为准；名称去重后存入名称池。
+     * </p>
+     *
+     * @param rows CSV行
+     * @return 国内地区表数据
+     */
+    static Domestic parseDomestic(List<List<String>> rows) {
+        if (rows.size() > Character.MAX_VALUE) {
+            throw new RuntimeException("国内地区数据格式错误，行数不能超过" + (int) Character.MAX_VALUE);
+        }
+        // 高32位为编码数值，低32位为行号：排序后同一编码相邻，以最后一行为准
+        long[] order = new long[rows.size()];
+        int[] rowNames = new int[rows.size()];
+        Map<String, Integer> interned = new HashMap<>();
+        StringBuilder pool = new StringBuilder();
+        int rowNum = 0;
+        for (List<String> row : rows) {
+            if (row.size() < 2) {
+                throw new RuntimeException("国内地区数据格式错误，第" + (rowNum + 1) + "行应有至少2列，实际" + row.size() + "列");
+            }
+            int code = RegionUtil.domesticKey(row.get(0), 0, 6);
+            String name = row.get(1);
+            if (code < 0 || row.get(0).length() != 6 || name.length() > 0xFF) {
+                throw new RuntimeException("国内地区数据格式错误，第" + (rowNum + 1) + "行编码应为6位数字、名称不超过255个字符");
+            }
+            Integer slot = interned.get(name);
+            if (slot == null) {
+                slot = pool.length() << 8 | name.length();
+                pool.append(name);
+                interned.put(name, slot);
+            }
+            order[rowNum] = (long) code << 32 | rowNum;
+            rowNames[rowNum] = slot;
+            rowNum++;
+        }
+        Arrays.sort(order);
+        int[] codes = new int[order.length];
+        int[] names = new int[order.length];
+        int size = 0;
+        for (long entry : order) {
+            int code = (int) (entry >>> 32);
+            if (size > 0 && codes[size - 1] == code) {
+                size--;
+            }
+            codes[size] = code;
+            names[size] = rowNames[(int) entry];
+            size++;
+        }
+        char[] namePool = new char[pool.length()];
+        pool.getChars(0, pool.length(), namePool, 0);
+        return new Domestic(Arrays.copyOf(codes, size), Arrays.copyOf(names, size), namePool);
+    }
+
+    /**
+     * 解析ISO 3166与ICAO 9303扩展代码CSV（每行7列）
+     * <p>
+     * 扩展代码中的空列表示没有该项（null），且alpha3必须为3位。
+     * </p>
+     *
+     * @param isoRows       ISO 3166 CSV行
+     * @param extensionRows 扩展代码CSV行
+     * @return 国际地区数据
+     */
+    static International parseInternational(List<List<String>> isoRows, List<List<String>> extensionRows) {
+        String[] isoFields = new String[isoRows.size() * FIELDS];
+        int rowNum = 0;
+        for (List<String> row : isoRows) {
+            if (row.size() < FIELDS) {
+                throw new RuntimeException("国际地区数据格式错误，第" + (rowNum + 1) + "行应有至少7列，实际" + row.size() + "列");
+            }
+            for (int i = 0; i < FIELDS; i++) {
+                isoFields[rowNum * FIELDS + i] = row.get(i);
+            }
+            rowNum++;
+        }
+        String[] extensionFields = new String[extensionRows.size() * FIELDS];
+        rowNum = 0;
+        for (List<String> row : extensionRows) {
+            if (row.size() < FIELDS || row.get(4).length() != 3) {
+                throw new RuntimeException("机读区扩展代码数据格式错误，第" + (rowNum + 1) + "行应有至少7列且第5列为3位代码");
+            }
+            for (int i = 0; i < FIELDS; i++) {
+                String value = row.get(i);
+                extensionFields[rowNum * FIELDS + i] = value.isEmpty() ? null : value;
+            }
+            rowNum++;
+        }
+        return new International(isoFields, extensionFields);
+    }
+
+    /**
+     * 写入国内地区快照
+     *
+     * @param data 国内地区表数据
+     * @param out  输出流
+     * @throws IOException 如果写入失败
+     */
+    static void writeDomestic(Domestic data, OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(out);
+        writeHeader(dos, KIND_DOMESTIC);
+        dos.writeInt(data.codes.length);
+        dos.writeInt(data.namePool.length);
+        for (int code : data.codes) {
+            dos.writeInt(code);
+        }
+        for (int name : data.names) {
+            dos.writeInt(name);
+        }
+        for (char c : data.namePool) {
+            dos.writeChar(c);
+        }
+        dos.flush();
+    }
+
+    /**
+     * 读取国内地区快照
+     *
+     * @param buffer 快照内容
+     * @return 国内地区表数据
+     */
+    static Domestic readDomestic(ByteBuffer buffer) {
+        checkHeader(buffer, KIND_DOMESTIC);
+        int rows = buffer.getInt();
+        int poolLength = buffer.getInt();
+        checkRemaining(buffer, rows * 8L + poolLength * 2L);
+        int[] codes = new int[rows];
+        int[] names = new int[rows];
+        char[] namePool = new char[poolLength];
+        buffer.asIntBuffer().get(codes);
+        skip(buffer, rows * 4);
+        buffer.asIntBuffer().get(names);
+        skip(buffer, rows * 4);
+        buffer.asCharBuffer().get(namePool);
+        return new Domestic(codes, names, namePool);
+    }
+
+    /**
+     * 写入国际地区快照
+     *
+     * @param data 国际地区数据
+     * @param out  输出流
+     * @throws IOException 如果写入失败
+     */
+    static void writeInternational(International data, OutputStream out) throws IOException {
+        // 字符串去重后依次放入字符串池，字段记录其序号（-1表示null）
+        Map<String, Integer> indexes = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] fieldIndexes = new int[data.isoFields.length + data.extensionFields.length];
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            String value = i < data.isoFields.length ? data.isoFields[i] : data.extensionFields[i - data.isoFields.length];
+            if (value == null) {
+                fieldIndexes[i] = -1;
+                continue;
+            }
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = strings.size();
+                strings.add(value);
+                indexes.put(value, index);
+            }
+            fieldIndexes[i] = index;
+        }
+        int poolLength = 0;
+        for (String value : strings) {
+            poolLength += value.length();
+        }
+        DataOutputStream dos = new DataOutputStream(out);
+        writeHeader(dos, KIND_INTERNATIONAL);
+        dos.writeInt(data.isoFields.length / FIELDS);
+        dos.writeInt(data.extensionFields.length / FIELDS);
+        dos.writeInt(strings.size());
+        dos.writeInt(poolLength);
+        for (int index : fieldIndexes) {
+            dos.writeInt(index);
+        }
+        int offset = 0;
+        dos.writeInt(offset);
+        for (String value : strings) {
+            offset += value.length();
+            dos.writeInt(offset);
+        }
+        for (String value : strings) {
+            dos.writeChars(value);
+        }
+        dos.flush();
+    }
+
+    /**
+     * 读取国际地区快照
+     *
+     * @param buffer 快照内容
+     * @return 国际地区数据
+     */
+    static International readInternational(ByteBuffer buffer) {
+        checkHeader(buffer, KIND_INTERNATIONAL);
+        int isoRows = buffer.getInt();
+        int extensionRows = buffer.getInt();
+        int stringCount = buffer.getInt();
+        int poolLength = buffer.getInt();
+        long fieldCount = (long) (isoRows + extensionRows) * FIELDS;
+        checkRemaining(buffer, fieldCount * 4 + (stringCount + 1L) * 4 + poolLength * 2L);
+        int[] fieldIndexes = new int[(int) fieldCount];
+        int[] offsets = new int[stringCount + 1];
+        char[] pool = new char[poolLength];
+        buffer.asIntBuffer().get(fieldIndexes);
+        skip(buffer, fieldIndexes.length * 4);
+        buffer.asIntBuffer().get(offsets);
+        skip(buffer, offsets.length * 4);
+        buffer.asCharBuffer().get(pool);
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            strings[i] = new String(pool, offsets[i], offsets[i + 1] - offsets[i]);
+        }
+        String[] isoFields = new String[isoRows * FIELDS];
+        String[] extensionFields = new String[extensionRows * FIELDS];
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            String value = fieldIndexes[i] >= 0 ? strings[fieldIndexes[i]] : null;
+            if (i < isoFields.length) {
+                isoFields[i] = value;
+            } else {
+                extensionFields[i - isoFields.length] = value;
+            }
+        }
+        return new International(isoFields, extensionFields);
+    }
+
+    /**
+     * 跳过已批量读取的字节（经{@link Buffer}调用，Java 8上没有协变返回类型的重载）
+     *
+     * @param buffer 快照内容
+     * @param length 字节数
+     */
+    private static void skip(ByteBuffer buffer, int length) {
+        ((Buffer) buffer).position(buffer.position() + length);
+    }
+
+    private static void writeHeader(DataOutputStream dos, int kind) throws IOException {
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeInt(kind);
+    }
+
+    private static void checkHeader(ByteBuffer buffer, int kind) {
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getInt() != kind) {
+            throw new RuntimeException("地区数据快照格式错误，魔数、版本或类型不匹配");
+        }
+    }
+
+    private static void checkRemaining(ByteBuffer buffer, long length) {
+        if (length < 0 || buffer.remaining() < length) {
+            throw new RuntimeException("地区数据快照格式错误，数据长度不足");
+        }
+    }
+
+    /**
+     * 由类路径中的CSV生成快照文件
+     *
+     * @param dir 输出目录
+     * @throws IOException 如果读写失败
+     */
+    static void compile(File dir) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("无法创建目录：" + dir);
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(new File(dir, DOMESTIC_FILE)))) {
+            writeDomestic(parseDomestic(FileUtil.readCsvFromFile("/region/gb2260.csv")), out);
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(new File(dir, INTERNATIONAL_FILE)))) {
+            writeInternational(parseInternational(FileUtil.readCsvFromFile("/region/iso3166.csv"),
+                    FileUtil.readCsvFromFile("/region/icao9303.csv")), out);
+        }
+    }
+}
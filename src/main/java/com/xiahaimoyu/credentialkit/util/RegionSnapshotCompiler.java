@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.util;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 地区数据快照的构建入口
+ * <p>
+ * 仅供构建使用（{@code process-classes}阶段由exec-maven-plugin调用），不属于公开API。
+ * 由类路径中的地区CSV生成二进制快照，格式和加载方式见包内的{@code RegionSnapshot}。
+ * </p>
+ *
+ * @author Howard.Li
+ */
+public final class RegionSnapshotCompiler {
+
+    /**
+     * 私有构造函数，防止实例化
+     */
+    private RegionSnapshotCompiler() {
+    }
+
+    /**
+     * 生成快照文件
+     *
+     * @param args 第一个参数为输出目录
+     * @throws IOException 如果读写失败
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("用法：RegionSnapshotCompiler <输出目录>");
+        }
+        RegionSnapshot.compile(new File(args[0]));
+    }
+}
@@ -6,12 +6,14 @@ package com.xiahaimoyu.credentialkit.util;
 import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
 import com.xiahaimoyu.credentialkit.info.InternationalRegionInfo;
 
-import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 /**
  * 地区工具
@@ -24,15 +26,20 @@ import java.util.Objects;
  * 在ISO 3166中的编码用于护照等国际证件处理，不代表其为国家。
  * </p>
  * <p>
- * 数据采用"不可变快照 + 复制写入"模式：读取路径直接在不可变{@code HashMap}上查找，
- * 无锁且最快；{@code addXxx}/{@code removeXxx}在锁内复制整表后整体替换快照引用，
+ * 数据采用"不可变快照 + 复制写入"模式：读取路径直接在不可变快照上查找，
+ * 无锁；{@code addXxx}/{@code removeXxx}在锁内复制后整体替换快照引用，
  * 保证线程安全。初始数据懒加载（双重检查锁定）。
+ * 国内地区按6位编码的数值存为排序的int数组（名称去重存放，地区信息按需创建），
+ * 自定义数据作为覆盖层单独存放，增删时只复制覆盖层；国际地区的三种编码和机读区扩展代码
+ * 打包为整数后在同一张直接寻址表中查找。
+ * 接受{@link CharSequence}区间和整数编码的查找重载使用按数值键排序的数组（二分查找），不创建字符串。
  * </p>
  * <p>
- * 注意：首次访问会懒加载CSV数据（实测约100~150ms，主要是资源I/O）。
+ * 注意：首次访问会懒加载地区数据（构建时由CSV预编译的二进制快照，国内、国际数据各约15~20ms，含类加载）。
+ * 系统属性{@code credentialkit.region.snapshot.dir}指定快照文件目录时，优先以内存映射方式加载该目录中的快照。
  * 对冷启动延迟敏感的服务，可在启动阶段调用
- * {@code RegionUtil.getDomesticRegionInfoByCode("110000")}和
- * {@code RegionUtil.getInternationalRegionInfoByAlpha3("CHN")}预热。
+ * {@link com.xiahaimoyu.credentialkit.CredentialRegistry#warmUp(com.xiahaimoyu.credentialkit.WarmUpOptions)}，
+ * 并行加载两份数据并预热处理器。
  * </p>
  *
  * @author Howard.Li
@@ -40,9 +47,9 @@ import java.util.Objects;
 public final class RegionUtil {
 
     /**
-     * 国内地区数据（GB/T 2260标准，key是6位编码）
+     * 国内地区数据（GB/T 2260标准）
      */
-    private static volatile Map<String, DomesticRegionInfo> domesticRegionCodeData;
+    private static volatile DomesticRegionData domesticRegionData;
 
     /**
      * 国际地区数据（ISO 3166标准）
@@ -55,12 +62,380 @@ public final class RegionUtil {
     private static final Object DOMESTIC_LOCK = new Object();
     private static final Object INTERNATIONAL_LOCK = new Object();
 
+    /**
+     * 数据版本（每次添加或移除国内、国际地区数据时递增）
+     */
+    private static final AtomicInteger DATA_VERSION = new AtomicInteger();
+
     /**
      * 私有构造函数，防止实例化
      */
     private RegionUtil() {
     }
 
+    /**
+     * 获取地区数据版本
+     * <p>
+     * 每次调用{@link #addDomesticRegionData(DomesticRegionInfo)}、{@link #removeDomesticRegionData(String)}、
+     * {@link #addInternationalRegionData(InternationalRegionInfo)}或{@link #removeInternationalRegionData(String)}
+     * 改变了地区数据后递增。依赖地区查找结果的缓存可据此判断是否需要失效。
+     * </p>
+     *
+     * @return 数据版本
+     */
+    public static int getDataVersion() {
+        return DATA_VERSION.get();
+    }
+
+    /**
+     * 国内地区数据快照（只读的GB/T 2260基础表 + 自定义数据覆盖层）
+     */
+    private static final class DomesticRegionData {
+
+        /**
+         * GB/T 2260基础表，各快照共享
+         */
+        private final DomesticRegionTable table;
+
+        /**
+         * 自定义的6位数字编码（升序），与customValues一一对应
+         */
+        private final int[] customKeys;
+
+        /**
+         * 自定义的地区信息，null表示移除了基础表中的该编码
+         */
+        private final DomesticRegionInfo[] customValues;
+
+        /**
+         * 自定义的非6位数字编码（通常为空）
+         */
+        private final Map<String, DomesticRegionInfo> customOthers;
+
+        private DomesticRegionData(DomesticRegionTable table, int[] customKeys, DomesticRegionInfo[] customValues,
+                                   Map<String, DomesticRegionInfo> customOthers) {
+            this.table = table;
+            this.customKeys = customKeys;
+            this.customValues = customValues;
+            this.customOthers = customOthers;
+        }
+
+        /**
+         * 按数值键查找
+         *
+         * @param key 编码数值（负数表示无效编码）
+         * @return 地区信息，如果不存在则返回null
+         */
+        DomesticRegionInfo get(int key) {
+            if (key < 0) {
+                return null;
+            }
+            if (customKeys.length != 0) {
+                int i = Arrays.binarySearch(customKeys, key);
+                if (i >= 0) {
+                    return customValues[i];
+                }
+            }
+            return table.get(key);
+        }
+
+        /**
+         * 按字符串编码查找
+         * <p>
+         * 没有自定义的6位数字编码时直接按字符串的哈希值查基础表，不解析数字；
+         * 否则解析为数值键后按{@link #get(int)}查找。
+         * </p>
+         *
+         * @param code 编码
+         * @return 地区信息，如果不存在则返回null
+         */
+        DomesticRegionInfo get(String code) {
+            if (code == null || code.length() != 6) {
+                return customOthers.get(code);
+            }
+            if (customKeys.length == 0) {
+                DomesticRegionInfo info = table.get(code);
+                return info != null ? info : customOthers.get(code);
+            }
+            int key = domesticKey(code, 0, 6);
+            return key >= 0 ? get(key) : customOthers.get(code);
+        }
+
+        /**
+         * 复制并设置一个6位数字编码的自定义值
+         *
+         * @param key   编码数值
+         * @param value 地区信息，null表示移除基础表中的该编码
+         * @return 新快照
+         */
+        DomesticRegionData withCustom(int key, DomesticRegionInfo value) {
+            int i = Arrays.binarySearch(customKeys, key);
+            if (i >= 0) {
+                DomesticRegionInfo[] values = customValues.clone();
+                values[i] = value;
+                return new DomesticRegionData(table, customKeys, values, customOthers);
+            }
+            int at = -i - 1;
+            int[] keys = new int[customKeys.length + 1];
+            DomesticRegionInfo[] values = new DomesticRegionInfo[keys.length];
+            System.arraycopy(customKeys, 0, keys, 0, at);
+            System.arraycopy(customValues, 0, values, 0, at);
+            keys[at] = key;
+            values[at] = value;
+            System.arraycopy(customKeys, at, keys, at + 1, customKeys.length - at);
+            System.arraycopy(customValues, at, values, at + 1, customKeys.length - at);
+            return new DomesticRegionData(table, keys, values, customOthers);
+        }
+
+        /**
+         * 复制并删除一个6位数字编码的自定义值
+         *
+         * @param key 编码数值
+         * @return 新快照
+         */
+        DomesticRegionData withoutCustom(int key) {
+            int i = Arrays.binarySearch(customKeys, key);
+            if (i < 0) {
+                return this;
+            }
+            int[] keys = new int[customKeys.length - 1];
+            DomesticRegionInfo[] values = new DomesticRegionInfo[keys.length];
+            System.arraycopy(customKeys, 0, keys, 0, i);
+            System.arraycopy(customValues, 0, values, 0, i);
+            System.arraycopy(customKeys, i + 1, keys, i, keys.length - i);
+            System.arraycopy(customValues, i + 1, values, i, keys.length - i);
+            return new DomesticRegionData(table, keys, values, customOthers);
+        }
+    }
+
+    /**
+     * GB/T 2260基础表（按编码数值排序的紧凑表）
+     * <p>
+     * 编码存为升序int数组，另以开放寻址散列表（线性探测，装载因子不超过0.5）按编码定位行号；
+     * 字符串查找另有一张按编码字符串哈希值定位行号的同容量散列表，直接使用字符串缓存的哈希值，不解析数字。
+     * 各行本级名称去重后连续存放在一个char数组中，
+     * 每行只记录名称的起始位置和长度。地区信息在首次查找到该行时才创建并缓存，
+     * 省级、地级名称取自上级行已创建的地区信息，同名地区共享字符串实例。
+     * 缓存写入为良性竞争：并发首次查找同一行可能各自创建一个相等的实例，
+     * 地区信息的字段均为final，发布后对其他线程完全可见。
+     * </p>
+     */
+    private static final class DomesticRegionTable {
+
+        /**
+         * 6位编码的数值（升序）
+         */
+        private final int[] codes;
+
+        /**
+         * 散列槽中的编码，空槽为-1
+         */
+        private final int[] slotCodes;
+
+        /**
+         * 散列槽对应的行号
+         */
+        private final char[] slotRows;
+
+        /**
+         * 散列槽中编码字符串的哈希值，空槽为0（6位数字串的哈希值均为正数）
+         */
+        private final int[] slotHashes;
+
+        /**
+         * 字符串哈希散列槽对应的行号
+         */
+        private final char[] hashRows;
+
+        /**
+         * 散列槽位的右移位数（32减去槽数的位数）
+         */
+        private final int shift;
+
+        /**
+         * 本级名称在名称池中的位置（高24位为起始位置，低8位为长度）
+         */
+        private final int[] names;
+
+        /**
+         * 去重后的名称池
+         */
+        private final char[] namePool;
+
+        /**
+         * 已创建的地区信息（按行懒加载）
+         */
+        private final DomesticRegionInfo[] infos;
+
+        private DomesticRegionTable(int[] codes, int[] names, char[] namePool) {
+            this.codes = codes;
+            this.names = names;
+            this.namePool = namePool;
+            this.infos = new DomesticRegionInfo[codes.length];
+            int capacity = Integer.highestOneBit(Math.max(codes.length, 1) * 2 - 1) << 1;
+            this.slotCodes = new int[capacity];
+            this.slotRows = new char[capacity];
+            this.slotHashes = new int[capacity];
+            this.hashRows = new char[capacity];
+            this.shift = 32 - Integer.numberOfTrailingZeros(capacity);
+            Arrays.fill(slotCodes, -1);
+            for (int row = 0; row < codes.length; row++) {
+                int slot = slot(codes[row]);
+                while (slotCodes[slot] >= 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                slotCodes[slot] = codes[row];
+                slotRows[slot] = (char) row;
+                int hash = codeHash(codes[row]);
+                slot = slot(hash);
+                while (slotHashes[slot] != 0) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                slotHashes[slot] = hash;
+                hashRows[slot] = (char) row;
+            }
+        }
+
+        /**
+         * 计算编码的6位字符串形式的哈希值（与{@link String#hashCode()}一致）
+         *
+         * @param code 编码数值
+         * @return 哈希值
+         */
+        private static int codeHash(int code) {
+            int hash = 0;
+            for (int divisor = 100000; divisor > 0; divisor /= 10) {
+                hash = 31 * hash + '0' + code / divisor % 10;
+            }
+            return hash;
+        }
+
+        /**
+         * 计算编码的初始散列槽
+         *
+         * @param key 编码数值
+         * @return 槽位
+         */
+        private int slot(int key) {
+            return (key * 0x9E3779B9) >>> shift;
+        }
+
+        /**
+         * 判断是否包含编码
+         *
+         * @param key 编码数值
+         * @return 是否包含
+         */
+        boolean contains(int key) {
+            return indexOf(key) >= 0;
+        }
+
+        /**
+         * 按数值键查找
+         *
+         * @param key 编码数值
+         * @return 地区信息，如果不存在则返回null
+         */
+        DomesticRegionInfo get(int key) {
+            int row = indexOf(key);
+            return row >= 0 ? info(row) : null;
+        }
+
+        /**
+         * 按字符串编码查找
+         * <p>
+         * 6位数字串与其哈希值一一对应，但非数字串可能与某个编码的哈希值相同，因此找到后再确认输入全为数字。
+         * </p>
+         *
+         * @param code 编码（长度为6）
+         * @return 地区信息，如果不存在则返回null
+         */
+        DomesticRegionInfo get(String code) {
+            int hash = code.hashCode();
+            int mask = slotHashes.length - 1;
+            for (int slot = slot(hash); ; slot = (slot + 1) & mask) {
+                int slotHash = slotHashes[slot];
+                if (slotHash == hash) {
+                    return isDigits(code) ? info(hashRows[slot]) : null;
+                }
+                if (slotHash == 0) {
+                    return null;
+                }
+            }
+        }
+
+        /**
+         * 判断6位字符串是否全为数字
+         *
+         * @param code 编码（长度为6）
+         * @return 是否全为数字
+         */
+        private static boolean isDigits(String code) {
+            int invalid = 0;
+            for (int i = 0; i < 6; i++) {
+                char c = code.charAt(i);
+                // 不在0~9之间时其中一项为负数
+                invalid |= (c - '0') | ('9' - c);
+            }
+            return invalid >= 0;
+        }
+
+        /**
+         * 查找编码所在行
+         *
+         * @param key 编码数值（0~999999）
+         * @return 行号，不存在时返回负数
+         */
+        private int indexOf(int key) {
+            int mask = slotCodes.length - 1;
+            for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+                int code = slotCodes[slot];
+                if (code == key) {
+                    return slotRows[slot];
+                }
+                if (code < 0) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * 获取（必要时创建）某一行的地区信息
+         *
+         * @param row 行号
+         * @return 地区信息
+         */
+        private DomesticRegionInfo info(int row) {
+            DomesticRegionInfo info = infos[row];
+            if (info == null) {
+                info = createInfo(row);
+                infos[row] = info;
+            }
+            return info;
+        }
+
+        private DomesticRegionInfo createInfo(int row) {
+            int code = codes[row];
+            String name = new String(namePool, names[row] >>> 8, names[row] & 0xFF);
+            char[] digits = new char[6];
+            for (int i = 5, rest = code; i >= 0; i--, rest /= 10) {
+                digits[i] = (char) ('0' + rest % 10);
+            }
+            String codeText = new String(digits);
+            if (code % 10000 == 0) {
+                return new DomesticRegionInfo(codeText, name, null, null);
+            }
+            DomesticRegionInfo provinceRegion = get(code / 10000 * 10000);
+            String province = provinceRegion != null ? provinceRegion.getProvince() : null;
+            if (code % 100 == 0) {
+                return new DomesticRegionInfo(codeText, province, name, null);
+            }
+            DomesticRegionInfo cityRegion = get(code / 100 * 100);
+            String city = cityRegion != null ? cityRegion.getCity() : null;
+            return new DomesticRegionInfo(codeText, province, city, name);
+        }
+    }
+
     /**
      * 国际地区数据快照（三种编码到同一地区信息的视图）
      */
@@ -81,28 +456,318 @@ public final class RegionUtil {
          */
         private final Map<String, InternationalRegionInfo> byNumeric;
 
+        /**
+         * 机读区扩展代码（ICAO 9303，不在ISO 3166中），key是3位代码
+         */
+        private final Map<String, InternationalRegionInfo> extensions;
+
+        /**
+         * 三种编码与扩展代码的直接寻址表
+         */
+        private final InternationalCodeTable table;
+
+        /**
+         * 无法直接寻址的自定义编码（含A~Z以外的字符，通常为空）的字符打包索引
+         */
+        private final CodeIndex<InternationalRegionInfo> alpha3Others;
+        private final CodeIndex<InternationalRegionInfo> alpha2Others;
+        private final CodeIndex<InternationalRegionInfo> numericOthers;
+
         InternationalRegionData(Map<String, InternationalRegionInfo> byAlpha3,
                                 Map<String, InternationalRegionInfo> byAlpha2,
-                                Map<String, InternationalRegionInfo> byNumeric) {
+                                Map<String, InternationalRegionInfo> byNumeric,
+                                Map<String, InternationalRegionInfo> extensions) {
             this.byAlpha3 = byAlpha3;
             this.byAlpha2 = byAlpha2;
             this.byNumeric = byNumeric;
+            this.extensions = extensions;
+            this.table = new InternationalCodeTable(byAlpha3, byAlpha2, byNumeric, extensions);
+            this.alpha3Others = CodeIndex.of(byAlpha3, code -> InternationalCodeTable.alpha3Slot(code, 0) < 0
+                    ? packedKey(code, 0, code.length()) : -1L);
+            this.alpha2Others = CodeIndex.of(byAlpha2, code -> InternationalCodeTable.alpha2Slot(code, 0) < 0
+                    ? packedKey(code, 0, code.length()) : -1L);
+            this.numericOthers = CodeIndex.of(byNumeric, code -> InternationalCodeTable.numericSlot(code, 0) < 0
+                    ? packedKey(code, 0, code.length()) : -1L);
+        }
+
+        /**
+         * 复制三种编码视图并以新视图创建快照（扩展代码不变）
+         *
+         * @param byAlpha3  3位字母编码视图
+         * @param byAlpha2  2位字母编码视图
+         * @param byNumeric 数字编码视图
+         * @return 新快照
+         */
+        InternationalRegionData with(Map<String, InternationalRegionInfo> byAlpha3,
+                                     Map<String, InternationalRegionInfo> byAlpha2,
+                                     Map<String, InternationalRegionInfo> byNumeric) {
+            return new InternationalRegionData(Collections.unmodifiableMap(byAlpha3),
+                    Collections.unmodifiableMap(byAlpha2), Collections.unmodifiableMap(byNumeric), extensions);
         }
     }
 
+    /**
+     * 国际地区编码直接寻址表
+     * <p>
+     * 3位字母编码、2位字母编码和3位数字编码各自按字符打包为整数，直接作为同一数组中不同区段的下标：
+     * 字母编码的每个字符按A~Z为1~26、填充符{@code <}为0计27进制（机读区扩展代码如{@code D<<}也能寻址），
+     * 数字编码即其数值。3位字母区段同时存放机读区扩展代码，以位图标记，ISO 3166查找跳过这些槽，
+     * 机读区查找不跳过，因此国籍、签发地区只需一次数组访问，不创建对象。
+     * 数组共约2.1万个槽，只在加载和增删自定义数据时整体重建。
+     * </p>
+     */
+    private static final class InternationalCodeTable {
+
+        /**
+         * 字母编码每个字符的取值个数（{@code <}和A~Z）
+         */
+        private static final int RADIX = 27;
+
+        private static final int ALPHA3_BASE = 0;
+
+        private static final int ALPHA2_BASE = ALPHA3_BASE + RADIX * RADIX * RADIX;
+
+        private static final int NUMERIC_BASE = ALPHA2_BASE + RADIX * RADIX;
+
+        private static final int SIZE = NUMERIC_BASE + 1000;
+
+        private final InternationalRegionInfo[] slots = new InternationalRegionInfo[SIZE];
+
+        /**
+         * 只存放机读区扩展代码的槽
+         */
+        private final long[] extensionSlots = new long[(SIZE + 63) >>> 6];
+
+        InternationalCodeTable(Map<String, InternationalRegionInfo> byAlpha3,
+                               Map<String, InternationalRegionInfo> byAlpha2,
+                               Map<String, InternationalRegionInfo> byNumeric,
+                               Map<String, InternationalRegionInfo> extensions) {
+            for (Map.Entry<String, InternationalRegionInfo> entry : extensions.entrySet()) {
+                int slot = alpha3Slot(entry.getKey(), 0);
+                if (slot >= 0) {
+                    slots[slot] = entry.getValue();
+                    extensionSlots[slot >>> 6] |= 1L << slot;
+                }
+            }
+            // ISO 3166（含自定义）编码覆盖同名扩展代码
+            for (Map.Entry<String, InternationalRegionInfo> entry : byAlpha3.entrySet()) {
+                int slot = entry.getKey().length() == 3 ? alpha3Slot(entry.getKey(), 0) : -1;
+                if (slot >= 0) {
+                    slots[slot] = entry.getValue();
+                    extensionSlots[slot >>> 6] &= ~(1L << slot);
+                }
+            }
+            for (Map.Entry<String, InternationalRegionInfo> entry : byAlpha2.entrySet()) {
+                int slot = entry.getKey().length() == 2 ? alpha2Slot(entry.getKey(), 0) : -1;
+                if (slot >= 0) {
+                    slots[slot] = entry.getValue();
+                }
+            }
+            for (Map.Entry<String, InternationalRegionInfo> entry : byNumeric.entrySet()) {
+                int slot = entry.getKey().length() == 3 ? numericSlot(entry.getKey(), 0) : -1;
+                if (slot >= 0) {
+                    slots[slot] = entry.getValue();
+                }
+            }
+        }
+
+        /**
+         * 按槽查找ISO 3166编码（不含机读区扩展代码）
+         *
+         * @param slot 槽位
+         * @return 地区信息，如果不存在则返回null
+         */
+        InternationalRegionInfo get(int slot) {
+            return (extensionSlots[slot >>> 6] & 1L << slot) == 0 ? slots[slot] : null;
+        }
+
+        /**
+         * 按槽查找，含机读区扩展代码
+         *
+         * @param slot 槽位
+         * @return 地区信息，如果不存在则返回null
+         */
+        InternationalRegionInfo getWithExtensions(int slot) {
+            return slots[slot];
+        }
+
+        /**
+         * 计算3位字母编码的槽位
+         *
+         * @param code   字符序列
+         * @param offset 起始位置
+         * @return 槽位，区间越界或含{@code <}和A~Z以外的字符时返回-1
+         */
+        static int alpha3Slot(CharSequence code, int offset) {
+            if (code == null || offset < 0 || offset > code.length() - 3) {
+                return -1;
+            }
+            int a = letterValue(code.charAt(offset));
+            int b = letterValue(code.charAt(offset + 1));
+            int c = letterValue(code.charAt(offset + 2));
+            return (a | b | c) < 0 ? -1 : ALPHA3_BASE + (a * RADIX + b) * RADIX + c;
+        }
+
+        /**
+         * 计算2位字母编码的槽位
+         *
+         * @param code   字符序列
+         * @param offset 起始位置
+         * @return 槽位，区间越界或含{@code <}和A~Z以外的字符时返回-1
+         */
+        static int alpha2Slot(CharSequence code, int offset) {
+            if (code == null || offset < 0 || offset > code.length() - 2) {
+                return -1;
+            }
+            int a = letterValue(code.charAt(offset));
+            int b = letterValue(code.charAt(offset + 1));
+            return (a | b) < 0 ? -1 : ALPHA2_BASE + a * RADIX + b;
+        }
+
+        /**
+         * 计算3位数字编码的槽位
+         *
+         * @param code   字符序列
+         * @param offset 起始位置
+         * @return 槽位，区间越界或含非数字字符时返回-1
+         */
+        static int numericSlot(CharSequence code, int offset) {
+            if (code == null || offset < 0 || offset > code.length() - 3) {
+                return -1;
+            }
+            int a = code.charAt(offset) - '0';
+            int b = code.charAt(offset + 1) - '0';
+            int c = code.charAt(offset + 2) - '0';
+            return (a | b | c | 9 - a | 9 - b | 9 - c) < 0 ? -1 : NUMERIC_BASE + (a * 10 + b) * 10 + c;
+        }
+
+        private static int letterValue(char c) {
+            if (c >= 'A' && c <= 'Z') {
+                return c - 'A' + 1;
+            }
+            return c == '<' ? 0 : -1;
+        }
+    }
+
+    /**
+     * 编码索引（按long键排序的数组，二分查找，查找时不创建对象）
+     *
+     * @param <V> 地区信息类型
+     */
+    private static final class CodeIndex<V> {
+
+        private final long[] keys;
+
+        private final Object[] values;
+
+        private CodeIndex(long[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        /**
+         * 构建索引
+         *
+         * @param map    编码到地区信息的映射
+         * @param keyFn  编码到键的函数，返回负数表示该编码不参与索引
+         * @param <V>    地区信息类型
+         * @return 索引
+         */
+        static <V> CodeIndex<V> of(Map<String, V> map, ToLongFunction<String> keyFn) {
+            TreeMap<Long, V> sorted = new TreeMap<>();
+            for (Map.Entry<String, V> entry : map.entrySet()) {
+                long key = keyFn.applyAsLong(entry.getKey());
+                if (key >= 0) {
+                    sorted.put(key, entry.getValue());
+                }
+            }
+            long[] keys = new long[sorted.size()];
+            Object[] values = new Object[sorted.size()];
+            int i = 0;
+            for (Map.Entry<Long, V> entry : sorted.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = entry.getValue();
+                i++;
+            }
+            return new CodeIndex<>(keys, values);
+        }
+
+        /**
+         * 查找
+         *
+         * @param key 键（负数表示无效编码）
+         * @return 地区信息，如果不存在则返回null
+         */
+        @SuppressWarnings("unchecked")
+        V get(long key) {
+            if (key < 0) {
+                return null;
+            }
+            int i = Arrays.binarySearch(keys, key);
+            return i >= 0 ? (V) values[i] : null;
+        }
+    }
+
+    /**
+     * 计算国内地区编码的索引键（编码的数值，不足6位的前缀按补0处理）
+     *
+     * @param code   字符序列
+     * @param offset 起始位置
+     * @param length 长度（2、4或6）
+     * @return 索引键，长度不合法、区间越界或包含非数字字符时返回-1
+     */
+    static int domesticKey(CharSequence code, int offset, int length) {
+        if (code == null || (length != 2 && length != 4 && length != 6)
+                || offset < 0 || offset > code.length() - length) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        for (int i = length; i < 6; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    /**
+     * 计算国际地区编码的索引键（长度和每个字符按16位打包）
+     *
+     * @param code   字符序列
+     * @param offset 起始位置
+     * @param length 长度（1~3）
+     * @return 索引键，长度不合法或区间越界时返回-1
+     */
+    private static long packedKey(CharSequence code, int offset, int length) {
+        if (code == null || length < 1 || length > 3 || offset < 0 || offset > code.length() - length) {
+            return -1L;
+        }
+        long key = length;
+        for (int i = offset; i < offset + length; i++) {
+            key = key << 16 | code.charAt(i);
+        }
+        return key;
+    }
+
     /**
      * 获取国内地区数据快照（懒加载，双重检查锁定）
      *
      * @return 国内地区数据
      */
-    private static Map<String, DomesticRegionInfo> domesticData() {
-        Map<String, DomesticRegionInfo> data = domesticRegionCodeData;
+    private static DomesticRegionData domesticData() {
+        DomesticRegionData data = domesticRegionData;
         if (data == null) {
             synchronized (DOMESTIC_LOCK) {
-                if (domesticRegionCodeData == null) {
-                    domesticRegionCodeData = loadDomesticRegionData();
+                if (domesticRegionData == null) {
+                    domesticRegionData = new DomesticRegionData(
+                            loadDomesticRegionData(), new int[0], new DomesticRegionInfo[0], Collections.emptyMap());
                 }
-                data = domesticRegionCodeData;
+                data = domesticRegionData;
             }
         }
         return data;
@@ -118,6 +783,34 @@ public final class RegionUtil {
         return domesticData().get(code);
     }
 
+    /**
+     * 通过字符序列区间内的编码获取国内地区（不创建字符串）
+     * <p>
+     * length为2或4时按省级、地级前缀补0到6位查找，如{@code "3301"}等价于{@code "330100"}。
+     * </p>
+     *
+     * @param code   字符序列
+     * @param offset 编码起始位置
+     * @param length 编码长度（2、4或6）
+     * @return 国内地区，如果不存在、长度不合法或区间越界则返回null
+     */
+    public static DomesticRegionInfo getDomesticRegionInfoByCode(CharSequence code, int offset, int length) {
+        return domesticData().get(domesticKey(code, offset, length));
+    }
+
+    /**
+     * 通过6位数值编码获取国内地区（不创建字符串）
+     * <p>
+     * 供已将编码解码为整数的调用方使用，如{@code 330105}等价于{@code "330105"}。
+     * </p>
+     *
+     * @param code 编码数值（0~999999）
+     * @return 国内地区，如果不存在或超出范围则返回null
+     */
+    public static DomesticRegionInfo getDomesticRegionInfoByCode(int code) {
+        return code <= 999999 ? domesticData().get(code) : null;
+    }
+
     /**
      * 添加或覆盖国内地区数据
      *
@@ -126,11 +819,19 @@ public final class RegionUtil {
      */
     public static void addDomesticRegionData(DomesticRegionInfo domesticRegionInfo) {
         Objects.requireNonNull(domesticRegionInfo, "国内地区信息是空");
-        Objects.requireNonNull(domesticRegionInfo.getCode(), "地区编码不能为空");
+        String code = Objects.requireNonNull(domesticRegionInfo.getCode(), "地区编码不能为空");
         synchronized (DOMESTIC_LOCK) {
-            Map<String, DomesticRegionInfo> copy = new HashMap<>(domesticData());
-            copy.put(domesticRegionInfo.getCode(), domesticRegionInfo);
-            domesticRegionCodeData = Collections.unmodifiableMap(copy);
+            DomesticRegionData current = domesticData();
+            int key = code.length() == 6 ? domesticKey(code, 0, 6) : -1;
+            if (key >= 0) {
+                domesticRegionData = current.withCustom(key, domesticRegionInfo);
+            } else {
+                Map<String, DomesticRegionInfo> copy = new HashMap<>(current.customOthers);
+                copy.put(code, domesticRegionInfo);
+                domesticRegionData = new DomesticRegionData(current.table, current.customKeys, current.customValues,
+                        Collections.unmodifiableMap(copy));
+            }
+            DATA_VERSION.incrementAndGet();
         }
     }
 
@@ -143,11 +844,22 @@ public final class RegionUtil {
     public static DomesticRegionInfo removeDomesticRegionData(String code) {
         Objects.requireNonNull(code, "地区编码不能为空");
         synchronized (DOMESTIC_LOCK) {
-            DomesticRegionInfo removed = domesticData().get(code);
+            DomesticRegionData current = domesticData();
+            DomesticRegionInfo removed = getDomesticRegionInfoByCode(code);
             if (removed != null) {
-                Map<String, DomesticRegionInfo> copy = new HashMap<>(domesticData());
-                copy.remove(code);
-                domesticRegionCodeData = Collections.unmodifiableMap(copy);
+                int key = code.length() == 6 ? domesticKey(code, 0, 6) : -1;
+                if (key < 0) {
+                    Map<String, DomesticRegionInfo> copy = new HashMap<>(current.customOthers);
+                    copy.remove(code);
+                    domesticRegionData = new DomesticRegionData(current.table, current.customKeys, current.customValues,
+                            Collections.unmodifiableMap(copy));
+                } else if (current.table.contains(key)) {
+                    // 基础表不可变，以null覆盖表示移除
+                    domesticRegionData = current.withCustom(key, null);
+                } else {
+                    domesticRegionData = current.withoutCustom(key);
+                }
+                DATA_VERSION.incrementAndGet();
             }
             return removed;
         }
@@ -156,50 +868,11 @@ public final class RegionUtil {
     /**
      * 加载国内地区数据（GB/T 2260《中华人民共和国行政区划代码》）
      *
-     * @return 国内地区数据（不可变）
-     */
-    private static Map<String, DomesticRegionInfo> loadDomesticRegionData() {
-        List<List<String>> data;
-        try {
-            data = FileUtil.readCsvFromFile("/region/gb2260.csv");
-        } catch (IOException e) {
-            throw new RuntimeException("加载GB/T 2260地区数据失败", e);
-        }
-        Map<String, DomesticRegionInfo> codeMap = new HashMap<>();
-        int rowNum = 0;
-        for (List<String> row : data) {
-            rowNum++;
-            if (row.size() < 2) {
-                throw new RuntimeException("国内地区数据格式错误，第" + rowNum + "行应有至少2列，实际" + row.size() + "列");
-            }
-            String code = row.get(0);
-            String value = row.get(1);
-            String province = null;
-            String city = null;
-            String county = null;
-            if (code.endsWith("0000")) {
-                province = value;
-            } else if (code.endsWith("00")) {
-                DomesticRegionInfo provinceRegion = codeMap.get(code.substring(0, 2) + "0000");
-                if (provinceRegion != null) {
-                    province = provinceRegion.getProvince();
-                }
-                city = value;
-            } else {
-                DomesticRegionInfo provinceRegion = codeMap.get(code.substring(0, 2) + "0000");
-                if (provinceRegion != null) {
-                    province = provinceRegion.getProvince();
-                }
-                DomesticRegionInfo cityRegion = codeMap.get(code.substring(0, 4) + "00");
-                if (cityRegion != null) {
-                    city = cityRegion.getCity();
-                }
-                county = value;
-            }
-            DomesticRegionInfo domesticRegionInfo = new DomesticRegionInfo(code, province, city, county);
-            codeMap.put(code, domesticRegionInfo);
-        }
-        return Collections.unmodifiableMap(codeMap);
+     * @return 国内地区基础表
+     */
+    private static DomesticRegionTable loadDomesticRegionData() {
+        RegionSnapshot.Domestic data = RegionSnapshot.loadDomestic();
+        return new DomesticRegionTable(data.codes, data.names, data.namePool);
     }
 
     /**
@@ -231,7 +904,22 @@ public final class RegionUtil {
      * @return 国际地区信息，如果不存在则返回null
      */
     public static InternationalRegionInfo getInternationalRegionInfoByAlpha2(String alpha2) {
-        return internationalData().byAlpha2.get(alpha2);
+        InternationalRegionData data = internationalData();
+        int slot = alpha2 != null && alpha2.length() == 2 ? InternationalCodeTable.alpha2Slot(alpha2, 0) : -1;
+        return slot >= 0 ? data.table.get(slot) : data.byAlpha2.get(alpha2);
+    }
+
+    /**
+     * 通过字符序列区间内的2位字母编码获取国际地区（不创建字符串）
+     *
+     * @param code   字符序列
+     * @param offset 编码起始位置，从此处读取2位
+     * @return 国际地区信息，如果不存在或区间越界则返回null
+     */
+    public static InternationalRegionInfo getInternationalRegionInfoByAlpha2(CharSequence code, int offset) {
+        InternationalRegionData data = internationalData();
+        int slot = InternationalCodeTable.alpha2Slot(code, offset);
+        return slot >= 0 ? data.table.get(slot) : data.alpha2Others.get(packedKey(code, offset, 2));
     }
 
     /**
@@ -245,7 +933,50 @@ public final class RegionUtil {
      * @return 国际地区信息，如果不存在则返回null
      */
     public static InternationalRegionInfo getInternationalRegionInfoByAlpha3(String alpha3) {
-        return internationalData().byAlpha3.get(alpha3);
+        InternationalRegionData data = internationalData();
+        int slot = alpha3 != null && alpha3.length() == 3 ? InternationalCodeTable.alpha3Slot(alpha3, 0) : -1;
+        return slot >= 0 ? data.table.get(slot) : data.byAlpha3.get(alpha3);
+    }
+
+    /**
+     * 通过字符序列区间内的3位字母编码获取国际地区（不创建字符串）
+     *
+     * @param code   字符序列
+     * @param offset 编码起始位置，从此处读取3位
+     * @return 国际地区信息，如果不存在或区间越界则返回null
+     */
+    public static InternationalRegionInfo getInternationalRegionInfoByAlpha3(CharSequence code, int offset) {
+        InternationalRegionData data = internationalData();
+        int slot = InternationalCodeTable.alpha3Slot(code, offset);
+        return slot >= 0 ? data.table.get(slot) : data.alpha3Others.get(packedKey(code, offset, 3));
+    }
+
+    /**
+     * 通过机读区中的3位地区代码获取国际地区
+     * <p>
+     * 除ISO 3166的3位字母编码外，还识别ICAO 9303为机读区定义的扩展代码，
+     * 如{@code D<<}（德国）、{@code GBD}（英国海外领土公民）、{@code UNO}（联合国组织）、{@code XXA}（无国籍人）。
+     * 同名时ISO 3166编码（含自定义数据）优先。
+     * </p>
+     *
+     * @param code 3位代码
+     * @return 国际地区信息，如果不存在则返回null
+     */
+    public static InternationalRegionInfo getInternationalRegionInfoByMrzCode(String code) {
+        return code != null && code.length() == 3 ? getInternationalRegionInfoByMrzCode(code, 0) : null;
+    }
+
+    /**
+     * 通过字符序列区间内的机读区3位地区代码获取国际地区（不创建字符串，见{@link #getInternationalRegionInfoByMrzCode(String)}）
+     *
+     * @param code   字符序列
+     * @param offset 代码起始位置，从此处读取3位
+     * @return 国际地区信息，如果不存在或区间越界则返回null
+     */
+    public static InternationalRegionInfo getInternationalRegionInfoByMrzCode(CharSequence code, int offset) {
+        InternationalRegionData data = internationalData();
+        int slot = InternationalCodeTable.alpha3Slot(code, offset);
+        return slot >= 0 ? data.table.getWithExtensions(slot) : data.alpha3Others.get(packedKey(code, offset, 3));
     }
 
     /**
@@ -259,7 +990,22 @@ public final class RegionUtil {
      * @return 国际地区信息，如果不存在则返回null
      */
     public static InternationalRegionInfo getInternationalRegionInfoByNumeric(String numeric) {
-        return internationalData().byNumeric.get(numeric);
+        InternationalRegionData data = internationalData();
+        int slot = numeric != null && numeric.length() == 3 ? InternationalCodeTable.numericSlot(numeric, 0) : -1;
+        return slot >= 0 ? data.table.get(slot) : data.byNumeric.get(numeric);
+    }
+
+    /**
+     * 通过字符序列区间内的数字编码获取国际地区（不创建字符串）
+     *
+     * @param code   字符序列
+     * @param offset 编码起始位置，从此处读取3位
+     * @return 国际地区信息，如果不存在或区间越界则返回null
+     */
+    public static InternationalRegionInfo getInternationalRegionInfoByNumeric(CharSequence code, int offset) {
+        InternationalRegionData data = internationalData();
+        int slot = InternationalCodeTable.numericSlot(code, offset);
+        return slot >= 0 ? data.table.get(slot) : data.numericOthers.get(packedKey(code, offset, 3));
     }
 
     /**
@@ -283,10 +1029,8 @@ public final class RegionUtil {
             if (internationalRegionInfo.getNumeric() != null) {
                 numericCopy.put(internationalRegionInfo.getNumeric(), internationalRegionInfo);
             }
-            internationalRegionData = new InternationalRegionData(
-                    Collections.unmodifiableMap(alpha3Copy),
-                    Collections.unmodifiableMap(alpha2Copy),
-                    Collections.unmodifiableMap(numericCopy));
+            internationalRegionData = current.with(alpha3Copy, alpha2Copy, numericCopy);
+            DATA_VERSION.incrementAndGet();
         }
     }
 
@@ -311,10 +1055,8 @@ public final class RegionUtil {
                 alpha3Copy.remove(alpha3);
                 alpha2Copy.values().removeIf(removed::equals);
                 numericCopy.values().removeIf(removed::equals);
-                internationalRegionData = new InternationalRegionData(
-                        Collections.unmodifiableMap(alpha3Copy),
-                        Collections.unmodifiableMap(alpha2Copy),
-                        Collections.unmodifiableMap(numericCopy));
+                internationalRegionData = current.with(alpha3Copy, alpha2Copy, numericCopy);
+                DATA_VERSION.incrementAndGet();
             }
             return removed;
         }
@@ -330,37 +1072,37 @@ public final class RegionUtil {
      * @return 国际地区数据（不可变）
      */
     private static InternationalRegionData loadInternationalRegionData() {
-        List<List<String>> data;
-        try {
-            data = FileUtil.readCsvFromFile("/region/iso3166.csv");
-        } catch (IOException e) {
-            throw new RuntimeException("加载ISO 3166地区数据失败", e);
-        }
+        RegionSnapshot.International data = RegionSnapshot.loadInternational();
         Map<String, InternationalRegionInfo> alpha3Map = new HashMap<>();
         Map<String, InternationalRegionInfo> alpha2Map = new HashMap<>();
         Map<String, InternationalRegionInfo> numericMap = new HashMap<>();
-        int rowNum = 0;
-        for (List<String> row : data) {
-            rowNum++;
-            if (row.size() < 7) {
-                throw new RuntimeException("国际地区数据格式错误，第" + rowNum + "行应有至少7列，实际" + row.size() + "列");
-            }
-            String chineseShortName = row.get(0);
-            String englishShortName = row.get(1);
-            String chineseFullName = row.get(2);
-            String englishFullName = row.get(3);
-            String alpha3 = row.get(4);
-            String alpha2 = row.get(5);
-            String numeric = row.get(6);
-            InternationalRegionInfo internationalRegionInfo = new InternationalRegionInfo(
-                    chineseShortName, englishShortName, chineseFullName, englishFullName, alpha3, alpha2, numeric);
-            alpha3Map.put(alpha3, internationalRegionInfo);
-            alpha2Map.put(alpha2, internationalRegionInfo);
-            numericMap.put(numeric, internationalRegionInfo);
+        for (int i = 0; i < data.isoFields.length; i += RegionSnapshot.FIELDS) {
+            InternationalRegionInfo internationalRegionInfo = toInternationalRegionInfo(data.isoFields, i);
+            alpha3Map.put(internationalRegionInfo.getAlpha3(), internationalRegionInfo);
+            alpha2Map.put(internationalRegionInfo.getAlpha2(), internationalRegionInfo);
+            numericMap.put(internationalRegionInfo.getNumeric(), internationalRegionInfo);
+        }
+        Map<String, InternationalRegionInfo> extensionMap = new HashMap<>();
+        for (int i = 0; i < data.extensionFields.length; i += RegionSnapshot.FIELDS) {
+            InternationalRegionInfo internationalRegionInfo = toInternationalRegionInfo(data.extensionFields, i);
+            extensionMap.put(internationalRegionInfo.getAlpha3(), internationalRegionInfo);
         }
         return new InternationalRegionData(
                 Collections.unmodifiableMap(alpha3Map),
                 Collections.unmodifiableMap(alpha2Map),
-                Collections.unmodifiableMap(numericMap));
+                Collections.unmodifiableMap(numericMap),
+                Collections.unmodifiableMap(extensionMap));
+    }
+
+    /**
+     * 由一行字段创建国际地区信息
+     *
+     * @param fields 平铺的字段
+     * @param offset 行的起始位置
+     * @return 国际地区信息
+     */
+    private static InternationalRegionInfo toInternationalRegionInfo(String[] fields, int offset) {
+        return new InternationalRegionInfo(fields[offset], fields[offset + 1], fields[offset + 2], fields[offset + 3],
+                fields[offset + 4], fields[offset + 5], fields[offset + 6]);
     }
 }
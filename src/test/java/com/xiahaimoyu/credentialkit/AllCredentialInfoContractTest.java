@@ -10,6 +10,8 @@ import com.xiahaimoyu.credentialkit.processor.ForeignerPermanentResidenceIdProce
 import com.xiahaimoyu.credentialkit.processor.HkMacaoResidencePermitProcessor;
 import com.xiahaimoyu.credentialkit.processor.HkMacaoTravelPermitProcessor;
 import com.xiahaimoyu.credentialkit.processor.MachineReadablePassportProcessor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadableTd1Processor;
+import com.xiahaimoyu.credentialkit.processor.MachineReadableTd2Processor;
 import com.xiahaimoyu.credentialkit.processor.MainlandResidentIdProcessor;
 import com.xiahaimoyu.credentialkit.processor.TaiwanResidencePermitProcessor;
 import com.xiahaimoyu.credentialkit.processor.TaiwanTravelPermitProcessor;
@@ -47,7 +49,11 @@ class AllCredentialInfoContractTest {
                 {DefaultCredentialType.FOREIGNER_PERMANENT_RESIDENCE_ID, new ForeignerPermanentResidenceIdProcessor(), "KAZ110090123105"},
                 {DefaultCredentialType.MACHINE_READABLE_PASSPORT, new MachineReadablePassportProcessor(),
                         "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16"},
-                {DefaultCredentialType.UNIFIED_SOCIAL_CREDIT, new UnifiedSocialCreditProcessor(), "91330106MA27Y4U47R"}
+                {DefaultCredentialType.UNIFIED_SOCIAL_CREDIT, new UnifiedSocialCreditProcessor(), "91330106MA27Y4U47R"},
+                {DefaultCredentialType.MACHINE_READABLE_TD1, new MachineReadableTd1Processor(),
+                        "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE"},
+                {DefaultCredentialType.MACHINE_READABLE_TD2, new MachineReadableTd2Processor(),
+                        "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2"}
         };
     }
 
@@ -73,6 +79,17 @@ class AllCredentialInfoContractTest {
         assertThat(viaKit.get().getType()).isEqualTo(type);
     }
 
+    @ParameterizedTest
+    @MethodSource("specimens")
+    void detectFindsEverySpecimen(DefaultCredentialType type,
+                                  CredentialProcessor<? extends CredentialInfo> processor,
+                                  String credential) {
+        // 证件形状是校验通过的必要条件：形状预过滤不能漏掉任何合法样例（含小写、首尾空白）
+        assertThat(processor.getShape().allowsLength(credential.length())).isTrue();
+        assertThat(CredentialKit.detect(credential)).contains(type);
+        assertThat(CredentialKit.detect(" " + credential.toLowerCase(java.util.Locale.ROOT) + "\t")).contains(type);
+    }
+
     @Test
     void differentInfoTypesAreNotEqual() {
         // 两个"形状相似"但类型不同的信息对象不应相等（各自类不同）
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.DomesticRegionInfo;
+import com.xiahaimoyu.credentialkit.info.MainlandResidentIdInfo;
+import com.xiahaimoyu.credentialkit.processor.CredentialParser;
+import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.CredentialValidator;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 带结果缓存的注册中心测试
+ */
+@Isolated
+class CachedCredentialRegistryTest {
+
+    private static final String ID = "330105197810270025";
+
+    @AfterEach
+    void resetClock() {
+        DateUtil.resetClock();
+    }
+
+    @Test
+    void cachedResultsMatchDelegate() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        CredentialRegistry registry = cache.getDelegate();
+        assertThat(cache.detect(ID)).isEqualTo(registry.detect(ID));
+        assertThat(cache.detectBest(ID)).isEqualTo(registry.detectBest(ID));
+        assertThat(cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid"))
+                .isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        Optional<MainlandResidentIdInfo> info = cache.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID, MainlandResidentIdInfo.class);
+        assertThat(info).isPresent();
+        assertThat(info.get().getType()).isEqualTo(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(cache.detect(null)).isEmpty();
+        assertThat(cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, null).isValid()).isFalse();
+    }
+
+    @Test
+    void keyedByNormalizedCredential() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "33010519781027002x");
+        cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, " 33010519781027002X ");
+        CachedCredentialRegistry.Stats stats = cache.stats();
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void operationsAndTypesDoNotShareEntries() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID);
+        cache.validate(DefaultCredentialType.HK_MACAO_RESIDENCE_PERMIT, ID);
+        cache.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID);
+        cache.detect(ID);
+        assertThat(cache.stats().getHitCount()).isZero();
+        assertThat(cache.size()).isEqualTo(4);
+    }
+
+    @Test
+    void parseHitReturnsIndependentCopy() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        MainlandResidentIdInfo first = cache.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID, MainlandResidentIdInfo.class).get();
+        first.setBirthDate("20000101");
+        MainlandResidentIdInfo second = cache.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID, MainlandResidentIdInfo.class).get();
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getBirthDate()).isEqualTo("19781027");
+        assertThat(second.getType()).isEqualTo(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(cache.stats().getHitCount()).isEqualTo(1);
+        assertThatThrownBy(() -> cache.detect(ID).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void regionDataChangeInvalidatesEntries() {
+        DomesticRegionInfo original = RegionUtil.getDomesticRegionInfoByCode("330105");
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        try {
+            assertThat(cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID).isValid()).isTrue();
+            RegionUtil.removeDomesticRegionData("330105");
+            assertThat(cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID).isValid()).isFalse();
+        } finally {
+            RegionUtil.addDomesticRegionData(original);
+        }
+        assertThat(cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID).isValid()).isTrue();
+        assertThat(cache.stats().getHitCount()).isZero();
+        assertThat(cache.stats().getInvalidationCount()).isEqualTo(2);
+    }
+
+    @Test
+    void sizeIsBounded() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 64);
+        for (int i = 0; i < 1000; i++) {
+            cache.validate(DefaultCredentialType.TAIWAN_TRAVEL_PERMIT, String.format("%08d", i));
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.stats().getEvictionCount()).isGreaterThanOrEqualTo(1000 - 64);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvicted() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 1);
+        cache.validate(DefaultCredentialType.TAIWAN_TRAVEL_PERMIT, "12345678");
+        cache.validate(DefaultCredentialType.TAIWAN_TRAVEL_PERMIT, "87654321");
+        cache.validate(DefaultCredentialType.TAIWAN_TRAVEL_PERMIT, "12345678");
+        assertThat(cache.stats().getHitCount()).isZero();
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void clockChangeInvalidatesEntries() {
+        // 出生日期2025-01-01：2024年时是未来日期，2026年时有效
+        String credential = "110101202501010016";
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        CredentialRegistry registry = cache.getDelegate();
+        DateUtil.setClock(Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneId.of("UTC")));
+        ValidationResult before = cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, credential);
+        assertThat(before).isEqualTo(registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, credential));
+        DateUtil.setClock(Clock.fixed(Instant.parse("2026-06-01T00:00:00Z"), ZoneId.of("UTC")));
+        ValidationResult after = cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, credential);
+        assertThat(after).isEqualTo(registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, credential));
+        assertThat(before.isValid()).isFalse();
+        assertThat(after.isValid()).isTrue();
+        assertThat(cache.stats().getInvalidationCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    void registryChangeInvalidatesEntries() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        assertThat(cache.detect("12345678")).doesNotContain(TestCredentialType.TEST_ID);
+        cache.getDelegate().register(TestCredentialType.TEST_ID, new TestCredentialProcessor());
+        assertThat(cache.detect("12345678")).first().isEqualTo(TestCredentialType.TEST_ID);
+    }
+
+    @Test
+    void invalidateAllClearsEntries() {
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.create(), 100);
+        cache.detect(ID);
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+        cache.detect(ID);
+        assertThat(cache.stats().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentMissesAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, new BlockingProcessor(started, release, computations));
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(registry, 100);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<ValidationResult> first = pool.submit(() -> cache.validate(TestCredentialType.TEST_ID, "12345678"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<ValidationResult> second = pool.submit(() -> cache.validate(TestCredentialType.TEST_ID, "12345678"));
+            // 等待第二个请求进入合并等待
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.stats().getCoalescedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).isValid()).isTrue();
+            assertThat(second.get(5, TimeUnit.SECONDS).isValid()).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(cache.stats().getCoalescedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        AtomicInteger calls = new AtomicInteger();
+        registry.register(TestCredentialType.TEST_ID, new TestCredentialProcessor() {
+            @Override
+            public ValidationResult validate(String credential) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("boom");
+            }
+
+            @Override
+            public boolean usesDefaultNormalization() {
+                return false;
+            }
+        });
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(registry, 100);
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> cache.validate(TestCredentialType.TEST_ID, "12345678"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThatThrownBy(() -> CachedCredentialRegistry.create(null, 10)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CachedCredentialRegistry.create(CredentialRegistry.create(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        CachedCredentialRegistry cache = CachedCredentialRegistry.create(CredentialRegistry.createEmpty(), 10);
+        assertThatThrownBy(() -> cache.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID))
+                .isInstanceOf(UnsupportedOperationException.class);
+        List<CredentialType> types = cache.detect(ID);
+        assertThat(types).isEmpty();
+    }
+
+    /**
+     * 校验时阻塞直到放行的测试处理器
+     */
+    private static final class BlockingProcessor extends CredentialProcessor<TestCredentialInfo> {
+
+        BlockingProcessor(CountDownLatch started, CountDownLatch release, AtomicInteger computations) {
+            super(
+                    Collections.singletonList(
+                            (CredentialValidator) credential -> {
+                                computations.incrementAndGet();
+                                started.countDown();
+                                try {
+                                    release.await(5, TimeUnit.SECONDS);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                return ValidationResult.success();
+                            }
+                    ),
+                    Collections.<CredentialParser<TestCredentialInfo>>emptyList()
+            );
+        }
+
+        @Override
+        protected TestCredentialInfo createInfo() {
+            return new TestCredentialInfo();
+        }
+    }
+}
@@ -9,12 +9,23 @@ import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.Gender;
 import com.xiahaimoyu.credentialkit.info.CredentialInfo;
 import com.xiahaimoyu.credentialkit.info.MainlandResidentIdInfo;
+import com.xiahaimoyu.credentialkit.processor.CredentialParser;
+import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.CredentialShape;
+import com.xiahaimoyu.credentialkit.processor.CredentialValidator;
+import com.xiahaimoyu.credentialkit.processor.MainlandResidentIdProcessor;
+import com.xiahaimoyu.credentialkit.processor.ParseResult;
 import com.xiahaimoyu.credentialkit.processor.ValidationResult;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,6 +43,14 @@ class CredentialKitTest {
                 .hasValue(ErrorCode.CHECK_DIGIT_ERROR);
     }
 
+    @Test
+    void isValidMatchesValidate() {
+        assertThat(CredentialKit.isValid(DefaultCredentialType.MAINLAND_RESIDENT_ID, " 330105197810270025 ")).isTrue();
+        assertThat(CredentialKit.isValid(DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270024")).isFalse();
+        assertThat(CredentialKit.isValid(DefaultCredentialType.MAINLAND_RESIDENT_ID, null)).isFalse();
+        assertThat(CredentialKit.isValid(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT, "H12345678")).isTrue();
+    }
+
     @Test
     void parseSuccess() {
         Optional<? extends CredentialInfo> infoOpt = CredentialKit.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270025");
@@ -73,6 +92,36 @@ class CredentialKitTest {
         assertThat(infoOpt).isEmpty();
     }
 
+    @Test
+    void validateAndParseReturnsInfoOrErrorCode() {
+        ParseResult<MainlandResidentIdInfo> success = CredentialKit.validateAndParse(
+                DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270025", MainlandResidentIdInfo.class);
+        assertThat(success.isValid()).isTrue();
+        assertThat(success.getValidationResult()).isSameAs(ValidationResult.success());
+        assertThat(success.getInfo()).hasValueSatisfying(info -> {
+            assertThat(info.getBirthDate()).isEqualTo("19781027");
+            assertThat(info.getType()).isEqualTo(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        });
+
+        ParseResult<? extends CredentialInfo> failure =
+                CredentialKit.validateAndParse(DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270024");
+        assertThat(failure.isValid()).isFalse();
+        assertThat(failure.getErrorCode()).hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+        assertThat(failure.getInfo()).isEmpty();
+        // 失败结果为缓存实例，与单独校验的结果一致
+        assertThat(failure).isSameAs(ParseResult.failure(ErrorCode.CHECK_DIGIT_ERROR));
+        assertThat(failure.getValidationResult())
+                .isSameAs(CredentialKit.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270024"));
+        assertThat(CredentialKit.validateAndParse(DefaultCredentialType.MAINLAND_RESIDENT_ID, null).getErrorCode())
+                .hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+
+        assertThatThrownBy(() -> CredentialKit.validateAndParse(DefaultCredentialType.MAINLAND_RESIDENT_ID,
+                "330105197810270025", com.xiahaimoyu.credentialkit.info.UnifiedSocialCreditInfo.class))
+                .isInstanceOf(ClassCastException.class);
+        assertThat(CredentialKit.validateAndParse(DefaultCredentialType.MAINLAND_RESIDENT_ID,
+                "330105197810270024", com.xiahaimoyu.credentialkit.info.UnifiedSocialCreditInfo.class).isValid()).isFalse();
+    }
+
     // 智能识别测试
     @Test
     void detectMainlandResidentId() {
@@ -272,4 +321,404 @@ class CredentialKitTest {
         assertThat(types).first().isEqualTo(TestCredentialType.TEST_ID);
         assertThat(types).contains(DefaultCredentialType.TAIWAN_TRAVEL_PERMIT);
     }
+
+    // ==================== 形状预过滤测试 ====================
+
+    @Test
+    void detectSkipsProcessorsWhoseShapeDoesNotMatch() {
+        CountingProcessor counting = new CountingProcessor();
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, counting);
+        // 长度不符，处理器不应被调用
+        assertThat(registry.detect("1234567")).isEmpty();
+        // 字符类别不符，处理器不应被调用
+        assertThat(registry.detect("1234567A")).isEmpty();
+        assertThat(counting.calls.get()).isZero();
+        // 形状匹配（含首尾空白）才进入完整校验
+        assertThat(registry.detect(" 12345678 ")).containsExactly(TestCredentialType.TEST_ID);
+        assertThat(counting.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void detectTreatsNonAsciiAsOtherClass() {
+        CountingProcessor counting = new CountingProcessor();
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, counting);
+        assertThat(registry.detect("1234567测")).isEmpty();
+        assertThat(counting.calls.get()).isZero();
+    }
+
+    @Test
+    void detectKeepsCustomNormalization() {
+        // 覆写normalize的处理器仍接收原始输入自行规格化
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, new DashStrippingProcessor());
+        assertThat(registry.detect("1234-5678")).containsExactly(TestCredentialType.TEST_ID);
+    }
+
+    @Test
+    void detectSkipsShapeFilterForCustomNormalization() {
+        // 子类继承了15/18位的形状，但自行规格化前的输入带连字符，不能按默认规格化的形状过滤
+        MainlandResidentIdProcessor dashStripping = new MainlandResidentIdProcessor() {
+            @Override
+            protected String normalize(String credential) {
+                return super.normalize(credential).replace("-", "");
+            }
+
+            @Override
+            public boolean usesDefaultNormalization() {
+                return false;
+            }
+        };
+        String credential = "110105-19491231-002X";
+        assertThat(dashStripping.validate(credential).isValid()).isTrue();
+        CredentialRegistry registry = CredentialRegistry.create();
+        registry.register(DefaultCredentialType.MAINLAND_RESIDENT_ID, dashStripping);
+        assertThat(registry.detect(credential)).containsExactly(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(registry.detectBest(credential)).hasValue(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(registry.detectAndParse(credential).getBestType()).hasValue(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        ByteBuffer bytes = ByteBuffer.wrap(credential.getBytes(StandardCharsets.US_ASCII));
+        assertThat(registry.detect(bytes, 0, bytes.remaining())).containsExactly(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        // 不带连字符的输入照常识别
+        assertThat(registry.detect("11010519491231002X")).containsExactly(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+    }
+
+    @Test
+    void detectSharesResidentIdFamilyOnlyWithBuiltInProcessors() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        assertThat(registry.detect("330105197810270025")).containsExactly(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(registry.detectBest("830000199201300022")).hasValue(DefaultCredentialType.TAIWAN_RESIDENCE_PERMIT);
+        // 内置处理器的子类不共用族判定结果，仍走自己的校验
+        registry.register(DefaultCredentialType.MAINLAND_RESIDENT_ID, new MainlandResidentIdProcessor() {
+            @Override
+            public ValidationResult validateNormalized(String normalizedCredential) {
+                return ValidationResult.failure(ErrorCode.REGION_ERROR);
+            }
+
+            @Override
+            public boolean isValidNormalized(String normalizedCredential) {
+                return false;
+            }
+        });
+        assertThat(registry.detect("330105197810270025")).isEmpty();
+    }
+
+    @Test
+    void detectIndexFollowsUnregister() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        assertThat(registry.detect("H12345678")).contains(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT);
+        registry.unregister(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT);
+        assertThat(registry.detect("H12345678")).doesNotContain(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT);
+    }
+
+    // ==================== 注册表快照测试 ====================
+
+    @Test
+    void detectOrderIndependentOfRegistrationOrder() {
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        ValueCredentialType low = new ValueCredentialType("LOW", 50);
+        ValueCredentialType high = new ValueCredentialType("HIGH", 5);
+        registry.register(low, new TestCredentialProcessor());
+        registry.register(TestCredentialType.TEST_ID, new TestCredentialProcessor());
+        registry.register(high, new TestCredentialProcessor());
+        // 快照按优先级预先排序：TEST_ID(0) < HIGH(5) < LOW(50)
+        assertThat(registry.detect("12345678")).containsExactly(TestCredentialType.TEST_ID, high, low);
+    }
+
+    @Test
+    void dispatchFallsBackToEqualsForNonIdenticalType() {
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(new ValueCredentialType("CUSTOM", 10), new TestCredentialProcessor());
+        // 相等但非同一实例的类型仍能找到处理器
+        assertThat(registry.validate(new ValueCredentialType("CUSTOM", 10), "12345678").isValid()).isTrue();
+        assertThatThrownBy(() -> registry.validate(new ValueCredentialType("OTHER", 10), "12345678"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void registerReplacesExistingProcessor() {
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, new TestCredentialProcessor());
+        registry.register(TestCredentialType.TEST_ID, new DashStrippingProcessor());
+        assertThat(registry.getSupportedTypes()).containsExactly(TestCredentialType.TEST_ID);
+        assertThat(registry.validate(TestCredentialType.TEST_ID, "1234-5678").isValid()).isTrue();
+        assertThat(registry.detect("1234-5678")).containsExactly(TestCredentialType.TEST_ID);
+    }
+
+    @Test
+    void unregisterUnknownTypeKeepsRegistrations() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        registry.unregister(TestCredentialType.TEST_ID);
+        assertThat(registry.getSupportedTypes()).hasSameSizeAs(CredentialKit.getDefault().getSupportedTypes());
+        assertThat(registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "330105197810270025").isValid()).isTrue();
+    }
+
+    // ==================== detectBest 测试 ====================
+
+    @Test
+    void detectBestMatchesFirstDetectResult() {
+        for (String credential : new String[]{"830000199201300022", "330105197810270025", "H12345678", "12345678", "invalid", null}) {
+            List<CredentialType> all = CredentialKit.detect(credential);
+            Optional<CredentialType> best = CredentialKit.detectBest(credential);
+            assertThat(best).isEqualTo(all.isEmpty() ? Optional.empty() : Optional.of(all.get(0)));
+        }
+    }
+
+    @Test
+    void detectBestStopsAtFirstMatch() {
+        CountingProcessor later = new CountingProcessor();
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, new TestCredentialProcessor());
+        registry.register(new ValueCredentialType("LATER", 10), later);
+        assertThat(registry.detectBest("12345678")).contains(TestCredentialType.TEST_ID);
+        // 优先级更低的处理器不再校验
+        assertThat(later.calls.get()).isZero();
+        assertThat(registry.detect("12345678")).hasSize(2);
+        assertThat(later.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void detectBestRestrictedToCandidates() {
+        // 18位身份证号同时满足多个类型的形状，候选范围外的类型不参与
+        Set<DefaultCredentialType> candidates = EnumSet.of(DefaultCredentialType.UNIFIED_SOCIAL_CREDIT);
+        assertThat(CredentialKit.detectBest("330105197810270025", candidates)).isEmpty();
+        assertThat(CredentialKit.detectBest("91330106MA27Y4U47R", candidates)).contains(DefaultCredentialType.UNIFIED_SOCIAL_CREDIT);
+        assertThat(CredentialKit.detectBest("330105197810270025", EnumSet.allOf(DefaultCredentialType.class)))
+                .contains(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(CredentialKit.detectBest("330105197810270025", Collections.emptySet())).isEmpty();
+        assertThatThrownBy(() -> CredentialKit.detectBest("330105197810270025", null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    // ==================== detectAndParse 测试 ====================
+
+    @Test
+    void detectAndParseMatchesDetectThenParse() {
+        for (String credential : new String[]{"830000199201300022", "330105197810270025", "H12345678", "12345678",
+                "91330106MA27Y4U47R", "KAZ110090123105", " h12345678 ", "invalid", "", null}) {
+            List<CredentialType> types = CredentialKit.detect(credential);
+            DetectionResult best = CredentialKit.detectAndParse(credential);
+            assertThat(best.getTypes()).as(credential).isEqualTo(types);
+            assertThat(best.isDetected()).isEqualTo(!types.isEmpty());
+            assertThat(best.getBestType()).isEqualTo(types.isEmpty() ? Optional.empty() : Optional.of(types.get(0)));
+            assertThat(best.getInfos()).hasSize(types.isEmpty() ? 0 : 1);
+            if (!types.isEmpty()) {
+                CredentialInfo expected = CredentialKit.parse(types.get(0), credential).get();
+                assertThat(best.getBestInfo()).hasValueSatisfying(info -> {
+                    assertThat(info).isEqualTo(expected);
+                    assertThat(info.getType()).isEqualTo(types.get(0));
+                });
+            }
+
+            DetectionResult all = CredentialKit.detectAndParseAll(credential);
+            assertThat(all.getTypes()).isEqualTo(types);
+            assertThat(all.getInfos()).hasSameSizeAs(types);
+            for (CredentialType type : types) {
+                assertThat(all.getInfo(type)).isEqualTo(CredentialKit.parse(type, credential).map(CredentialInfo.class::cast));
+            }
+        }
+        assertThat(CredentialKit.detectAndParse("invalid").getBestInfo()).isEmpty();
+        assertThat(CredentialKit.detectAndParse("830000199201300022").getInfo(DefaultCredentialType.MAINLAND_RESIDENT_ID)).isEmpty();
+    }
+
+    @Test
+    void byteApisMatchStringApis() {
+        String[] credentials = {"830000199201300022", "330105197810270025", "330105197810270026", "110101780101001",
+                "H12345678", "12345678", "91330106MA27Y4U47R", "KAZ110090123105", " h12345678 ", "11010119900307002x",
+                "\t330105197810270025 ", "invalid", "", "3301051978102700\u00e95",
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16",
+                "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2"};
+        for (String credential : credentials) {
+            byte[] field = credential.getBytes(StandardCharsets.ISO_8859_1);
+            byte[] record = new byte[field.length + 7];
+            System.arraycopy(field, 0, record, 3, field.length);
+            ByteBuffer direct = ByteBuffer.allocateDirect(record.length);
+            direct.put(record).flip();
+            ByteBuffer[] buffers = {ByteBuffer.wrap(record), direct, ByteBuffer.wrap(record).asReadOnlyBuffer(),
+                    ((ByteBuffer) ByteBuffer.allocate(record.length + 2).position(2)).slice().put(record)};
+            assertThat(CredentialKit.detect(record, 3, field.length)).as(credential).isEqualTo(CredentialKit.detect(credential));
+            for (ByteBuffer buffer : buffers) {
+                int position = buffer.position();
+                assertThat(CredentialKit.detect(buffer, 3, field.length)).as(credential).isEqualTo(CredentialKit.detect(credential));
+                assertThat(buffer.position()).isEqualTo(position);
+            }
+            for (DefaultCredentialType type : DefaultCredentialType.values()) {
+                ValidationResult expected = CredentialKit.validate(type, credential);
+                assertThat(CredentialKit.validate(type, record, 3, field.length)).as("%s %s", type, credential).isEqualTo(expected);
+                assertThat(CredentialKit.isValid(type, record, 3, field.length)).as("%s %s", type, credential)
+                        .isEqualTo(expected.isValid());
+                assertThat(CredentialKit.parse(type, record, 3, field.length)).as("%s %s", type, credential)
+                        .isEqualTo(CredentialKit.parse(type, credential));
+                for (ByteBuffer buffer : buffers) {
+                    assertThat(CredentialKit.validate(type, buffer, 3, field.length)).isEqualTo(expected);
+                    assertThat(CredentialKit.isValid(type, buffer, 3, field.length)).isEqualTo(expected.isValid());
+                    assertThat(CredentialKit.parse(type, buffer, 3, field.length)).isEqualTo(CredentialKit.parse(type, credential));
+                }
+            }
+        }
+    }
+
+    @Test
+    void byteApisRejectInvalidRange() {
+        byte[] bytes = "330105197810270025".getBytes(StandardCharsets.US_ASCII);
+        assertThatThrownBy(() -> CredentialKit.detect((byte[]) null, 0, 0)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CredentialKit.detect(bytes, 1, 18)).isInstanceOf(IndexOutOfBoundsException.class);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.limit(10);
+        assertThatThrownBy(() -> CredentialKit.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, buffer, 0, 18))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        // 解析只为返回的字段创建字符串，证件信息与字符串解析一致
+        Optional<? extends CredentialInfo> info = CredentialKit.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, bytes, 0, 18);
+        assertThat(info).hasValueSatisfying(each -> assertThat(each.getType()).isEqualTo(DefaultCredentialType.MAINLAND_RESIDENT_ID));
+    }
+
+    @Test
+    void detectAndParseValidatesEachProcessorOnce() {
+        CountingProcessor first = new CountingProcessor();
+        CountingProcessor later = new CountingProcessor();
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(TestCredentialType.TEST_ID, new TestCredentialProcessor());
+        registry.register(new ValueCredentialType("FIRST", 5), first);
+        registry.register(new ValueCredentialType("LATER", 10), later);
+        DetectionResult result = registry.detectAndParse("12345678");
+        assertThat(result.getTypes()).hasSize(3);
+        assertThat(result.getBestInfo()).hasValueSatisfying(info -> assertThat(info.getType()).isEqualTo(TestCredentialType.TEST_ID));
+        assertThat(first.calls.get()).isEqualTo(1);
+        assertThat(later.calls.get()).isEqualTo(1);
+        assertThat(registry.detectAndParse("1234567A").isDetected()).isFalse();
+        assertThat(registry.detectAndParseAll("12345678").getInfos()).hasSize(3);
+    }
+
+    @Test
+    void validateRangeOnRegistry() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        String line = "张三,330105197810270025,91330106MA27Y4U47S";
+        assertThat(registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, line, 3, 18).isValid()).isTrue();
+        assertThat(registry.validate(DefaultCredentialType.UNIFIED_SOCIAL_CREDIT, line, 22, 18).getErrorCode())
+                .contains(ErrorCode.CHECK_DIGIT_ERROR);
+        // 非区间实现的自定义处理器截取窗口后校验
+        registry.register(TestCredentialType.TEST_ID, new TestCredentialProcessor());
+        assertThat(registry.validate(TestCredentialType.TEST_ID, "id=12345678;", 3, 8).isValid()).isTrue();
+        assertThatThrownBy(() -> registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, line, 30, 18))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    /**
+     * 按编码判等的自定义证件类型（非枚举）
+     */
+    private static final class ValueCredentialType implements CredentialType {
+
+        private final String code;
+
+        private final int priority;
+
+        ValueCredentialType(String code, int priority) {
+            this.code = code;
+            this.priority = priority;
+        }
+
+        @Override
+        public String getChineseName() {
+            return code;
+        }
+
+        @Override
+        public String getEnglishName() {
+            return code;
+        }
+
+        @Override
+        public int getDetectPriority() {
+            return priority;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ValueCredentialType && ((ValueCredentialType) o).code.equals(code);
+        }
+
+        @Override
+        public int hashCode() {
+            return code.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+    }
+
+    /**
+     * 声明形状（8位数字）并统计校验器执行次数的测试处理器
+     */
+    private static final class CountingProcessor extends CredentialProcessor<TestCredentialInfo> {
+
+        private final AtomicInteger calls;
+
+        CountingProcessor() {
+            this(new AtomicInteger());
+        }
+
+        private CountingProcessor(AtomicInteger calls) {
+            super(
+                    Collections.singletonList(
+                            (CredentialValidator) credential -> {
+                                calls.incrementAndGet();
+                                return credential.matches("\\d{8}")
+                                        ? ValidationResult.success()
+                                        : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+                            }
+                    ),
+                    Collections.<CredentialParser<TestCredentialInfo>>emptyList()
+            );
+            this.calls = calls;
+        }
+
+        @Override
+        public CredentialShape getShape() {
+            return CredentialShape.builder()
+                    .lengths(8)
+                    .firstChar(CredentialShape.DIGIT)
+                    .chars(CredentialShape.DIGIT)
+                    .build();
+        }
+
+        @Override
+        protected TestCredentialInfo createInfo() {
+            return new TestCredentialInfo();
+        }
+    }
+
+    /**
+     * 规格化时去掉连字符的测试处理器（8位数字）
+     */
+    private static final class DashStrippingProcessor extends CredentialProcessor<TestCredentialInfo> {
+
+        DashStrippingProcessor() {
+            super(
+                    Collections.singletonList(
+                            (CredentialValidator) credential ->
+                                    credential.matches("\\d{8}")
+                                            ? ValidationResult.success()
+                                            : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR)
+                    ),
+                    Collections.<CredentialParser<TestCredentialInfo>>emptyList()
+            );
+        }
+
+        @Override
+        protected String normalize(String credential) {
+            return super.normalize(credential).replace("-", "");
+        }
+
+        @Override
+        public boolean usesDefaultNormalization() {
+            return false;
+        }
+
+        @Override
+        protected TestCredentialInfo createInfo() {
+            return new TestCredentialInfo();
+        }
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.processor.CredentialParser;
+import com.xiahaimoyu.credentialkit.processor.CredentialProcessor;
+import com.xiahaimoyu.credentialkit.processor.CredentialValidator;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 批量识别/校验/解析测试
+ */
+class CredentialRegistryBatchTest {
+
+    private static final String[] SAMPLES = {
+            "330105197810270025", "830000199201300022", "H12345678", "91330106MA27Y4U47R",
+            "12345678", "invalid", "", null, " 330105197810270025 ", "33010519781027002x"
+    };
+
+    private final CredentialRegistry registry = CredentialRegistry.create();
+
+    /**
+     * 生成指定数量的样本（循环使用SAMPLES）
+     */
+    private static List<String> samples(int size) {
+        List<String> credentials = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            credentials.add(SAMPLES[i % SAMPLES.length]);
+        }
+        return credentials;
+    }
+
+    @Test
+    void smallBatchMatchesSingleCalls() {
+        List<String> credentials = Arrays.asList(SAMPLES);
+        List<List<CredentialType>> detected = registry.detectAll(credentials);
+        List<ValidationResult> validated = registry.validateAll(DefaultCredentialType.MAINLAND_RESIDENT_ID, credentials);
+        List<Optional<? extends CredentialInfo>> parsed = registry.parseAll(DefaultCredentialType.MAINLAND_RESIDENT_ID, credentials);
+        assertThat(detected).hasSize(SAMPLES.length);
+        for (int i = 0; i < SAMPLES.length; i++) {
+            assertThat(detected.get(i)).isEqualTo(registry.detect(SAMPLES[i]));
+            assertThat(validated.get(i)).isEqualTo(registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, SAMPLES[i]));
+            assertThat(parsed.get(i).isPresent())
+                    .isEqualTo(registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, SAMPLES[i]).isPresent());
+        }
+        assertThat(parsed.get(0).get().getType()).isEqualTo(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+    }
+
+    @Test
+    void arrayOverloadsMatchListOverloads() {
+        List<String> credentials = Arrays.asList(SAMPLES);
+        assertThat(registry.detectAll(SAMPLES)).isEqualTo(registry.detectAll(credentials));
+        assertThat(registry.validateAll(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT, SAMPLES))
+                .isEqualTo(registry.validateAll(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT, credentials));
+        assertThat(registry.parseAll(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT, SAMPLES)).hasSize(SAMPLES.length);
+    }
+
+    @Test
+    void largeBatchKeepsInputOrderOnCommonPool() {
+        List<String> credentials = samples(10_000);
+        List<List<CredentialType>> detected = registry.detectAll(credentials);
+        List<ValidationResult> validated = registry.validateAll(DefaultCredentialType.MAINLAND_RESIDENT_ID, credentials);
+        for (int i = 0; i < credentials.size(); i++) {
+            assertThat(detected.get(i)).isEqualTo(registry.detect(credentials.get(i)));
+            assertThat(validated.get(i).isValid())
+                    .isEqualTo(registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, credentials.get(i)).isValid());
+        }
+    }
+
+    @Test
+    void largeBatchUsesSuppliedExecutor() {
+        AtomicInteger submitted = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            // 非RandomAccess列表同样按输入顺序返回
+            List<String> credentials = new LinkedList<>(samples(5_000));
+            List<Optional<? extends CredentialInfo>> parsed = registry.parseAll(DefaultCredentialType.MAINLAND_RESIDENT_ID,
+                    credentials, task -> {
+                        submitted.incrementAndGet();
+                        pool.execute(task);
+                    });
+            assertThat(submitted.get()).isGreaterThan(1);
+            for (int i = 0; i < parsed.size(); i++) {
+                assertThat(parsed.get(i).isPresent())
+                        .isEqualTo(registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, SAMPLES[i % SAMPLES.length]).isPresent());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void smallBatchRunsOnCallerThread() {
+        AtomicInteger submitted = new AtomicInteger();
+        registry.detectAll(samples(100), task -> {
+            submitted.incrementAndGet();
+            task.run();
+        });
+        assertThat(submitted.get()).isZero();
+    }
+
+    @Test
+    void emptyBatchReturnsEmptyList() {
+        assertThat(registry.detectAll(Collections.emptyList())).isEmpty();
+        assertThat(registry.validateAll(DefaultCredentialType.MAINLAND_RESIDENT_ID, new String[0])).isEmpty();
+    }
+
+    @Test
+    void invalidArgumentsFailFast() {
+        assertThatThrownBy(() -> registry.detectAll((List<String>) null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> registry.validateAll(null, Arrays.asList(SAMPLES))).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CredentialRegistry.createEmpty().parseAll(DefaultCredentialType.MAINLAND_RESIDENT_ID, SAMPLES))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void parallelFailureIsRethrownUnwrapped() {
+        CredentialRegistry failing = CredentialRegistry.createEmpty();
+        failing.register(TestCredentialType.TEST_ID, new FailingProcessor());
+        List<String> credentials = samples(5_000);
+        assertThatThrownBy(() -> failing.validateAll(TestCredentialType.TEST_ID, credentials))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    /**
+     * 校验"invalid"时抛出异常的测试处理器
+     */
+    private static final class FailingProcessor extends CredentialProcessor<TestCredentialInfo> {
+
+        FailingProcessor() {
+            super(
+                    Collections.singletonList(
+                            (CredentialValidator) credential -> {
+                                if (credential.equals("INVALID")) {
+                                    throw new IllegalStateException("boom");
+                                }
+                                return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+                            }
+                    ),
+                    Collections.<CredentialParser<TestCredentialInfo>>emptyList()
+            );
+        }
+
+        @Override
+        protected TestCredentialInfo createInfo() {
+            return new TestCredentialInfo();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit;
+
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.processor.CredentialShape;
+import com.xiahaimoyu.credentialkit.processor.MainlandResidentIdProcessor;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import com.xiahaimoyu.credentialkit.spi.CredentialMetricsListener;
+import com.xiahaimoyu.credentialkit.spi.TestSpiCredentialProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 预热测试
+ */
+class CredentialRegistryWarmUpTest {
+
+    @Test
+    void generatedSamplesFollowCredentialRules() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        for (DefaultCredentialType type : DefaultCredentialType.values()) {
+            List<String> valid = WarmUpSamples.valid(type);
+            assertThat(valid).hasSize(WarmUpSamples.VALID_COUNT);
+            for (String credential : valid) {
+                assertThat(registry.validate(type, credential).isValid()).as("%s %s", type, credential).isTrue();
+            }
+            List<String> invalid = WarmUpSamples.invalid(type, valid, CredentialShape.ANY);
+            long rejected = invalid.stream().filter(credential -> !registry.isValid(type, credential)).count();
+            // 末位、中间一位改写后仍可能有效（如无校验位的通行证号码），截短和随机字符必然无效
+            assertThat(rejected).as("%s", type).isGreaterThanOrEqualTo(invalid.size() / 2);
+        }
+    }
+
+    @Test
+    void warmUpReportsEachPhase() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        WarmUpReport report = registry.warmUp(WarmUpOptions.builder()
+                .iterations(50)
+                .samples(TestSpiCredentialProvider.TestSpiCredentialType.SPI_TEST_ID, "SPI123456")
+                .build());
+        assertThat(report.getDomesticRegionNanos()).isPositive();
+        assertThat(report.getInternationalRegionNanos()).isPositive();
+        assertThat(report.getRegionDataNanos()).isPositive();
+        assertThat(report.getSpiProviderCount()).isGreaterThanOrEqualTo(1);
+        assertThat(report.getSpiNanos()).isPositive();
+        assertThat(report.getProcessorNanosByType().keySet()).containsExactlyInAnyOrderElementsOf(registry.getSupportedTypes());
+        assertThat(report.getProcessorNanosByType().values()).allMatch(nanos -> nanos > 0);
+        assertThat(report.getProcessorNanos()).isPositive();
+        // 每轮每个类型：有效样本5次调用、无效样本3次调用
+        assertThat(report.getInvocationCount()).isEqualTo(50L * registry.getSupportedTypes().size() * 8);
+        assertThat(report.getTotalNanos()).isGreaterThanOrEqualTo(report.getProcessorNanos());
+    }
+
+    @Test
+    void typesWithoutSamplesUseInvalidSamplesOnly() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        WarmUpReport report = registry.warmUp(WarmUpOptions.builder().iterations(10).build());
+        // SPI类型没有补充样本，只调用无效样本
+        assertThat(report.getInvocationCount())
+                .isEqualTo(10L * (registry.getSupportedTypes().size() - 1) * 8 + 10L * 3);
+    }
+
+    @Test
+    void skippedPhasesAreNotTimedAndMetricsAreNotReported() {
+        CredentialRegistry registry = CredentialRegistry.createEmpty();
+        registry.register(DefaultCredentialType.MAINLAND_RESIDENT_ID, new MainlandResidentIdProcessor());
+        AtomicInteger events = new AtomicInteger();
+        registry.setMetricsListener(new CredentialMetricsListener() {
+            @Override
+            public void onValidate(CredentialType type, ValidationResult result, long elapsedNanos) {
+                events.incrementAndGet();
+            }
+
+            @Override
+            public void onDetect(List<CredentialType> matchedTypes, long elapsedNanos) {
+                events.incrementAndGet();
+            }
+        });
+        List<Runnable> executed = new ArrayList<>();
+        WarmUpReport report = registry.warmUp(WarmUpOptions.builder()
+                .iterations(20)
+                .loadRegionData(false)
+                .resolveSpiProviders(false)
+                .executor(executed::add)
+                .build());
+        assertThat(executed).isEmpty();
+        assertThat(report.getRegionDataNanos()).isZero();
+        assertThat(report.getDomesticRegionNanos()).isZero();
+        assertThat(report.getSpiNanos()).isZero();
+        assertThat(report.getSpiProviderCount()).isZero();
+        assertThat(report.getProcessorNanosByType()).containsOnlyKeys(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(report.getInvocationCount()).isEqualTo(20L * 8);
+        assertThat(events).hasValue(0);
+    }
+
+    @Test
+    void regionDataIsLoadedOnGivenExecutor() {
+        AtomicInteger submitted = new AtomicInteger();
+        WarmUpReport report = CredentialRegistry.createEmpty().warmUp(WarmUpOptions.builder()
+                .iterations(0)
+                .executor(task -> {
+                    submitted.incrementAndGet();
+                    new Thread(task).start();
+                })
+                .build());
+        assertThat(submitted).hasValue(2);
+        assertThat(report.getProcessorNanosByType()).isEmpty();
+        assertThat(report.getInvocationCount()).isZero();
+        assertThat(CredentialKit.warmUp(WarmUpOptions.builder().iterations(1).build()).getInvocationCount()).isPositive();
+    }
+
+    @Test
+    void optionsValidateArguments() {
+        assertThat(WarmUpOptions.defaults().getIterations()).isEqualTo(WarmUpOptions.DEFAULT_ITERATIONS);
+        assertThatThrownBy(() -> WarmUpOptions.builder().iterations(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WarmUpOptions.builder().samples(null, "A")).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> WarmUpOptions.builder().samples(DefaultCredentialType.MAINLAND_RESIDENT_ID, (String) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> CredentialRegistry.createEmpty().warmUp(null)).isInstanceOf(NullPointerException.class);
+        WarmUpOptions.Builder builder = WarmUpOptions.builder().samples(DefaultCredentialType.MAINLAND_RESIDENT_ID, "A");
+        WarmUpOptions options = builder.build();
+        builder.samples(DefaultCredentialType.MAINLAND_RESIDENT_ID, "B");
+        assertThat(options.getSamples().get(DefaultCredentialType.MAINLAND_RESIDENT_ID)).containsExactly("A");
+    }
+}
@@ -29,4 +29,15 @@ class OrgCategoryTest {
             assertThat(orgCategory.getDesc()).isEqualTo("其他");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void rangeLookupMatchesStringLookup() {
+        for (OrgCategory category : OrgCategory.values()) {
+            assertThat(OrgCategory.getByCode("#" + category.getCode(), 1)).isSameAs(category);
+        }
+        assertThat(OrgCategory.getByCode("10", 0)).isNull();
+        assertThat(OrgCategory.getByCode("9a", 0)).isNull();
+        assertThat(OrgCategory.getByCode("9", 0)).isNull();
+        assertThat(OrgCategory.getByCode(null, 0)).isNull();
+    }
+}
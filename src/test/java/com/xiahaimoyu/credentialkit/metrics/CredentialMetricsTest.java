@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.metrics;
+
+import com.xiahaimoyu.credentialkit.CredentialRegistry;
+import com.xiahaimoyu.credentialkit.enums.CredentialType;
+import com.xiahaimoyu.credentialkit.enums.DefaultCredentialType;
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.processor.ValidationResult;
+import com.xiahaimoyu.credentialkit.spi.CredentialMetricsListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CredentialMetricsTest {
+
+    private static final String ID = "330105197810270025";
+
+    @Test
+    void countsValidationsByTypeAndErrorCode() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        CredentialMetrics metrics = CredentialMetrics.create();
+        registry.setMetricsListener(metrics);
+        registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID);
+        registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid");
+        registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid");
+        registry.validate(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT, "H12345678");
+
+        CredentialMetrics.Snapshot snapshot = metrics.snapshot();
+        CredentialMetrics.TypeStats mainland = snapshot.getTypes().get(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(mainland.getValidateCount()).isEqualTo(3);
+        assertThat(mainland.getValidateFailureCount()).isEqualTo(2);
+        assertThat(snapshot.getTypes().get(DefaultCredentialType.HK_MACAO_TRAVEL_PERMIT).getValidateFailureCount()).isZero();
+        assertThat(snapshot.getErrorCodes()).containsEntry(ErrorCode.BASIC_FORMAT_ERROR, 2L).hasSize(1);
+        assertThat(snapshot.getValidateLatency().getCount()).isEqualTo(4);
+    }
+
+    @Test
+    void countsIsValidWithoutErrorCodes() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        CredentialMetrics metrics = CredentialMetrics.create();
+        registry.setMetricsListener(metrics);
+        assertThat(registry.isValid(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID)).isTrue();
+        assertThat(registry.isValid(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid")).isFalse();
+
+        CredentialMetrics.Snapshot snapshot = metrics.snapshot();
+        CredentialMetrics.TypeStats mainland = snapshot.getTypes().get(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(mainland.getValidateCount()).isEqualTo(2);
+        assertThat(mainland.getValidateFailureCount()).isEqualTo(1);
+        assertThat(snapshot.getErrorCodes()).isEmpty();
+        assertThat(snapshot.getValidateLatency().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void countsParsesAndDetections() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        CredentialMetrics metrics = CredentialMetrics.create();
+        registry.setMetricsListener(metrics);
+        assertThat(registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID).get().getType())
+                .isEqualTo(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid");
+        registry.detect(ID);
+        registry.detect("invalid");
+        registry.detectBest(ID);
+
+        CredentialMetrics.Snapshot snapshot = metrics.snapshot();
+        CredentialMetrics.TypeStats mainland = snapshot.getTypes().get(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+        assertThat(mainland.getParseCount()).isEqualTo(2);
+        assertThat(mainland.getParseFailureCount()).isEqualTo(1);
+        assertThat(mainland.getDetectMatchCount()).isEqualTo(2);
+        assertThat(snapshot.getDetectNoMatchCount()).isEqualTo(1);
+        assertThat(snapshot.getParseLatency().getCount()).isEqualTo(2);
+        assertThat(snapshot.getDetectLatency().getCount()).isEqualTo(3);
+        // detect内部的逐处理器校验不计入校验指标
+        assertThat(snapshot.getValidateLatency().getCount()).isZero();
+    }
+
+    @Test
+    void batchOperationsReportEveryItem() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        CredentialMetrics metrics = CredentialMetrics.create();
+        registry.setMetricsListener(metrics);
+        registry.validateAll(DefaultCredentialType.MAINLAND_RESIDENT_ID, Arrays.asList(ID, "invalid", null));
+        registry.detectAll(new String[]{ID, "invalid"});
+        CredentialMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getValidateLatency().getCount()).isEqualTo(3);
+        assertThat(snapshot.getDetectLatency().getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void resetAndDetach() {
+        CredentialRegistry registry = CredentialRegistry.create();
+        CredentialMetrics metrics = CredentialMetrics.create();
+        registry.setMetricsListener(metrics);
+        registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid");
+        metrics.reset();
+        CredentialMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getTypes().get(DefaultCredentialType.MAINLAND_RESIDENT_ID).getValidateCount()).isZero();
+        assertThat(snapshot.getErrorCodes()).isEmpty();
+        assertThat(snapshot.getValidateLatency().getCount()).isZero();
+
+        registry.setMetricsListener(null);
+        assertThat(registry.getMetricsListener()).isNull();
+        registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, "invalid");
+        assertThat(metrics.snapshot().getValidateLatency().getCount()).isZero();
+    }
+
+    @Test
+    void customListenerReceivesCallbacks() {
+        AtomicInteger validations = new AtomicInteger();
+        AtomicInteger detections = new AtomicInteger();
+        CredentialRegistry registry = CredentialRegistry.create();
+        registry.setMetricsListener(new CredentialMetricsListener() {
+            @Override
+            public void onValidate(CredentialType type, ValidationResult result, long elapsedNanos) {
+                assertThat(elapsedNanos).isNotNegative();
+                validations.incrementAndGet();
+            }
+
+            @Override
+            public void onDetect(List<CredentialType> matchedTypes, long elapsedNanos) {
+                assertThat(matchedTypes).contains(DefaultCredentialType.MAINLAND_RESIDENT_ID);
+                detections.incrementAndGet();
+            }
+        });
+        registry.validate(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID);
+        registry.detect(ID);
+        // 未覆写的回调使用默认空实现
+        registry.parse(DefaultCredentialType.MAINLAND_RESIDENT_ID, ID);
+        assertThat(validations.get()).isEqualTo(1);
+        assertThat(detections.get()).isEqualTo(1);
+    }
+}
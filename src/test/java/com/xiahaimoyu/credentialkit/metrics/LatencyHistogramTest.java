@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucketOfUsesPowerOfTwoBoundaries() {
+        assertThat(LatencyHistogram.bucketOf(-5)).isZero();
+        assertThat(LatencyHistogram.bucketOf(0)).isZero();
+        assertThat(LatencyHistogram.bucketOf(1)).isEqualTo(1);
+        assertThat(LatencyHistogram.bucketOf(2)).isEqualTo(2);
+        assertThat(LatencyHistogram.bucketOf(3)).isEqualTo(2);
+        assertThat(LatencyHistogram.bucketOf(1024)).isEqualTo(11);
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void snapshotReportsCountMeanMaxAndPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(100);
+        }
+        histogram.record(10_000);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isEqualTo(100);
+        assertThat(snapshot.getMeanNanos()).isEqualTo((99 * 100 + 10_000) / 100.0);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(10_000);
+        // 100落在[64, 128)桶，上界127
+        assertThat(snapshot.getPercentileNanos(0.5)).isEqualTo(127);
+        assertThat(snapshot.getPercentileNanos(0.99)).isEqualTo(127);
+        // 最高分位不超过最大值
+        assertThat(snapshot.getPercentileNanos(1)).isEqualTo(10_000);
+        assertThat(snapshot.getBucketCounts()[LatencyHistogram.bucketOf(100)]).isEqualTo(99);
+    }
+
+    @Test
+    void resetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMaxNanos()).isZero();
+        assertThat(snapshot.getPercentileNanos(0.99)).isZero();
+        assertThat(snapshot.getMeanNanos()).isZero();
+    }
+
+    @Test
+    void invalidQuantileRejected() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+        assertThatThrownBy(() -> snapshot.getPercentileNanos(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> snapshot.getPercentileNanos(Double.NaN)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
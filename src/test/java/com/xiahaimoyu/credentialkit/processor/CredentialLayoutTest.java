@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CredentialLayoutTest {
+
+    private static final String ID = "330105197810270025";
+
+    /**
+     * 与18位居民身份证等价的版式
+     */
+    private static final CredentialLayout RESIDENT_ID = CredentialLayout.builder(18)
+            .chars(0, 17, CredentialLayout.DIGITS)
+            .chars(17, 1, CredentialLayout.DIGITS + "X")
+            .domesticRegion(0, 6)
+            .birthDate(6)
+            .checkDigit(CredentialLayout.Checksum.ISO_7064_MOD_11_2, 17, 0, 17)
+            .build();
+
+    private static final String PASSPORT =
+            "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16";
+
+    @Test
+    void validateReportsErrorsInDeclarationOrder() {
+        assertThat(RESIDENT_ID.getLength()).isEqualTo(18);
+        assertThat(RESIDENT_ID.validate(ID, 0, 18).isValid()).isTrue();
+        assertThat(RESIDENT_ID.validate("ID:" + ID, 3, 18).isValid()).isTrue();
+        assertThat(RESIDENT_ID.validate(ID, 0, 17)).isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        assertThat(RESIDENT_ID.validate("33010519781027002A", 0, 18))
+                .isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        assertThat(RESIDENT_ID.validate("33010519781027002测", 0, 18))
+                .isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        // 地区、生日、校验位同时错误时报告最先声明的地区错误
+        assertThat(RESIDENT_ID.validate("000000197813270026", 0, 18))
+                .isEqualTo(ValidationResult.failure(ErrorCode.REGION_ERROR));
+        assertThat(RESIDENT_ID.validate("330105197813270026", 0, 18))
+                .isEqualTo(ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR));
+        assertThat(RESIDENT_ID.validate("330105197810270026", 0, 18))
+                .isEqualTo(ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR));
+    }
+
+    @Test
+    void layoutMatchesProcessor() {
+        MainlandResidentIdProcessor processor = new MainlandResidentIdProcessor();
+        final String replacements = "0123456789XA";
+        for (int position = 0; position < ID.length(); position++) {
+            for (int r = 0; r < replacements.length(); r++) {
+                char[] chars = ID.toCharArray();
+                chars[position] = replacements.charAt(r);
+                String mutated = new String(chars);
+                assertThat(RESIDENT_ID.validate(mutated, 0, 18)).as(mutated).isEqualTo(processor.validate(mutated));
+                assertThat(RESIDENT_ID.isValid(mutated, 0, 18)).as(mutated).isEqualTo(processor.validate(mutated).isValid());
+            }
+        }
+    }
+
+    @Test
+    void multipleCheckDigitsAccumulateInOnePass() {
+        CredentialLayout passport = CredentialLayout.builder(88)
+                .chars(0, 88, CredentialLayout.DIGITS + CredentialLayout.LETTERS + "<")
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 53, 44, 9)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 63, 57, 6)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 71, 65, 6)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 87, 44, 10, 57, 7, 65, 22)
+                .build();
+        assertThat(passport.validate(PASSPORT, 0, 88).isValid()).isTrue();
+        String wrongComposite = PASSPORT.substring(0, 87) + "7";
+        assertThat(passport.validate(wrongComposite, 0, 88)).isEqualTo(ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR));
+        assertThat(CheckDigitUtil.getMachineReadablePassportCheckDigit(PASSPORT, 0, new int[]{44, 10, 57, 7, 65, 22}))
+                .isEqualTo(PASSPORT.charAt(87));
+    }
+
+    @Test
+    void characterOutsideChecksumAlphabetFailsCheckDigit() {
+        // I不在GB 32100字符集内，字符集允许时按校验位错误处理
+        CredentialLayout layout = CredentialLayout.builder(3)
+                .chars(0, 2, CredentialLayout.DIGITS + CredentialLayout.LETTERS)
+                .chars(2, 1, CredentialLayout.DIGITS + CredentialLayout.LETTERS)
+                .checkDigit(CredentialLayout.Checksum.GB_32100, 2, 0, 2)
+                .build();
+        for (char c : "0123456789ABCDEFGHJKLMNPQRTUWXY".toCharArray()) {
+            assertThat(layout.validate("I1" + c, 0, 3)).isEqualTo(ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR));
+            assertThat(layout.validate("IO" + c, 0, 3)).isEqualTo(ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR));
+        }
+    }
+
+    @Test
+    void domesticRegionAccumulatesInScan() {
+        // 字符集允许字母时，地区编码中的字母按地区错误处理
+        CredentialLayout layout = CredentialLayout.builder(5)
+                .chars(0, 1, CredentialLayout.LETTERS)
+                .chars(1, 4, CredentialLayout.DIGITS + CredentialLayout.LETTERS)
+                .domesticRegion(1, 4)
+                .build();
+        assertThat(layout.validate("A3301", 0, 5).isValid()).isTrue();
+        assertThat(layout.validate("A3399", 0, 5)).isEqualTo(ValidationResult.failure(ErrorCode.REGION_ERROR));
+        assertThat(layout.validate("A33A1", 0, 5)).isEqualTo(ValidationResult.failure(ErrorCode.REGION_ERROR));
+        assertThat(layout.validate("AAAAA", 0, 5)).isEqualTo(ValidationResult.failure(ErrorCode.REGION_ERROR));
+    }
+
+    @Test
+    void customRuleUsesDeclaredErrorCode() {
+        CredentialLayout layout = CredentialLayout.builder(4)
+                .chars(0, 4, CredentialLayout.DIGITS)
+                .rule(2, ErrorCode.ORG_CATEGORY_ERROR, (credential, offset) -> credential.charAt(offset) == '7')
+                .build();
+        assertThat(layout.validate("1270", 0, 4).isValid()).isTrue();
+        assertThat(layout.validate("1280", 0, 4)).isEqualTo(ValidationResult.failure(ErrorCode.ORG_CATEGORY_ERROR));
+    }
+
+    @Test
+    void oneOfSelectsLayoutByLength() {
+        CredentialRangeValidator validator = CredentialLayout.oneOf(
+                CredentialLayout.builder(2).chars(0, 2, CredentialLayout.DIGITS).build(),
+                CredentialLayout.builder(4).chars(0, 4, CredentialLayout.LETTERS).build());
+        assertThat(validator.validate("12", 0, 2).isValid()).isTrue();
+        assertThat(validator.validate("ABCD", 0, 4).isValid()).isTrue();
+        assertThat(validator.validate("ABC", 0, 3)).isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        assertThat(validator.validate("ABCDE", 0, 5)).isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        assertThat(validator.validate("", 0, 0)).isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        assertThat(validator.isValid("ABCD", 0, 4)).isTrue();
+        assertThat(validator.isValid("AB", 0, 2)).isFalse();
+        assertThat(validator.isValid("ABC", 0, 3)).isFalse();
+        assertThatThrownBy(() -> CredentialLayout.oneOf(
+                CredentialLayout.builder(2).chars(0, 2, CredentialLayout.DIGITS).build(),
+                CredentialLayout.builder(2).chars(0, 2, CredentialLayout.LETTERS).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(CredentialLayout::oneOf).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void builderRejectsInvalidDeclarations() {
+        assertThatThrownBy(() -> CredentialLayout.builder(0)).isInstanceOf(IllegalArgumentException.class);
+        // 未声明字符集的位置
+        assertThatThrownBy(() -> CredentialLayout.builder(3).chars(0, 2, CredentialLayout.DIGITS).build())
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(3).chars(2, 2, CredentialLayout.DIGITS))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(3).chars(0, 3, "一"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(8).birthDate(1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(6).shortBirthDate(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(6).domesticRegion(0, 3)).isInstanceOf(IllegalArgumentException.class);
+        // 超出算法支持的长度、覆盖区间重复、区间数组不成对
+        assertThatThrownBy(() -> CredentialLayout.builder(19)
+                .checkDigit(CredentialLayout.Checksum.ISO_7064_MOD_11_2, 18, 0, 18))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(10)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 9, 0, 5, 4, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CredentialLayout.builder(10)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 9, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 全部加权和超出可打包的位宽
+        CredentialLayout.Builder builder = CredentialLayout.builder(1300)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 1299, 0, 300)
+                .checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 1298, 300, 300);
+        assertThatThrownBy(() -> builder.checkDigit(CredentialLayout.Checksum.MRZ_7_3_1, 1297, 600, 300))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CredentialProcessorTest {
+
+    @Test
+    void defaultNormalizeReturnsSameInstanceWhenAlreadyNormalized() {
+        String credential = "330105197810270025";
+        assertThat(CredentialProcessor.defaultNormalize(credential)).isSameAs(credential);
+    }
+
+    @Test
+    void defaultNormalizeTrimsAndUpperCases() {
+        assertThat(CredentialProcessor.defaultNormalize("  h12345678\t")).isEqualTo("H12345678");
+        assertThat(CredentialProcessor.defaultNormalize(" H12345678 ")).isEqualTo("H12345678");
+        assertThat(CredentialProcessor.defaultNormalize("   ")).isEmpty();
+        assertThat(CredentialProcessor.defaultNormalize(null)).isEmpty();
+    }
+
+    @Test
+    void defaultNormalizeNonAsciiMatchesJdk() {
+        // 非ASCII输入走JDK转换，结果与trim().toUpperCase(Locale.ROOT)一致
+        String credential = " straßeı ";
+        assertThat(CredentialProcessor.defaultNormalize(credential))
+                .isEqualTo(credential.trim().toUpperCase(java.util.Locale.ROOT));
+    }
+
+    @Test
+    void usesDefaultNormalizationIsDeclaredByProcessor() {
+        assertThat(new MainlandResidentIdProcessor().usesDefaultNormalization()).isTrue();
+        assertThat(new SimpleProcessor().usesDefaultNormalization()).isTrue();
+        CredentialProcessor<CredentialInfo> dashStripping = new SimpleProcessor() {
+            @Override
+            protected String normalize(String credential) {
+                return super.normalize(credential).replace("-", "");
+            }
+
+            @Override
+            public boolean usesDefaultNormalization() {
+                return false;
+            }
+        };
+        assertThat(dashStripping.usesDefaultNormalization()).isFalse();
+        // 声明不使用默认规格化后，快速路径和区间入口都经过覆写的normalize
+        assertThat(dashStripping.isValid("o-k")).isTrue();
+        assertThat(dashStripping.isValid("[O-K]", 1, 3)).isTrue();
+        assertThat(dashStripping.validate("[O-K]", 1, 3).isValid()).isTrue();
+    }
+
+    @Test
+    void validateNormalizedSkipsNormalization() {
+        SimpleProcessor processor = new SimpleProcessor();
+        assertThat(processor.validate(" ok ").isValid()).isTrue();
+        assertThat(processor.validateNormalized("OK").isValid()).isTrue();
+        assertThat(processor.validateNormalized(" ok ").isValid()).isFalse();
+        assertThatThrownBy(() -> processor.validateNormalized(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeValidateAndParseMatchStringApiForBuiltInProcessors() {
+        List<CredentialProcessor<?>> processors = Arrays.asList(
+                new MainlandResidentIdProcessor(), new HkMacaoTravelPermitProcessor(), new TaiwanTravelPermitProcessor(),
+                new HkMacaoResidencePermitProcessor(), new TaiwanResidencePermitProcessor(),
+                new ForeignerPermanentResidenceIdProcessor(), new MachineReadablePassportProcessor(),
+                new UnifiedSocialCreditProcessor(), new MachineReadableTd1Processor(), new MachineReadableTd2Processor());
+        List<String> credentials = Arrays.asList(
+                "330105197810270025", "330105197810270026", "110101780101001", "999999197810270025",
+                "M1234567801", "H12345678", "1234567801", "12345678",
+                "810000199408230021", "820000199408230022", "830000199201300022", "830000199213300022",
+                "911398199012310021", "KAZ110090123105", "KAA110090123105", "KAZ110090123107",
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16",
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<17",
+                "P<D<<MUSTERMANN<<ERIKA<<<<<<<<<<<<<<<<<<<<<<C01X00T478D<<6408125F2702283<<<<<<<<<<<<<<<4",
+                "91330106MA27Y4U47R", "91330106MA27Y4U47S", "10330106MA27Y4U47R", "", "ABC",
+                "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE",
+                "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<9VAN<DER<STEEN<<MARIANNE<LOUISE",
+                "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2");
+        for (CredentialProcessor<?> processor : processors) {
+            for (String credential : credentials) {
+                String line = "ab|" + credential + "|cd";
+                assertThat(processor.validate(line, 3, credential.length()))
+                        .as("%s %s", processor.getClass().getSimpleName(), credential)
+                        .isEqualTo(processor.validate(credential));
+                assertThat(processor.parse(line, 3, credential.length()))
+                        .as("%s %s", processor.getClass().getSimpleName(), credential)
+                        .isEqualTo(processor.parse(credential));
+                ParseResult<?> result = processor.validateAndParse(line, 3, credential.length());
+                assertThat(result.getValidationResult())
+                        .as("%s %s", processor.getClass().getSimpleName(), credential)
+                        .isEqualTo(processor.validate(credential));
+                assertThat(result.getInfo()).isEqualTo(processor.parse(credential));
+                assertThat(processor.validateAndParse(credential).getInfo()).isEqualTo(processor.parse(credential));
+                assertThat(processor.isValid(line, 3, credential.length()))
+                        .as("%s %s", processor.getClass().getSimpleName(), credential)
+                        .isEqualTo(processor.validate(credential).isValid());
+            }
+        }
+    }
+
+    @Test
+    void isValidMatchesValidateForMutatedCredentials() {
+        List<CredentialProcessor<?>> processors = Arrays.asList(
+                new MainlandResidentIdProcessor(), new HkMacaoResidencePermitProcessor(), new TaiwanResidencePermitProcessor(),
+                new ForeignerPermanentResidenceIdProcessor(), new MachineReadablePassportProcessor(),
+                new MachineReadableTd1Processor(), new MachineReadableTd2Processor());
+        List<String> credentials = Arrays.asList(
+                "330105197810270025", "110101780101001", "810000199408230021", "830000199201300022",
+                "911398199012310021", "KAZ110090123105",
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16",
+                "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE",
+                "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2");
+        // 按开销重排检查后，快速校验的结论仍应与完整校验一致
+        String replacements = "019XA<";
+        for (CredentialProcessor<?> processor : processors) {
+            for (String credential : credentials) {
+                for (int position = 0; position < credential.length(); position++) {
+                    for (int r = 0; r < replacements.length(); r++) {
+                        char[] chars = credential.toCharArray();
+                        chars[position] = replacements.charAt(r);
+                        String mutated = new String(chars);
+                        assertThat(processor.isValid(mutated))
+                                .as("%s %s", processor.getClass().getSimpleName(), mutated)
+                                .isEqualTo(processor.validate(mutated).isValid());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void isValidUsesNormalization() {
+        SimpleProcessor processor = new SimpleProcessor();
+        assertThat(processor.isValid(" ok ")).isTrue();
+        assertThat(processor.isValidNormalized("OK")).isTrue();
+        assertThat(processor.isValidNormalized(" ok ")).isFalse();
+        assertThat(processor.isValid("[ok]", 1, 2)).isTrue();
+        assertThat(processor.isValid("NOK")).isFalse();
+    }
+
+    @Test
+    void rangeValidateNormalizesWindow() {
+        MainlandResidentIdProcessor processor = new MainlandResidentIdProcessor();
+        String line = "x 11010119900307002x x";
+        // 首尾空白在区间内原地跳过，小写字母回退到整串规格化
+        assertThat(processor.validate(line, 1, 20).isValid()).isTrue();
+        assertThat(processor.parse(line, 1, 20)).isEqualTo(processor.parse("11010119900307002X"));
+        assertThat(processor.validate(line, 1, 18).isValid()).isFalse();
+    }
+
+    @Test
+    void rangeValidateFallsBackForStringValidators() {
+        SimpleProcessor processor = new SimpleProcessor();
+        assertThat(processor.validate("[OK]", 1, 2).isValid()).isTrue();
+        assertThat(processor.validate("[ok]", 1, 2).isValid()).isTrue();
+        assertThat(processor.validate("[OK]", 0, 3).isValid()).isFalse();
+        assertThat(processor.parse("[OK]", 1, 2)).isPresent();
+    }
+
+    @Test
+    void rangeValidateRejectsInvalidRange() {
+        SimpleProcessor processor = new SimpleProcessor();
+        assertThatThrownBy(() -> processor.validate(null, 0, 0)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> processor.validate("OK", 1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> processor.validate("OK", -1, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> processor.parse("OK", 0, 3)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void rangeValidatorAdaptsToStringApi() {
+        CredentialRangeValidator validator = (credential, offset, length) ->
+                length == 2 ? ValidationResult.success() : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        assertThat(validator.validate("OK").isValid()).isTrue();
+        assertThat(validator.validate("NOK").isValid()).isFalse();
+    }
+
+    @Test
+    void compiledChainsRunInOrderAndShortCircuit() {
+        List<String> calls = new ArrayList<>();
+        CredentialRangeValidator lengthTwo = (credential, offset, length) -> {
+            calls.add("length");
+            return length == 2 ? ValidationResult.success() : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        };
+        CredentialRangeValidator firstDigit = (credential, offset, length) -> {
+            calls.add("digit");
+            return Character.isDigit(credential.charAt(offset))
+                    ? ValidationResult.success() : ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        };
+        CredentialValidator notZero = credential -> {
+            calls.add("string");
+            return credential.startsWith("0") ? ValidationResult.failure(ErrorCode.REGION_ERROR) : ValidationResult.success();
+        };
+        CredentialRangeParser<CredentialInfo> first = (credential, offset, length, info) -> calls.add("parse1");
+        CredentialRangeParser<CredentialInfo> second = (credential, offset, length, info) -> calls.add("parse2");
+
+        ChainProcessor range = new ChainProcessor(Arrays.asList(lengthTwo, firstDigit), Arrays.asList(first, second));
+        assertThat(range.validate("A1", 0, 2)).isEqualTo(ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR));
+        assertThat(calls).containsExactly("length", "digit");
+        calls.clear();
+        assertThat(range.validate("ABC")).isEqualTo(ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR));
+        assertThat(calls).containsExactly("length");
+        calls.clear();
+        assertThat(range.parse("[12]", 1, 2)).isPresent();
+        assertThat(calls).containsExactly("length", "digit", "parse1", "parse2");
+        calls.clear();
+
+        // 含整串校验器时整条链按整串执行，顺序不变
+        ChainProcessor mixed = new ChainProcessor(Arrays.asList(lengthTwo, notZero, firstDigit),
+                Collections.<CredentialParser<CredentialInfo>>emptyList());
+        assertThat(mixed.validate("01")).isEqualTo(ValidationResult.failure(ErrorCode.REGION_ERROR));
+        assertThat(calls).containsExactly("length", "string");
+        calls.clear();
+        assertThat(mixed.validate("[12]", 1, 2).isValid()).isTrue();
+        assertThat(calls).containsExactly("length", "string", "digit");
+
+        calls.clear();
+
+        // 3个元素按字段展开，4个及以上按数组循环，执行顺序和短路一致
+        CredentialRangeParser<CredentialInfo> third = (credential, offset, length, info) -> calls.add("parse3");
+        CredentialRangeParser<CredentialInfo> fourth = (credential, offset, length, info) -> calls.add("parse4");
+        ChainProcessor three = new ChainProcessor(Arrays.asList(lengthTwo, firstDigit, lengthTwo),
+                Arrays.asList(first, second, third));
+        assertThat(three.parse("12")).isPresent();
+        assertThat(calls).containsExactly("length", "digit", "length", "parse1", "parse2", "parse3");
+        calls.clear();
+        ChainProcessor four = new ChainProcessor(Arrays.asList(lengthTwo, lengthTwo, firstDigit, lengthTwo),
+                Arrays.asList(first, second, third, fourth));
+        assertThat(four.isValid("A2")).isFalse();
+        assertThat(calls).containsExactly("length", "length", "digit");
+        calls.clear();
+        assertThat(four.parse("12")).isPresent();
+        assertThat(calls).containsExactly("length", "length", "digit", "length", "parse1", "parse2", "parse3", "parse4");
+
+        assertThatThrownBy(() -> new ChainProcessor(Arrays.asList(lengthTwo, null),
+                Collections.<CredentialParser<CredentialInfo>>emptyList()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    /**
+     * 使用给定校验器、解析器的测试处理器
+     */
+    private static class ChainProcessor extends CredentialProcessor<CredentialInfo> {
+
+        ChainProcessor(List<? extends CredentialValidator> validators, List<? extends CredentialParser<CredentialInfo>> parsers) {
+            super(validators, parsers);
+        }
+
+        @Override
+        protected CredentialInfo createInfo() {
+            return new CredentialInfo() {
+            };
+        }
+    }
+
+    /**
+     * 只接受"OK"的测试处理器
+     */
+    private static class SimpleProcessor extends CredentialProcessor<CredentialInfo> {
+
+        SimpleProcessor() {
+            super(
+                    Collections.singletonList(
+                            (CredentialValidator) credential ->
+                                    credential.equals("OK")
+                                            ? ValidationResult.success()
+                                            : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR)
+                    ),
+                    Collections.<CredentialParser<CredentialInfo>>emptyList()
+            );
+        }
+
+        @Override
+        protected CredentialInfo createInfo() {
+            return new CredentialInfo() {
+            };
+        }
+    }
+}
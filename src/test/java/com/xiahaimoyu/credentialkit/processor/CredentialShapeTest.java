@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CredentialShapeTest {
+
+    @Test
+    void anyAllowsEverything() {
+        assertThat(CredentialShape.ANY.hasLengthConstraint()).isFalse();
+        assertThat(CredentialShape.ANY.allowsLength(0)).isTrue();
+        assertThat(CredentialShape.ANY.allowsLength(1000)).isTrue();
+        assertThat(CredentialShape.ANY.allowsClasses(CredentialShape.OTHER, CredentialShape.OTHER | CredentialShape.DIGIT)).isTrue();
+    }
+
+    @Test
+    void lengthsBeyondOneWord() {
+        // 机读码长度超过64，位图需要跨字
+        CredentialShape shape = CredentialShape.builder().lengths(9, 88).build();
+        assertThat(shape.allowsLength(9)).isTrue();
+        assertThat(shape.allowsLength(88)).isTrue();
+        assertThat(shape.allowsLength(24)).isFalse();
+        assertThat(shape.allowsLength(200)).isFalse();
+        assertThat(shape.getMaxLength()).isEqualTo(88);
+    }
+
+    @Test
+    void charClasses() {
+        CredentialShape shape = CredentialShape.builder()
+                .firstChar(CredentialShape.LETTER)
+                .chars(CredentialShape.DIGIT | CredentialShape.LETTER)
+                .build();
+        assertThat(shape.allowsClasses(CredentialShape.LETTER, CredentialShape.LETTER | CredentialShape.DIGIT)).isTrue();
+        assertThat(shape.allowsClasses(CredentialShape.DIGIT, CredentialShape.DIGIT)).isFalse();
+        assertThat(shape.allowsClasses(CredentialShape.LETTER, CredentialShape.LETTER | CredentialShape.FILLER)).isFalse();
+    }
+
+    @Test
+    void classOf() {
+        assertThat(CredentialShape.classOf('7')).isEqualTo(CredentialShape.DIGIT);
+        assertThat(CredentialShape.classOf('X')).isEqualTo(CredentialShape.LETTER);
+        assertThat(CredentialShape.classOf('x')).isEqualTo(CredentialShape.LETTER);
+        assertThat(CredentialShape.classOf('<')).isEqualTo(CredentialShape.FILLER);
+        assertThat(CredentialShape.classOf('-')).isEqualTo(CredentialShape.OTHER);
+    }
+
+    @Test
+    void negativeLengthRejected() {
+        assertThatThrownBy(() -> CredentialShape.builder().lengths(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
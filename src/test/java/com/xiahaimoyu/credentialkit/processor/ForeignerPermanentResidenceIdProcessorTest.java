@@ -107,6 +107,12 @@ class ForeignerPermanentResidenceIdProcessorTest {
         assertThat(info.getGender()).isEqualTo(Gender.FEMALE);
     }
 
+    @Test
+    void parse18KeepsLeadingZerosOfBirthYear() {
+        assertThat(processor.parse("911398080012310023").map(ForeignerPermanentResidenceIdInfo::getBirthDate))
+                .hasValue("08001231");
+    }
+
     @Test
     void parseError() {
         assertThat(processor.parse("911398199012310020")).isEmpty();
@@ -93,6 +93,33 @@ class MachineReadablePassportProcessorTest {
                 .hasValue(ErrorCode.CHECK_DIGIT_ERROR);
     }
 
+    @Test
+    void validateEmptyPersonalNumberWithFillerCheckDigit() {
+        // 个人号码全为<时校验位可以是<（ICAO 9303），也可以是0
+        String mrz = "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M2101266<<<<<<<<<<<<<<<4";
+        assertThat(processor.validate(mrz).isValid()).isTrue();
+        assertThat(processor.validate(mrz.substring(0, 86) + "04").isValid()).isTrue();
+        assertThat(processor.parse(mrz).get().getPersonalNumber()).isEmpty();
+        // 个人号码非空时校验位不能是<
+        assertThat(processor.validate("POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<<6").getErrorCode())
+                .hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+    }
+
+    @Test
+    void validateReportsFirstErrorInOrder() {
+        // 姓名错误先于之后的校验位错误
+        assertThat(processor.validate("POCHN<ZHANG<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476465CHN7304279M210126619203301<<<<<<18").getErrorCode())
+                .hasValue(ErrorCode.NAME_ERROR);
+        // 性别位非法属于格式错误，先于地区错误
+        assertThat(processor.validate("POCXXZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279X210126619203301<<<<<<16").getErrorCode())
+                .hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+        // 姓和名之间只能有一处<<
+        assertThat(processor.validate("POCHNZHANG<<SAN<<LI<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16").getErrorCode())
+                .hasValue(ErrorCode.NAME_ERROR);
+        assertThat(processor.validate("POCHN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16").getErrorCode())
+                .hasValue(ErrorCode.NAME_ERROR);
+    }
+
     @Test
     void validateCheckDigitError() {
         assertThat(processor.validate("POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<18").getErrorCode())
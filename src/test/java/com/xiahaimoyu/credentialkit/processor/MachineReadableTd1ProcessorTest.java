@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.enums.Gender;
+import com.xiahaimoyu.credentialkit.info.MachineReadableTravelDocumentInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MachineReadableTd1ProcessorTest {
+
+    private static final String NLD = "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE";
+
+    private static final String CHN = "IDCHNE123456782<<<<<<<<<<<<<<<8805120M3001019CHN<<<<<<<<<<<4ZHANG<<SAN<<<<<<<<<<<<<<<<<<<<";
+
+    private MachineReadableTd1Processor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new MachineReadableTd1Processor();
+    }
+
+    @Test
+    void validateSuccess() {
+        assertThat(processor.validate(NLD).isValid()).isTrue();
+        assertThat(processor.validate(CHN).isValid()).isTrue();
+        assertThat(processor.validate(" " + CHN.toLowerCase() + " ").isValid()).isTrue();
+    }
+
+    @Test
+    void validateFormatError() {
+        assertThat(processor.validate(NLD.substring(1)).getErrorCode()).hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+        // 首字符只能是I、A、C
+        assertThat(processor.validate("P" + NLD.substring(1)).getErrorCode()).hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+        // 生日必须为数字
+        assertThat(processor.validate(NLD.substring(0, 30) + "A" + NLD.substring(31)).getErrorCode())
+                .hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+    }
+
+    @Test
+    void validateRegionError() {
+        assertThat(processor.validate("I<NLX" + NLD.substring(5)).getErrorCode()).hasValue(ErrorCode.REGION_ERROR);
+        assertThat(processor.validate(NLD.substring(0, 45) + "NLX" + NLD.substring(48)).getErrorCode())
+                .hasValue(ErrorCode.REGION_ERROR);
+    }
+
+    @Test
+    void validateNameError() {
+        assertThat(processor.validate(NLD.substring(0, 60) + "<VAN<DER<STEEN<<MARIANNE<LOUIS").getErrorCode())
+                .hasValue(ErrorCode.NAME_ERROR);
+    }
+
+    @Test
+    void validateCheckDigitErrors() {
+        // 证件号码、生日、有效期、复合校验位
+        int[] positions = {14, 36, 44, 59};
+        for (int position : positions) {
+            char wrong = NLD.charAt(position) == '0' ? '1' : '0';
+            String mrz = NLD.substring(0, position) + wrong + NLD.substring(position + 1);
+            assertThat(processor.validate(mrz).getErrorCode()).as(mrz).hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+    }
+
+    @Test
+    void validateDateErrors() {
+        assertThat(processor.validate(NLD.substring(0, 30) + "721314" + NLD.substring(36)).getErrorCode())
+                .hasValue(ErrorCode.BIRTH_DATE_ERROR);
+        assertThat(processor.validate(NLD.substring(0, 38) + "110231" + NLD.substring(44)).getErrorCode())
+                .hasValue(ErrorCode.EXPIRATION_DATE_ERROR);
+    }
+
+    @Test
+    void parseSuccess() {
+        Optional<MachineReadableTravelDocumentInfo> infoOpt = processor.parse(NLD);
+        assertThat(infoOpt).isPresent();
+        MachineReadableTravelDocumentInfo info = infoOpt.get();
+        assertThat(info.getDocumentCode()).isEqualTo("I");
+        assertThat(info.getIssuingRegion().getAlpha3()).isEqualTo("NLD");
+        assertThat(info.getDocumentNumber()).isEqualTo("XI85935F8");
+        assertThat(info.getOptionalData()).isEqualTo("999999990");
+        assertThat(info.getBirthDate()).isEqualTo("19720814");
+        assertThat(info.getGender()).isEqualTo(Gender.FEMALE);
+        assertThat(info.getExpirationDate()).isEqualTo("20110826");
+        assertThat(info.getRegion().getAlpha3()).isEqualTo("NLD");
+        assertThat(info.getSecondOptionalData()).isEmpty();
+        assertThat(info.getSurname()).isEqualTo("VAN DER STEEN");
+        assertThat(info.getGivenName()).isEqualTo("MARIANNE LOUISE");
+    }
+
+    @Test
+    void parseError() {
+        assertThat(processor.parse(NLD.substring(0, 59) + "0" + NLD.substring(60))).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.enums.Gender;
+import com.xiahaimoyu.credentialkit.info.MachineReadableTravelDocumentInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MachineReadableTd2ProcessorTest {
+
+    private static final String DEU = "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2";
+
+    private static final String CHN = "ACCHNLI<<SI<<<<<<<<<<<<<<<<<<<<<<<<<C123456788CHN9001011<350101412345674";
+
+    private MachineReadableTd2Processor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new MachineReadableTd2Processor();
+    }
+
+    @Test
+    void validateSuccess() {
+        assertThat(processor.validate(DEU).isValid()).isTrue();
+        assertThat(processor.validate(CHN).isValid()).isTrue();
+    }
+
+    @Test
+    void validateFormatError() {
+        assertThat(processor.validate(DEU + "<").getErrorCode()).hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+        // 性别位只能是M、F、<
+        assertThat(processor.validate(DEU.substring(0, 56) + "X" + DEU.substring(57)).getErrorCode())
+                .hasValue(ErrorCode.BASIC_FORMAT_ERROR);
+    }
+
+    @Test
+    void validateErrorsInOrder() {
+        assertThat(processor.validate("I<XXQ" + DEU.substring(5)).getErrorCode()).hasValue(ErrorCode.REGION_ERROR);
+        assertThat(processor.validate(DEU.substring(0, 45) + "8" + DEU.substring(46)).getErrorCode())
+                .hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+        assertThat(processor.validate(DEU.substring(0, 46) + "DEX" + DEU.substring(49)).getErrorCode())
+                .hasValue(ErrorCode.REGION_ERROR);
+        assertThat(processor.validate(DEU.substring(0, 71) + "3").getErrorCode()).hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+    }
+
+    @Test
+    void parseSuccess() {
+        Optional<MachineReadableTravelDocumentInfo> infoOpt = processor.parse(CHN);
+        assertThat(infoOpt).isPresent();
+        MachineReadableTravelDocumentInfo info = infoOpt.get();
+        assertThat(info.getDocumentCode()).isEqualTo("AC");
+        assertThat(info.getIssuingRegion().getChineseShortName()).isEqualTo("中国");
+        assertThat(info.getSurname()).isEqualTo("LI");
+        assertThat(info.getGivenName()).isEqualTo("SI");
+        assertThat(info.getDocumentNumber()).isEqualTo("C12345678");
+        assertThat(info.getBirthDate()).isEqualTo("19900101");
+        assertThat(info.getGender()).isEqualTo(Gender.UNKNOWN);
+        assertThat(info.getExpirationDate()).isEqualTo("20350101");
+        assertThat(info.getOptionalData()).isEqualTo("1234567");
+        assertThat(info.getSecondOptionalData()).isNull();
+    }
+
+    @Test
+    void parseExtensionIssuingRegion() {
+        MachineReadableTravelDocumentInfo info = processor.parse(DEU).get();
+        assertThat(info.getIssuingRegion().getChineseShortName()).isEqualTo("德国");
+        assertThat(info.getRegion().getAlpha3()).isEqualTo("DEU");
+        assertThat(info.getGivenName()).isEqualTo("ANNA MARIA");
+        assertThat(info.getOptionalData()).isEmpty();
+    }
+}
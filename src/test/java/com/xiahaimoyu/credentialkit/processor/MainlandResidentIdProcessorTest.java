@@ -6,6 +6,9 @@ package com.xiahaimoyu.credentialkit.processor;
 import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.Gender;
 import com.xiahaimoyu.credentialkit.info.MainlandResidentIdInfo;
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import com.xiahaimoyu.credentialkit.util.DateUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -88,8 +91,58 @@ class MainlandResidentIdProcessorTest {
         assertThat(info.getGender()).isEqualTo(Gender.FEMALE);
     }
 
+    @Test
+    void parse18KeepsLeadingZerosOfBirthYear() {
+        // 出生年份不足4位时仍为8位YYYYMMDD，与证件号码中的日期一致
+        assertThat(processor.parse("110101080012310023").map(MainlandResidentIdInfo::getBirthDate)).hasValue("08001231");
+        assertThat(processor.parse("[110101080012310023]", 1, 18).map(MainlandResidentIdInfo::getBirthDate))
+                .hasValue("08001231");
+    }
+
     @Test
     void parseError() {
         assertThat(processor.parse("3301051978102700251")).isEmpty();
     }
+
+    @Test
+    void onePassMatchesSeparateChecks() {
+        String[] samples = {"330105197810270025", "11010119900307002X", "330105781027002", "110101197810270029"};
+        char[] replacements = {'0', '1', '2', '5', '9', 'X', 'A', ' '};
+        for (String sample : samples) {
+            assertThat(processor.validate(sample)).as(sample).isEqualTo(separateChecks(sample));
+            // 逐位替换，覆盖格式、地区、生日、校验位各类错误及其组合
+            for (int i = 0; i < sample.length(); i++) {
+                for (char replacement : replacements) {
+                    char[] chars = sample.toCharArray();
+                    chars[i] = replacement;
+                    String mutated = new String(chars).trim();
+                    assertThat(processor.validate(mutated)).as(mutated).isEqualTo(separateChecks(mutated));
+                }
+            }
+            String shorter = sample.substring(1);
+            assertThat(processor.validate(shorter)).as(shorter).isEqualTo(separateChecks(shorter));
+        }
+        assertThat(processor.validate("880101199913310018")).isEqualTo(separateChecks("880101199913310018"));
+    }
+
+    /**
+     * 按格式、地区、生日、校验位的顺序分别校验（单遍扫描之前的实现）
+     */
+    private static ValidationResult separateChecks(String credential) {
+        if (!credential.matches("\\d{17}[0-9X]|\\d{15}")) {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        if (RegionUtil.getDomesticRegionInfoByCode(credential.substring(0, 6)) == null) {
+            return ValidationResult.failure(ErrorCode.REGION_ERROR);
+        }
+        boolean is18Digit = credential.length() == 18;
+        String birthDate = is18Digit ? credential.substring(6, 14) : "19" + credential.substring(6, 12);
+        if (!DateUtil.validDateBeforeNow(birthDate)) {
+            return ValidationResult.failure(ErrorCode.BIRTH_DATE_ERROR);
+        }
+        if (is18Digit && CheckDigitUtil.getIdCardCheckDigit(credential) != credential.charAt(17)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        return ValidationResult.success();
+    }
 }
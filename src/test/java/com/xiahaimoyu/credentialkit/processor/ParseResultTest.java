@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParseResultTest {
+
+    @Test
+    void success() {
+        CredentialInfo info = new CredentialInfo() {
+        };
+        ParseResult<CredentialInfo> result = ParseResult.success(info);
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getValidationResult()).isSameAs(ValidationResult.success());
+        assertThat(result.getErrorCode()).isEmpty();
+        assertThat(result.getErrorDescription()).isEmpty();
+        assertThat(result.getInfo()).containsSame(info);
+        assertThat(result.getInfoOrNull()).isSameAs(info);
+        assertThat(result.toString()).contains("valid=true");
+    }
+
+    @Test
+    void failureIsCachedPerErrorCode() {
+        ParseResult<CredentialInfo> a = ParseResult.failure(ErrorCode.REGION_ERROR);
+        ParseResult<CredentialInfo> b = ParseResult.failure(ValidationResult.failure(ErrorCode.REGION_ERROR));
+        assertThat(a).isSameAs(b);
+        assertThat(a.isValid()).isFalse();
+        assertThat(a.getValidationResult()).isSameAs(ValidationResult.failure(ErrorCode.REGION_ERROR));
+        assertThat(a.getErrorCode()).hasValue(ErrorCode.REGION_ERROR);
+        assertThat(a.getErrorDescription()).isEqualTo(ValidationResult.failure(ErrorCode.REGION_ERROR).getErrorDescription());
+        assertThat(a.getInfo()).isEmpty();
+        assertThat(a.getInfoOrNull()).isNull();
+        assertThat(a.toString()).contains("REGION_ERROR");
+    }
+
+    @Test
+    void rejectsNull() {
+        assertThatThrownBy(() -> ParseResult.success(null)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> ParseResult.failure((ErrorCode) null)).isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResidentIdFamilyTest {
+
+    private static final String[] SAMPLES = {
+            "330105197810270025",
+            "810000199408230021",
+            "820000199408230023",
+            "830000199201300022",
+            "911398199012310021"
+    };
+
+    private final CredentialProcessor<?>[] members = {
+            new MainlandResidentIdProcessor(),
+            new HkMacaoResidencePermitProcessor(),
+            new TaiwanResidencePermitProcessor(),
+            new ForeignerPermanentResidenceIdProcessor()
+    };
+
+    @Test
+    void classifySamples() {
+        assertThat(ResidentIdFamily.classify(SAMPLES[0], 0, 18)).isEqualTo(ResidentIdFamily.MAINLAND_RESIDENT_ID);
+        assertThat(ResidentIdFamily.classify(SAMPLES[1], 0, 18) & ResidentIdFamily.HK_MACAO_RESIDENCE_PERMIT).isNotZero();
+        assertThat(ResidentIdFamily.classify(SAMPLES[2], 0, 18) & ResidentIdFamily.HK_MACAO_RESIDENCE_PERMIT).isNotZero();
+        assertThat(ResidentIdFamily.classify(SAMPLES[3], 0, 18) & ResidentIdFamily.TAIWAN_RESIDENCE_PERMIT).isNotZero();
+        assertThat(ResidentIdFamily.classify(SAMPLES[4], 0, 18)).isEqualTo(ResidentIdFamily.FOREIGNER_PERMANENT_RESIDENCE_ID);
+        // 区间版本
+        assertThat(ResidentIdFamily.classify("ID:" + SAMPLES[0] + ";", 3, 18)).isEqualTo(ResidentIdFamily.MAINLAND_RESIDENT_ID);
+    }
+
+    @Test
+    void classifyRejectsOtherLengths() {
+        assertThat(ResidentIdFamily.classify("330105781027002", 0, 15)).isZero();
+        assertThat(ResidentIdFamily.classify("", 0, 0)).isZero();
+    }
+
+    @Test
+    void classifyMatchesEachProcessor() {
+        for (String candidate : candidates()) {
+            int expected = 0;
+            for (int i = 0; i < members.length; i++) {
+                if (members[i].validate(candidate).isValid()) {
+                    expected |= 1 << i;
+                }
+            }
+            assertThat(ResidentIdFamily.classify(candidate, 0, candidate.length())).as(candidate).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void memberOfRequiresExactBuiltInProcessor() {
+        for (int i = 0; i < members.length; i++) {
+            assertThat(ResidentIdFamily.memberOf(members[i])).isEqualTo(1 << i);
+        }
+        // 子类可能改变校验规则，不视为族成员
+        assertThat(ResidentIdFamily.memberOf(new MainlandResidentIdProcessor() {
+        })).isZero();
+        assertThat(ResidentIdFamily.memberOf(new UnifiedSocialCreditProcessor())).isZero();
+        assertThat(ResidentIdFamily.memberOf(null)).isZero();
+    }
+
+    @Test
+    void parseRequiresClassifiedMember() {
+        MainlandResidentIdProcessor mainland = new MainlandResidentIdProcessor();
+        int members = ResidentIdFamily.classify(SAMPLES[0], 0, 18);
+        assertThat(ResidentIdFamily.parse(mainland, SAMPLES[0], members)).isEqualTo(mainland.parse(SAMPLES[0]).get());
+
+        assertThatThrownBy(() -> ResidentIdFamily.parse(new TaiwanResidencePermitProcessor(), SAMPLES[0], members))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResidentIdFamily.parse(new UnifiedSocialCreditProcessor(), "91330106MA27Y4U47R", -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 族判定结果与输入不符时，格式和校验位检查仍能拦下
+        assertThatThrownBy(() -> ResidentIdFamily.parse(mainland, "33010519781027002", members))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResidentIdFamily.parse(mainland, "33010519781027002A", members))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ResidentIdFamily.parse(mainland, "330105197810270026", members))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 样本及其单字符变体（另含按变体重算校验位的版本，覆盖只改变前缀、日期的情况）
+     *
+     * @return 候选输入
+     */
+    private static List<String> candidates() {
+        final String replacements = "0123456789XA";
+        List<String> candidates = new ArrayList<>();
+        for (String sample : SAMPLES) {
+            candidates.add(sample);
+            for (int position = 0; position < sample.length(); position++) {
+                for (int r = 0; r < replacements.length(); r++) {
+                    char[] chars = sample.toCharArray();
+                    chars[position] = replacements.charAt(r);
+                    String mutated = new String(chars);
+                    candidates.add(mutated);
+                    if (position < 17) {
+                        candidates.add(withCheckDigit(mutated));
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static String withCheckDigit(String credential) {
+        int weightedSum = 0;
+        for (int i = 0; i < 17; i++) {
+            int digit = credential.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return credential;
+            }
+            weightedSum += digit * CheckDigitUtil.getIdCardWeight(i);
+        }
+        return credential.substring(0, 17) + CheckDigitUtil.getIdCardCheckDigitBySum(weightedSum);
+    }
+}
@@ -6,6 +6,8 @@ package com.xiahaimoyu.credentialkit.processor;
 import com.xiahaimoyu.credentialkit.enums.ErrorCode;
 import com.xiahaimoyu.credentialkit.enums.OrgCategory;
 import com.xiahaimoyu.credentialkit.info.UnifiedSocialCreditInfo;
+import com.xiahaimoyu.credentialkit.util.CheckDigitUtil;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +82,63 @@ class UnifiedSocialCreditProcessorTest {
     void parseError() {
         assertThat(processor.parse("91880106MA27Y4U47R")).isEmpty();
     }
+
+    @Test
+    void validateCharacterOutsideCharsetIsCheckDigitError() {
+        // 组织机构代码校验位正确，但本体含GB 32100不使用的字符：此前计算统一社会信用代码校验位时抛出异常
+        for (String credential : new String[]{"91330106MAI7Y4U460", "91330106MAO7Y4U470", "91330106MAZ7Y4U470"}) {
+            assertThat(processor.validate(credential).getErrorCode()).as(credential).hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+    }
+
+    @Test
+    void characterOutsideCharsetKeepsErrorPrecedence() {
+        // 第9~16位的I、O、S、V、Z不提前报格式错误，机构类别、地区、组织机构代码校验位错误照常报告
+        assertThat(processor.validate("4201061987Z6110753").getErrorCode()).hasValue(ErrorCode.ORG_CATEGORY_ERROR);
+        assertThat(processor.validate("32010219Z909097386").getErrorCode()).hasValue(ErrorCode.ORG_CATEGORY_ERROR);
+        assertThat(processor.validate("92010219Z909097386").getErrorCode()).hasValue(ErrorCode.REGION_ERROR);
+        assertThat(processor.validate("121000104000S0770K").getErrorCode()).hasValue(ErrorCode.REGION_ERROR);
+        assertThat(processor.validate("91350900X00010VY43").getErrorCode()).hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+    }
+
+    @Test
+    void onePassMatchesSeparateChecks() {
+        String[] samples = {"91330106MA27Y4U47R", "12100000400000000X", "91110108MA01X0XG3T"};
+        char[] replacements = {'0', '1', '9', 'A', 'X', 'Y', 'I', 'Z', '-'};
+        for (String sample : samples) {
+            assertThat(processor.validate(sample)).as(sample).isEqualTo(separateChecks(sample));
+            // 逐位替换，覆盖格式、机构类别、地区、两个校验位各类错误
+            for (int i = 0; i < sample.length(); i++) {
+                for (char replacement : replacements) {
+                    char[] chars = sample.toCharArray();
+                    chars[i] = replacement;
+                    String mutated = new String(chars);
+                    assertThat(processor.validate(mutated)).as(mutated).isEqualTo(separateChecks(mutated));
+                }
+            }
+        }
+    }
+
+    /**
+     * 按格式、机构类别、地区、组织机构代码校验位、统一社会信用代码校验位的顺序分别校验（单遍扫描之前的实现）
+     */
+    private static ValidationResult separateChecks(String credential) {
+        if (!credential.matches("[0-9A-Z]{2}\\d{6}[0-9A-Z]{8}[0-9X][0-9A-Z]")) {
+            return ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        }
+        if (OrgCategory.getByCode(credential.substring(0, 2)) == null) {
+            return ValidationResult.failure(ErrorCode.ORG_CATEGORY_ERROR);
+        }
+        if (RegionUtil.getDomesticRegionInfoByCode(credential.substring(2, 8)) == null) {
+            return ValidationResult.failure(ErrorCode.REGION_ERROR);
+        }
+        if (CheckDigitUtil.getOrganizationCodeCheckDigit(credential.substring(8)) != credential.charAt(16)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        if (!credential.substring(8, 16).matches("[0-9A-HJ-NPQRTUWXY]{8}")
+                || CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigit(credential) != credential.charAt(17)) {
+            return ValidationResult.failure(ErrorCode.CHECK_DIGIT_ERROR);
+        }
+        return ValidationResult.success();
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.processor;
+
+import com.xiahaimoyu.credentialkit.enums.ErrorCode;
+import com.xiahaimoyu.credentialkit.info.CredentialInfo;
+import com.xiahaimoyu.credentialkit.info.MainlandResidentIdInfo;
+import com.xiahaimoyu.credentialkit.util.RegionUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValidationContextTest {
+
+    @Test
+    void parseWithContextMatchesParseWithoutContext() {
+        List<CredentialProcessor<?>> processors = Arrays.asList(
+                new MainlandResidentIdProcessor(), new HkMacaoResidencePermitProcessor(), new TaiwanResidencePermitProcessor(),
+                new ForeignerPermanentResidenceIdProcessor(), new MachineReadablePassportProcessor(),
+                new UnifiedSocialCreditProcessor(), new MachineReadableTd1Processor(), new MachineReadableTd2Processor());
+        List<String> credentials = Arrays.asList(
+                "330105197810270025", "110101780101001", "11010119900307002X",
+                "810000199408230021", "830000199201300022", "911398199012310021", "KAZ110090123105",
+                "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16",
+                "P<D<<MUSTERMANN<<ERIKA<<<<<<<<<<<<<<<<<<<<<<C01X00T478D<<6408125F2702283<<<<<<<<<<<<<<<4",
+                "91330106MA27Y4U47R",
+                "I<NLDXI85935F86999999990<<<<<<7208148F1108268NLD<<<<<<<<<<<8VAN<DER<STEEN<<MARIANNE<LOUISE",
+                "I<D<<ERIKSSON<<ANNA<MARIA<<<<<<<<<<<D231458907DEU7408122F3204153<<<<<<<2");
+        int parsed = 0;
+        for (CredentialProcessor<?> processor : processors) {
+            for (String credential : credentials) {
+                if (!processor.validate(credential).isValid()) {
+                    continue;
+                }
+                // parseValidated未经校验，解析器回退到自行解码，结果应与取用上下文的解析一致
+                CredentialInfo expected = processor.parseValidated(credential);
+                assertThat(processor.parse(credential).map(CredentialInfo.class::cast))
+                        .as("%s %s", processor.getClass().getSimpleName(), credential)
+                        .hasValue(expected);
+                parsed++;
+            }
+        }
+        assertThat(parsed).isEqualTo(credentials.size());
+    }
+
+    @Test
+    void contextCarriesValuesFromValidatorToParserAndIsClearedAfterCall() {
+        List<Object> seen = new ArrayList<>();
+        CredentialRangeValidator validator = (credential, offset, length) -> {
+            ValidationContext.current().setAttachment("decoded:" + credential.subSequence(offset, offset + length));
+            ValidationContext.current().setBirthDate(20000101);
+            return length == 2 ? ValidationResult.success() : ValidationResult.failure(ErrorCode.BASIC_FORMAT_ERROR);
+        };
+        CredentialRangeParser<CredentialInfo> parser = (credential, offset, length, info) -> {
+            seen.add(ValidationContext.current().getAttachment());
+            seen.add(ValidationContext.current().getBirthDate());
+        };
+        ContextProcessor processor = new ContextProcessor(validator, parser);
+
+        assertThat(processor.parse("[ab]", 1, 2)).isPresent();
+        assertThat(seen).containsExactly("decoded:AB", 20000101);
+        assertThat(ValidationContext.current().getAttachment()).isNull();
+        assertThat(ValidationContext.current().getBirthDate()).isEqualTo(ValidationContext.NO_DATE);
+
+        seen.clear();
+        assertThat(processor.validateAndParse("CD").isValid()).isTrue();
+        assertThat(seen).containsExactly("decoded:CD", 20000101);
+
+        // 未经校验直接解析时上下文为空
+        seen.clear();
+        processor.validate("EF");
+        processor.parseValidated("EF");
+        assertThat(seen).containsExactly(null, ValidationContext.NO_DATE);
+
+        // 校验失败后上下文同样被清空
+        assertThat(processor.validate("GHI").isValid()).isFalse();
+        assertThat(ValidationContext.current().getAttachment()).isNull();
+    }
+
+    @Test
+    void nestedProcessorCallInvalidatesOuterContext() {
+        MainlandResidentIdProcessor inner = new MainlandResidentIdProcessor();
+        List<Object> seen = new ArrayList<>();
+        CredentialRangeValidator validator = (credential, offset, length) -> {
+            ValidationContext.current().setAttachment("outer");
+            // 校验器中嵌套调用其他处理器会占用同一个上下文
+            return inner.validate("330105197810270025");
+        };
+        CredentialRangeParser<CredentialInfo> parser = (credential, offset, length, info) -> {
+            seen.add(ValidationContext.current().getAttachment());
+            seen.add(ValidationContext.current().getDomesticRegion());
+        };
+        assertThat(new ContextProcessor(validator, parser).parse("XY")).isPresent();
+        // 外层解析器读不到嵌套调用留下的字段，回退到自行解码
+        assertThat(seen).containsExactly(null, null);
+
+        // 解析器中嵌套调用后，外层后续解析器同样回退
+        CredentialRangeParser<CredentialInfo> nestedParser = (credential, offset, length, info) -> {
+            MainlandResidentIdInfo nested = inner.parse("330105197810270025").get();
+            seen.add(nested.getRegion());
+        };
+        seen.clear();
+        ContextProcessor outer = new ContextProcessor(
+                (credential, offset, length) -> ValidationResult.success(), nestedParser, parser);
+        assertThat(outer.parse("XY")).isPresent();
+        assertThat(seen).containsExactly(RegionUtil.getDomesticRegionInfoByCode("330105"), null, null);
+    }
+
+    @Test
+    void contextIsClearedWhenValidatorOrParserThrows() {
+        String credential = "AB";
+        CredentialRangeValidator failing = (sequence, offset, length) -> {
+            ValidationContext.current().setAttachment("leak");
+            throw new IllegalStateException("validator");
+        };
+        ContextProcessor validatorThrows = new ContextProcessor(failing);
+        assertThatThrownBy(() -> validatorThrows.validate(credential)).hasMessage("validator");
+        assertClosed(validatorThrows, credential);
+        assertThatThrownBy(() -> validatorThrows.isValid(credential)).hasMessage("validator");
+        assertClosed(validatorThrows, credential);
+        assertThatThrownBy(() -> validatorThrows.validate("[AB]", 1, 2)).hasMessage("validator");
+        assertClosed(validatorThrows, "[AB]");
+
+        CredentialRangeParser<CredentialInfo> throwing = (sequence, offset, length, info) -> {
+            ValidationContext.current().setAttachment("leak");
+            throw new IllegalStateException("parser");
+        };
+        ContextProcessor parserThrows = new ContextProcessor((sequence, offset, length) -> ValidationResult.success(), throwing);
+        assertThatThrownBy(() -> parserThrows.parse(credential)).hasMessage("parser");
+        assertClosed(parserThrows, credential);
+        assertThatThrownBy(() -> parserThrows.validateAndParse(credential)).hasMessage("parser");
+        assertClosed(parserThrows, credential);
+        assertThatThrownBy(() -> parserThrows.validateAndParse("[AB]", 1, 2)).hasMessage("parser");
+        assertClosed(parserThrows, "[AB]");
+        assertThatThrownBy(() -> parserThrows.parseValidated(credential)).hasMessage("parser");
+        assertClosed(parserThrows, credential);
+    }
+
+    @Test
+    void builtInValidatorsRecordDecodedFields() {
+        List<ValidationContext> captured = new ArrayList<>();
+        CredentialRangeParser<CredentialInfo> capture = (credential, offset, length, info) -> {
+            ValidationContext context = ValidationContext.current();
+            captured.add(context);
+            assertThat(context.getDomesticRegion()).isEqualTo(RegionUtil.getDomesticRegionInfoByCode("330105"));
+            assertThat(context.getBirthDate()).isEqualTo(19781027);
+            assertThat(context.getGenderDigit()).isEqualTo(2);
+        };
+        ContextProcessor processor = new ContextProcessor((credential, offset, length) ->
+                ResidentIdFamily.validate(ResidentIdFamily.MAINLAND_RESIDENT_ID, credential, offset, length), capture);
+        assertThat(processor.parse("330105197810270025")).isPresent();
+        assertThat(captured).containsExactly(ValidationContext.current());
+    }
+
+    private static void assertClosed(CredentialProcessor<?> processor, CharSequence credential) {
+        ValidationContext context = ValidationContext.current();
+        assertThat(context.getAttachment()).isNull();
+        for (int offset = 0; offset <= credential.length(); offset++) {
+            for (int length = 0; offset + length <= credential.length(); length++) {
+                assertThat(context.isOpenFor(processor, credential, offset, length)).isFalse();
+            }
+        }
+    }
+
+    /**
+     * 使用给定区间校验器、解析器的测试处理器
+     */
+    private static class ContextProcessor extends CredentialProcessor<CredentialInfo> {
+
+        @SafeVarargs
+        ContextProcessor(CredentialRangeValidator validator, CredentialRangeParser<CredentialInfo>... parsers) {
+            super(Collections.singletonList(validator), Arrays.asList(parsers));
+        }
+
+        @Override
+        protected CredentialInfo createInfo() {
+            return new CredentialInfo() {
+            };
+        }
+    }
+}
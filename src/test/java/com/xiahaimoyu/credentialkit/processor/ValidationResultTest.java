@@ -16,6 +16,7 @@ class ValidationResultTest {
         ValidationResult result = ValidationResult.success();
         assertThat(result.isValid()).isTrue();
         assertThat(result.getErrorCode()).isEmpty();
+        assertThat(result.getErrorCodeOrNull()).isNull();
         assertThat(result.getErrorDescription()).isEmpty();
         assertThat(result.toString()).contains("valid=true");
     }
@@ -27,6 +28,7 @@ class ValidationResultTest {
         assertThat(a.isValid()).isFalse();
         assertThat(a).isSameAs(b);
         assertThat(a.getErrorCode()).hasValue(ErrorCode.CHECK_DIGIT_ERROR);
+        assertThat(a.getErrorCodeOrNull()).isEqualTo(ErrorCode.CHECK_DIGIT_ERROR);
         assertThat(a.getErrorDescription()).isEqualTo("[CHECK_DIGIT_ERROR] 校验位错误");
         assertThat(a.toString()).contains("CHECK_DIGIT_ERROR");
     }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsciiUtilTest {
+
+    @Test
+    void inRangeMarksEveryLaneExactly() {
+        int[][] ranges = {{'0', '9'}, {'A', 'Z'}, {'a', 'z'}, {'<', '<'}, {1, 127}};
+        // 每个字节值放在每个通道，其余通道填入相邻的边界值，检查标记不跨通道
+        int[] neighbours = {0, 0x2F, 0x3A, 0x40, 0x5B, 0x60, 0x7B, 0x7F, 0x80, 0xFF};
+        for (int[] range : ranges) {
+            for (int value = 0; value < 256; value++) {
+                for (int lane = 0; lane < 8; lane++) {
+                    for (int neighbour : neighbours) {
+                        byte[] bytes = new byte[8];
+                        for (int i = 0; i < 8; i++) {
+                            bytes[i] = (byte) (i == lane ? value : neighbour);
+                        }
+                        long marks = AsciiUtil.inRange(AsciiUtil.getLong(bytes, 0), range[0], range[1]);
+                        for (int i = 0; i < 8; i++) {
+                            int b = bytes[i] & 0xFF;
+                            boolean expected = b >= range[0] && b <= range[1];
+                            assertThat((marks >>> (i * 8 + 7) & 1) == 1)
+                                    .as("range %s..%s byte %s lane %s", range[0], range[1], b, i)
+                                    .isEqualTo(expected);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void wordChecks() {
+        assertThat(AsciiUtil.isDigits(word("01234567"))).isTrue();
+        assertThat(AsciiUtil.isDigits(word("0123456/"))).isFalse();
+        assertThat(AsciiUtil.isDigits(word(":1234567"))).isFalse();
+        assertThat(AsciiUtil.hasLowerCase(word("ABCDEFGz"))).isTrue();
+        assertThat(AsciiUtil.hasLowerCase(word("ABCDEFG{"))).isFalse();
+        assertThat(AsciiUtil.isAscii(word("ABCDEFGH"))).isTrue();
+        assertThat(AsciiUtil.isAscii(AsciiUtil.getLong(new byte[]{'A', 'B', 'C', 'D', 'E', 'F', 'G', (byte) 0xC3}, 0))).isFalse();
+        assertThat(AsciiUtil.hasUnmarked(AsciiUtil.inRange(word("01234567"), '0', '9'))).isFalse();
+        assertThat(AsciiUtil.hasUnmarked(AsciiUtil.inRange(word("0123456X"), '0', '9'))).isTrue();
+    }
+
+    @Test
+    void rangeChecks() {
+        byte[] bytes = "ID:33010519781027002X;".getBytes(StandardCharsets.US_ASCII);
+        assertThat(AsciiUtil.isDigits(bytes, 3, 17)).isTrue();
+        assertThat(AsciiUtil.isDigits(bytes, 3, 18)).isFalse();
+        assertThat(AsciiUtil.isDigits(bytes, 2, 17)).isFalse();
+        assertThat(AsciiUtil.isDigits(bytes, 5, 0)).isTrue();
+        assertThat(AsciiUtil.isAscii(bytes, 0, bytes.length)).isTrue();
+        byte[] utf8 = "33010519781027002测".getBytes(StandardCharsets.UTF_8);
+        assertThat(AsciiUtil.isAscii(utf8, 0, 17)).isTrue();
+        assertThat(AsciiUtil.isAscii(utf8, 0, utf8.length)).isFalse();
+        assertThatThrownBy(() -> AsciiUtil.isDigits(bytes, 10, bytes.length)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> AsciiUtil.isAscii(bytes, -1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static long word(String eightChars) {
+        return AsciiUtil.getLong(eightChars.getBytes(StandardCharsets.US_ASCII), 0);
+    }
+}
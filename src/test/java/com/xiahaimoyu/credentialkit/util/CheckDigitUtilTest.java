@@ -79,4 +79,66 @@ class CheckDigitUtilTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("无效字符");
     }
+
+    @Test
+    void rangeOverloadsMatchStringVersions() {
+        String line = "--33010519781027002|91330106MA27Y4U47|G48947646--";
+        assertThat(CheckDigitUtil.getIdCardCheckDigit(line, 2)).isEqualTo('5');
+        assertThat(CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigit(line, 20)).isEqualTo('R');
+        assertThat(CheckDigitUtil.getOrganizationCodeCheckDigit(line, 28)).isEqualTo('7');
+        assertThat(CheckDigitUtil.getMachineReadablePassportCheckDigit(line, 38, 9)).isEqualTo('4');
+    }
+
+    @Test
+    void idCardCheckDigitByWeightedSum() {
+        String id = "33010519781027002";
+        int weightedSum = 0;
+        for (int i = 0; i < id.length(); i++) {
+            weightedSum += (id.charAt(i) - '0') * CheckDigitUtil.getIdCardWeight(i);
+        }
+        assertThat(CheckDigitUtil.getIdCardCheckDigitBySum(weightedSum)).isEqualTo(CheckDigitUtil.getIdCardCheckDigit(id));
+    }
+
+    @Test
+    void unifiedSocialCreditAndOrganizationCheckDigitsByWeightedSum() {
+        String usci = "91330106MA27Y4U47";
+        int weightedSum = 0;
+        for (int i = 0; i < usci.length(); i++) {
+            weightedSum += CheckDigitUtil.getUnifiedSocialCreditCharValue(usci.charAt(i)) * CheckDigitUtil.getUnifiedSocialCreditCodeWeight(i);
+        }
+        assertThat(CheckDigitUtil.getUnifiedSocialCreditCodeCheckDigitBySum(weightedSum)).isEqualTo('R');
+        assertThat(CheckDigitUtil.getUnifiedSocialCreditCharValue('I')).isEqualTo(-1);
+        assertThat(CheckDigitUtil.getUnifiedSocialCreditCharValue('中')).isEqualTo(-1);
+
+        String organizationCode = "MA27Y4U4";
+        int organizationSum = 0;
+        for (int i = 0; i < organizationCode.length(); i++) {
+            char c = organizationCode.charAt(i);
+            organizationSum += (c <= '9' ? c - '0' : c - 'A' + 10) * CheckDigitUtil.getOrganizationCodeWeight(i);
+        }
+        assertThat(CheckDigitUtil.getOrganizationCodeCheckDigitBySum(organizationSum)).isEqualTo('7');
+    }
+
+    @Test
+    void machineReadablePassportCompositeCheckDigit() {
+        String mrz = "POCHNZHANG<<SAN<<<<<<<<<<<<<<<<<<<<<<<<<<<<<G489476464CHN7304279M210126619203301<<<<<<16";
+        int[] ranges = {44, 10, 57, 7, 65, 22};
+        String concatenated = mrz.substring(44, 54) + mrz.substring(57, 64) + mrz.substring(65, 87);
+        char expected = CheckDigitUtil.getMachineReadablePassportCheckDigit(concatenated);
+        assertThat(expected).isEqualTo('6');
+        assertThat(CheckDigitUtil.getMachineReadablePassportCheckDigit(mrz, 0, ranges)).isEqualTo(expected);
+        assertThat(CheckDigitUtil.getMachineReadablePassportCheckDigit("##" + mrz, 2, ranges)).isEqualTo(expected);
+    }
+
+    @Test
+    void rangeOverloadsRejectOutOfBounds() {
+        assertThatThrownBy(() -> CheckDigitUtil.getIdCardCheckDigit("33010519781027002", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CheckDigitUtil.getOrganizationCodeCheckDigit(null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CheckDigitUtil.getMachineReadablePassportCheckDigit("G48947646", -1, 3))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CheckDigitUtil.getMachineReadablePassportCheckDigit("G48947646", 0, new int[]{0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -8,7 +8,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Isolated;
 
 import java.time.Clock;
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneId;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +48,12 @@ class DateUtilTest {
         assertThat(DateUtil.validDateBeforeNow("29991231")).isFalse();
     }
 
+    @Test
+    void formatDatePadsToEightDigits() {
+        assertThat(DateUtil.formatDate(19781027)).isEqualTo("19781027");
+        assertThat(DateUtil.formatDate(8001231)).isEqualTo("08001231");
+    }
+
     @Test
     void toFullYearDatePrefers21stCenturyWhenValid() {
         // 固定时间为2030-01-01：25 -> 2025是有效的过去日期
@@ -75,4 +83,142 @@ class DateUtilTest {
         DateUtil.setClock(Clock.fixed(Instant.parse("2026-08-21T00:00:00Z"), ZoneId.of("UTC")));
         assertThat(DateUtil.toFullYearExpirationDate("990101")).isEqualTo("19990101");
     }
+
+    @Test
+    void clockVersionIncrementsOnSetAndReset() {
+        int version = DateUtil.getClockVersion();
+        DateUtil.setClock(Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneId.of("UTC")));
+        assertThat(DateUtil.getClockVersion()).isEqualTo(version + 1);
+        DateUtil.resetClock();
+        assertThat(DateUtil.getClockVersion()).isEqualTo(version + 2);
+    }
+
+    @Test
+    void currentEpochDayFollowsClockAndZone() {
+        DateUtil.setClock(Clock.fixed(Instant.parse("2020-01-01T23:59:59Z"), ZoneId.of("UTC")));
+        assertThat(DateUtil.currentEpochDay()).isEqualTo(LocalDate.of(2020, 1, 1).toEpochDay());
+        // 同一时刻在东八区已是次日
+        DateUtil.setClock(Clock.fixed(Instant.parse("2020-01-01T23:59:59Z"), ZoneId.of("Asia/Shanghai")));
+        assertThat(DateUtil.currentEpochDay()).isEqualTo(LocalDate.of(2020, 1, 2).toEpochDay());
+        DateUtil.setClock(Clock.fixed(Instant.parse("2020-01-02T00:00:00Z"), ZoneId.of("UTC")));
+        assertThat(DateUtil.currentEpochDay()).isEqualTo(LocalDate.of(2020, 1, 2).toEpochDay());
+    }
+
+    @Test
+    void currentEpochDayRollsOverAtMidnight() {
+        MutableClock clock = new MutableClock(Instant.parse("2020-01-01T23:59:59.999Z"));
+        DateUtil.setClock(clock);
+        assertThat(DateUtil.currentEpochDay()).isEqualTo(LocalDate.of(2020, 1, 1).toEpochDay());
+        clock.instant = Instant.parse("2020-01-02T00:00:00Z");
+        assertThat(DateUtil.currentEpochDay()).isEqualTo(LocalDate.of(2020, 1, 2).toEpochDay());
+    }
+
+    @Test
+    void rangeValidDateMatchesStringVersion() {
+        String[] dates = {"19781027", "20000229", "19000229", "20240229", "20230229", "20231231", "20230431",
+                "20231301", "20230001", "20230100", "00000101", "99991231", "2023 101", "2023010A"};
+        for (String date : dates) {
+            assertThat(DateUtil.validDate("#" + date + "#", 1)).as(date).isEqualTo(DateUtil.validDate(date));
+        }
+        assertThat(DateUtil.validDate("2023010", 0)).isFalse();
+        assertThat(DateUtil.validDate(null, 0)).isFalse();
+        assertThat(DateUtil.validDate("20230101", -1)).isFalse();
+    }
+
+    @Test
+    void validDateMatchesCalendarRules() {
+        int[] years = {0, 1, 1600, 1900, 1999, 2000, 2023, 2024, 2100, 9999};
+        for (int year : years) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String date = String.format("%04d%02d%02d", year, month, day);
+                    boolean expected;
+                    try {
+                        LocalDate.of(year, month, day);
+                        expected = true;
+                    } catch (DateTimeException e) {
+                        expected = false;
+                    }
+                    assertThat(DateUtil.validDate(date)).as(date).isEqualTo(expected);
+                    assertThat(DateUtil.validDate(year, month, day)).as(date).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void validDateRejectsMalformedInput() {
+        assertThat(DateUtil.validDate(null)).isFalse();
+        assertThat(DateUtil.validDate("1978102")).isFalse();
+        assertThat(DateUtil.validDate("197810270")).isFalse();
+        assertThat(DateUtil.validDate("19781027Z")).isFalse();
+        assertThat(DateUtil.validDate("+9781027")).isFalse();
+        assertThat(DateUtil.validDateBeforeNow(null)).isFalse();
+        assertThat(DateUtil.toFullYearDate("0101")).isEqualTo("190101");
+        assertThat(DateUtil.toFullYearExpirationDate("0101")).isEqualTo("190101");
+    }
+
+    @Test
+    void todayIsRefreshedWhenClockCrossesMidnight() {
+        MutableClock clock = new MutableClock(Instant.parse("2020-01-01T23:59:59.999Z"));
+        DateUtil.setClock(clock);
+        assertThat(DateUtil.validDateBeforeNow("20200102")).isFalse();
+        clock.instant = Instant.parse("2020-01-02T00:00:00Z");
+        assertThat(DateUtil.validDateBeforeNow("20200102")).isTrue();
+        assertThat(DateUtil.toFullYearDate("200102")).isEqualTo("20200102");
+    }
+
+    @Test
+    void toFullYearExpirationDateFromLeapDay() {
+        // 固定时间为2024-02-29：20年后为2044-02-29
+        DateUtil.setClock(Clock.fixed(Instant.parse("2024-02-29T00:00:00Z"), ZoneId.of("UTC")));
+        assertThat(DateUtil.toFullYearExpirationDate("440229")).isEqualTo("20440229");
+        assertThat(DateUtil.toFullYearExpirationDate("440301")).isEqualTo("19440301");
+    }
+
+    @Test
+    void rangeValidDateWithCentury() {
+        assertThat(DateUtil.validDate(20, "000229", 0)).isTrue();
+        assertThat(DateUtil.validDate(19, "000229", 0)).isFalse();
+        assertThat(DateUtil.validDate(19, "P781027", 1)).isTrue();
+        assertThat(DateUtil.validDate(19, "78102", 0)).isFalse();
+    }
+
+    @Test
+    void rangeValidDateBeforeNowUsesInjectedClock() {
+        DateUtil.setClock(Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneId.of("UTC")));
+        assertThat(DateUtil.validDateBeforeNow("x20191231", 1)).isTrue();
+        assertThat(DateUtil.validDateBeforeNow("x20200101", 1)).isTrue();
+        assertThat(DateUtil.validDateBeforeNow("x20200102", 1)).isFalse();
+        assertThat(DateUtil.validDateBeforeNow(20, "200101", 0)).isTrue();
+        assertThat(DateUtil.validDateBeforeNow(20, "200102", 0)).isFalse();
+        assertThat(DateUtil.validDateBeforeNow(19, "200102", 0)).isTrue();
+    }
+
+    /**
+     * 可推进的UTC时钟
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
 }
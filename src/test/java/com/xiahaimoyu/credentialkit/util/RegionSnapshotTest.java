@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025. Xiahaimoyu. All Rights Reserved.
+ */
+package com.xiahaimoyu.credentialkit.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegionSnapshotTest {
+
+    @Test
+    void bundledSnapshotsMatchCsv() throws IOException {
+        // 构建时生成的快照必须与CSV一致
+        ByteBuffer domestic = RegionSnapshot.open(RegionSnapshot.DOMESTIC_FILE);
+        ByteBuffer international = RegionSnapshot.open(RegionSnapshot.INTERNATIONAL_FILE);
+        assertThat(domestic).isNotNull();
+        assertThat(international).isNotNull();
+        assertDomesticEquals(RegionSnapshot.readDomestic(domestic), parseDomesticCsv());
+        assertInternationalEquals(RegionSnapshot.readInternational(international), parseInternationalCsv());
+    }
+
+    @Test
+    void roundTripsThroughBytes() throws IOException {
+        RegionSnapshot.Domestic domestic = parseDomesticCsv();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegionSnapshot.writeDomestic(domestic, out);
+        assertDomesticEquals(RegionSnapshot.readDomestic(ByteBuffer.wrap(out.toByteArray())), domestic);
+
+        RegionSnapshot.International international = parseInternationalCsv();
+        out.reset();
+        RegionSnapshot.writeInternational(international, out);
+        assertInternationalEquals(RegionSnapshot.readInternational(ByteBuffer.wrap(out.toByteArray())), international);
+        // 扩展代码中的空列保持为null（第一行GBD没有英文简称）
+        assertThat(international.extensionFields[4]).isEqualTo("GBD");
+        assertThat(international.extensionFields[1]).isNull();
+    }
+
+    @Test
+    void externalSnapshotDirectoryIsMemoryMapped(@TempDir Path dir) throws IOException {
+        RegionSnapshot.Domestic domestic = parseDomesticCsv();
+        try (OutputStream out = Files.newOutputStream(dir.resolve(RegionSnapshot.DOMESTIC_FILE))) {
+            RegionSnapshot.writeDomestic(domestic, out);
+        }
+        String previous = System.getProperty(RegionSnapshot.SNAPSHOT_DIR_PROPERTY);
+        System.setProperty(RegionSnapshot.SNAPSHOT_DIR_PROPERTY, dir.toString());
+        try {
+            ByteBuffer mapped = RegionSnapshot.open(RegionSnapshot.DOMESTIC_FILE);
+            assertThat(mapped.isDirect()).isTrue();
+            assertDomesticEquals(RegionSnapshot.readDomestic(mapped), domestic);
+            // 外部目录中没有的文件取类路径中的快照
+            assertThat(RegionSnapshot.open(RegionSnapshot.INTERNATIONAL_FILE).isDirect()).isFalse();
+        } finally {
+            if (previous == null) {
+                System.clearProperty(RegionSnapshot.SNAPSHOT_DIR_PROPERTY);
+            } else {
+                System.setProperty(RegionSnapshot.SNAPSHOT_DIR_PROPERTY, previous);
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformedSnapshots() throws IOException {
+        assertThatThrownBy(() -> RegionSnapshot.readDomestic(ByteBuffer.wrap(new byte[]{1, 2, 3})))
+                .isInstanceOf(RuntimeException.class).hasMessageContaining("格式错误");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegionSnapshot.writeDomestic(parseDomesticCsv(), out);
+        byte[] bytes = out.toByteArray();
+        // 类型不匹配
+        assertThatThrownBy(() -> RegionSnapshot.readInternational(ByteBuffer.wrap(bytes)))
+                .isInstanceOf(RuntimeException.class).hasMessageContaining("格式错误");
+        // 截断
+        assertThatThrownBy(() -> RegionSnapshot.readDomestic(ByteBuffer.wrap(bytes, 0, bytes.length - 1)))
+                .isInstanceOf(RuntimeException.class).hasMessageContaining("长度不足");
+    }
+
+    private static RegionSnapshot.Domestic parseDomesticCsv() throws IOException {
+        return RegionSnapshot.parseDomestic(FileUtil.readCsvFromFile("/region/gb2260.csv"));
+    }
+
+    private static RegionSnapshot.International parseInternationalCsv() throws IOException {
+        return RegionSnapshot.parseInternational(FileUtil.readCsvFromFile("/region/iso3166.csv"),
+                FileUtil.readCsvFromFile("/region/icao9303.csv"));
+    }
+
+    private static void assertDomesticEquals(RegionSnapshot.Domestic actual, RegionSnapshot.Domestic expected) {
+        assertThat(actual.codes).isEqualTo(expected.codes);
+        assertThat(actual.names).isEqualTo(expected.names);
+        assertThat(actual.namePool).isEqualTo(expected.namePool);
+    }
+
+    private static void assertInternationalEquals(RegionSnapshot.International actual, RegionSnapshot.International expected) {
+        assertThat(actual.isoFields).containsExactly(expected.isoFields);
+        assertThat(actual.extensionFields).containsExactly(expected.extensionFields);
+    }
+}
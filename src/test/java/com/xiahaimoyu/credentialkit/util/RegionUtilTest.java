@@ -20,6 +20,60 @@ class RegionUtilTest {
         assertThat(RegionUtil.getDomesticRegionInfoByCode("999999")).isNull();
     }
 
+    @Test
+    void domesticRegionsShareNamesAndSurviveParentRemoval() {
+        DomesticRegionInfo county = RegionUtil.getDomesticRegionInfoByCode("330105");
+        DomesticRegionInfo city = RegionUtil.getDomesticRegionInfoByCode("330100");
+        DomesticRegionInfo province = RegionUtil.getDomesticRegionInfoByCode("330000");
+        assertThat(county.getCode()).isEqualTo("330105");
+        assertThat(county.getProvince()).isSameAs(province.getProvince());
+        assertThat(county.getCity()).isSameAs(city.getCity()).isEqualTo("杭州市");
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("330105")).isSameAs(county);
+        try {
+            // 移除上级地区不影响下级地区的省、市名称
+            assertThat(RegionUtil.removeDomesticRegionData("330100")).isSameAs(city);
+            assertThat(RegionUtil.getDomesticRegionInfoByCode("330100")).isNull();
+            assertThat(RegionUtil.getDomesticRegionInfoByCode(330100)).isNull();
+            assertThat(RegionUtil.getDomesticRegionInfoByCode("330106").getCity()).isEqualTo("杭州市");
+        } finally {
+            RegionUtil.addDomesticRegionData(city);
+        }
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("330100", 0, 4)).isSameAs(city);
+    }
+
+    @Test
+    void addAndRemoveNonNumericDomesticRegionData() {
+        DomesticRegionInfo region = new DomesticRegionInfo("TEST01", "测试省", null, null);
+        int version = RegionUtil.getDataVersion();
+        try {
+            RegionUtil.addDomesticRegionData(region);
+            assertThat(RegionUtil.getDataVersion()).isGreaterThan(version);
+            assertThat(RegionUtil.getDomesticRegionInfoByCode("TEST01")).isSameAs(region);
+            assertThat(RegionUtil.getDomesticRegionInfoByCode("TEST01", 0, 6)).isNull();
+        } finally {
+            RegionUtil.removeDomesticRegionData("TEST01");
+        }
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("TEST01")).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode((String) null)).isNull();
+    }
+
+    @Test
+    void stringLookupRejectsHashCollisions() {
+        // 与"330105"哈希值相同的非数字串
+        String collision = "33011\u0016";
+        assertThat(collision.hashCode()).isEqualTo("330105".hashCode());
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(collision)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(new String("330105".toCharArray()))).isNotNull();
+        DomesticRegionInfo region = new DomesticRegionInfo(collision, "测试省", null, null);
+        try {
+            RegionUtil.addDomesticRegionData(region);
+            assertThat(RegionUtil.getDomesticRegionInfoByCode(collision)).isSameAs(region);
+            assertThat(RegionUtil.getDomesticRegionInfoByCode("330105").getCounty()).isEqualTo("拱墅区");
+        } finally {
+            RegionUtil.removeDomesticRegionData(collision);
+        }
+    }
+
     @Test
     void getInternationalRegionInfo() {
         InternationalRegionInfo byAlpha3 = RegionUtil.getInternationalRegionInfoByAlpha3("CHN");
@@ -48,6 +102,59 @@ class RegionUtilTest {
         assertThat(RegionUtil.removeDomesticRegionData("999999")).isNull();
     }
 
+    @Test
+    void mrzCodeLookupCoversIsoAndExtensionCodes() {
+        InternationalRegionInfo china = RegionUtil.getInternationalRegionInfoByAlpha3("CHN");
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("CHN")).isSameAs(china);
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("P<CHN", 2)).isSameAs(china);
+        InternationalRegionInfo germany = RegionUtil.getInternationalRegionInfoByMrzCode("D<<");
+        assertThat(germany).isNotNull();
+        assertThat(germany.getAlpha2()).isEqualTo("DE");
+        InternationalRegionInfo stateless = RegionUtil.getInternationalRegionInfoByMrzCode("XXA");
+        assertThat(stateless.getEnglishFullName()).startsWith("Stateless person, as defined");
+        assertThat(stateless.getAlpha2()).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("I<UNO", 2).getAlpha2()).isEqualTo("UN");
+        // 扩展代码不属于ISO 3166，也不进入2位字母、数字编码视图
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("XXA")).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("D<<", 0)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha2("UN")).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("ZZZ")).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("CH")).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("chn", 0)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("CHN", 1)).isNull();
+    }
+
+    @Test
+    void customAlpha3OverridesExtensionCodeUntilRemoved() {
+        InternationalRegionInfo extension = RegionUtil.getInternationalRegionInfoByMrzCode("XXX");
+        InternationalRegionInfo custom = new InternationalRegionInfo(null, null, null, null, "XXX", null, null);
+        try {
+            RegionUtil.addInternationalRegionData(custom);
+            assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("XXX")).isSameAs(custom);
+        } finally {
+            RegionUtil.removeInternationalRegionData("XXX");
+        }
+        assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("XXX")).isSameAs(extension).isNotSameAs(custom);
+    }
+
+    @Test
+    void customCodesOutsideTableAlphabetAreFound() {
+        InternationalRegionInfo region = new InternationalRegionInfo(null, null, null, null, "t1x", "t1", "9A9");
+        try {
+            RegionUtil.addInternationalRegionData(region);
+            assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("t1x")).isSameAs(region);
+            assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("[t1x]", 1)).isSameAs(region);
+            assertThat(RegionUtil.getInternationalRegionInfoByMrzCode("t1x", 0)).isSameAs(region);
+            assertThat(RegionUtil.getInternationalRegionInfoByAlpha2("t1", 0)).isSameAs(region);
+            assertThat(RegionUtil.getInternationalRegionInfoByNumeric("9A9")).isSameAs(region);
+            assertThat(RegionUtil.getInternationalRegionInfoByNumeric("9A9", 0)).isSameAs(region);
+        } finally {
+            RegionUtil.removeInternationalRegionData("t1x");
+        }
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("t1x", 0)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByNumeric("9A9", 0)).isNull();
+    }
+
     @Test
     void addAndRemoveInternationalRegionData() {
         InternationalRegionInfo region = new InternationalRegionInfo("测试地区", "TEST", "测试地区", "Test Region", "TST", "TS", "900");
@@ -76,4 +183,52 @@ class RegionUtilTest {
             RegionUtil.removeInternationalRegionData("XXX");
         }
     }
+
+    @Test
+    void rangeLookupsMatchStringLookups() {
+        String line = "ID:330105,CHN,CN,156";
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(line, 3, 6)).isSameAs(RegionUtil.getDomesticRegionInfoByCode("330105"));
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(330105)).isSameAs(RegionUtil.getDomesticRegionInfoByCode("330105"));
+        // 省级、地级前缀补0
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(line, 3, 4)).isSameAs(RegionUtil.getDomesticRegionInfoByCode("330100"));
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(line, 3, 2)).isSameAs(RegionUtil.getDomesticRegionInfoByCode("330000"));
+        InternationalRegionInfo china = RegionUtil.getInternationalRegionInfoByAlpha3("CHN");
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3(line, 10)).isSameAs(china);
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha2(line, 14)).isSameAs(china);
+        assertThat(RegionUtil.getInternationalRegionInfoByNumeric(line, 17)).isSameAs(china);
+    }
+
+    @Test
+    void rangeLookupsReturnNullForInvalidInput() {
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("999999", 0, 6)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(-1)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(1330105)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("33010X", 0, 6)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("330105", 0, 3)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("330105", 1, 6)).isNull();
+        assertThat(RegionUtil.getDomesticRegionInfoByCode(null, 0, 6)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("CH", 0)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("ZZZ", 0)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByNumeric("156", -1)).isNull();
+    }
+
+    @Test
+    void rangeLookupsSeeAddedAndRemovedData() {
+        DomesticRegionInfo domestic = new DomesticRegionInfo("999999", "测试省", null, null);
+        InternationalRegionInfo international = new InternationalRegionInfo(null, null, null, null, "TST", "TS", "900");
+        try {
+            RegionUtil.addDomesticRegionData(domestic);
+            RegionUtil.addInternationalRegionData(international);
+            assertThat(RegionUtil.getDomesticRegionInfoByCode("999999", 0, 6)).isEqualTo(domestic);
+            assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("TST", 0)).isEqualTo(international);
+            assertThat(RegionUtil.getInternationalRegionInfoByAlpha2("TS", 0)).isEqualTo(international);
+            assertThat(RegionUtil.getInternationalRegionInfoByNumeric("900", 0)).isEqualTo(international);
+        } finally {
+            RegionUtil.removeDomesticRegionData("999999");
+            RegionUtil.removeInternationalRegionData("TST");
+        }
+        assertThat(RegionUtil.getDomesticRegionInfoByCode("999999", 0, 6)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByAlpha3("TST", 0)).isNull();
+        assertThat(RegionUtil.getInternationalRegionInfoByNumeric("900", 0)).isNull();
+    }
 }